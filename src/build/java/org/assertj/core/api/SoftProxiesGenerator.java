@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.String.format;
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isFinal;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.SoftProxies.PREGENERATED_PROXY_CLASS_NAME_SUFFIX;
+import static org.assertj.core.api.SoftProxies.PREGENERATED_PROXY_SIGNATURE_FIELD_NAME;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import net.bytebuddy.implementation.auxiliary.AuxiliaryType;
+
+/**
+ * Generates the soft assertion proxy classes of the concrete assert classes found in a classes directory, the proxy
+ * classes are saved next to the assert classes so that {@link SoftProxies} loads them instead of generating them at
+ * runtime.
+ * <p>
+ * Each proxy class holds the signature of the assert class it was generated from, {@link SoftProxies} ignores the proxy
+ * classes whose signature does not match the one of their assert class anymore.
+ * <p>
+ * This class is not part of the assertj-core artifact, it is run by the {@code pregenerated-soft-proxies} profile:
+ * {@code mvn -Ppregenerated-soft-proxies package}.
+ * <p>
+ * Usage: {@code SoftProxiesGenerator <classes directory>}
+ */
+final class SoftProxiesGenerator {
+
+  private static final String ASSERT_CLASSES_PACKAGE = Assert.class.getPackage().getName();
+
+  private SoftProxiesGenerator() {}
+
+  public static void main(String[] args) throws IOException {
+    checkArgument(args.length == 1, "Usage: SoftProxiesGenerator <classes directory>");
+    File classesDirectory = new File(args[0]);
+    List<Class<?>> assertClasses = findProxiableAssertClasses(classesDirectory.toPath());
+    for (Class<?> assertClass : assertClasses) {
+      generateProxyClass(assertClass, classesDirectory);
+    }
+    System.out.println(format("Generated %s soft assertion proxy classes in %s", assertClasses.size(), classesDirectory));
+  }
+
+  static List<Class<?>> findProxiableAssertClasses(Path classesDirectory) throws IOException {
+    Path assertClassesDirectory = classesDirectory.resolve(ASSERT_CLASSES_PACKAGE.replace('.', File.separatorChar));
+    try (Stream<Path> classFiles = Files.walk(assertClassesDirectory)) {
+      return classFiles.map(classesDirectory::relativize)
+                       .map(Path::toString)
+                       // top level assert classes only, nested classes and already generated proxies contain a '$'
+                       .filter(classFile -> classFile.endsWith("Assert.class") && !classFile.contains("$"))
+                       .map(classFile -> classFile.substring(0, classFile.length() - ".class".length())
+                                                  .replace(File.separatorChar, '.'))
+                       .sorted()
+                       .map(SoftProxiesGenerator::loadClass)
+                       .filter(SoftProxiesGenerator::isProxiable)
+                       .collect(toList());
+    }
+  }
+
+  static void generateProxyClass(Class<?> assertClass, File classesDirectory) throws IOException {
+    generateProxyClass(assertClass, SoftProxies.signatureOf(assertClass), classesDirectory);
+  }
+
+  static void generateProxyClass(Class<?> assertClass, int signature, File classesDirectory) throws IOException {
+    String proxyClassName = assertClass.getName() + PREGENERATED_PROXY_CLASS_NAME_SUFFIX;
+    // class files must be loadable by the oldest supported JVM and stable from one build to another
+    ByteBuddy byteBuddy = new ByteBuddy(ClassFileVersion.JAVA_V8).with(new EnumeratingNamingStrategy(proxyClassName))
+                                                                .with(TypeValidation.DISABLED);
+    SoftProxies.proxyClassBuilder(byteBuddy, assertClass)
+               .name(proxyClassName)
+               .defineField(PREGENERATED_PROXY_SIGNATURE_FIELD_NAME, int.class, Visibility.PUBLIC, Ownership.STATIC,
+                            FieldManifestation.FINAL)
+               .value(signature)
+               .make()
+               .saveIn(classesDirectory);
+  }
+
+  private static boolean isProxiable(Class<?> type) {
+    int modifiers = type.getModifiers();
+    return Assert.class.isAssignableFrom(type) && !type.isInterface() && isPublic(modifiers) && !isAbstract(modifiers)
+           && !isFinal(modifiers);
+  }
+
+  private static Class<?> loadClass(String className) {
+    try {
+      return Class.forName(className, false, SoftProxiesGenerator.class.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException(format("Unable to load %s", className), e);
+    }
+  }
+
+  private static class EnumeratingNamingStrategy implements AuxiliaryType.NamingStrategy {
+
+    private final String prefix;
+    private int count;
+
+    private EnumeratingNamingStrategy(String proxyClassName) {
+      this.prefix = proxyClassName + "$auxiliary$";
+    }
+
+    @Override
+    public String name(TypeDescription instrumentedType) {
+      return prefix + count++;
+    }
+  }
+}
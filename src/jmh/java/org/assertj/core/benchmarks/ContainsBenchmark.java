@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code containsOnly} and {@code containsExactlyInAnyOrder} on lists of several sizes whose elements are
+ * expected in a shuffled order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContainsBenchmark {
+
+  @Param({ "10", "1000", "100000" })
+  public int size;
+
+  private List<Integer> actual;
+  private Integer[] expected;
+
+  @Setup
+  public void setup() {
+    actual = IntStream.range(0, size).boxed().collect(toList());
+    List<Integer> shuffled = IntStream.range(0, size).boxed().collect(toList());
+    Collections.shuffle(shuffled, new Random(42));
+    expected = shuffled.toArray(new Integer[0]);
+  }
+
+  @Benchmark
+  public Object containsOnly() {
+    return assertThat(actual).containsOnly(expected);
+  }
+
+  @Benchmark
+  public Object containsExactlyInAnyOrder() {
+    return assertThat(actual).containsExactlyInAnyOrder(expected);
+  }
+}
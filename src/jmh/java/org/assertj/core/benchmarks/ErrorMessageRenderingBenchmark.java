@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.error.ShouldContainOnly.shouldContainOnly;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the rendering of error messages describing groups of several sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorMessageRenderingBenchmark {
+
+  @Param({ "10", "1000", "100000" })
+  public int size;
+
+  private List<Integer> actual;
+  private List<Integer> expected;
+  private int[] actualArray;
+
+  @Setup
+  public void setup() {
+    actual = IntStream.range(0, size).boxed().collect(toList());
+    expected = IntStream.range(1, size + 1).boxed().collect(toList());
+    actualArray = IntStream.range(0, size).toArray();
+  }
+
+  @Benchmark
+  public String should_contain_only_message() {
+    ErrorMessageFactory factory = shouldContainOnly(actual, expected, expected.subList(size - 1, size), actual.subList(0, 1));
+    return factory.create(new TextDescription("numbers"), STANDARD_REPRESENTATION);
+  }
+
+  @Benchmark
+  public String list_representation() {
+    return STANDARD_REPRESENTATION.toStringOf(actual);
+  }
+
+  @Benchmark
+  public String primitive_array_representation() {
+    return STANDARD_REPRESENTATION.toStringOf(actualArray);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the recursive comparison of synthetic trees where each node has {@value #CHILDREN} children.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecursiveComparisonBenchmark {
+
+  private static final int CHILDREN = 3;
+
+  @Param({ "2", "4", "6" })
+  public int depth;
+
+  private Node actual;
+  private Node expected;
+  private Node different;
+
+  @Setup
+  public void setup() {
+    actual = tree(depth, "root", false);
+    expected = tree(depth, "root", false);
+    different = tree(depth, "root", true);
+  }
+
+  @Benchmark
+  public Object equal_trees() {
+    return assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Benchmark
+  public Object different_trees() {
+    try {
+      assertThat(actual).usingRecursiveComparison().isEqualTo(different);
+      throw new IllegalStateException("recursive comparison should have failed");
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+
+  private static Node tree(int depth, String name, boolean differentLeaf) {
+    Node node = new Node(name, depth);
+    if (depth == 0) {
+      if (differentLeaf) node.value = -1;
+      return node;
+    }
+    for (int i = 0; i < CHILDREN; i++) {
+      // only the last leaf differs
+      node.children.add(tree(depth - 1, name + "." + i, differentLeaf && i == CHILDREN - 1));
+    }
+    return node;
+  }
+
+  static class Node {
+    String name;
+    int value;
+    List<Node> children = new ArrayList<>();
+
+    Node(String name, int value) {
+      this.name = name;
+      this.value = value;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.benchmarks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of soft assertions with the one of the equivalent hard assertions, for passing and failing
+ * assertions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SoftAssertionsBenchmark {
+
+  private final Object actual = "Frodo";
+
+  @Benchmark
+  public Object hard_assertion_passing() {
+    return assertThat(actual).isEqualTo("Frodo");
+  }
+
+  @Benchmark
+  public Object soft_assertion_passing() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat(actual).isEqualTo("Frodo");
+    return softly;
+  }
+
+  @Benchmark
+  public Object hard_assertion_failing() {
+    try {
+      assertThat(actual).isInstanceOf(Integer.class);
+      throw new IllegalStateException("assertion should have failed");
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public List<Throwable> soft_assertion_failing() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat(actual).isInstanceOf(Integer.class);
+    return softly.errorsCollected();
+  }
+
+  @Benchmark
+  public Object soft_assertions_failing_reported_by_assertAll() {
+    SoftAssertions softly = new SoftAssertions();
+    for (int i = 0; i < 100; i++) {
+      softly.assertThat(actual).as("check %s", i).isInstanceOf(Integer.class);
+    }
+    try {
+      softly.assertAll();
+      throw new IllegalStateException("assertAll should have failed");
+    } catch (AssertionError e) {
+      return e.getMessage();
+    }
+  }
+}
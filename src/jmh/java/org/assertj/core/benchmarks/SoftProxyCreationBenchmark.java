@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.benchmarks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.util.Lists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of soft assertion proxies, either directly or when navigating to another assert object.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SoftProxyCreationBenchmark {
+
+  private final List<String> names = Lists.list("Frodo", "Sam", "Pippin");
+  private SoftAssertions softly;
+
+  @Setup
+  public void setup() {
+    softly = new SoftAssertions();
+  }
+
+  @Benchmark
+  public Object object_assert_proxy() {
+    return softly.assertThat((Object) "Frodo");
+  }
+
+  @Benchmark
+  public Object list_assert_proxy() {
+    return softly.assertThat(names);
+  }
+
+  @Benchmark
+  public Object navigation_proxies() {
+    return softly.assertThat(names).first().asString();
+  }
+
+  @Benchmark
+  public Object size_assert_proxy() {
+    return softly.assertThat(names).size();
+  }
+}
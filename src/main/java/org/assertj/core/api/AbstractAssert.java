@@ -16,6 +16,7 @@ import static java.lang.String.format;
 import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.AssertionListeners.LISTENING_TO_ASSERTIONS;
 import static org.assertj.core.description.Description.mostRelevantDescription;
 import static org.assertj.core.error.ShouldMatch.shouldMatch;
 import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
@@ -358,6 +359,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isEqualTo(Object expected) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isEqualTo", () -> objects.assertEqual(info, actual, expected));
     objects.assertEqual(info, actual, expected);
     return myself;
   }
@@ -365,6 +367,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isNotEqualTo(Object other) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isNotEqualTo", () -> objects.assertNotEqual(info, actual, other));
     objects.assertNotEqual(info, actual, other);
     return myself;
   }
@@ -372,12 +375,17 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public void isNull() {
+    if (LISTENING_TO_ASSERTIONS) {
+      performAndNotify("isNull", () -> objects.assertNull(info, actual));
+      return;
+    }
     objects.assertNull(info, actual);
   }
 
   /** {@inheritDoc} */
   @Override
   public SELF isNotNull() {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isNotNull", () -> objects.assertNotNull(info, actual));
     objects.assertNotNull(info, actual);
     return myself;
   }
@@ -385,6 +393,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isSameAs(Object expected) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isSameAs", () -> objects.assertSame(info, actual, expected));
     objects.assertSame(info, actual, expected);
     return myself;
   }
@@ -392,6 +401,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isNotSameAs(Object other) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isNotSameAs", () -> objects.assertNotSame(info, actual, other));
     objects.assertNotSame(info, actual, other);
     return myself;
   }
@@ -399,6 +409,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isIn(Object... values) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isIn", () -> objects.assertIsIn(info, actual, values));
     objects.assertIsIn(info, actual, values);
     return myself;
   }
@@ -406,6 +417,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isNotIn(Object... values) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isNotIn", () -> objects.assertIsNotIn(info, actual, values));
     objects.assertIsNotIn(info, actual, values);
     return myself;
   }
@@ -413,6 +425,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isIn(Iterable<?> values) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isIn", () -> objects.assertIsIn(info, actual, values));
     objects.assertIsIn(info, actual, values);
     return myself;
   }
@@ -420,6 +433,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isNotIn(Iterable<?> values) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isNotIn", () -> objects.assertIsNotIn(info, actual, values));
     objects.assertIsNotIn(info, actual, values);
     return myself;
   }
@@ -427,6 +441,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF is(Condition<? super ACTUAL> condition) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("is", () -> conditions.assertIs(info, actual, condition));
     conditions.assertIs(info, actual, condition);
     return myself;
   }
@@ -434,6 +449,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isNot(Condition<? super ACTUAL> condition) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isNot", () -> conditions.assertIsNot(info, actual, condition));
     conditions.assertIsNot(info, actual, condition);
     return myself;
   }
@@ -441,6 +457,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF has(Condition<? super ACTUAL> condition) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("has", () -> conditions.assertHas(info, actual, condition));
     conditions.assertHas(info, actual, condition);
     return myself;
   }
@@ -448,6 +465,8 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF doesNotHave(Condition<? super ACTUAL> condition) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("doesNotHave",
+                                                         () -> conditions.assertDoesNotHave(info, actual, condition));
     conditions.assertDoesNotHave(info, actual, condition);
     return myself;
   }
@@ -455,6 +474,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF satisfies(Condition<? super ACTUAL> condition) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("satisfies", () -> conditions.assertSatisfies(info, actual, condition));
     conditions.assertSatisfies(info, actual, condition);
     return myself;
   }
@@ -472,23 +492,32 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isInstanceOf(Class<?> type) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isInstanceOf", () -> objects.assertIsInstanceOf(info, actual, type));
     objects.assertIsInstanceOf(info, actual, type);
     return myself;
   }
 
   /** {@inheritDoc} */
-  @SuppressWarnings("unchecked")
   @Override
   public <T> SELF isInstanceOfSatisfying(Class<T> type, Consumer<T> requirements) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isInstanceOfSatisfying",
+                                                         () -> assertIsInstanceOfSatisfying(type, requirements));
+    assertIsInstanceOfSatisfying(type, requirements);
+    return myself;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> void assertIsInstanceOfSatisfying(Class<T> type, Consumer<T> requirements) {
     objects.assertIsInstanceOf(info, actual, type);
     requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
     requirements.accept((T) actual);
-    return myself;
   }
 
   /** {@inheritDoc} */
   @Override
   public SELF isInstanceOfAny(Class<?>... types) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isInstanceOfAny",
+                                                         () -> objects.assertIsInstanceOfAny(info, actual, types));
     objects.assertIsInstanceOfAny(info, actual, types);
     return myself;
   }
@@ -496,6 +525,8 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isNotInstanceOf(Class<?> type) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isNotInstanceOf",
+                                                         () -> objects.assertIsNotInstanceOf(info, actual, type));
     objects.assertIsNotInstanceOf(info, actual, type);
     return myself;
   }
@@ -503,6 +534,8 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isNotInstanceOfAny(Class<?>... types) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isNotInstanceOfAny",
+                                                         () -> objects.assertIsNotInstanceOfAny(info, actual, types));
     objects.assertIsNotInstanceOfAny(info, actual, types);
     return myself;
   }
@@ -510,6 +543,8 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF hasSameClassAs(Object other) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("hasSameClassAs",
+                                                         () -> objects.assertHasSameClassAs(info, actual, other));
     objects.assertHasSameClassAs(info, actual, other);
     return myself;
   }
@@ -517,6 +552,8 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF hasToString(String expectedToString) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("hasToString",
+                                                         () -> objects.assertHasToString(info, actual, expectedToString));
     objects.assertHasToString(info, actual, expectedToString);
     return myself;
   }
@@ -524,6 +561,8 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF doesNotHaveToString(String otherToString) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("doesNotHaveToString",
+                                                         () -> objects.assertDoesNotHaveToString(info, actual, otherToString));
     objects.assertDoesNotHaveToString(info, actual, otherToString);
     return myself;
   }
@@ -531,6 +570,8 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF doesNotHaveSameClassAs(Object other) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("doesNotHaveSameClassAs",
+                                                         () -> objects.assertDoesNotHaveSameClassAs(info, actual, other));
     objects.assertDoesNotHaveSameClassAs(info, actual, other);
     return myself;
   }
@@ -538,6 +579,8 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isExactlyInstanceOf(Class<?> type) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isExactlyInstanceOf",
+                                                         () -> objects.assertIsExactlyInstanceOf(info, actual, type));
     objects.assertIsExactlyInstanceOf(info, actual, type);
     return myself;
   }
@@ -545,6 +588,8 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isNotExactlyInstanceOf(Class<?> type) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isNotExactlyInstanceOf",
+                                                         () -> objects.assertIsNotExactlyInstanceOf(info, actual, type));
     objects.assertIsNotExactlyInstanceOf(info, actual, type);
     return myself;
   }
@@ -552,6 +597,8 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isOfAnyClassIn(Class<?>... types) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isOfAnyClassIn",
+                                                         () -> objects.assertIsOfAnyClassIn(info, actual, types));
     objects.assertIsOfAnyClassIn(info, actual, types);
     return myself;
   }
@@ -559,6 +606,8 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF isNotOfAnyClassIn(Class<?>... types) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("isNotOfAnyClassIn",
+                                                         () -> objects.assertIsNotOfAnyClassIn(info, actual, types));
     objects.assertIsNotOfAnyClassIn(info, actual, types);
     return myself;
   }
@@ -817,9 +866,14 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
    * @throws NullPointerException if given Consumer is null
    */
   public SELF satisfies(Consumer<ACTUAL> requirements) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("satisfies", () -> assertSatisfies(requirements));
+    assertSatisfies(requirements);
+    return myself;
+  }
+
+  private void assertSatisfies(Consumer<ACTUAL> requirements) {
     requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
     requirements.accept(actual);
-    return myself;
   }
 
   /**
@@ -860,8 +914,14 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   // The public method for it (the one not ending with "ForProxy") is marked as final and annotated with @SafeVarargs
   // in order to avoid compiler warning in user code
   protected SELF satisfiesAnyOfForProxy(Consumer<ACTUAL>[] assertionsGroups) throws AssertionError {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("satisfiesAnyOf", () -> assertSatisfiesAnyOf(assertionsGroups));
+    assertSatisfiesAnyOf(assertionsGroups);
+    return myself;
+  }
+
+  private void assertSatisfiesAnyOf(Consumer<ACTUAL>[] assertionsGroups) {
     checkArgument(stream(assertionsGroups).allMatch(java.util.Objects::nonNull), "No assertions group should be null");
-    if (stream(assertionsGroups).anyMatch(this::satisfiesAssertions)) return myself;
+    if (stream(assertionsGroups).anyMatch(this::satisfiesAssertions)) return;
     // none of the assertions group was met! let's report all the errors
     List<AssertionError> assertionErrors = stream(assertionsGroups).map(this::catchAssertionError).collect(toList());
     throw multipleAssertionsError(assertionErrors);
@@ -891,11 +951,23 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   }
 
   private SELF matches(Predicate<? super ACTUAL> predicate, PredicateDescription predicateDescription) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("matches", () -> assertMatches(predicate, predicateDescription));
+    assertMatches(predicate, predicateDescription);
+    return myself;
+  }
+
+  private void assertMatches(Predicate<? super ACTUAL> predicate, PredicateDescription predicateDescription) {
     requireNonNull(predicate, "The predicate must not be null");
-    if (predicate.test(actual)) return myself;
+    if (predicate.test(actual)) return;
     throw Failures.instance().failure(info, shouldMatch(actual, predicate, predicateDescription));
   }
 
+  // only called when an AssertionListener is registered so that the lambda is not allocated otherwise
+  private SELF performAndNotify(String assertionMethod, Runnable assertion) {
+    AssertionListeners.performAndNotify(this, assertionMethod, assertion);
+    return myself;
+  }
+
   public static void setCustomRepresentation(Representation customRepresentation) {
     ConfigurationProvider.loadRegisteredConfiguration();
     AbstractAssert.customRepresentation = customRepresentation;
@@ -913,6 +985,8 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF hasSameHashCodeAs(Object other) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("hasSameHashCodeAs",
+                                                         () -> objects.assertHasSameHashCodeAs(info, actual, other));
     objects.assertHasSameHashCodeAs(info, actual, other);
     return myself;
   }
@@ -920,6 +994,8 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   /** {@inheritDoc} */
   @Override
   public SELF doesNotHaveSameHashCodeAs(Object other) {
+    if (LISTENING_TO_ASSERTIONS) return performAndNotify("doesNotHaveSameHashCodeAs",
+                                                         () -> objects.assertDoesNotHaveSameHashCodeAs(info, actual, other));
     objects.assertDoesNotHaveSameHashCodeAs(info, actual, other);
     return myself;
   }
@@ -0,0 +1,278 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+
+import org.assertj.core.internal.ByteBuffers;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Base class for all implementations of assertions for {@link ByteBuffer}s.
+ * <p>
+ * Content assertions are about the <b>remaining</b> bytes of the actual {@code ByteBuffer}, i.e. the bytes between its
+ * position and its limit. They work in place for heap, direct and memory-mapped buffers alike: the content is never
+ * copied into a {@code byte[]} and the position, limit and mark of the actual {@code ByteBuffer} are left untouched.
+ * <p>
+ * As {@code ByteBuffer} is {@link Comparable}, the comparison assertions like {@code isLessThan} or
+ * {@code isEqualByComparingTo} are available too, they compare the remaining bytes of the buffers.
+ *
+ * @param <SELF> the "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *          target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *          for more details.
+ * @since 3.21.0
+ */
+public abstract class AbstractByteBufferAssert<SELF extends AbstractByteBufferAssert<SELF>>
+    extends AbstractComparableAssert<SELF, ByteBuffer> {
+
+  @VisibleForTesting
+  ByteBuffers byteBuffers = ByteBuffers.instance();
+
+  protected AbstractByteBufferAssert(ByteBuffer actual, Class<?> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the remaining bytes of the actual {@code ByteBuffer} are <b>exactly</b> equal to the given ones.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, 3});
+   * buffer.get();
+   *
+   * // assertion will pass
+   * assertThat(buffer).hasBinaryContent(new byte[] {2, 3});
+   *
+   * // assertions will fail
+   * assertThat(buffer).hasBinaryContent(new byte[] {1, 2, 3});
+   * assertThat(buffer).hasBinaryContent(new byte[] {2});</code></pre>
+   *
+   * @param expected the expected binary content to compare the actual {@code ByteBuffer}'s remaining bytes to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given content is {@code null}.
+   * @throws AssertionError if the actual {@code ByteBuffer} is {@code null}.
+   * @throws AssertionError if the remaining bytes of the actual {@code ByteBuffer} are not equal to the given ones.
+   */
+  public SELF hasBinaryContent(byte[] expected) {
+    byteBuffers.assertHasBinaryContent(info, actual, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the remaining bytes of the actual {@code ByteBuffer} are equal to the remaining bytes of the given one.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ByteBuffer buffer = ByteBuffer.allocateDirect(2).put(new byte[] {1, 2});
+   * buffer.flip();
+   *
+   * // assertion will pass
+   * assertThat(buffer).hasSameContentAs(ByteBuffer.wrap(new byte[] {1, 2}));
+   *
+   * // assertion will fail
+   * assertThat(buffer).hasSameContentAs(ByteBuffer.wrap(new byte[] {1, 3}));</code></pre>
+   *
+   * @param expected the given {@code ByteBuffer} to compare the actual {@code ByteBuffer} to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code ByteBuffer} is {@code null}.
+   * @throws AssertionError if the actual {@code ByteBuffer} is {@code null}.
+   * @throws AssertionError if the remaining bytes of the actual {@code ByteBuffer} are not equal to the remaining bytes
+   *           of the given one.
+   */
+  public SELF hasSameContentAs(ByteBuffer expected) {
+    byteBuffers.assertHasSameContentAs(info, actual, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the remaining bytes of the actual {@code ByteBuffer} start with the given sequence of bytes.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, 3});
+   *
+   * // assertion will pass
+   * assertThat(buffer).startsWith((byte) 1, (byte) 2);
+   *
+   * // assertion will fail
+   * assertThat(buffer).startsWith((byte) 2, (byte) 3);</code></pre>
+   *
+   * @param sequence the sequence of bytes to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws AssertionError if the actual {@code ByteBuffer} is {@code null}.
+   * @throws AssertionError if the given sequence is empty while the actual {@code ByteBuffer} has remaining bytes.
+   * @throws AssertionError if the remaining bytes of the actual {@code ByteBuffer} do not start with the given sequence.
+   */
+  public SELF startsWith(byte... sequence) {
+    byteBuffers.assertStartsWith(info, actual, sequence);
+    return myself;
+  }
+
+  /**
+   * Verifies that the remaining bytes of the actual {@code ByteBuffer} contain the given sequence of bytes, without any
+   * other bytes between them.
+   * <p>
+   * The sequence is searched with the Boyer-Moore-Horspool algorithm, which skips up to the length of the sequence at
+   * each step.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, 3, 4});
+   *
+   * // assertion will pass
+   * assertThat(buffer).containsSequence((byte) 2, (byte) 3);
+   *
+   * // assertion will fail
+   * assertThat(buffer).containsSequence((byte) 2, (byte) 4);</code></pre>
+   *
+   * @param sequence the sequence of bytes to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws AssertionError if the actual {@code ByteBuffer} is {@code null}.
+   * @throws AssertionError if the given sequence is empty while the actual {@code ByteBuffer} has remaining bytes.
+   * @throws AssertionError if the remaining bytes of the actual {@code ByteBuffer} do not contain the given sequence.
+   */
+  public SELF containsSequence(byte... sequence) {
+    byteBuffers.assertContainsSequence(info, actual, sequence);
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual {@code ByteBuffer} has the given number of remaining bytes.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ByteBuffer buffer = ByteBuffer.allocate(10);
+   * buffer.position(4);
+   *
+   * // assertion will pass
+   * assertThat(buffer).hasRemaining(6);
+   *
+   * // assertion will fail
+   * assertThat(buffer).hasRemaining(10);</code></pre>
+   *
+   * @param expected the expected number of remaining bytes.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code ByteBuffer} is {@code null}.
+   * @throws AssertionError if the actual {@code ByteBuffer} does not have the given number of remaining bytes.
+   */
+  public SELF hasRemaining(int expected) {
+    byteBuffers.assertHasRemaining(info, actual, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the digest (calculated with the specified {@link MessageDigest}) of the remaining bytes of the actual
+   * {@code ByteBuffer} is equal to the given one.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ByteBuffer buffer = ByteBuffer.wrap("assertj".getBytes(UTF_8));
+   *
+   * // assertion will pass
+   * assertThat(buffer).hasDigest(MessageDigest.getInstance("MD5"), new byte[] {-92, 51, 88, -107, -29, 104, 115, 79, 89, 53, 54, -101, 127, -5, -102, 21});
+   *
+   * // assertion will fail
+   * assertThat(buffer).hasDigest(MessageDigest.getInstance("MD5"), new byte[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0});</code></pre>
+   *
+   * @param digest the MessageDigest used to calculate the digests.
+   * @param expected the expected binary content to compare the actual {@code ByteBuffer}'s digest to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm is {@code null}.
+   * @throws NullPointerException if the given digest is {@code null}.
+   * @throws AssertionError if the actual {@code ByteBuffer} is {@code null}.
+   * @throws AssertionError if the digest of the remaining bytes of the actual {@code ByteBuffer} is not equal to the
+   *           given one.
+   */
+  public SELF hasDigest(MessageDigest digest, byte[] expected) {
+    byteBuffers.assertHasDigest(info, actual, digest, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the digest (calculated with the specified {@link MessageDigest}) of the remaining bytes of the actual
+   * {@code ByteBuffer} is equal to the given one.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ByteBuffer buffer = ByteBuffer.wrap("assertj".getBytes(UTF_8));
+   *
+   * // assertion will pass
+   * assertThat(buffer).hasDigest(MessageDigest.getInstance("MD5"), "a4335895e368734f5935369b7ffb9a15");
+   *
+   * // assertion will fail
+   * assertThat(buffer).hasDigest(MessageDigest.getInstance("MD5"), "00000000000000000000000000000000");</code></pre>
+   *
+   * @param digest the MessageDigest used to calculate the digests.
+   * @param expected the expected hexadecimal representation of the actual {@code ByteBuffer}'s digest.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm is {@code null}.
+   * @throws NullPointerException if the given digest is {@code null}.
+   * @throws AssertionError if the actual {@code ByteBuffer} is {@code null}.
+   * @throws AssertionError if the digest of the remaining bytes of the actual {@code ByteBuffer} is not equal to the
+   *           given one.
+   */
+  public SELF hasDigest(MessageDigest digest, String expected) {
+    byteBuffers.assertHasDigest(info, actual, digest, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the digest (calculated with the specified algorithm) of the remaining bytes of the actual
+   * {@code ByteBuffer} is equal to the given one.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ByteBuffer buffer = ByteBuffer.wrap("assertj".getBytes(UTF_8));
+   *
+   * // assertion will pass
+   * assertThat(buffer).hasDigest("MD5", new byte[] {-92, 51, 88, -107, -29, 104, 115, 79, 89, 53, 54, -101, 127, -5, -102, 21});
+   *
+   * // assertion will fail
+   * assertThat(buffer).hasDigest("MD5", new byte[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0});</code></pre>
+   *
+   * @param algorithm the algorithm used to calculate the digests.
+   * @param expected the expected binary content to compare the actual {@code ByteBuffer}'s digest to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm is {@code null}.
+   * @throws NullPointerException if the given digest is {@code null}.
+   * @throws AssertionError if the actual {@code ByteBuffer} is {@code null}.
+   * @throws AssertionError if the digest of the remaining bytes of the actual {@code ByteBuffer} is not equal to the
+   *           given one.
+   */
+  public SELF hasDigest(String algorithm, byte[] expected) {
+    byteBuffers.assertHasDigest(info, actual, algorithm, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the digest (calculated with the specified algorithm) of the remaining bytes of the actual
+   * {@code ByteBuffer} is equal to the given one.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ByteBuffer buffer = ByteBuffer.wrap("assertj".getBytes(UTF_8));
+   *
+   * // assertion will pass
+   * assertThat(buffer).hasDigest("MD5", "a4335895e368734f5935369b7ffb9a15");
+   *
+   * // assertion will fail
+   * assertThat(buffer).hasDigest("MD5", "00000000000000000000000000000000");</code></pre>
+   *
+   * @param algorithm the algorithm used to calculate the digests.
+   * @param expected the expected hexadecimal representation of the actual {@code ByteBuffer}'s digest.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm is {@code null}.
+   * @throws NullPointerException if the given digest is {@code null}.
+   * @throws AssertionError if the actual {@code ByteBuffer} is {@code null}.
+   * @throws AssertionError if the digest of the remaining bytes of the actual {@code ByteBuffer} is not equal to the
+   *           given one.
+   */
+  public SELF hasDigest(String algorithm, String expected) {
+    byteBuffers.assertHasDigest(info, actual, algorithm, expected);
+    return myself;
+  }
+}
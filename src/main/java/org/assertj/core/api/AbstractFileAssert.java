@@ -23,8 +23,10 @@ import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.file.FileSystem;
 import java.security.MessageDigest;
+import java.util.List;
 import java.util.function.Predicate;
 
+import org.assertj.core.data.ContentSampling;
 import org.assertj.core.internal.Files;
 import org.assertj.core.util.CheckReturnValue;
 import org.assertj.core.util.VisibleForTesting;
@@ -383,6 +385,43 @@ public abstract class AbstractFileAssert<SELF extends AbstractFileAssert<SELF>>
     return myself;
   }
 
+  /**
+   * Verifies that the content of the actual {@code File} is equal to the content of the given one on the blocks selected
+   * by the given {@link ContentSampling}, the comparison is done at the binary level.
+   * <p>
+   * Contents must have the same size, then only a fraction of their blocks are read and compared which makes this
+   * assertion suited to huge files when {@link #hasSameBinaryContentAs(File)} would be too slow, at the price of not
+   * detecting differences located in blocks that are not sampled. The sampled blocks are spread over the whole content
+   * and only depend on the content size and the sampling, a failure can thus be reproduced with the same sampling.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> // huge.bin and huge-copy.bin have the same 4GB content
+   * File actual = new File("huge.bin");
+   * File expected = new File("huge-copy.bin");
+   *
+   * // The following assertion succeeds, comparing about 1% of the content:
+   * assertThat(actual).hasSameBinaryContentAs(expected, sampling(0.01));
+   *
+   * // blocks size and seed can be chosen, the same seed always compares the same blocks:
+   * assertThat(actual).hasSameBinaryContentAs(expected, sampling(0.001).withBlockSize(1024 * 1024).withSeed(42));</code></pre>
+   *
+   * @param expected the given {@code File} to compare the actual {@code File} to.
+   * @param sampling the sampling of the compared blocks, see {@link ContentSampling#sampling(double)}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code File} or {@code ContentSampling} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code File} is not an existing file.
+   * @throws AssertionError if the actual {@code File} is {@code null}.
+   * @throws AssertionError if the actual {@code File} is not an existing file.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if the actual {@code File} does not have the size of the given one or a different content on the
+   *           sampled blocks.
+   * @since 3.21.0
+   */
+  public SELF hasSameBinaryContentAs(File expected, ContentSampling sampling) {
+    files.assertSameBinaryContentAs(info, actual, expected, sampling);
+    return myself;
+  }
+
   /**
    * Verifies that the content of the actual {@code File} is the same as the expected one, the expected {@code File} being read with the given charset while
    * the charset used to read the actual path can be provided with {@link #usingCharset(Charset)} or
@@ -948,6 +987,46 @@ public abstract class AbstractFileAssert<SELF extends AbstractFileAssert<SELF>>
     return myself;
   }
 
+  /**
+   * Verifies that the digests (calculated with the specified algorithm) of the consecutive {@code chunkSize} bytes chunks of
+   * the tested {@link File} are equal to the given ones, typically read from a precomputed manifest.
+   * <p>
+   * The last chunk is smaller than {@code chunkSize} if the file size is not a multiple of it. The chunks are hashed in
+   * parallel and the error message reports the indexes of the chunks whose digest differs.
+   * <p>
+   * Note that the {@link File} must exist and be readable.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> // assume that data.bin is 2.5 MB large and data.bin.sha256 lists the digests of its 1 MB chunks, one per line
+   * File tested = new File("data.bin");
+   * List&lt;String&gt; manifest = Files.readAllLines(Paths.get("data.bin.sha256"));
+   *
+   * // The following assertion succeeds:
+   * assertThat(tested).hasChunkDigests("SHA-256", 1024 * 1024, manifest);
+   *
+   * // The following assertion fails as the digests are the ones of 1 MB chunks:
+   * assertThat(tested).hasChunkDigests("SHA-256", 512 * 1024, manifest);</code></pre>
+   *
+   * @param algorithm the algorithm used to calculate the digests.
+   * @param chunkSize the size in bytes of the chunks.
+   * @param expected the expected hexadecimal digests of the chunks of the actual {@code File}, in order.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm is {@code null}.
+   * @throws IllegalArgumentException if the given chunk size is not positive.
+   * @throws NullPointerException if the given digests are {@code null}.
+   * @throws AssertionError       if the actual {@code File} is {@code null}.
+   * @throws AssertionError       if the actual {@code File} does not exist.
+   * @throws AssertionError       if the actual {@code File} is not a file.
+   * @throws AssertionError       if the actual {@code File} is not readable.
+   * @throws UncheckedIOException if any I/O error occurs.
+   * @throws AssertionError       if the digests of the chunks of the actual {@code File} are not equal to the given ones.
+   * @since 3.21.0
+   */
+  public SELF hasChunkDigests(String algorithm, int chunkSize, List<String> expected) {
+    files.assertHasChunkDigests(info, actual, algorithm, chunkSize, expected);
+    return myself;
+  }
+
   /**
    * Verify that the actual {@code File} is a directory containing at least one file matching the given {@code Predicate<File>}.
    * <p>
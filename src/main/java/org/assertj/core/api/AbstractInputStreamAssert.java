@@ -14,6 +14,7 @@ package org.assertj.core.api;
 
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -42,6 +43,8 @@ public abstract class AbstractInputStreamAssert<SELF extends AbstractInputStream
 
   @VisibleForTesting
   InputStreams inputStreams = InputStreams.instance();
+  @VisibleForTesting
+  Charset charset = Charset.defaultCharset();
 
   protected AbstractInputStreamAssert(ACTUAL actual, Class<?> selfType) {
     super(actual, selfType);
@@ -166,6 +169,9 @@ public abstract class AbstractInputStreamAssert<SELF extends AbstractInputStream
   /**
    * Verifies that the content of the actual {@code InputStream} is equal to the given {@code String}.
    * <p>
+   * The content is decoded with the charset specified by {@link #usingCharset(Charset)}, the platform's default charset
+   * otherwise.
+   * <p>
    * Example:
    * <pre><code class='java'> // assertion will pass
    * assertThat(new ByteArrayInputStream("a".getBytes())).hasContent("a");
@@ -183,7 +189,7 @@ public abstract class AbstractInputStreamAssert<SELF extends AbstractInputStream
    * @since 3.11.0
    */
   public SELF hasContent(String expected) {
-    inputStreams.assertHasContent(info, actual, expected);
+    inputStreams.assertHasContent(info, actual, expected, charset);
     return myself;
   }
 
@@ -337,6 +343,161 @@ public abstract class AbstractInputStreamAssert<SELF extends AbstractInputStream
     return myself;
   }
 
+  /**
+   * Specifies the name of the charset to use to read the actual {@code InputStream} in {@link #hasContent(String)} and in
+   * the streaming text assertions: {@link #hasContentStartingWith(String)}, {@link #containsLine(String)},
+   * {@link #hasLineCount(long)} and {@link #matchesLinesOf(InputStream)}.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> InputStream turkishStream = new ByteArrayInputStream("Gerçek".getBytes("windows-1254"));
+   *
+   * // The following assertion succeeds:
+   * assertThat(turkishStream).usingCharset("windows-1254").hasContentStartingWith("Ger");</code></pre>
+   *
+   * @param charsetName the name of the charset to use.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if the given encoding is not supported on this platform.
+   * @since 3.21.0
+   */
+  @CheckReturnValue
+  public SELF usingCharset(String charsetName) {
+    checkArgument(Charset.isSupported(charsetName), "Charset:<'%s'> is not supported on this system", charsetName);
+    return usingCharset(Charset.forName(charsetName));
+  }
+
+  /**
+   * Specifies the charset to use to read the actual {@code InputStream} in {@link #hasContent(String)} and in the streaming
+   * text assertions: {@link #hasContentStartingWith(String)}, {@link #containsLine(String)}, {@link #hasLineCount(long)}
+   * and {@link #matchesLinesOf(InputStream)}, the platform's default charset is used otherwise.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> InputStream turkishStream = new ByteArrayInputStream("Gerçek".getBytes("windows-1254"));
+   *
+   * // The following assertion succeeds:
+   * assertThat(turkishStream).usingCharset(Charset.forName("windows-1254")).hasContentStartingWith("Ger");</code></pre>
+   *
+   * @param charset the charset to use.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given charset is {@code null}.
+   * @since 3.21.0
+   */
+  @CheckReturnValue
+  public SELF usingCharset(Charset charset) {
+    this.charset = requireNonNull(charset, "The charset should not be null");
+    return myself;
+  }
+
+  /**
+   * Verifies that the text content of the actual {@code InputStream} starts with the given prefix.
+   * <p>
+   * The content is decoded incrementally with the charset specified by {@link #usingCharset(Charset)} (the platform's
+   * default charset otherwise) and only the characters needed to compare with the prefix are read, the rest of the
+   * {@code InputStream} is left unread.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(new ByteArrayInputStream("abc".getBytes(UTF_8))).usingCharset(UTF_8).hasContentStartingWith("ab");
+   *
+   * // assertion will fail
+   * assertThat(new ByteArrayInputStream("abc".getBytes(UTF_8))).usingCharset(UTF_8).hasContentStartingWith("bc");</code></pre>
+   *
+   * @param prefix the expected beginning of the content.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given prefix is {@code null}.
+   * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+   * @throws AssertionError if the text content of the actual {@code InputStream} does not start with the given prefix.
+   * @throws InputStreamsException if an I/O error occurs.
+   * @since 3.21.0
+   */
+  public SELF hasContentStartingWith(String prefix) {
+    inputStreams.assertHasContentStartingWith(info, actual, charset, prefix);
+    return myself;
+  }
+
+  /**
+   * Verifies that the text content of the actual {@code InputStream} contains the given line.
+   * <p>
+   * The content is decoded incrementally with the charset specified by {@link #usingCharset(Charset)} (the platform's
+   * default charset otherwise), lines are read one at a time until the given one is found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> InputStream inputStream = new ByteArrayInputStream("first\nsecond\nthird".getBytes(UTF_8));
+   *
+   * // assertion will pass
+   * assertThat(inputStream).usingCharset(UTF_8).containsLine("second");
+   *
+   * // assertion will fail
+   * assertThat(inputStream).usingCharset(UTF_8).containsLine("sec");</code></pre>
+   *
+   * @param line the expected line, without line terminator.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given line is {@code null}.
+   * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+   * @throws AssertionError if none of the lines of the actual {@code InputStream} is equal to the given one.
+   * @throws InputStreamsException if an I/O error occurs.
+   * @since 3.21.0
+   */
+  public SELF containsLine(String line) {
+    inputStreams.assertContainsLine(info, actual, charset, line);
+    return myself;
+  }
+
+  /**
+   * Verifies that the text content of the actual {@code InputStream} has the given number of lines.
+   * <p>
+   * The content is decoded incrementally with the charset specified by {@link #usingCharset(Charset)} (the platform's
+   * default charset otherwise), lines are counted without being built and counting stops as soon as the expected number
+   * is exceeded.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(new ByteArrayInputStream("first\nsecond".getBytes(UTF_8))).usingCharset(UTF_8).hasLineCount(2);
+   *
+   * // assertion will fail
+   * assertThat(new ByteArrayInputStream("first\nsecond".getBytes(UTF_8))).usingCharset(UTF_8).hasLineCount(1);</code></pre>
+   *
+   * @param expectedLineCount the expected number of lines.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if the given line count is negative.
+   * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+   * @throws AssertionError if the actual {@code InputStream} does not have the given number of lines.
+   * @throws InputStreamsException if an I/O error occurs.
+   * @since 3.21.0
+   */
+  public SELF hasLineCount(long expectedLineCount) {
+    inputStreams.assertHasLineCount(info, actual, charset, expectedLineCount);
+    return myself;
+  }
+
+  /**
+   * Verifies that the lines of the actual {@code InputStream} are equal to the lines of the given one.
+   * <p>
+   * Both {@code InputStream}s are decoded incrementally with the charset specified by {@link #usingCharset(Charset)} (the
+   * platform's default charset otherwise) and compared line by line, the comparison stops at the first different line
+   * which is the only difference reported. Use {@link #hasSameContentAs(InputStream)} to get all the differences.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(new ByteArrayInputStream("a\nb".getBytes(UTF_8))).usingCharset(UTF_8)
+   *                                                             .matchesLinesOf(new ByteArrayInputStream("a\r\nb".getBytes(UTF_8)));
+   *
+   * // assertion will fail
+   * assertThat(new ByteArrayInputStream("a\nb".getBytes(UTF_8))).usingCharset(UTF_8)
+   *                                                             .matchesLinesOf(new ByteArrayInputStream("a\nc".getBytes(UTF_8)));</code></pre>
+   *
+   * @param expected the given {@code InputStream} to compare the actual {@code InputStream} to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code InputStream} is {@code null}.
+   * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+   * @throws AssertionError if the lines of the actual {@code InputStream} differ from the lines of the given one.
+   * @throws InputStreamsException if an I/O error occurs.
+   * @since 3.21.0
+   */
+  public SELF matchesLinesOf(InputStream expected) {
+    inputStreams.assertMatchesLinesOf(info, actual, charset, expected);
+    return myself;
+  }
+
   private String readString(Charset charset) {
     try {
       ByteArrayOutputStream buffer = new ByteArrayOutputStream();
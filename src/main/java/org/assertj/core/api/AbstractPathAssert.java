@@ -28,9 +28,11 @@ import java.nio.file.Path;
 import java.nio.file.ProviderMismatchException;
 import java.nio.file.spi.FileSystemProvider;
 import java.security.MessageDigest;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.assertj.core.api.exception.PathsException;
+import org.assertj.core.data.ContentSampling;
 import org.assertj.core.internal.Paths;
 import org.assertj.core.util.CheckReturnValue;
 import org.assertj.core.util.VisibleForTesting;
@@ -299,6 +301,43 @@ public abstract class AbstractPathAssert<SELF extends AbstractPathAssert<SELF>>
     return myself;
   }
 
+  /**
+   * Verifies that the content of the actual {@code Path} is equal to the content of the given one on the blocks selected
+   * by the given {@link ContentSampling}, the comparison is done at the binary level.
+   * <p>
+   * Contents must have the same size, then only a fraction of their blocks are read and compared which makes this
+   * assertion suited to huge files when {@link #hasSameBinaryContentAs(Path)} would be too slow, at the price of not
+   * detecting differences located in blocks that are not sampled. The sampled blocks are spread over the whole content
+   * and only depend on the content size and the sampling, a failure can thus be reproduced with the same sampling.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> // huge.bin and huge-copy.bin have the same 4GB content
+   * Path actual = Paths.get("huge.bin");
+   * Path expected = Paths.get("huge-copy.bin");
+   *
+   * // The following assertion succeeds, comparing about 1% of the content:
+   * assertThat(actual).hasSameBinaryContentAs(expected, sampling(0.01));
+   *
+   * // blocks size and seed can be chosen, the same seed always compares the same blocks:
+   * assertThat(actual).hasSameBinaryContentAs(expected, sampling(0.001).withBlockSize(1024 * 1024).withSeed(42));</code></pre>
+   *
+   * @param expected the given {@code Path} to compare the actual {@code Path} to.
+   * @param sampling the sampling of the compared blocks, see {@link ContentSampling#sampling(double)}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code Path} or {@code ContentSampling} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code Path} is not an existing file.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} is not an existing file.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if the actual {@code Path} does not have the size of the given one or a different content on the
+   *           sampled blocks.
+   * @since 3.21.0
+   */
+  public SELF hasSameBinaryContentAs(Path expected, ContentSampling sampling) {
+    paths.assertHasSameBinaryContentAs(info, actual, expected, sampling);
+    return myself;
+  }
+
   /**
    * Specifies the name of the charset to use for text-based assertions on the path's contents (path must be a readable
    * file).
@@ -1460,6 +1499,47 @@ public abstract class AbstractPathAssert<SELF extends AbstractPathAssert<SELF>>
     return myself;
   }
 
+  /**
+   * Verifies that the digests (calculated with the specified algorithm) of the consecutive {@code chunkSize} bytes chunks of
+   * the tested {@link Path} are equal to the given ones, typically read from a precomputed manifest.
+   * <p>
+   * The last chunk is smaller than {@code chunkSize} if the file size is not a multiple of it. The chunks are hashed in
+   * parallel and the error message reports the indexes of the chunks whose digest differs, which locates the corrupted parts
+   * of large files without hashing them again as a whole.
+   * <p>
+   * Note that the {@link Path} must be readable.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> // assume that data.bin is 2.5 MB large and data.bin.sha256 lists the digests of its 1 MB chunks, one per line
+   * Path tested = Paths.get("data.bin");
+   * List&lt;String&gt; manifest = Files.readAllLines(Paths.get("data.bin.sha256"));
+   *
+   * // The following assertion succeeds:
+   * assertThat(tested).hasChunkDigests("SHA-256", 1024 * 1024, manifest);
+   *
+   * // The following assertion fails as the digests are the ones of 1 MB chunks:
+   * assertThat(tested).hasChunkDigests("SHA-256", 512 * 1024, manifest);</code></pre>
+   *
+   * @param algorithm the algorithm used to calculate the digests.
+   * @param chunkSize the size in bytes of the chunks.
+   * @param expected the expected hexadecimal digests of the chunks of the actual {@code Path}, in order.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm is {@code null}.
+   * @throws IllegalArgumentException if the given chunk size is not positive.
+   * @throws NullPointerException if the given digests are {@code null}.
+   * @throws AssertionError       if the actual {@code Path} is {@code null}.
+   * @throws AssertionError       if the actual {@code Path} does not exist.
+   * @throws AssertionError       if the actual {@code Path} is not an file.
+   * @throws AssertionError       if the actual {@code Path} is not readable.
+   * @throws UncheckedIOException if any I/O error occurs.
+   * @throws AssertionError       if the digests of the chunks of the actual {@code Path} are not equal to the given ones.
+   * @since 3.21.0
+   */
+  public SELF hasChunkDigests(String algorithm, int chunkSize, List<String> expected) {
+    paths.assertHasChunkDigests(info, actual, algorithm, chunkSize, expected);
+    return myself;
+  }
+
   /**
    * Verify that the actual {@code Path} is a directory containing at least one file matching the given {@code Predicate<Path>}.
    * <p>
@@ -1632,6 +1712,42 @@ public abstract class AbstractPathAssert<SELF extends AbstractPathAssert<SELF>>
     return myself;
   }
 
+  /**
+   * Verifies that the actual {@code Path} is a directory having the same tree as the given directory: both must contain the
+   * same entries, at the same relative paths, the files having the same binary content.
+   * <p>
+   * The structures and the file sizes are compared first, the contents of the files having the same size are then hashed
+   * in parallel. The error message reports the entries only in the actual tree, the ones only in the expected tree and the
+   * ones whose type (file, directory or symbolic link), size, content or link target differ. Symbolic links are not
+   * followed, they are compared by their target.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> // build/output and src/test/resources/expected-output contain a.txt and lib/b.jar with the same contents
+   * Path output = Paths.get("build/output");
+   * Path expectedOutput = Paths.get("src/test/resources/expected-output");
+   *
+   * // The following assertion succeeds:
+   * assertThat(output).hasSameTreeContentAs(expectedOutput);
+   *
+   * // The following assertion fails once lib/b.jar content is changed:
+   * Files.write(output.resolve("lib/b.jar"), new byte[] { 42 });
+   * assertThat(output).hasSameTreeContentAs(expectedOutput);</code></pre>
+   *
+   * @param expected the given directory to compare the actual {@code Path} tree to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code Path} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code Path} is not an existing directory.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} is not an existing directory.
+   * @throws UncheckedIOException if any I/O error occurs.
+   * @throws AssertionError if the tree of the actual {@code Path} differs from the tree of the given one.
+   * @since 3.21.0
+   */
+  public SELF hasSameTreeContentAs(Path expected) {
+    paths.assertHasSameTreeContentAs(info, actual, expected);
+    return myself;
+  }
+
   /**
    * Verify that the actual {@code Path} is a directory that does not contain any files matching the given {@code Predicate<Path>}.
    * <p>
@@ -0,0 +1,192 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.error.ShouldBeEmpty.shouldBeEmpty;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
+import static org.assertj.core.error.ShouldHaveStatistic.shouldHaveStatistic;
+import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.lang.reflect.Array;
+import java.util.stream.BaseStream;
+
+import org.assertj.core.data.Offset;
+
+/**
+ * Base class for the assertions on primitive streams ({@code IntStream}, {@code LongStream} and {@code DoubleStream})
+ * that keep the stream elements as primitives.
+ * <p>
+ * The stream is consumed once, on the first assertion requiring its elements, into a primitive array; statistics (sum,
+ * min, max, average) are computed in a single pass over that array and reused by the following assertions.
+ *
+ * @param <SELF> the "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *          target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *          for more details.
+ * @param <ACTUAL> the type of the primitive stream.
+ * @param <ELEMENTS> the type of the primitive array the stream elements are collected into.
+ * @param <STATISTICS> the type of the summary statistics of the stream elements.
+ * @since 3.21.0
+ */
+public abstract class AbstractPrimitiveStreamAssert<SELF extends AbstractPrimitiveStreamAssert<SELF, ACTUAL, ELEMENTS, STATISTICS>, ACTUAL extends BaseStream<?, ACTUAL>, ELEMENTS, STATISTICS>
+    extends AbstractAssert<SELF, ACTUAL> {
+
+  private ELEMENTS values;
+  private STATISTICS statistics;
+
+  protected AbstractPrimitiveStreamAssert(ACTUAL actual, Class<?> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual stream is empty.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatIntStream(IntStream.empty()).isEmpty();
+   *
+   * // assertion fails
+   * assertThatIntStream(IntStream.of(1, 2)).isEmpty();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or not empty.
+   */
+  public SELF isEmpty() {
+    if (size() != 0) throwAssertionError(shouldBeEmpty(values));
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual stream is not empty.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatIntStream(IntStream.of(1, 2)).isNotEmpty();
+   *
+   * // assertion fails
+   * assertThatIntStream(IntStream.empty()).isNotEmpty();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or empty.
+   */
+  public SELF isNotEmpty() {
+    if (size() == 0) throwAssertionError(shouldNotBeEmpty());
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual stream has the given number of elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatIntStream(IntStream.range(0, 1000)).hasSize(1000);
+   *
+   * // assertion fails
+   * assertThatIntStream(IntStream.range(0, 1000)).hasSize(10);</code></pre>
+   *
+   * @param expected the expected number of elements.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the actual stream does not have the given number of elements.
+   */
+  public SELF hasSize(int expected) {
+    int size = size();
+    if (size != expected) throwAssertionError(shouldHaveSize(values, size, expected));
+    return myself;
+  }
+
+  /**
+   * Verifies that the arithmetic mean of the elements of the actual stream is close to the given value within the given
+   * offset.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatIntStream(IntStream.of(1, 2, 3, 4)).hasAverageCloseTo(2.5, within(0.01));
+   *
+   * // assertion fails
+   * assertThatIntStream(IntStream.of(1, 2, 3, 4)).hasAverageCloseTo(3.0, within(0.1));</code></pre>
+   *
+   * @param expected the expected average.
+   * @param offset the given positive offset.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given offset is {@code null}.
+   * @throws AssertionError if the actual stream is {@code null} or empty.
+   * @throws AssertionError if the average of the elements is not close to the given value.
+   */
+  public SELF hasAverageCloseTo(double expected, Offset<Double> offset) {
+    checkNotNull(offset, "The offset should not be null");
+    isNotEmpty();
+    double average = average(statistics());
+    if (!isCloseTo(average, expected, offset))
+      throwAssertionError(shouldHaveStatistic(values, "average", expected, offset, average));
+    return myself;
+  }
+
+  /**
+   * Collects the elements of the actual stream.
+   *
+   * @param actual the actual stream, not {@code null}.
+   * @return the elements of the actual stream.
+   */
+  protected abstract ELEMENTS toArray(ACTUAL actual);
+
+  /**
+   * Computes the summary statistics of the given elements.
+   *
+   * @param values the elements of the actual stream.
+   * @return the summary statistics of the given elements.
+   */
+  protected abstract STATISTICS summaryStatistics(ELEMENTS values);
+
+  /**
+   * Returns the average of the summary statistics.
+   *
+   * @param statistics the summary statistics of the elements of the actual stream.
+   * @return the average of the elements of the actual stream.
+   */
+  protected abstract double average(STATISTICS statistics);
+
+  /**
+   * Returns the elements of the actual stream, the stream is consumed on the first call.
+   *
+   * @return the elements of the actual stream.
+   * @throws AssertionError if the actual stream is {@code null}.
+   */
+  protected ELEMENTS values() {
+    if (values == null) {
+      isNotNull();
+      values = toArray(actual);
+    }
+    return values;
+  }
+
+  /**
+   * Returns the summary statistics of the elements of the actual stream, they are computed on the first call.
+   *
+   * @return the summary statistics of the elements of the actual stream.
+   * @throws AssertionError if the actual stream is {@code null}.
+   */
+  protected STATISTICS statistics() {
+    if (statistics == null) statistics = summaryStatistics(values());
+    return statistics;
+  }
+
+  static boolean isCloseTo(double actual, double expected, Offset<Double> offset) {
+    double difference = Math.abs(expected - actual);
+    return offset.strict ? difference < offset.value : difference <= offset.value;
+  }
+
+  private int size() {
+    return Array.getLength(values());
+  }
+}
@@ -13,6 +13,7 @@
 package org.assertj.core.api;
 
 import static java.lang.String.format;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 
 import java.util.List;
 
@@ -34,7 +35,12 @@ public abstract class AbstractSoftAssertions extends DefaultAssertionErrorCollec
 
   public static void assertAll(AssertionErrorCollector collector) {
     List<AssertionError> errors = collector.assertionErrorsCollected();
-    if (!errors.isEmpty()) throw ASSERTION_ERROR_CREATOR.multipleSoftAssertionsError(errors);
+    if (!errors.isEmpty()) throw ASSERTION_ERROR_CREATOR.multipleSoftAssertionsError(errors, maxRenderedErrors());
+  }
+
+  // read each time so that the value of the registered configuration is used
+  static int maxRenderedErrors() {
+    return CONFIGURATION_PROVIDER.configuration().maxRenderedSoftAssertionErrors();
   }
 
   @Override
@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import org.assertj.core.configuration.Configuration;
+
+/**
+ * Listener notified around each top-level assertion, it allows to find which assertions dominate the runtime of a test
+ * suite.
+ * <p>
+ * Hard assertions are notified for the assertions declared in {@link AbstractAssert}, ex:
+ * {@code assertThat(actual).isEqualTo(expected)}. Soft assertions are notified by their proxies, any assertion method of an
+ * assert class created by {@link SoftAssertions} or {@link BDDSoftAssertions} (including the ones declared in your own soft
+ * assertions) is thus notified. Assertions called by another assertion (for example the ones performed in
+ * {@link AbstractAssert#satisfies(java.util.function.Consumer)}) are not notified, only the outermost assertion is.
+ * <p>
+ * Only the duration of the assertions is reported, the memory they allocate is not measured.
+ * <p>
+ * A listener is registered either by a {@link Configuration} overriding {@link Configuration#assertionListener()} or by a file
+ * named {@code org.assertj.core.api.AssertionListener} in the {@code META-INF/services} directory containing the fully
+ * qualified name of the listener class. The listener is resolved once when AssertJ is loaded so that assertions
+ * are not slowed down when no listener is registered.
+ * <p>
+ * {@link AssertionMetrics} is a built-in listener aggregating the durations of the assertions per assertion method and
+ * printing them when the JVM exits.
+ * <p>
+ * Listeners are called by the threads performing the assertions, implementations must thus be thread safe.
+ *
+ * @since 3.21.0
+ */
+public interface AssertionListener {
+
+  /**
+   * Called after an assertion succeeded.
+   *
+   * @param assertClass the class of the assertion object (the class extended by the soft assertion proxy), ex: {@code ObjectAssert}.
+   * @param assertionMethod the name of the assertion method, ex: {@code isEqualTo}.
+   * @param durationInNanos the assertion duration in nanoseconds.
+   */
+  void assertionSucceeded(Class<?> assertClass, String assertionMethod, long durationInNanos);
+
+  /**
+   * Called after an assertion failed, before its error is thrown.
+   *
+   * @param assertClass the class of the assertion object (the class extended by the soft assertion proxy), ex: {@code ObjectAssert}.
+   * @param assertionMethod the name of the assertion method, ex: {@code isEqualTo}.
+   * @param durationInNanos the assertion duration in nanoseconds.
+   * @param assertionError the error thrown by the failed assertion.
+   */
+  void assertionFailed(Class<?> assertClass, String assertionMethod, long durationInNanos, AssertionError assertionError);
+
+}
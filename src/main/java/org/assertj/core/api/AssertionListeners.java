@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Notifies the registered {@link AssertionListener} around top-level assertions.
+ * <p>
+ * Hard assertions are notified by the assertions declared in {@link AbstractAssert}, soft assertions by their proxies (see
+ * {@link ErrorCollector}) which also covers the assertions declared in {@link AbstractAssert} subclasses. Both share the
+ * same per thread depth so that an assertion is notified once, by its outermost notification point.
+ * <p>
+ * The listener is resolved once, assertions only check {@link #LISTENING_TO_ASSERTIONS} which the JIT folds when no
+ * listener is registered.
+ */
+final class AssertionListeners {
+
+  private static final AssertionListener ASSERTION_LISTENER = CONFIGURATION_PROVIDER.assertionListener();
+
+  static final boolean LISTENING_TO_ASSERTIONS = ASSERTION_LISTENER != null;
+
+  // depth of the assertions being notified by the current thread, only the outermost one is notified
+  private static final ThreadLocal<int[]> ASSERTIONS_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+  private AssertionListeners() {}
+
+  static void performAndNotify(AbstractAssert<?, ?> assertion, String assertionMethod, Runnable assertionBody) {
+    try {
+      callAndNotify(ASSERTION_LISTENER, userAssertClass(assertion.getClass()), assertionMethod, () -> {
+        assertionBody.run();
+        return null;
+      });
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      // can't happen as a Runnable does not throw checked exceptions
+      throw new IllegalStateException(e);
+    }
+  }
+
+  static Object callAndNotify(Object assertion, Method assertionMethod, Callable<?> assertionCall) throws Exception {
+    return callAndNotify(ASSERTION_LISTENER, userAssertClass(assertion.getClass()), assertionMethod.getName(), assertionCall);
+  }
+
+  @VisibleForTesting
+  static Object callAndNotify(AssertionListener listener, Class<?> assertClass, String assertionMethod,
+                              Callable<?> assertionCall) throws Exception {
+    int[] depth = ASSERTIONS_DEPTH.get();
+    // assertions performed by another assertion are not notified
+    if (depth[0] > 0) return assertionCall.call();
+    depth[0]++;
+    try {
+      long start = System.nanoTime();
+      Object result;
+      try {
+        result = assertionCall.call();
+      } catch (AssertionError assertionError) {
+        listener.assertionFailed(assertClass, assertionMethod, System.nanoTime() - start, assertionError);
+        throw assertionError;
+      }
+      listener.assertionSucceeded(assertClass, assertionMethod, System.nanoTime() - start);
+      return result;
+    } finally {
+      depth[0]--;
+    }
+  }
+
+  // soft assertions proxies are reported as the assertion class they extend
+  @VisibleForTesting
+  static Class<?> userAssertClass(Class<?> assertClass) {
+    return AssertJProxySetup.class.isAssignableFrom(assertClass) ? assertClass.getSuperclass() : assertClass;
+  }
+}
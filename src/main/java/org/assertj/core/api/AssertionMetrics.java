@@ -0,0 +1,178 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.String.format;
+import static java.util.Comparator.comparingLong;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * {@link AssertionListener} aggregating the durations of the assertions in histograms per assertion method, keyed by the fully
+ * qualified name of the assert class and the name of the assertion method.
+ * <p>
+ * Durations are recorded in power of two nanoseconds buckets, the reported percentiles are thus upper bounds at most twice
+ * the exact ones which is enough to find the assertions dominating the runtime of a test suite. The memory allocated by the
+ * assertions is not measured.
+ * <p>
+ * The report is printed to {@code System.err} when the JVM exits, to use it register it in a file named
+ * {@code org.assertj.core.api.AssertionListener} in the {@code META-INF/services} directory of your test classpath:
+ * <pre><code class='text'> org.assertj.core.api.AssertionMetrics</code></pre>
+ * or return it from {@link org.assertj.core.configuration.Configuration#assertionListener()}.
+ * <p>
+ * To write the report elsewhere, pass its destination to {@link #AssertionMetrics(Consumer)}, for example with a subclass
+ * registered instead of {@code AssertionMetrics}:
+ * <pre><code class='java'> public class LoggedAssertionMetrics extends AssertionMetrics {
+ *   public LoggedAssertionMetrics() {
+ *     super(report -&gt; Logger.getLogger("assertj").info(report));
+ *   }
+ * }</code></pre>
+ * The report is also available at any time with {@link #report()}.
+ *
+ * @since 3.21.0
+ */
+public class AssertionMetrics implements AssertionListener {
+
+  private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+  @VisibleForTesting
+  final Thread reportAtExitHook;
+
+  /**
+   * Creates a new {@link AssertionMetrics} printing its report to {@code System.err} when the JVM exits.
+   */
+  public AssertionMetrics() {
+    this(System.err::print);
+  }
+
+  /**
+   * Creates a new {@link AssertionMetrics} passing its report to the given consumer when the JVM exits.
+   *
+   * @param reportAtExit the consumer of the report when the JVM exits, ex: {@code System.out::print}.
+   * @throws NullPointerException if the given consumer is {@code null}.
+   */
+  public AssertionMetrics(Consumer<String> reportAtExit) {
+    requireNonNull(reportAtExit, "The report consumer should not be null");
+    reportAtExitHook = new Thread(() -> reportAtExit.accept(report()), "assertj-assertion-metrics");
+    Runtime.getRuntime().addShutdownHook(reportAtExitHook);
+  }
+
+  @Override
+  public void assertionSucceeded(Class<?> assertClass, String assertionMethod, long durationInNanos) {
+    histogramOf(assertClass, assertionMethod).record(durationInNanos, false);
+  }
+
+  @Override
+  public void assertionFailed(Class<?> assertClass, String assertionMethod, long durationInNanos,
+                              AssertionError assertionError) {
+    histogramOf(assertClass, assertionMethod).record(durationInNanos, true);
+  }
+
+  private Histogram histogramOf(Class<?> assertClass, String assertionMethod) {
+    return histograms.computeIfAbsent(assertClass.getName() + "." + assertionMethod, key -> new Histogram());
+  }
+
+  /**
+   * Returns the aggregated durations of the assertions performed so far, the assertions taking the most time overall come
+   * first.
+   *
+   * @return the aggregated durations of the assertions performed so far.
+   */
+  public String report() {
+    Comparator<Map.Entry<String, Histogram>> byTotalDuration = comparingLong(entry -> entry.getValue().totalNanos());
+    List<Map.Entry<String, Histogram>> entries = histograms.entrySet().stream()
+                                                           .sorted(byTotalDuration.reversed())
+                                                           .collect(toList());
+    StringBuilder report = new StringBuilder(format("AssertJ assertion metrics (durations in microseconds)%n"));
+    report.append(format("%-80s %10s %10s %12s %10s %10s %10s %10s %10s%n",
+                         "assertion", "count", "failures", "total", "mean", "p50", "p90", "p99", "max"));
+    for (Map.Entry<String, Histogram> entry : entries) {
+      Histogram histogram = entry.getValue();
+      long count = histogram.count();
+      report.append(format("%-80s %10d %10d %12d %10d %10d %10d %10d %10d%n",
+                           entry.getKey(), count, histogram.failures(), micros(histogram.totalNanos()),
+                           micros(count == 0 ? 0 : histogram.totalNanos() / count), micros(histogram.percentile(0.5)),
+                           micros(histogram.percentile(0.9)), micros(histogram.percentile(0.99)),
+                           micros(histogram.maxNanos())));
+    }
+    return report.toString();
+  }
+
+  private static long micros(long nanos) {
+    return NANOSECONDS.toMicros(nanos);
+  }
+
+  @VisibleForTesting
+  static final class Histogram {
+
+    // bucket i counts the durations d such that 2^(i-1) <= d < 2^i, bucket 0 counts the durations <= 0
+    private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE);
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    void record(long durationInNanos, boolean failed) {
+      buckets.incrementAndGet(bucketOf(durationInNanos));
+      totalNanos.add(durationInNanos);
+      maxNanos.accumulate(durationInNanos);
+      if (failed) failures.increment();
+    }
+
+    private static int bucketOf(long durationInNanos) {
+      return durationInNanos <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(durationInNanos);
+    }
+
+    long count() {
+      long count = 0;
+      for (int i = 0; i < buckets.length(); i++) {
+        count += buckets.get(i);
+      }
+      return count;
+    }
+
+    long failures() {
+      return failures.sum();
+    }
+
+    long totalNanos() {
+      return totalNanos.sum();
+    }
+
+    long maxNanos() {
+      return maxNanos.get();
+    }
+
+    // upper bound of the bucket containing the given percentile, capped by the max duration
+    long percentile(double percentile) {
+      long rank = (long) Math.ceil(percentile * count());
+      long seen = 0;
+      for (int i = 0; i < buckets.length(); i++) {
+        seen += buckets.get(i);
+        if (seen >= rank && seen > 0) return i == 0 ? 0 : Math.min((1L << i) - 1, maxNanos());
+      }
+      return maxNanos();
+    }
+  }
+}
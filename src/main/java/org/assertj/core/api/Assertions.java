@@ -23,6 +23,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.text.DateFormat;
@@ -524,6 +525,17 @@ public class Assertions implements InstanceOfAssertFactories {
     return AssertionsForClassTypes.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link ByteBufferAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  public static AbstractByteBufferAssert<?> assertThat(ByteBuffer actual) {
+    return AssertionsForClassTypes.assertThat(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link FloatAssert}</code>.
    *
@@ -3036,6 +3048,61 @@ public class Assertions implements InstanceOfAssertFactories {
     return AssertionsForInterfaceTypes.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link IntStreamAssert}</code> from the given {@link IntStream}.
+   * <p>
+   * Unlike {@link #assertThat(IntStream)}, the elements are kept as primitives and are never boxed, the stream is
+   * consumed once when an assertion requires its elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatIntStream(IntStream.range(0, 100_000_000)).hasSize(100_000_000)
+   *                                                  .hasMin(0)
+   *                                                  .hasMax(99_999_999);</code></pre>
+   *
+   * @param actual the actual {@link IntStream} value.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  public static IntStreamAssert assertThatIntStream(IntStream actual) {
+    return new IntStreamAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link LongStreamAssert}</code> from the given {@link LongStream}.
+   * <p>
+   * Unlike {@link #assertThat(LongStream)}, the elements are kept as primitives and are never boxed, the stream is
+   * consumed once when an assertion requires its elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatLongStream(LongStream.rangeClosed(1, 100)).hasSum(5050)
+   *                                         .hasCountInRange(1, 10, 10);</code></pre>
+   *
+   * @param actual the actual {@link LongStream} value.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  public static LongStreamAssert assertThatLongStream(LongStream actual) {
+    return new LongStreamAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link DoubleStreamAssert}</code> from the given {@link DoubleStream}.
+   * <p>
+   * Unlike {@link #assertThat(DoubleStream)}, the elements are kept as primitives and are never boxed, the stream is
+   * consumed once when an assertion requires its elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).hasAverageCloseTo(2.0, within(0.001))
+   *                                              .hasAllValuesInRange(1.0, 3.0);</code></pre>
+   *
+   * @param actual the actual {@link DoubleStream} value.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  public static DoubleStreamAssert assertThatDoubleStream(DoubleStream actual) {
+    return new DoubleStreamAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link SpliteratorAssert}</code> from the given {@link Spliterator}.
    *
@@ -3062,6 +3129,23 @@ public class Assertions implements InstanceOfAssertFactories {
     return AssertionsForInterfaceTypes.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link PathsAssert}</code> to verify the given {@link Path}s as a batch.
+   * <p>
+   * Unlike {@link #assertThat(Path)} on each path, the paths are compared concurrently and all the differences found are
+   * reported in a single error.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatPaths(generatedFiles).allHaveSameBinaryContentAs(Paths.get("src/test/resources/goldens"));</code></pre>
+   *
+   * @param actual the actual {@link Path}s.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  public static PathsAssert assertThatPaths(Iterable<? extends Path> actual) {
+    return new PathsAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link MapAssert}</code>.
    * <p>
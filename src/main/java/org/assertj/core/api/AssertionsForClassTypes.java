@@ -20,6 +20,7 @@ import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.text.DateFormat;
 import java.time.Duration;
@@ -355,6 +356,17 @@ public class AssertionsForClassTypes {
     return new InputStreamAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link ByteBufferAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  public static AbstractByteBufferAssert<?> assertThat(ByteBuffer actual) {
+    return new ByteBufferAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link FloatAssert}</code>.
    *
@@ -26,6 +26,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
@@ -789,6 +790,17 @@ public class Assumptions {
   public static AbstractInputStreamAssert<?, ? extends InputStream> assumeThat(InputStream actual) {
     return asAssumption(InputStreamAssert.class, InputStream.class, actual);
   }
+  /**
+   * Creates a new instance of <code>{@link ByteBufferAssert}</code> assumption.
+   *
+   * @param actual the actual value.
+   * @return the created assumption for assertion object.
+   * @since 3.21.0
+   */
+  public static AbstractByteBufferAssert<?> assumeThat(ByteBuffer actual) {
+    return asAssumption(ByteBufferAssert.class, ByteBuffer.class, actual);
+  }
+
 
   /**
    * Create assertion for {@link FutureAssert} assumption.
@@ -20,6 +20,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.text.DateFormat;
@@ -696,6 +697,23 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link PathsAssert}</code> to verify the given {@link Path}s as a batch.
+   * <p>
+   * Unlike {@link #then(Path)} on each path, the paths are compared concurrently and all the differences found are
+   * reported in a single error.
+   * <p>
+   * Example:
+   * <pre><code class='java'> thenPaths(generatedFiles).allHaveSameBinaryContentAs(Paths.get("src/test/resources/goldens"));</code></pre>
+   *
+   * @param actual the actual {@link Path}s.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  public static PathsAssert thenPaths(Iterable<? extends Path> actual) {
+    return assertThatPaths(actual);
+  }
+
   /**
    * Creates a new instance of {@link FutureAssert}
    *
@@ -718,6 +736,17 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link org.assertj.core.api.ByteBufferAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  public static AbstractByteBufferAssert<?> then(ByteBuffer actual) {
+    return assertThat(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link org.assertj.core.api.FloatAssert}</code>.
    *
@@ -1645,6 +1674,61 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link IntStreamAssert}</code> from the given {@link IntStream}.
+   * <p>
+   * Unlike {@link #then(IntStream)}, the elements are kept as primitives and are never boxed, the stream is
+   * consumed once when an assertion requires its elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> thenIntStream(IntStream.range(0, 100_000_000)).hasSize(100_000_000)
+   *                                                  .hasMin(0)
+   *                                                  .hasMax(99_999_999);</code></pre>
+   *
+   * @param actual the actual {@link IntStream} value.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  public static IntStreamAssert thenIntStream(IntStream actual) {
+    return assertThatIntStream(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link LongStreamAssert}</code> from the given {@link LongStream}.
+   * <p>
+   * Unlike {@link #then(LongStream)}, the elements are kept as primitives and are never boxed, the stream is
+   * consumed once when an assertion requires its elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> thenLongStream(LongStream.rangeClosed(1, 100)).hasSum(5050)
+   *                                         .hasCountInRange(1, 10, 10);</code></pre>
+   *
+   * @param actual the actual {@link LongStream} value.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  public static LongStreamAssert thenLongStream(LongStream actual) {
+    return assertThatLongStream(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link DoubleStreamAssert}</code> from the given {@link DoubleStream}.
+   * <p>
+   * Unlike {@link #then(DoubleStream)}, the elements are kept as primitives and are never boxed, the stream is
+   * consumed once when an assertion requires its elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> thenDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).hasAverageCloseTo(2.0, within(0.001))
+   *                                              .hasAllValuesInRange(1.0, 3.0);</code></pre>
+   *
+   * @param actual the actual {@link DoubleStream} value.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  public static DoubleStreamAssert thenDoubleStream(DoubleStream actual) {
+    return assertThatDoubleStream(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link SpliteratorAssert}</code> from the given {@link Spliterator}.
    *
@@ -21,6 +21,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
@@ -2758,6 +2759,35 @@ public final class BDDAssumptions {
   public static AbstractInputStreamAssert<?, ? extends InputStream> given(InputStream actual) {
     return assumeThat(actual);
   }
+  /**
+   * Creates a new assumption's instance for a {@link ByteBuffer} value.
+   * <p>
+   * Examples:
+   * <p>
+   * Executed test:
+   * <pre><code class='java'> {@literal @Test}
+   * public void given_the_assumption_is_met_the_test_is_executed() {
+   *   given(ByteBuffer.wrap(new byte[] {1, 2})).hasRemaining(2);
+   *   // the remaining code is executed
+   *   // ...
+   * }</code></pre>
+   * <p>
+   * Skipped test:
+   * <pre><code class='java'> {@literal @Test}
+   * public void given_the_assumption_is_not_met_the_test_is_skipped() {
+   *   given(ByteBuffer.wrap(new byte[] {1, 2})).hasRemaining(1);
+   *   // the remaining code is NOT executed.
+   *   // ...
+   *}</code></pre>
+   *
+   * @param actual the actual {@link ByteBuffer} value to be validated.
+   * @return the {@link AbstractByteBufferAssert} assertion object to be used for validation.
+   * @since 3.21.0
+   */
+  public static AbstractByteBufferAssert<?> given(ByteBuffer actual) {
+    return assumeThat(actual);
+  }
+
 
   /**
    * Creates a new assumption's instance for a {@link File} value.
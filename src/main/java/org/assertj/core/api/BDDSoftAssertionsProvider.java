@@ -12,6 +12,7 @@
  */
 package org.assertj.core.api;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
@@ -55,6 +56,18 @@ public interface BDDSoftAssertionsProvider extends Java6BDDSoftAssertionsProvide
     return proxy(PathAssert.class, Path.class, actual);
   }
 
+  /**
+   * Creates a new, proxied instance of a {@link ByteBufferAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   * @since 3.21.0
+   */
+  @CheckReturnValue
+  default ByteBufferAssert then(ByteBuffer actual) {
+    return proxy(ByteBufferAssert.class, ByteBuffer.class, actual);
+  }
+
   /**
    * Create assertion for {@link Optional}.
    *
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.Math.min;
+import static java.util.Collections.emptyList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Assertion errors collected concurrently without locking.
+ * <p>
+ * Errors are spread over stripes selected by the collecting thread so that threads collecting errors at the same time
+ * do not contend on the same queue, stripes are only created when a thread first collects an error in them.
+ * Each error gets a sequence number when collected, {@link #toList()} merges the stripes in that order.
+ */
+final class CollectedAssertionErrors {
+
+  private static final int MAX_STRIPES = 64;
+  private static final int STRIPES = stripesCount(Runtime.getRuntime().availableProcessors());
+
+  private final AtomicLong sequence = new AtomicLong();
+  private final AtomicReferenceArray<Queue<SequencedAssertionError>> stripes = new AtomicReferenceArray<>(STRIPES);
+
+  void add(AssertionError error) {
+    SequencedAssertionError sequencedError = new SequencedAssertionError(sequence.getAndIncrement(), error);
+    stripeOfCurrentThread().add(sequencedError);
+  }
+
+  boolean isEmpty() {
+    return sequence.get() == 0;
+  }
+
+  long size() {
+    return sequence.get();
+  }
+
+  /**
+   * Returns the errors collected so far in the order they were collected in.
+   *
+   * @return the errors collected so far.
+   */
+  List<AssertionError> toList() {
+    if (isEmpty()) return emptyList();
+    List<SequencedAssertionError> sequencedErrors = new ArrayList<>();
+    for (int i = 0; i < stripes.length(); i++) {
+      Queue<SequencedAssertionError> stripe = stripes.get(i);
+      if (stripe != null) sequencedErrors.addAll(stripe);
+    }
+    sequencedErrors.sort(Comparator.comparingLong(sequencedError -> sequencedError.sequence));
+    List<AssertionError> errors = new ArrayList<>(sequencedErrors.size());
+    for (SequencedAssertionError sequencedError : sequencedErrors) {
+      errors.add(sequencedError.error);
+    }
+    return errors;
+  }
+
+  private Queue<SequencedAssertionError> stripeOfCurrentThread() {
+    int index = (int) Thread.currentThread().getId() & (STRIPES - 1);
+    Queue<SequencedAssertionError> stripe = stripes.get(index);
+    if (stripe != null) return stripe;
+    stripes.compareAndSet(index, null, new ConcurrentLinkedQueue<>());
+    return stripes.get(index);
+  }
+
+  // smallest power of two greater than or equal to the number of processors
+  static int stripesCount(int processors) {
+    int stripes = 1;
+    while (stripes < min(processors, MAX_STRIPES)) {
+      stripes <<= 1;
+    }
+    return stripes;
+  }
+
+  private static final class SequencedAssertionError {
+
+    private final long sequence;
+    private final AssertionError error;
+
+    private SequencedAssertionError(long sequence, AssertionError error) {
+      this.sequence = sequence;
+      this.error = error;
+    }
+  }
+}
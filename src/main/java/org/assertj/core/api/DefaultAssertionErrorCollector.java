@@ -13,12 +13,10 @@
 package org.assertj.core.api;
 
 import static java.lang.String.format;
-import static java.util.Collections.synchronizedList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
 
 import java.lang.reflect.Constructor;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,7 +25,7 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   // Marking this field as volatile doesn't ensure complete thread safety
   // (mutual exclusion, race-free behaviour), but guarantees eventual visibility
   private volatile boolean wasSuccess = true;
-  private List<AssertionError> collectedAssertionErrors = synchronizedList(new ArrayList<>());
+  private final CollectedAssertionErrors collectedAssertionErrors = new CollectedAssertionErrors();
 
   private AfterAssertionErrorCollected callback = this;
 
@@ -71,7 +69,7 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   @Override
   public List<AssertionError> assertionErrorsCollected() {
     List<AssertionError> errors = delegate != null ? delegate.assertionErrorsCollected()
-        : unmodifiableList(collectedAssertionErrors);
+        : unmodifiableList(collectedAssertionErrors.toList());
     return decorateErrorsCollected(errors);
   }
 
@@ -132,6 +130,14 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
     return delegate == null ? wasSuccess : delegate.wasSuccess();
   }
 
+  // number of errors collected so far without rendering them, 0 when delegating to another kind of collector
+  long collectedErrorsCount() {
+    if (delegate == null) return collectedAssertionErrors.size();
+    return delegate instanceof DefaultAssertionErrorCollector
+        ? ((DefaultAssertionErrorCollector) delegate).collectedErrorsCount()
+        : 0;
+  }
+
   /**
    * Modifies collected errors. Override to customize modification.
    * @param <T> the supertype to use in the list return value
@@ -148,8 +154,13 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
                  .collect(toList());
   }
 
+  @SuppressWarnings("unchecked")
   private static <T extends Throwable> T addLineNumberToErrorMessage(T error) {
     StackTraceElement testStackTraceElement = getFirstStackTraceElementFromTest(error.getStackTrace());
+    if (testStackTraceElement != null && error instanceof DeferredAssertionError) {
+      // keep the message unrendered
+      return (T) ((DeferredAssertionError) error).withMessageSuffix(lineNumberSuffix(testStackTraceElement));
+    }
     if (testStackTraceElement != null) {
       try {
         return createNewInstanceWithLineNumberInErrorMessage(error, testStackTraceElement);
@@ -174,10 +185,14 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   }
 
   private static String buildErrorMessageWithLineNumber(String originalErrorMessage, StackTraceElement testStackTraceElement) {
+    return originalErrorMessage + lineNumberSuffix(testStackTraceElement);
+  }
+
+  private static String lineNumberSuffix(StackTraceElement testStackTraceElement) {
     String testClassName = simpleClassNameOf(testStackTraceElement);
     String testName = testStackTraceElement.getMethodName();
     int lineNumber = testStackTraceElement.getLineNumber();
-    return format("%s%nat %s.%s(%s.java:%s)", originalErrorMessage, testClassName, testName, testClassName, lineNumber);
+    return format("%nat %s.%s(%s.java:%s)", testClassName, testName, testClassName, lineNumber);
   }
 
   private static String simpleClassNameOf(StackTraceElement testStackTraceElement) {
@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.description.Description;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.presentation.Representation;
+import org.assertj.core.util.Throwables;
+
+/**
+ * An {@link AssertionError} raised by a soft assertion once {@link Configuration#maxRenderedSoftAssertionErrors()} errors
+ * have already been collected, its message is only rendered when it is needed since
+ * {@link AbstractSoftAssertions#assertAll()} does not report it.
+ * <p>
+ * It keeps the {@link ErrorMessageFactory} with the description and the representation of the failed assertion instead
+ * of its message, building the message of a failure may be costly (e.g. when it describes big values) and is wasted when
+ * the message is not reported. Removing AssertJ related elements from the stack trace is deferred as well.
+ * <p>
+ * As a consequence, the message describes the values referenced by the failed assertion as they are when the message is
+ * rendered and these values are kept until then.
+ *
+ * @since 3.21.0
+ */
+public class DeferredAssertionError extends AssertionError {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient ErrorMessageFactory messageFactory;
+  private final transient Description description;
+  private final transient Representation representation;
+  private final String messageSuffix;
+  private volatile boolean stackTraceToFilter;
+  private volatile String message;
+
+  /**
+   * Creates a new {@link DeferredAssertionError}.
+   *
+   * @param messageFactory knows how to create the message of this error.
+   * @param description the description of the failed assertion.
+   * @param representation the representation used to render the values of the failed assertion.
+   * @param removeAssertJRelatedElementsFromStackTrace whether AssertJ related elements should be removed from the stack
+   *          trace.
+   */
+  public DeferredAssertionError(ErrorMessageFactory messageFactory, Description description, Representation representation,
+                                boolean removeAssertJRelatedElementsFromStackTrace) {
+    this(messageFactory, description, representation, "", removeAssertJRelatedElementsFromStackTrace);
+  }
+
+  private DeferredAssertionError(ErrorMessageFactory messageFactory, Description description, Representation representation,
+                                 String messageSuffix, boolean stackTraceToFilter) {
+    this.messageFactory = messageFactory;
+    this.description = description;
+    this.representation = representation;
+    this.messageSuffix = messageSuffix;
+    this.stackTraceToFilter = stackTraceToFilter;
+  }
+
+  /**
+   * Renders the message of this error the first time it is called.
+   */
+  @Override
+  public String getMessage() {
+    if (message == null) message = messageFactory.create(description, representation) + messageSuffix;
+    return message;
+  }
+
+  /**
+   * Returns a copy of this error whose message ends with the given suffix, the message of the copy is not rendered
+   * until needed either.
+   *
+   * @param suffix the suffix to append to the message.
+   * @return a copy of this error with the given suffix appended to its message.
+   */
+  public DeferredAssertionError withMessageSuffix(String suffix) {
+    DeferredAssertionError copy = new DeferredAssertionError(messageFactory, description, representation,
+                                                             messageSuffix + suffix, false);
+    copy.setStackTrace(getStackTrace());
+    if (getCause() != null) copy.initCause(getCause());
+    for (Throwable suppressed : getSuppressed()) {
+      copy.addSuppressed(suppressed);
+    }
+    return copy;
+  }
+
+  @Override
+  public StackTraceElement[] getStackTrace() {
+    filterStackTraceIfNeeded();
+    return super.getStackTrace();
+  }
+
+  @Override
+  public void printStackTrace(PrintStream s) {
+    filterStackTraceIfNeeded();
+    super.printStackTrace(s);
+  }
+
+  @Override
+  public void printStackTrace(PrintWriter s) {
+    filterStackTraceIfNeeded();
+    super.printStackTrace(s);
+  }
+
+  private void filterStackTraceIfNeeded() {
+    if (!stackTraceToFilter) return;
+    // reset the flag first as removing AssertJ related elements calls getStackTrace()
+    stackTraceToFilter = false;
+    Throwables.removeAssertJRelatedElementsFromStackTrace(this);
+  }
+
+  // the message factory, description and representation are not meant to be serialized, the rendered message is
+  private Object writeReplace() {
+    AssertionError error = new AssertionError(getMessage(), getCause());
+    error.setStackTrace(getStackTrace());
+    return error;
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.String.format;
+import static org.assertj.core.error.ShouldHaveStatistic.shouldHaveStatistic;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.stream.DoubleStream;
+
+import org.assertj.core.data.Offset;
+import org.assertj.core.internal.DoubleArrays;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Assertions for {@link DoubleStream} that keep the stream elements as primitives.
+ * <p>
+ * The stream is consumed once, on the first assertion requiring its elements, into a {@code double[]}; statistics
+ * (sum, min, max, average) are computed in a single pass over that buffer and reused by the following assertions.
+ * No element is ever boxed, which makes this assertion suitable for very large streams.
+ * <p>
+ * To create a new instance of this class, invoke <code>{@link Assertions#assertThatDoubleStream(DoubleStream)}</code>.
+ *
+ * @since 3.21.0
+ */
+public class DoubleStreamAssert
+    extends AbstractPrimitiveStreamAssert<DoubleStreamAssert, DoubleStream, double[], DoubleSummaryStatistics> {
+
+  @VisibleForTesting
+  DoubleArrays arrays = DoubleArrays.instance();
+
+  public DoubleStreamAssert(DoubleStream actual) {
+    super(actual, DoubleStreamAssert.class);
+  }
+
+  /**
+   * Verifies that the actual {@code DoubleStream} contains the given values, in any order.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).contains(3.0, 1.0);
+   *
+   * // assertion fails
+   * assertThatDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).contains(4.0);</code></pre>
+   *
+   * @param expected the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the actual {@code DoubleStream} is {@code null}.
+   * @throws AssertionError if the actual {@code DoubleStream} does not contain the given values.
+   */
+  public DoubleStreamAssert contains(double... expected) {
+    arrays.assertContains(info, values(), expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual {@code DoubleStream} does not contain the given values.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).doesNotContain(4.0, 5.0);
+   *
+   * // assertion fails
+   * assertThatDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).doesNotContain(2.0);</code></pre>
+   *
+   * @param unexpected the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the actual {@code DoubleStream} is {@code null}.
+   * @throws AssertionError if the actual {@code DoubleStream} contains any of the given values.
+   */
+  public DoubleStreamAssert doesNotContain(double... unexpected) {
+    arrays.assertDoesNotContain(info, values(), unexpected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual {@code DoubleStream} contains exactly the given values and nothing else, in order.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).containsExactly(1.0, 2.0, 3.0);
+   *
+   * // assertion fails as the order differs
+   * assertThatDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).containsExactly(3.0, 2.0, 1.0);</code></pre>
+   *
+   * @param expected the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the actual {@code DoubleStream} is {@code null}.
+   * @throws AssertionError if the actual {@code DoubleStream} does not contain exactly the given values, in order.
+   */
+  public DoubleStreamAssert containsExactly(double... expected) {
+    arrays.assertContainsExactly(info, values(), expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the sum of the elements of the actual {@code DoubleStream} is close to the given value within the
+   * given offset.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatDoubleStream(DoubleStream.of(0.1, 0.2, 0.3)).hasSumCloseTo(0.6, within(1e-9));
+   *
+   * // assertion fails
+   * assertThatDoubleStream(DoubleStream.of(0.1, 0.2, 0.3)).hasSumCloseTo(0.7, within(1e-9));</code></pre>
+   *
+   * @param expected the expected sum.
+   * @param offset the given positive offset.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given offset is {@code null}.
+   * @throws AssertionError if the actual {@code DoubleStream} is {@code null}.
+   * @throws AssertionError if the sum of the elements is not close to the given value.
+   */
+  public DoubleStreamAssert hasSumCloseTo(double expected, Offset<Double> offset) {
+    checkNotNull(offset, "The offset should not be null");
+    double sum = statistics().getSum();
+    if (!isCloseTo(sum, expected, offset)) throwAssertionError(shouldHaveStatistic(values(), "sum", expected, offset, sum));
+    return myself;
+  }
+
+  /**
+   * Verifies that the smallest element of the actual {@code DoubleStream} is equal to the given value.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatDoubleStream(DoubleStream.of(5.0, 1.0, 9.0)).hasMin(1.0);
+   *
+   * // assertion fails
+   * assertThatDoubleStream(DoubleStream.of(5.0, 1.0, 9.0)).hasMin(5.0);</code></pre>
+   *
+   * @param expected the expected minimum.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code DoubleStream} is {@code null} or empty.
+   * @throws AssertionError if the smallest element is not equal to the given value.
+   */
+  public DoubleStreamAssert hasMin(double expected) {
+    isNotEmpty();
+    double min = statistics().getMin();
+    if (min != expected) throwAssertionError(shouldHaveStatistic(values(), "min", expected, min));
+    return myself;
+  }
+
+  /**
+   * Verifies that the greatest element of the actual {@code DoubleStream} is equal to the given value.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatDoubleStream(DoubleStream.of(5.0, 1.0, 9.0)).hasMax(9.0);
+   *
+   * // assertion fails
+   * assertThatDoubleStream(DoubleStream.of(5.0, 1.0, 9.0)).hasMax(5.0);</code></pre>
+   *
+   * @param expected the expected maximum.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code DoubleStream} is {@code null} or empty.
+   * @throws AssertionError if the greatest element is not equal to the given value.
+   */
+  public DoubleStreamAssert hasMax(double expected) {
+    isNotEmpty();
+    double max = statistics().getMax();
+    if (max != expected) throwAssertionError(shouldHaveStatistic(values(), "max", expected, max));
+    return myself;
+  }
+
+  /**
+   * Verifies that the number of elements of the actual {@code DoubleStream} in the given range (inclusive) is equal to
+   * the given count, this allows to check the buckets of an histogram without collecting it.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatDoubleStream(DoubleStream.of(0.5, 1.5, 2.5, 3.5)).hasCountInRange(0.0, 2.0, 2)
+   *                                                          .hasCountInRange(2.0, 4.0, 2);
+   *
+   * // assertion fails
+   * assertThatDoubleStream(DoubleStream.of(0.5, 1.5, 2.5, 3.5)).hasCountInRange(0.0, 2.0, 3);</code></pre>
+   *
+   * @param start the start of the range, inclusive.
+   * @param end the end of the range, inclusive.
+   * @param expectedCount the expected number of elements in the range.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if {@code start} is greater than {@code end}.
+   * @throws AssertionError if the actual {@code DoubleStream} is {@code null}.
+   * @throws AssertionError if the number of elements in the given range is not equal to the given count.
+   */
+  public DoubleStreamAssert hasCountInRange(double start, double end, long expectedCount) {
+    checkArgument(start <= end, "The range start %s should not be greater than the range end %s", start, end);
+    long count = countInRange(start, end);
+    if (count != expectedCount)
+      throwAssertionError(shouldHaveStatistic(values(), format("number of elements in [%s, %s]", start, end),
+                                              expectedCount, count));
+    return myself;
+  }
+
+  /**
+   * Verifies that all the elements of the actual {@code DoubleStream} are in the given range (inclusive), the check only
+   * relies on the min and max of the elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatDoubleStream(DoubleStream.of(1.0, 5.0, 10.0)).hasAllValuesInRange(1.0, 10.0);
+   *
+   * // assertion fails
+   * assertThatDoubleStream(DoubleStream.of(1.0, 5.0, 10.0)).hasAllValuesInRange(1.0, 9.0);</code></pre>
+   *
+   * @param start the start of the range, inclusive.
+   * @param end the end of the range, inclusive.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if {@code start} is greater than {@code end}.
+   * @throws AssertionError if the actual {@code DoubleStream} is {@code null}.
+   * @throws AssertionError if some elements are out of the given range.
+   */
+  public DoubleStreamAssert hasAllValuesInRange(double start, double end) {
+    checkArgument(start <= end, "The range start %s should not be greater than the range end %s", start, end);
+    DoubleSummaryStatistics statistics = statistics();
+    if (statistics.getCount() == 0 || (statistics.getMin() >= start && statistics.getMax() <= end)) return myself;
+    long outOfRange = values().length - countInRange(start, end);
+    throwAssertionError(shouldHaveStatistic(values(), format("number of elements out of [%s, %s]", start, end), 0L,
+                                            outOfRange));
+    return myself;
+  }
+
+  private long countInRange(double start, double end) {
+    long count = 0;
+    for (double value : values()) {
+      if (value >= start && value <= end) count++;
+    }
+    return count;
+  }
+
+  @Override
+  protected double[] toArray(DoubleStream actual) {
+    return actual.toArray();
+  }
+
+  @Override
+  protected DoubleSummaryStatistics summaryStatistics(double[] values) {
+    return Arrays.stream(values).summaryStatistics();
+  }
+
+  @Override
+  protected double average(DoubleSummaryStatistics statistics) {
+    return statistics.getAverage();
+  }
+}
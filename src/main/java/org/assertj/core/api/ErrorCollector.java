@@ -12,8 +12,9 @@
  */
 package org.assertj.core.api;
 
+import static org.assertj.core.api.AssertionListeners.LISTENING_TO_ASSERTIONS;
+
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.concurrent.Callable;
 
 import net.bytebuddy.implementation.bind.annotation.FieldValue;
@@ -28,8 +29,11 @@ public class ErrorCollector {
 
   public static final String FIELD_NAME = "errorCollector";
 
-  private static final String INTERCEPT_METHOD_NAME = "intercept";
-  private static final String CLASS_NAME = ErrorCollector.class.getName();
+  // number of intercepted calls currently running in each thread, only the most outer one collects assertion errors and
+  // notifies the registered AssertionListener
+  private static final ThreadLocal<int[]> INTERCEPTED_CALLS_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+  // whether the most outer intercepted call of each thread creates errors whose message is rendered when needed
+  private static final ThreadLocal<boolean[]> DEFERRING_ERROR_RENDERING = ThreadLocal.withInitial(() -> new boolean[1]);
 
   private AssertionErrorCollector assertionErrorCollector;
 
@@ -52,16 +56,28 @@ public class ErrorCollector {
                                  @SuperCall Callable<?> proxy,
                                  @SuperMethod(nullIfImpossible = true) Method method,
                                  @StubValue Object stub) throws Exception {
+    int[] depth = INTERCEPTED_CALLS_DEPTH.get();
+    depth[0]++;
+    boolean[] deferringErrorRendering = null;
+    if (depth[0] == 1 && errorCollector.hasCollectedMaxRenderedErrors()) {
+      deferringErrorRendering = DEFERRING_ERROR_RENDERING.get();
+      deferringErrorRendering[0] = true;
+    }
     try {
-      Object result = proxy.call();
+      Object result = LISTENING_TO_ASSERTIONS && depth[0] == 1 && method != null
+          ? AssertionListeners.callAndNotify(assertion, method, proxy)
+          : proxy.call();
       errorCollector.succeeded();
       return result;
     } catch (AssertionError assertionError) {
-      if (isNestedErrorCollectorProxyCall()) {
+      if (depth[0] > 1) {
         // let the most outer call handle the assertion error
         throw assertionError;
       }
       errorCollector.addError(assertionError);
+    } finally {
+      depth[0]--;
+      if (deferringErrorRendering != null) deferringErrorRendering[0] = false;
     }
     if (method != null && !method.getReturnType().isInstance(assertion)) {
       // In case the object is not an instance of the return type, just default value for the return type:
@@ -71,22 +87,28 @@ public class ErrorCollector {
     return assertion;
   }
 
-  private void addError(AssertionError error) {
-    assertionErrorCollector.collectAssertionError(error);
+  /**
+   * Returns whether the current thread is running a soft assertion whose errors are not reported by {@code assertAll()}
+   * because {@link org.assertj.core.configuration.Configuration#maxRenderedSoftAssertionErrors()} errors have already been
+   * collected, the message of these errors is then rendered only when needed.
+   *
+   * @return whether the current thread is running a soft assertion whose error messages are rendered only when needed.
+   * @since 3.21.0
+   */
+  public static boolean isDeferringErrorRenderingInCurrentThread() {
+    return DEFERRING_ERROR_RENDERING.get()[0];
   }
 
-  private void succeeded() {
-    assertionErrorCollector.succeeded();
+  private boolean hasCollectedMaxRenderedErrors() {
+    return assertionErrorCollector instanceof DefaultAssertionErrorCollector
+           && ((DefaultAssertionErrorCollector) assertionErrorCollector).collectedErrorsCount() >= AbstractSoftAssertions.maxRenderedErrors();
   }
 
-  private static boolean isNestedErrorCollectorProxyCall() {
-    return countErrorCollectorProxyCalls() > 1;
+  private void addError(AssertionError error) {
+    assertionErrorCollector.collectAssertionError(error);
   }
 
-  private static long countErrorCollectorProxyCalls() {
-    return Arrays.stream(Thread.currentThread().getStackTrace())
-                 .filter(stackTraceElement -> CLASS_NAME.equals(stackTraceElement.getClassName())
-                                              && stackTraceElement.getMethodName().startsWith(INTERCEPT_METHOD_NAME))
-                 .count();
+  private void succeeded() {
+    assertionErrorCollector.succeeded();
   }
 }
@@ -18,6 +18,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
@@ -341,6 +342,14 @@ public interface InstanceOfAssertFactories {
   InstanceOfAssertFactory<InputStream, AbstractInputStreamAssert<?, ?>> INPUT_STREAM = new InstanceOfAssertFactory<>(InputStream.class,
                                                                                                                      Assertions::assertThat);
 
+  /**
+   * {@link InstanceOfAssertFactory} for a {@link ByteBuffer}.
+   *
+   * @since 3.21.0
+   */
+  InstanceOfAssertFactory<ByteBuffer, AbstractByteBufferAssert<?>> BYTE_BUFFER = new InstanceOfAssertFactory<>(ByteBuffer.class,
+                                                                                                          Assertions::assertThat);
+
   /**
    * {@link InstanceOfAssertFactory} for a {@code float} or its corresponding boxed type {@link Float}.
    */
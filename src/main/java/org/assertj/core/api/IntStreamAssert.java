@@ -0,0 +1,254 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.String.format;
+import static org.assertj.core.error.ShouldHaveStatistic.shouldHaveStatistic;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.stream.IntStream;
+
+import org.assertj.core.internal.IntArrays;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Assertions for {@link IntStream} that keep the stream elements as primitives.
+ * <p>
+ * The stream is consumed once, on the first assertion requiring its elements, into an {@code int[]}; statistics
+ * (sum, min, max, average) are computed in a single pass over that buffer and reused by the following assertions.
+ * No element is ever boxed, which makes this assertion suitable for very large streams.
+ * <p>
+ * To create a new instance of this class, invoke <code>{@link Assertions#assertThatIntStream(IntStream)}</code>.
+ *
+ * @since 3.21.0
+ */
+public class IntStreamAssert
+    extends AbstractPrimitiveStreamAssert<IntStreamAssert, IntStream, int[], IntSummaryStatistics> {
+
+  @VisibleForTesting
+  IntArrays arrays = IntArrays.instance();
+
+  public IntStreamAssert(IntStream actual) {
+    super(actual, IntStreamAssert.class);
+  }
+
+  /**
+   * Verifies that the actual {@code IntStream} contains the given values, in any order.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatIntStream(IntStream.of(1, 2, 3)).contains(3, 1);
+   *
+   * // assertion fails
+   * assertThatIntStream(IntStream.of(1, 2, 3)).contains(4);</code></pre>
+   *
+   * @param expected the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the actual {@code IntStream} is {@code null}.
+   * @throws AssertionError if the actual {@code IntStream} does not contain the given values.
+   */
+  public IntStreamAssert contains(int... expected) {
+    arrays.assertContains(info, values(), expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual {@code IntStream} does not contain the given values.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatIntStream(IntStream.of(1, 2, 3)).doesNotContain(4, 5);
+   *
+   * // assertion fails
+   * assertThatIntStream(IntStream.of(1, 2, 3)).doesNotContain(2);</code></pre>
+   *
+   * @param unexpected the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the actual {@code IntStream} is {@code null}.
+   * @throws AssertionError if the actual {@code IntStream} contains any of the given values.
+   */
+  public IntStreamAssert doesNotContain(int... unexpected) {
+    arrays.assertDoesNotContain(info, values(), unexpected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual {@code IntStream} contains exactly the given values and nothing else, in order.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatIntStream(IntStream.of(1, 2, 3)).containsExactly(1, 2, 3);
+   *
+   * // assertion fails as the order differs
+   * assertThatIntStream(IntStream.of(1, 2, 3)).containsExactly(3, 2, 1);</code></pre>
+   *
+   * @param expected the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the actual {@code IntStream} is {@code null}.
+   * @throws AssertionError if the actual {@code IntStream} does not contain exactly the given values, in order.
+   */
+  public IntStreamAssert containsExactly(int... expected) {
+    arrays.assertContainsExactly(info, values(), expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the sum of the elements of the actual {@code IntStream} is equal to the given value.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatIntStream(IntStream.rangeClosed(1, 100)).hasSum(5050);
+   *
+   * // assertion fails
+   * assertThatIntStream(IntStream.rangeClosed(1, 100)).hasSum(100);</code></pre>
+   *
+   * @param expected the expected sum.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code IntStream} is {@code null}.
+   * @throws AssertionError if the sum of the elements is not equal to the given value.
+   */
+  public IntStreamAssert hasSum(long expected) {
+    long sum = statistics().getSum();
+    if (sum != expected) throwAssertionError(shouldHaveStatistic(values(), "sum", expected, sum));
+    return myself;
+  }
+
+  /**
+   * Verifies that the smallest element of the actual {@code IntStream} is equal to the given value.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatIntStream(IntStream.of(5, 1, 9)).hasMin(1);
+   *
+   * // assertion fails
+   * assertThatIntStream(IntStream.of(5, 1, 9)).hasMin(5);</code></pre>
+   *
+   * @param expected the expected minimum.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code IntStream} is {@code null} or empty.
+   * @throws AssertionError if the smallest element is not equal to the given value.
+   */
+  public IntStreamAssert hasMin(int expected) {
+    isNotEmpty();
+    int min = statistics().getMin();
+    if (min != expected) throwAssertionError(shouldHaveStatistic(values(), "min", expected, min));
+    return myself;
+  }
+
+  /**
+   * Verifies that the greatest element of the actual {@code IntStream} is equal to the given value.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatIntStream(IntStream.of(5, 1, 9)).hasMax(9);
+   *
+   * // assertion fails
+   * assertThatIntStream(IntStream.of(5, 1, 9)).hasMax(5);</code></pre>
+   *
+   * @param expected the expected maximum.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code IntStream} is {@code null} or empty.
+   * @throws AssertionError if the greatest element is not equal to the given value.
+   */
+  public IntStreamAssert hasMax(int expected) {
+    isNotEmpty();
+    int max = statistics().getMax();
+    if (max != expected) throwAssertionError(shouldHaveStatistic(values(), "max", expected, max));
+    return myself;
+  }
+
+  /**
+   * Verifies that the number of elements of the actual {@code IntStream} in the given range (inclusive) is equal to
+   * the given count, this allows to check the buckets of an histogram without collecting it.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatIntStream(IntStream.range(0, 100)).hasCountInRange(0, 9, 10)
+   *                                             .hasCountInRange(90, 99, 10);
+   *
+   * // assertion fails
+   * assertThatIntStream(IntStream.range(0, 100)).hasCountInRange(0, 9, 20);</code></pre>
+   *
+   * @param start the start of the range, inclusive.
+   * @param end the end of the range, inclusive.
+   * @param expectedCount the expected number of elements in the range.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if {@code start} is greater than {@code end}.
+   * @throws AssertionError if the actual {@code IntStream} is {@code null}.
+   * @throws AssertionError if the number of elements in the given range is not equal to the given count.
+   */
+  public IntStreamAssert hasCountInRange(int start, int end, long expectedCount) {
+    checkArgument(start <= end, "The range start %s should not be greater than the range end %s", start, end);
+    long count = countInRange(start, end);
+    if (count != expectedCount)
+      throwAssertionError(shouldHaveStatistic(values(), format("number of elements in [%s, %s]", start, end),
+                                              expectedCount, count));
+    return myself;
+  }
+
+  /**
+   * Verifies that all the elements of the actual {@code IntStream} are in the given range (inclusive), the check only
+   * relies on the min and max of the elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatIntStream(IntStream.of(1, 5, 10)).hasAllValuesInRange(1, 10);
+   *
+   * // assertion fails
+   * assertThatIntStream(IntStream.of(1, 5, 10)).hasAllValuesInRange(1, 9);</code></pre>
+   *
+   * @param start the start of the range, inclusive.
+   * @param end the end of the range, inclusive.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if {@code start} is greater than {@code end}.
+   * @throws AssertionError if the actual {@code IntStream} is {@code null}.
+   * @throws AssertionError if some elements are out of the given range.
+   */
+  public IntStreamAssert hasAllValuesInRange(int start, int end) {
+    checkArgument(start <= end, "The range start %s should not be greater than the range end %s", start, end);
+    IntSummaryStatistics statistics = statistics();
+    if (statistics.getCount() == 0 || (statistics.getMin() >= start && statistics.getMax() <= end)) return myself;
+    long outOfRange = values().length - countInRange(start, end);
+    throwAssertionError(shouldHaveStatistic(values(), format("number of elements out of [%s, %s]", start, end), 0L,
+                                            outOfRange));
+    return myself;
+  }
+
+  private long countInRange(int start, int end) {
+    long count = 0;
+    for (int value : values()) {
+      if (value >= start && value <= end) count++;
+    }
+    return count;
+  }
+
+  @Override
+  protected int[] toArray(IntStream actual) {
+    return actual.toArray();
+  }
+
+  @Override
+  protected IntSummaryStatistics summaryStatistics(int[] values) {
+    return Arrays.stream(values).summaryStatistics();
+  }
+
+  @Override
+  protected double average(IntSummaryStatistics statistics) {
+    return statistics.getAverage();
+  }
+}
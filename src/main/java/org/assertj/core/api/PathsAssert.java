@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+import org.assertj.core.internal.Paths;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Assertions for a group of {@link Path}s verified as a batch.
+ * <p>
+ * The paths are compared concurrently and all the differences found are reported in a single error, which is much faster
+ * than verifying each path in turn when there are many of them.
+ * <p>
+ * To create a new instance of this class, invoke <code>{@link Assertions#assertThatPaths(Iterable)}</code>.
+ *
+ * @since 3.21.0
+ */
+public class PathsAssert extends AbstractAssert<PathsAssert, Iterable<? extends Path>> {
+
+  @VisibleForTesting
+  Paths paths = Paths.instance();
+
+  public PathsAssert(Iterable<? extends Path> actual) {
+    super(actual, PathsAssert.class);
+  }
+
+  /**
+   * Verifies that each actual {@code Path} has the same binary content as the file with the same name in the given
+   * directory.
+   * <p>
+   * The pairs of files are compared concurrently on a bounded pool of threads, all the actual paths that are not readable
+   * files, that have no file with the same name in the given directory or whose content differs are reported together.
+   * <p>
+   * Actual paths sharing their file name with another actual path, for example {@code a/out.bin} and {@code b/out.bin},
+   * are not compared since they would all be compared to the same file, they are reported as failures instead. A path
+   * without file name, like a root directory, is reported as not being a readable file.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // generated-output contains a.bin and b.bin, goldens contains a.bin and b.bin too
+   * List&lt;Path&gt; outputs = Arrays.asList(Paths.get("generated-output/a.bin"), Paths.get("generated-output/b.bin"));
+   *
+   * // assertion succeeds if generated-output/a.bin has the same content as goldens/a.bin
+   * // and generated-output/b.bin has the same content as goldens/b.bin
+   * assertThatPaths(outputs).allHaveSameBinaryContentAs(Paths.get("goldens"));</code></pre>
+   *
+   * @param expectedDirectory the directory containing the expected files.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given directory is {@code null}.
+   * @throws IllegalArgumentException if the given directory is not an existing directory.
+   * @throws AssertionError if the actual paths are {@code null}.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if any actual path is not a readable file, has no file with the same name in the given
+   *           directory or has a different content than this file.
+   * @throws AssertionError if several actual paths have the same file name.
+   * @since 3.21.0
+   */
+  public PathsAssert allHaveSameBinaryContentAs(Path expectedDirectory) {
+    paths.assertAllHaveSameBinaryContentAs(info, actual, expectedDirectory);
+    return myself;
+  }
+}
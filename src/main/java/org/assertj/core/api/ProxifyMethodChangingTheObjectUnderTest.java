@@ -65,6 +65,14 @@ public class ProxifyMethodChangingTheObjectUnderTest {
 
   public static final String FIELD_NAME = "dispatcher";
 
+  // the actual class to create the proxy of an assert class with, computed once per assert class
+  private static final ClassValue<Class<?>> ACTUAL_CLASSES = new ClassValue<Class<?>>() {
+    @Override
+    protected Class<?> computeValue(Class<?> assertClass) {
+      return findActualClass(assertClass);
+    }
+  };
+
   private final SoftProxies proxies;
 
   ProxifyMethodChangingTheObjectUnderTest(SoftProxies proxies) {
@@ -107,66 +115,71 @@ public class ProxifyMethodChangingTheObjectUnderTest {
 
   @SuppressWarnings("rawtypes")
   private static Class actualClass(Object currentAssert) {
-    if (currentAssert instanceof AbstractObjectArrayAssert) return Array.newInstance(Object.class, 0).getClass();
-    if (currentAssert instanceof StringAssert) return String.class;
-    if (currentAssert instanceof RecursiveComparisonAssert) return Object.class;
-    if (currentAssert instanceof AtomicIntegerFieldUpdaterAssert) return AtomicIntegerFieldUpdater.class;
-    if (currentAssert instanceof AtomicLongFieldUpdaterAssert) return AtomicLongFieldUpdater.class;
-    if (currentAssert instanceof AtomicMarkableReferenceAssert) return AtomicMarkableReference.class;
-    if (currentAssert instanceof AtomicReferenceAssert) return AtomicReference.class;
-    if (currentAssert instanceof AtomicReferenceArrayAssert) return AtomicReferenceArray.class;
-    if (currentAssert instanceof AtomicReferenceFieldUpdaterAssert) return AtomicReferenceFieldUpdater.class;
-    if (currentAssert instanceof AtomicStampedReferenceAssert) return AtomicStampedReference.class;
-    if (currentAssert instanceof BigDecimalAssert) return BigDecimal.class;
-    if (currentAssert instanceof BigIntegerAssert) return BigInteger.class;
-    if (currentAssert instanceof BooleanAssert) return Boolean.class;
-    if (currentAssert instanceof BooleanArrayAssert) return boolean[].class;
-    if (currentAssert instanceof ByteAssert) return Byte.class;
-    if (currentAssert instanceof ByteArrayAssert) return byte[].class;
-    if (currentAssert instanceof CharArrayAssert) return char[].class;
-    if (currentAssert instanceof CharSequenceAssert) return CharSequence.class;
-    if (currentAssert instanceof CharacterAssert) return Character.class;
-    if (currentAssert instanceof ClassAssert) return Class.class;
-    if (currentAssert instanceof CompletableFutureAssert) return CompletionStage.class;
-    if (currentAssert instanceof DateAssert) return Date.class;
-    if (currentAssert instanceof DoubleAssert) return Double.class;
-    if (currentAssert instanceof DoubleArrayAssert) return double[].class;
-    if (currentAssert instanceof DoublePredicateAssert) return DoublePredicate.class;
-    if (currentAssert instanceof DurationAssert) return Duration.class;
-    if (currentAssert instanceof PeriodAssert) return Period.class;
-    if (currentAssert instanceof FileAssert) return File.class;
-    if (currentAssert instanceof FloatAssert) return Float.class;
-    if (currentAssert instanceof FloatArrayAssert) return float[].class;
-    if (currentAssert instanceof FutureAssert) return Future.class; // must be after CompletionStage / CompletableFuture
-    if (currentAssert instanceof InputStreamAssert) return InputStream.class;
-    if (currentAssert instanceof InstantAssert) return Instant.class;
-    if (currentAssert instanceof IntArrayAssert) return int[].class;
-    if (currentAssert instanceof IntPredicateAssert) return IntPredicate.class;
-    if (currentAssert instanceof IntegerAssert) return Integer.class;
-    if (currentAssert instanceof IteratorAssert) return Iterator.class;
-    if (currentAssert instanceof LocalDateAssert) return LocalDate.class;
-    if (currentAssert instanceof LocalDateTimeAssert) return LocalDateTime.class;
-    if (currentAssert instanceof LongAdderAssert) return LongAdder.class;
-    if (currentAssert instanceof LongArrayAssert) return long[].class;
-    if (currentAssert instanceof LongAssert) return Long.class;
-    if (currentAssert instanceof LongPredicateAssert) return LongPredicate.class;
-    if (currentAssert instanceof MapAssert) return Map.class;
-    if (currentAssert instanceof ObjectAssert) return Object.class;
-    if (currentAssert instanceof OffsetDateTimeAssert) return OffsetDateTime.class;
-    if (currentAssert instanceof OffsetTimeAssert) return OffsetTime.class;
-    if (currentAssert instanceof OptionalAssert) return Optional.class;
-    if (currentAssert instanceof OptionalDoubleAssert) return OptionalDouble.class;
-    if (currentAssert instanceof OptionalIntAssert) return OptionalInt.class;
-    if (currentAssert instanceof OptionalLongAssert) return OptionalLong.class;
-    if (currentAssert instanceof PathAssert) return Path.class;
-    if (currentAssert instanceof PredicateAssert) return Predicate.class;
-    if (currentAssert instanceof ShortAssert) return Short.class;
-    if (currentAssert instanceof ShortArrayAssert) return short[].class;
-    if (currentAssert instanceof ThrowableAssert) return Throwable.class;
-    if (currentAssert instanceof ThrowableAssertAlternative) return Throwable.class;
-    if (currentAssert instanceof UriAssert) return URI.class;
-    if (currentAssert instanceof UrlAssert) return URL.class;
-    if (currentAssert instanceof ZonedDateTimeAssert) return ZonedDateTime.class;
+    return ACTUAL_CLASSES.get(currentAssert.getClass());
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static Class<?> findActualClass(Class<?> assertClass) {
+    if (AbstractObjectArrayAssert.class.isAssignableFrom(assertClass)) return Array.newInstance(Object.class, 0).getClass();
+    if (StringAssert.class.isAssignableFrom(assertClass)) return String.class;
+    if (RecursiveComparisonAssert.class.isAssignableFrom(assertClass)) return Object.class;
+    if (AtomicIntegerFieldUpdaterAssert.class.isAssignableFrom(assertClass)) return AtomicIntegerFieldUpdater.class;
+    if (AtomicLongFieldUpdaterAssert.class.isAssignableFrom(assertClass)) return AtomicLongFieldUpdater.class;
+    if (AtomicMarkableReferenceAssert.class.isAssignableFrom(assertClass)) return AtomicMarkableReference.class;
+    if (AtomicReferenceAssert.class.isAssignableFrom(assertClass)) return AtomicReference.class;
+    if (AtomicReferenceArrayAssert.class.isAssignableFrom(assertClass)) return AtomicReferenceArray.class;
+    if (AtomicReferenceFieldUpdaterAssert.class.isAssignableFrom(assertClass)) return AtomicReferenceFieldUpdater.class;
+    if (AtomicStampedReferenceAssert.class.isAssignableFrom(assertClass)) return AtomicStampedReference.class;
+    if (BigDecimalAssert.class.isAssignableFrom(assertClass)) return BigDecimal.class;
+    if (BigIntegerAssert.class.isAssignableFrom(assertClass)) return BigInteger.class;
+    if (BooleanAssert.class.isAssignableFrom(assertClass)) return Boolean.class;
+    if (BooleanArrayAssert.class.isAssignableFrom(assertClass)) return boolean[].class;
+    if (ByteAssert.class.isAssignableFrom(assertClass)) return Byte.class;
+    if (ByteArrayAssert.class.isAssignableFrom(assertClass)) return byte[].class;
+    if (CharArrayAssert.class.isAssignableFrom(assertClass)) return char[].class;
+    if (CharSequenceAssert.class.isAssignableFrom(assertClass)) return CharSequence.class;
+    if (CharacterAssert.class.isAssignableFrom(assertClass)) return Character.class;
+    if (ClassAssert.class.isAssignableFrom(assertClass)) return Class.class;
+    if (CompletableFutureAssert.class.isAssignableFrom(assertClass)) return CompletionStage.class;
+    if (DateAssert.class.isAssignableFrom(assertClass)) return Date.class;
+    if (DoubleAssert.class.isAssignableFrom(assertClass)) return Double.class;
+    if (DoubleArrayAssert.class.isAssignableFrom(assertClass)) return double[].class;
+    if (DoublePredicateAssert.class.isAssignableFrom(assertClass)) return DoublePredicate.class;
+    if (DurationAssert.class.isAssignableFrom(assertClass)) return Duration.class;
+    if (PeriodAssert.class.isAssignableFrom(assertClass)) return Period.class;
+    if (FileAssert.class.isAssignableFrom(assertClass)) return File.class;
+    if (FloatAssert.class.isAssignableFrom(assertClass)) return Float.class;
+    if (FloatArrayAssert.class.isAssignableFrom(assertClass)) return float[].class;
+    if (FutureAssert.class.isAssignableFrom(assertClass)) return Future.class; // must be after CompletionStage / CompletableFuture
+    if (InputStreamAssert.class.isAssignableFrom(assertClass)) return InputStream.class;
+    if (InstantAssert.class.isAssignableFrom(assertClass)) return Instant.class;
+    if (IntArrayAssert.class.isAssignableFrom(assertClass)) return int[].class;
+    if (IntPredicateAssert.class.isAssignableFrom(assertClass)) return IntPredicate.class;
+    if (IntegerAssert.class.isAssignableFrom(assertClass)) return Integer.class;
+    if (IteratorAssert.class.isAssignableFrom(assertClass)) return Iterator.class;
+    if (LocalDateAssert.class.isAssignableFrom(assertClass)) return LocalDate.class;
+    if (LocalDateTimeAssert.class.isAssignableFrom(assertClass)) return LocalDateTime.class;
+    if (LongAdderAssert.class.isAssignableFrom(assertClass)) return LongAdder.class;
+    if (LongArrayAssert.class.isAssignableFrom(assertClass)) return long[].class;
+    if (LongAssert.class.isAssignableFrom(assertClass)) return Long.class;
+    if (LongPredicateAssert.class.isAssignableFrom(assertClass)) return LongPredicate.class;
+    if (MapAssert.class.isAssignableFrom(assertClass)) return Map.class;
+    if (ObjectAssert.class.isAssignableFrom(assertClass)) return Object.class;
+    if (OffsetDateTimeAssert.class.isAssignableFrom(assertClass)) return OffsetDateTime.class;
+    if (OffsetTimeAssert.class.isAssignableFrom(assertClass)) return OffsetTime.class;
+    if (OptionalAssert.class.isAssignableFrom(assertClass)) return Optional.class;
+    if (OptionalDoubleAssert.class.isAssignableFrom(assertClass)) return OptionalDouble.class;
+    if (OptionalIntAssert.class.isAssignableFrom(assertClass)) return OptionalInt.class;
+    if (OptionalLongAssert.class.isAssignableFrom(assertClass)) return OptionalLong.class;
+    if (PathAssert.class.isAssignableFrom(assertClass)) return Path.class;
+    if (PredicateAssert.class.isAssignableFrom(assertClass)) return Predicate.class;
+    if (ShortAssert.class.isAssignableFrom(assertClass)) return Short.class;
+    if (ShortArrayAssert.class.isAssignableFrom(assertClass)) return short[].class;
+    if (ThrowableAssert.class.isAssignableFrom(assertClass)) return Throwable.class;
+    if (ThrowableAssertAlternative.class.isAssignableFrom(assertClass)) return Throwable.class;
+    if (UriAssert.class.isAssignableFrom(assertClass)) return URI.class;
+    if (UrlAssert.class.isAssignableFrom(assertClass)) return URL.class;
+    if (ZonedDateTimeAssert.class.isAssignableFrom(assertClass)) return ZonedDateTime.class;
     // Trying to create a proxy will only match exact constructor argument types.
     // To initialize one for ListAssert for example we can't use an ArrayList, we have to use a List.
     // So we can't just return actual.getClass() as we could read a concrete class whereas
@@ -174,7 +187,7 @@ public class ProxifyMethodChangingTheObjectUnderTest {
     // Instead we can read generic types from *Assert definition.
     // Inspecting: class ListAssert<T> extends AbstractListAssert<ListAssert<T>, List<? extends T>, T>
     // will return the generic defined by the super class AbstractListAssert at index 1, which is a List<? extends T>
-    Type actualType = ((ParameterizedType) currentAssert.getClass().getGenericSuperclass()).getActualTypeArguments()[1];
+    Type actualType = ((ParameterizedType) assertClass.getGenericSuperclass()).getActualTypeArguments()[1];
     if (actualType instanceof ParameterizedType) return (Class<?>) ((ParameterizedType) actualType).getRawType();
     if (actualType instanceof TypeVariable) return (Class<?>) ((TypeVariable) actualType).getGenericDeclaration();
     return (Class<?>) actualType;
@@ -37,6 +37,18 @@ public class SoftAssertionError extends AssertionError {
     this.errors = errors;
   }
 
+  /**
+   * Creates a new SoftAssertionError whose message also gives the number of errors that were not rendered.
+   *
+   * @param errors the causal AssertionError error messages in the order that they were thrown
+   * @param notRenderedErrorsCount the number of errors that were not rendered
+   * @since 3.21.0
+   */
+  public SoftAssertionError(List<String> errors, int notRenderedErrorsCount) {
+    super(aggregateErrorMessages(errors, notRenderedErrorsCount));
+    this.errors = errors;
+  }
+
   /**
    * Returns the causal AssertionError error messages in the order that they were thrown.
    * 
@@ -12,6 +12,9 @@
  */
 package org.assertj.core.api;
 
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static net.bytebuddy.matcher.ElementMatchers.any;
 import static net.bytebuddy.matcher.ElementMatchers.isProtected;
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
@@ -20,12 +23,16 @@ import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static net.bytebuddy.matcher.ElementMatchers.not;
 import static org.assertj.core.api.ClassLoadingStrategyFactory.classLoadingStrategy;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.SoftReference;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.ClassLoadingStrategyFactory.ClassLoadingStrategyPair;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.util.VisibleForTesting;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.TypeCache;
@@ -33,6 +40,7 @@ import net.bytebuddy.TypeCache.SimpleKey;
 import net.bytebuddy.TypeCache.Sort;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.Implementation;
@@ -100,25 +108,68 @@ class SoftProxies {
   private static final Implementation PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST = MethodDelegation.to(ProxifyMethodChangingTheObjectUnderTest.class);
   private static final Implementation ERROR_COLLECTOR = MethodDelegation.to(ErrorCollector.class);
 
+  // name suffix and signature field of the proxy classes generated at build time by the pregenerated-soft-proxies profile
+  static final String PREGENERATED_PROXY_CLASS_NAME_SUFFIX = "$AssertJ$SoftProxy";
+  static final String PREGENERATED_PROXY_SIGNATURE_FIELD_NAME = "assertj$signature";
+
   private static final TypeCache<TypeCache.SimpleKey> CACHE = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
 
+  // proxy constructors by assert class and constructor parameter types, softly referenced as a handle keeps its proxy class
+  // reachable and would otherwise prevent the CACHE from releasing it
+  private static final ClassValue<Map<List<Class<?>>, SoftReference<MethodHandle>>> PROXY_CONSTRUCTORS = new ClassValue<Map<List<Class<?>>, SoftReference<MethodHandle>>>() {
+    @Override
+    protected Map<List<Class<?>>, SoftReference<MethodHandle>> computeValue(Class<?> assertClass) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
   private ErrorCollector collector;
 
   public SoftProxies(AssertionErrorCollector assertionErrorCollector) {
     collector = new ErrorCollector(assertionErrorCollector);
   }
 
+  @SuppressWarnings("unchecked")
   <SELF extends Assert<? extends SELF, ? extends ACTUAL>, ACTUAL> SELF createSoftAssertionProxy(Class<SELF> assertClass,
                                                                                                 Class<ACTUAL> actualClass,
                                                                                                 ACTUAL actual) {
+    MethodHandle constructor = proxyConstructor(assertClass, actualClass);
+    try {
+      Object proxiedAssert = constructor.invokeExact((Object) actual);
+      return (SELF) setup(proxiedAssert);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private Object setup(Object proxiedAssert) {
+    // instance is a AssertJProxySetup since it is a generated proxy implementing it (see createProxy)
+    ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
+    return proxiedAssert;
+  }
+
+  private static MethodHandle proxyConstructor(Class<?> assertClass, Class<?>... parameterTypes) {
+    Map<List<Class<?>>, SoftReference<MethodHandle>> constructors = PROXY_CONSTRUCTORS.get(assertClass);
+    List<Class<?>> key = asList(parameterTypes);
+    SoftReference<MethodHandle> cachedConstructor = constructors.get(key);
+    MethodHandle constructor = cachedConstructor == null ? null : cachedConstructor.get();
+    if (constructor == null) {
+      constructor = findProxyConstructor(assertClass, parameterTypes);
+      constructors.put(key, new SoftReference<>(constructor));
+    }
+    return constructor;
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static MethodHandle findProxyConstructor(Class<?> assertClass, Class<?>[] parameterTypes) {
+    Class<?> proxyClass = createSoftAssertionProxyClass((Class) assertClass);
     try {
-      Class<? extends SELF> proxyClass = createSoftAssertionProxyClass(assertClass);
-      Constructor<? extends SELF> constructor = proxyClass.getConstructor(actualClass);
-      SELF proxiedAssert = constructor.newInstance(actual);
-      // instance is a AssertJProxySetup since it is a generated proxy implementing it (see createProxy)
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e) {
+      MethodHandle constructor = lookup().unreflectConstructor(proxyClass.getConstructor(parameterTypes));
+      // use Object for the constructor parameters and return types so that it can be called with invokeExact
+      return constructor.asType(constructor.type().generic());
+    } catch (NoSuchMethodException | IllegalAccessException e) {
       throw new RuntimeException(e);
     }
   }
@@ -127,67 +178,103 @@ class SoftProxies {
   private static <ASSERT extends Assert<?, ?>> Class<ASSERT> createSoftAssertionProxyClass(Class<ASSERT> assertClass) {
     SimpleKey cacheKey = new SimpleKey(assertClass);
     return (Class<ASSERT>) CACHE.findOrInsert(assertClass.getClassLoader(), cacheKey,
-                                              () -> generateProxyClass(assertClass));
+                                              () -> loadOrGenerateProxyClass(assertClass));
+  }
+
+  private static <V> Class<? extends V> loadOrGenerateProxyClass(Class<V> assertClass) {
+    Class<? extends V> pregeneratedProxyClass = loadPregeneratedProxyClass(assertClass);
+    return pregeneratedProxyClass != null ? pregeneratedProxyClass : generateProxyClass(assertClass);
+  }
+
+  // a proxy generated at build time is only used if it was generated from the same assert class signature, otherwise it is
+  // stale (e.g. left in the classes directory by a previous build) and the proxy is generated now
+  private static <V> Class<? extends V> loadPregeneratedProxyClass(Class<V> assertClass) {
+    return loadPregeneratedProxyClass(assertClass, assertClass.getClassLoader());
+  }
+
+  @VisibleForTesting
+  @SuppressWarnings("unchecked")
+  static <V> Class<? extends V> loadPregeneratedProxyClass(Class<V> assertClass, ClassLoader classLoader) {
+    try {
+      Class<?> proxyClass = Class.forName(assertClass.getName() + PREGENERATED_PROXY_CLASS_NAME_SUFFIX, false, classLoader);
+      if (proxyClass.getSuperclass() != assertClass) return null;
+      int proxySignature = proxyClass.getField(PREGENERATED_PROXY_SIGNATURE_FIELD_NAME).getInt(null);
+      return proxySignature == signatureOf(assertClass) ? (Class<? extends V>) proxyClass : null;
+    } catch (ClassNotFoundException | NoSuchFieldException | IllegalAccessException | LinkageError e) {
+      return null;
+    }
+  }
+
+  // hash of the public methods and constructors of the given assert class, the ones a proxy overrides or calls
+  static int signatureOf(Class<?> assertClass) {
+    return Stream.concat(Stream.of(assertClass.getMethods()), Stream.of(assertClass.getConstructors()))
+                 .map(Object::toString)
+                 .sorted()
+                 .collect(toList())
+                 .hashCode();
   }
 
   IterableSizeAssert<?> createIterableSizeAssertProxy(IterableSizeAssert<?> iterableSizeAssert) {
-    Class<?> proxyClass = createSoftAssertionProxyClass(IterableSizeAssert.class);
+    MethodHandle constructor = proxyConstructor(IterableSizeAssert.class, AbstractIterableAssert.class, Integer.class);
     try {
-      Constructor<?> constructor = proxyClass.getConstructor(AbstractIterableAssert.class, Integer.class);
-      IterableSizeAssert<?> proxiedAssert = (IterableSizeAssert<?>) constructor.newInstance(iterableSizeAssert.returnToIterable(),
-                                                                                            iterableSizeAssert.actual);
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
+      Object proxiedAssert = constructor.invokeExact((Object) iterableSizeAssert.returnToIterable(),
+                                                     (Object) iterableSizeAssert.actual);
+      return (IterableSizeAssert<?>) setup(proxiedAssert);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
       throw new RuntimeException(e);
     }
   }
 
   MapSizeAssert<?, ?> createMapSizeAssertProxy(MapSizeAssert<?, ?> mapSizeAssert) {
-    Class<?> proxyClass = createSoftAssertionProxyClass(MapSizeAssert.class);
+    MethodHandle constructor = proxyConstructor(MapSizeAssert.class, AbstractMapAssert.class, Integer.class);
     try {
-      Constructor<?> constructor = proxyClass.getConstructor(AbstractMapAssert.class, Integer.class);
-      MapSizeAssert<?, ?> proxiedAssert = (MapSizeAssert<?, ?>) constructor.newInstance(mapSizeAssert.returnToMap(),
-                                                                                        mapSizeAssert.actual);
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
+      Object proxiedAssert = constructor.invokeExact((Object) mapSizeAssert.returnToMap(), (Object) mapSizeAssert.actual);
+      return (MapSizeAssert<?, ?>) setup(proxiedAssert);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
       throw new RuntimeException(e);
     }
   }
 
   RecursiveComparisonAssert<?> createRecursiveComparisonAssertProxy(RecursiveComparisonAssert<?> recursiveComparisonAssert) {
-    Class<?> proxyClass = createSoftAssertionProxyClass(RecursiveComparisonAssert.class);
+    MethodHandle constructor = proxyConstructor(RecursiveComparisonAssert.class, Object.class,
+                                                RecursiveComparisonConfiguration.class);
     try {
-      Constructor<?> constructor = proxyClass.getConstructor(Object.class, RecursiveComparisonConfiguration.class);
-      RecursiveComparisonAssert<?> proxiedAssert = (RecursiveComparisonAssert<?>) constructor.newInstance(recursiveComparisonAssert.actual,
-                                                                                                          recursiveComparisonAssert.getRecursiveComparisonConfiguration());
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
+      Object proxiedAssert = constructor.invokeExact(recursiveComparisonAssert.actual,
+                                                     (Object) recursiveComparisonAssert.getRecursiveComparisonConfiguration());
+      return (RecursiveComparisonAssert<?>) setup(proxiedAssert);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
       throw new RuntimeException(e);
     }
   }
 
   static <V> Class<? extends V> generateProxyClass(Class<V> assertClass) {
     ClassLoadingStrategyPair strategy = classLoadingStrategy(assertClass);
-    return BYTE_BUDDY.subclass(assertClass)
-                     .defineField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME,
-                                  ProxifyMethodChangingTheObjectUnderTest.class,
-                                  Visibility.PRIVATE)
-                     .method(METHODS_CHANGING_THE_OBJECT_UNDER_TEST)
-                     .intercept(PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST)
-                     .defineField(ErrorCollector.FIELD_NAME, ErrorCollector.class, Visibility.PRIVATE)
-                     .method(any().and(not(METHODS_CHANGING_THE_OBJECT_UNDER_TEST))
-                                  .and(not(METHODS_NOT_TO_PROXY)))
-                     .intercept(ERROR_COLLECTOR)
-                     .implement(AssertJProxySetup.class)
-                     // set ProxifyMethodChangingTheObjectUnderTest and ErrorCollector fields on the generated proxy
-                     .intercept(FieldAccessor.ofField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME).setsArgumentAt(0)
-                                             .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)))
-                     .make()
-                     .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
-                     .getLoaded();
+    return proxyClassBuilder(BYTE_BUDDY, assertClass).make()
+                                                     .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
+                                                     .getLoaded();
+  }
+
+  static <V> DynamicType.Builder<V> proxyClassBuilder(ByteBuddy byteBuddy, Class<V> assertClass) {
+    return byteBuddy.subclass(assertClass)
+                    .defineField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME,
+                                 ProxifyMethodChangingTheObjectUnderTest.class,
+                                 Visibility.PRIVATE)
+                    .method(METHODS_CHANGING_THE_OBJECT_UNDER_TEST)
+                    .intercept(PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST)
+                    .defineField(ErrorCollector.FIELD_NAME, ErrorCollector.class, Visibility.PRIVATE)
+                    .method(any().and(not(METHODS_CHANGING_THE_OBJECT_UNDER_TEST))
+                                 .and(not(METHODS_NOT_TO_PROXY)))
+                    .intercept(ERROR_COLLECTOR)
+                    .implement(AssertJProxySetup.class)
+                    // set ProxifyMethodChangingTheObjectUnderTest and ErrorCollector fields on the generated proxy
+                    .intercept(FieldAccessor.ofField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME).setsArgumentAt(0)
+                                            .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)));
   }
 
   private static Junction<MethodDescription> methodsNamed(String... names) {
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.api;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
@@ -55,6 +56,17 @@ public interface StandardSoftAssertionsProvider extends Java6StandardSoftAsserti
     return proxy(PathAssert.class, Path.class, actual);
   }
 
+  /**
+   * Creates a new, proxied instance of a {@link ByteBufferAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   * @since 3.21.0
+   */
+  default ByteBufferAssert assertThat(ByteBuffer actual) {
+    return proxy(ByteBufferAssert.class, ByteBuffer.class, actual);
+  }
+
   /**
    * Create assertion for {@link java.util.Optional}.
    *
@@ -20,6 +20,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.text.DateFormat;
@@ -929,6 +930,17 @@ public interface WithAssertions extends InstanceOfAssertFactories {
   default AbstractInputStreamAssert<?, ? extends InputStream> assertThat(final InputStream actual) {
     return Assertions.assertThat(actual);
   }
+  /**
+   * Creates a new instance of <code>{@link ByteBufferAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  default AbstractByteBufferAssert<?> assertThat(final ByteBuffer actual) {
+    return Assertions.assertThat(actual);
+  }
+
 
   /**
    * Creates a new instance of <code>{@link FileAssert}</code>.
@@ -963,6 +975,23 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     return Assertions.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link PathsAssert}</code> to verify the given {@link Path}s as a batch.
+   * <p>
+   * Unlike {@link #assertThat(Path)} on each path, the paths are compared concurrently and all the differences found are
+   * reported in a single error.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatPaths(generatedFiles).allHaveSameBinaryContentAs(Paths.get("src/test/resources/goldens"));</code></pre>
+   *
+   * @param actual the actual {@link Path}s.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  default PathsAssert assertThatPaths(final Iterable<? extends Path> actual) {
+    return Assertions.assertThatPaths(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link IntArrayAssert}</code>.
    *
@@ -1263,6 +1292,61 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     return Assertions.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link IntStreamAssert}</code> from the given {@link IntStream}.
+   * <p>
+   * Unlike {@link #assertThat(IntStream)}, the elements are kept as primitives and are never boxed, the stream is
+   * consumed once when an assertion requires its elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatIntStream(IntStream.range(0, 100_000_000)).hasSize(100_000_000)
+   *                                                  .hasMin(0)
+   *                                                  .hasMax(99_999_999);</code></pre>
+   *
+   * @param actual the actual {@link IntStream} value.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  default IntStreamAssert assertThatIntStream(IntStream actual) {
+    return Assertions.assertThatIntStream(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link LongStreamAssert}</code> from the given {@link LongStream}.
+   * <p>
+   * Unlike {@link #assertThat(LongStream)}, the elements are kept as primitives and are never boxed, the stream is
+   * consumed once when an assertion requires its elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatLongStream(LongStream.rangeClosed(1, 100)).hasSum(5050)
+   *                                         .hasCountInRange(1, 10, 10);</code></pre>
+   *
+   * @param actual the actual {@link LongStream} value.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  default LongStreamAssert assertThatLongStream(LongStream actual) {
+    return Assertions.assertThatLongStream(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link DoubleStreamAssert}</code> from the given {@link DoubleStream}.
+   * <p>
+   * Unlike {@link #assertThat(DoubleStream)}, the elements are kept as primitives and are never boxed, the stream is
+   * consumed once when an assertion requires its elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThatDoubleStream(DoubleStream.of(1.0, 2.0, 3.0)).hasAverageCloseTo(2.0, within(0.001))
+   *                                              .hasAllValuesInRange(1.0, 3.0);</code></pre>
+   *
+   * @param actual the actual {@link DoubleStream} value.
+   * @return the created assertion object.
+   * @since 3.21.0
+   */
+  default DoubleStreamAssert assertThatDoubleStream(DoubleStream actual) {
+    return Assertions.assertThatDoubleStream(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link DoubleArrayAssert}</code>.
    *
@@ -20,6 +20,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
@@ -655,6 +656,17 @@ public interface WithAssumptions {
   default AbstractInputStreamAssert<?, ? extends InputStream> assumeThat(final InputStream actual) {
     return Assumptions.assumeThat(actual);
   }
+  /**
+   * Creates a new instance of <code>{@link ByteBufferAssert}</code> assumption.
+   *
+   * @param actual the actual value.
+   * @return the created assumption for assertion object.
+   * @since 3.21.0
+   */
+  default AbstractByteBufferAssert<?> assumeThat(final ByteBuffer actual) {
+    return Assumptions.assumeThat(actual);
+  }
+
 
   /**
    * Creates a new instance of <code>{@link FileAssert}</code> assumption.
@@ -39,11 +39,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.assertj.core.internal.DeepDifference;
 import org.assertj.core.util.Objects;
+import org.assertj.core.util.introspection.ClassMetadata;
 
 /**
  * Based on {@link DeepDifference} but takes a {@link RecursiveComparisonConfiguration}, {@link DeepDifference}
@@ -62,8 +62,6 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final String STRICT_TYPE_ERROR = "the fields are considered different since the comparison enforces strict type check and %s is not a subtype of %s";
   private static final String DIFFERENT_SIZE_ERROR = "actual and expected values are %s of different size, actual size=%s when expected size=%s";
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these: %s";
-  private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
-  private static final Map<Class<?>, Boolean> customHash = new ConcurrentHashMap<>();
 
   private static class ComparisonState {
     // Not using a Set as we want to precisely track visited values, a set would remove duplicates
@@ -549,7 +547,7 @@ public class RecursiveComparisonDifferenceCalculator {
 
   /**
    * Determine if the passed in class has a non-Object.equals() method. This
-   * method caches its results in static ConcurrentHashMap to benefit
+   * method caches its results in {@link ClassMetadata} to benefit
    * execution performance.
    *
    * @param c Class to check.
@@ -557,21 +555,7 @@ public class RecursiveComparisonDifferenceCalculator {
    *         between itself and just below Object in it's inheritance.
    */
   static boolean hasOverriddenEquals(Class<?> c) {
-    if (customEquals.containsKey(c)) {
-      return customEquals.get(c);
-    }
-
-    Class<?> origClass = c;
-    while (!Object.class.equals(c)) {
-      try {
-        c.getDeclaredMethod("equals", Object.class);
-        customEquals.put(origClass, true);
-        return true;
-      } catch (Exception ignored) {}
-      c = c.getSuperclass();
-    }
-    customEquals.put(origClass, false);
-    return false;
+    return ClassMetadata.of(c).hasOverriddenEquals();
   }
 
   /**
@@ -648,7 +632,7 @@ public class RecursiveComparisonDifferenceCalculator {
 
   /**
    * Determine if the passed in class has a non-Object.hashCode() method. This
-   * method caches its results in static ConcurrentHashMap to benefit
+   * method caches its results in {@link ClassMetadata} to benefit
    * execution performance.
    *
    * @param c Class to check.
@@ -656,21 +640,7 @@ public class RecursiveComparisonDifferenceCalculator {
    *         between itself and just below Object in it's inheritance.
    */
   static boolean hasCustomHashCode(Class<?> c) {
-    Class<?> origClass = c;
-    if (customHash.containsKey(c)) {
-      return customHash.get(c);
-    }
-
-    while (!Object.class.equals(c)) {
-      try {
-        c.getDeclaredMethod("hashCode");
-        customHash.put(origClass, true);
-        return true;
-      } catch (Exception ignored) {}
-      c = c.getSuperclass();
-    }
-    customHash.put(origClass, false);
-    return false;
+    return ClassMetadata.of(c).hasOverriddenHashCode();
   }
 
   @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -16,7 +16,9 @@ import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
+import java.nio.file.Path;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.List;
@@ -24,9 +26,12 @@ import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.AbstractDateAssert;
+import org.assertj.core.api.AssertionListener;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Assumptions;
 import org.assertj.core.description.Description;
+import org.assertj.core.internal.DigestCache;
+import org.assertj.core.internal.ParallelIterableEvaluator;
 import org.assertj.core.presentation.Representation;
 
 /**
@@ -47,6 +52,12 @@ public class Configuration {
   public static final boolean PRINT_ASSERTIONS_DESCRIPTION_ENABLED = false;
   public static final int MAX_STACKTRACE_ELEMENTS_DISPLAYED = 3;
   public static final PreferredAssumptionException PREFERRED_ASSUMPTION_EXCEPTION = PreferredAssumptionException.AUTO_DETECT;
+  public static final int PARALLEL_EVALUATION_THRESHOLD = 0;
+  public static final int MAX_RENDERED_SOFT_ASSERTION_ERRORS = 1000;
+  public static final boolean DIGEST_CACHE_ENABLED = false;
+  public static final int DIRECTORY_LISTING_MAX_DEPTH = Integer.MAX_VALUE;
+  public static final int DIRECTORY_LISTING_MAX_REPORTED_ENTRIES = 100;
+  public static final int DIFF_CONTEXT_LINES = 50;
   
   // load default configuration after default values are initialized otherwise PREFERRED_ASSUMPTION_EXCEPTION is null
   public static final Configuration DEFAULT_CONFIGURATION = new Configuration();
@@ -63,6 +74,13 @@ public class Configuration {
   private Consumer<Description> descriptionConsumer;
   private int maxStackTraceElementsDisplayed;
   private PreferredAssumptionException preferredAssumptionException;
+  private int parallelEvaluationThreshold;
+  private int maxRenderedSoftAssertionErrors;
+  private boolean digestCacheEnabled;
+  private Path digestCacheDirectory;
+  private int directoryListingMaxDepth;
+  private int directoryListingMaxReportedEntries;
+  private int diffContextLines;
   
   public Configuration() {
     comparingPrivateFields = ALLOW_COMPARING_PRIVATE_FIELDS;
@@ -77,6 +95,13 @@ public class Configuration {
     descriptionConsumer = null;
     maxStackTraceElementsDisplayed = MAX_STACKTRACE_ELEMENTS_DISPLAYED;
     preferredAssumptionException = PREFERRED_ASSUMPTION_EXCEPTION;
+    parallelEvaluationThreshold = PARALLEL_EVALUATION_THRESHOLD;
+    maxRenderedSoftAssertionErrors = MAX_RENDERED_SOFT_ASSERTION_ERRORS;
+    digestCacheEnabled = DIGEST_CACHE_ENABLED;
+    digestCacheDirectory = null;
+    directoryListingMaxDepth = DIRECTORY_LISTING_MAX_DEPTH;
+    directoryListingMaxReportedEntries = DIRECTORY_LISTING_MAX_REPORTED_ENTRIES;
+    diffContextLines = DIFF_CONTEXT_LINES;
   }
 
   /**
@@ -90,6 +115,24 @@ public class Configuration {
     return representation() != STANDARD_REPRESENTATION;
   }
 
+  /**
+   * Returns the {@link AssertionListener} notified around each top-level assertion, default is {@code null} meaning that
+   * assertions are not listened to.
+   * <p>
+   * Override this method to register a listener, for example {@link org.assertj.core.api.AssertionMetrics} to find out which assertions dominate
+   * the runtime of a test suite.
+   * <p>
+   * Note that the listener is only taken into account when this configuration is registered as described in the
+   * documentation, it is resolved once when AssertJ is loaded so that assertions are not slowed down when no
+   * listener is registered, {@link #apply()} has no effect on it.
+   *
+   * @return the {@link AssertionListener} notified around each top-level assertion, {@code null} if none.
+   * @since 3.21.0
+   */
+  public AssertionListener assertionListener() {
+    return null;
+  }
+
   /**
    * Returns whether private fields comparison is enabled. Default is {@value #ALLOW_COMPARING_PRIVATE_FIELDS}.
    * <p>
@@ -367,6 +410,218 @@ public class Configuration {
     this.preferredAssumptionException = preferredAssumptionException;
   }
 
+  /**
+   * Returns the minimum size an {@link Iterable} must have for its elements to be evaluated in parallel by predicate based
+   * assertions like {@code allMatch}, {@code anyMatch}, {@code noneMatch} or {@code doesNotContainNull}.
+   * Default is {@value #PARALLEL_EVALUATION_THRESHOLD} which disables parallel evaluation.
+   * <p>
+   * Only {@link java.util.Collection}s are evaluated in parallel, their {@link java.util.Spliterator} is used to split the work
+   * in the common fork-join pool. Enable it only if the predicates used in your assertions are thread safe.
+   *
+   * @return the minimum size an {@link Iterable} must have to be evaluated in parallel, 0 if disabled.
+   * @since 3.21.0
+   */
+  public int parallelEvaluationThreshold() {
+    return parallelEvaluationThreshold;
+  }
+
+  /**
+   * Sets the minimum size an {@link Iterable} must have for its elements to be evaluated in parallel, 0 disables parallel
+   * evaluation.
+   * <p>
+   * See {@link #parallelEvaluationThreshold()} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param parallelEvaluationThreshold the minimum size an {@link Iterable} must have to be evaluated in parallel.
+   * @since 3.21.0
+   */
+  public void setParallelEvaluationThreshold(int parallelEvaluationThreshold) {
+    this.parallelEvaluationThreshold = parallelEvaluationThreshold;
+  }
+
+  /**
+   * Returns the maximum number of errors collected by soft assertions whose message is fully rendered when they are
+   * reported by {@code assertAll()}, default is {@value #MAX_RENDERED_SOFT_ASSERTION_ERRORS}.
+   * <p>
+   * Past this limit, {@code assertAll()} only reports the number of the remaining errors and soft assertions create them
+   * without rendering their message, it is rendered when needed, for example when the error is obtained with
+   * {@code errorsCollected()}. This saves the cost of describing the values of thousands of failed assertions, the
+   * message of these errors describes the values as they are when it is rendered though.
+   * <p>
+   * The value is read from the registered configuration each time it is needed, it does not depend on
+   * {@link #apply()}.
+   *
+   * @return the maximum number of soft assertions errors whose message is fully rendered.
+   * @since 3.21.0
+   */
+  public int maxRenderedSoftAssertionErrors() {
+    return maxRenderedSoftAssertionErrors;
+  }
+
+  /**
+   * Sets the maximum number of errors collected by soft assertions whose message is fully rendered when reported.
+   * <p>
+   * See {@link #maxRenderedSoftAssertionErrors()} for a detailed description.
+   *
+   * @param maxRenderedSoftAssertionErrors the maximum number of soft assertions errors whose message is fully rendered.
+   * @throws IllegalArgumentException if the given value is less than 1.
+   * @since 3.21.0
+   */
+  public void setMaxRenderedSoftAssertionErrors(int maxRenderedSoftAssertionErrors) {
+    checkArgument(maxRenderedSoftAssertionErrors >= 1, "maxRenderedSoftAssertionErrors must be >= 1, but was %s",
+                  maxRenderedSoftAssertionErrors);
+    this.maxRenderedSoftAssertionErrors = maxRenderedSoftAssertionErrors;
+  }
+
+  /**
+   * Returns whether the digests computed by {@code hasDigest} assertions on {@link java.nio.file.Path}s and
+   * {@link java.io.File}s are cached, default is {@value #DIGEST_CACHE_ENABLED}.
+   * <p>
+   * A cached digest is reused as long as the real path, size, last modified time and file key of the file are unchanged and
+   * the same algorithm is used, which avoids hashing again large files checked by many tests. Files modified within the
+   * last seconds are never cached as some file systems only record their modification time with a coarse precision.
+   *
+   * @return whether the digests of files are cached.
+   * @since 3.21.0
+   */
+  public boolean digestCacheEnabled() {
+    return digestCacheEnabled;
+  }
+
+  /**
+   * Sets whether the digests computed by {@code hasDigest} assertions on files are cached.
+   * <p>
+   * See {@link #digestCacheEnabled()} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param digestCacheEnabled whether the digests of files are cached.
+   * @since 3.21.0
+   */
+  public void setDigestCacheEnabled(boolean digestCacheEnabled) {
+    this.digestCacheEnabled = digestCacheEnabled;
+  }
+
+  /**
+   * Returns the directory where cached digests are also stored so that they are reused across JVMs, default is
+   * {@code null} which keeps them in memory only.
+   * <p>
+   * This setting is only used when {@link #digestCacheEnabled()} is {@code true}, the directory is created if needed.
+   *
+   * @return the directory where cached digests are stored, {@code null} to keep them in memory only.
+   * @since 3.21.0
+   */
+  public Path digestCacheDirectory() {
+    return digestCacheDirectory;
+  }
+
+  /**
+   * Sets the directory where cached digests are also stored, {@code null} keeps them in memory only.
+   * <p>
+   * See {@link #digestCacheDirectory()} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param digestCacheDirectory the directory where cached digests are stored.
+   * @since 3.21.0
+   */
+  public void setDigestCacheDirectory(Path digestCacheDirectory) {
+    this.digestCacheDirectory = digestCacheDirectory;
+  }
+
+  /**
+   * Returns how deep directories are listed recursively in the error messages of the recursive directory assertions like
+   * {@code isDirectoryRecursivelyContaining}, default is {@value #DIRECTORY_LISTING_MAX_DEPTH} which lists all levels.
+   * <p>
+   * The value is read from the registered configuration each time it is needed, it does not depend on
+   * {@link #apply()}.
+   *
+   * @return the maximum depth of the directory listings described in error messages.
+   * @since 3.21.0
+   */
+  public int directoryListingMaxDepth() {
+    return directoryListingMaxDepth;
+  }
+
+  /**
+   * Sets how deep directories are listed recursively in error messages.
+   * <p>
+   * See {@link #directoryListingMaxDepth()} for a detailed description.
+   *
+   * @param directoryListingMaxDepth the maximum depth of the directory listings described in error messages.
+   * @throws IllegalArgumentException if the given value is less than 1.
+   * @since 3.21.0
+   */
+  public void setDirectoryListingMaxDepth(int directoryListingMaxDepth) {
+    checkArgument(directoryListingMaxDepth >= 1, "directoryListingMaxDepth must be >= 1, but was %s", directoryListingMaxDepth);
+    this.directoryListingMaxDepth = directoryListingMaxDepth;
+  }
+
+  /**
+   * Returns the maximum number of directory entries described in the error messages of the directory assertions like
+   * {@code isDirectoryContaining}, default is {@value #DIRECTORY_LISTING_MAX_REPORTED_ENTRIES}.
+   * <p>
+   * Only the first entries of a directory, or the smallest paths of a recursive listing, are kept along with the number of
+   * entries visited. The listing stops after visiting {@value org.assertj.core.internal.DirectoryListing#MAX_VISITED_ENTRIES}
+   * entries or this maximum number if it is greater.
+   * <p>
+   * The value is read from the registered configuration each time it is needed, it does not depend on
+   * {@link #apply()}.
+   *
+   * @return the maximum number of directory entries described in error messages.
+   * @since 3.21.0
+   */
+  public int directoryListingMaxReportedEntries() {
+    return directoryListingMaxReportedEntries;
+  }
+
+  /**
+   * Sets the maximum number of directory entries described in error messages.
+   * <p>
+   * See {@link #directoryListingMaxReportedEntries()} for a detailed description.
+   *
+   * @param directoryListingMaxReportedEntries the maximum number of directory entries described in error messages.
+   * @throws IllegalArgumentException if the given value is less than 1.
+   * @since 3.21.0
+   */
+  public void setDirectoryListingMaxReportedEntries(int directoryListingMaxReportedEntries) {
+    checkArgument(directoryListingMaxReportedEntries >= 1, "directoryListingMaxReportedEntries must be >= 1, but was %s",
+                  directoryListingMaxReportedEntries);
+    this.directoryListingMaxReportedEntries = directoryListingMaxReportedEntries;
+  }
+
+  /**
+   * Returns how many equal lines preceding the first difference are diffed with the rest of the contents by the text
+   * content assertions like {@code hasSameTextualContentAs} or {@code hasContent}, default is {@value #DIFF_CONTEXT_LINES}.
+   * <p>
+   * Equal lines are compared one by one and only the last ones are kept in memory, more context lines let the diff
+   * algorithm align lines moved from before the first difference at the cost of memory and time.
+   * <p>
+   * The value is read from the registered configuration each time it is needed, it does not depend on
+   * {@link #apply()}.
+   *
+   * @return the number of equal lines preceding the first difference that are diffed.
+   * @since 3.21.0
+   */
+  public int diffContextLines() {
+    return diffContextLines;
+  }
+
+  /**
+   * Sets how many equal lines preceding the first difference are diffed with the rest of the contents.
+   * <p>
+   * See {@link #diffContextLines()} for a detailed description.
+   *
+   * @param diffContextLines the number of equal lines preceding the first difference that are diffed.
+   * @throws IllegalArgumentException if the given value is negative.
+   * @since 3.21.0
+   */
+  public void setDiffContextLines(int diffContextLines) {
+    checkArgument(diffContextLines >= 0, "diffContextLines must be >= 0, but was %s", diffContextLines);
+    this.diffContextLines = diffContextLines;
+  }
+
   /**
    * Applies this configuration to AssertJ.
    */
@@ -387,6 +642,9 @@ public class Configuration {
     AbstractDateAssert.useDefaultDateFormatsOnly();
     additionalDateFormats().forEach(Assertions::registerCustomDateFormat);
     Assumptions.setPreferredAssumptionException(preferredAssumptionException());
+    ParallelIterableEvaluator.setParallelEvaluationThreshold(parallelEvaluationThreshold());
+    DigestCache.setEnabled(digestCacheEnabled());
+    DigestCache.setStoreDirectory(digestCacheDirectory());
   }
 
   /**
@@ -411,7 +669,15 @@ public class Configuration {
                   "- printAssertionsDescription ...................... = %s%n" +
                   "- descriptionConsumer ............................. = %s%n" +
                   "- removeAssertJRelatedElementsFromStackTraceEnabled = %s%n" +
-                  "- preferredAssumptionException .................... = %s%n",
+                  "- preferredAssumptionException .................... = %s%n" +
+                  "- parallelEvaluationThreshold ..................... = %s%n" +
+                  "- maxRenderedSoftAssertionErrors .................. = %s%n" +
+                  "- assertionListener ............................... = %s%n" +
+                  "- digestCacheEnabled .............................. = %s%n" +
+                  "- digestCacheDirectory ............................ = %s%n" +
+                  "- directoryListingMaxDepth ........................ = %s%n" +
+                  "- directoryListingMaxReportedEntries .............. = %s%n" +
+                  "- diffContextLines ................................ = %s%n",
                   getClass().getName(),
                   representation(),
                   comparingPrivateFieldsEnabled(),
@@ -425,7 +691,15 @@ public class Configuration {
                   printAssertionsDescription(),
                   descriptionConsumer(),
                   removeAssertJRelatedElementsFromStackTraceEnabled(),
-                  preferredAssumptionException());
+                  preferredAssumptionException(),
+                  parallelEvaluationThreshold(),
+                  maxRenderedSoftAssertionErrors(),
+                  assertionListener(),
+                  digestCacheEnabled(),
+                  digestCacheDirectory(),
+                  directoryListingMaxDepth(),
+                  directoryListingMaxReportedEntries(),
+                  diffContextLines());
   }
 
   private String describeAdditionalDateFormats() {
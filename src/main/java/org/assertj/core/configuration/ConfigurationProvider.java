@@ -16,6 +16,7 @@ import static java.lang.String.format;
 import static org.assertj.core.configuration.Configuration.DEFAULT_CONFIGURATION;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 
+import org.assertj.core.api.AssertionListener;
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.presentation.StandardRepresentation;
 
@@ -32,6 +33,7 @@ public final class ConfigurationProvider {
   public static final ConfigurationProvider CONFIGURATION_PROVIDER = new ConfigurationProvider();
   private final Representation representation;
   private final Configuration configuration;
+  private final AssertionListener assertionListener;
 
   private ConfigurationProvider() {
     representation = Services.get(Representation.class, STANDARD_REPRESENTATION);
@@ -43,6 +45,10 @@ public final class ConfigurationProvider {
     if (configuration != DEFAULT_CONFIGURATION) {
       configuration.applyAndDisplay();
     }
+    AssertionListener configuredAssertionListener = configuration.assertionListener();
+    assertionListener = configuredAssertionListener != null
+        ? configuredAssertionListener
+        : Services.get(AssertionListener.class, null);
   }
 
   /**
@@ -70,6 +76,20 @@ public final class ConfigurationProvider {
     return configuration;
   }
 
+  /**
+   * Returns the {@link AssertionListener} notified around each top-level assertion, which is taken first from:
+   * <ul>
+   * <li>a registered {@link Configuration#assertionListener()} if any </li>
+   * <li>a registered {@link AssertionListener}</li>
+   * </ul>
+   *
+   * @return the {@link AssertionListener} notified around each top-level assertion, {@code null} if none was registered.
+   * @since 3.21.0
+   */
+  public AssertionListener assertionListener() {
+    return assertionListener;
+  }
+
   /**
    * Triggers loading any registered {@link Configuration}.
    * <p>
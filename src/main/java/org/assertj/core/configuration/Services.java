@@ -34,7 +34,7 @@ class Services {
     if (services.hasNext()) {
       result = defaultValue;
       System.err.println(format("Found multiple implementations for the service provider %s. Using the default: %s",
-                                serviceType, result.getClass()));
+                                serviceType, result == null ? null : result.getClass()));
     }
     return result;
   }
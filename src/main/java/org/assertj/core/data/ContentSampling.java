@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.data;
+
+import static java.lang.String.format;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.Objects;
+
+/**
+ * Describes which parts of a content are compared by sampled binary content assertions: the content is split into blocks
+ * of {@link #blockSize} bytes and a {@link #fraction} of them is drawn with a random generator initialized with
+ * {@link #seed}.
+ * <p>
+ * The same sampling always compares the same blocks of contents having the same size, a failing assertion can thus be
+ * reproduced.
+ * <p>
+ * Example:
+ * <pre><code class='java'> // compares 1% of the content by blocks of 1MB
+ * assertThat(path).hasSameBinaryContentAs(expected, sampling(0.01).withBlockSize(1024 * 1024).withSeed(42));</code></pre>
+ *
+ * @since 3.21.0
+ */
+public final class ContentSampling {
+
+  /**
+   * The default size in bytes of sampled blocks.
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 4096;
+
+  /**
+   * The default seed of the random generator drawing sampled blocks.
+   */
+  public static final long DEFAULT_SEED = 0L;
+
+  public final double fraction;
+  public final int blockSize;
+  public final long seed;
+
+  /**
+   * Creates a new {@link ContentSampling} comparing the given fraction of the content blocks, with the
+   * {@link #DEFAULT_BLOCK_SIZE} and the {@link #DEFAULT_SEED}.
+   *
+   * @param fraction the fraction of blocks to compare, at least one block of a non empty content is compared.
+   * @return the created {@code ContentSampling}.
+   * @throws IllegalArgumentException if the given fraction is not greater than zero and less than or equal to one.
+   */
+  public static ContentSampling sampling(double fraction) {
+    return new ContentSampling(fraction, DEFAULT_BLOCK_SIZE, DEFAULT_SEED);
+  }
+
+  private ContentSampling(double fraction, int blockSize, long seed) {
+    checkArgument(fraction > 0 && fraction <= 1,
+                  "The sampled fraction <%s> should be greater than zero and less than or equal to one", fraction);
+    checkArgument(blockSize > 0, "The sampled block size <%s> should be greater than zero", blockSize);
+    this.fraction = fraction;
+    this.blockSize = blockSize;
+    this.seed = seed;
+  }
+
+  /**
+   * Returns a copy of this {@link ContentSampling} using blocks of the given size.
+   *
+   * @param blockSize the size in bytes of sampled blocks.
+   * @return the created {@code ContentSampling}.
+   * @throws IllegalArgumentException if the given block size is not greater than zero.
+   */
+  public ContentSampling withBlockSize(int blockSize) {
+    return new ContentSampling(fraction, blockSize, seed);
+  }
+
+  /**
+   * Returns a copy of this {@link ContentSampling} drawing blocks with a random generator initialized with the given seed.
+   *
+   * @param seed the seed of the random generator.
+   * @return the created {@code ContentSampling}.
+   */
+  public ContentSampling withSeed(long seed) {
+    return new ContentSampling(fraction, blockSize, seed);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof ContentSampling)) return false;
+    ContentSampling other = (ContentSampling) obj;
+    return Double.compare(fraction, other.fraction) == 0 && blockSize == other.blockSize && seed == other.seed;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(fraction, blockSize, seed);
+  }
+
+  @Override
+  public String toString() {
+    return format("%s[fraction=%s, blockSize=%s, seed=%s]", getClass().getSimpleName(), fraction, blockSize, seed);
+  }
+}
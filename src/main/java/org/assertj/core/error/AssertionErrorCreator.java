@@ -12,6 +12,7 @@
  */
 package org.assertj.core.error;
 
+import static java.lang.String.format;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Throwables.describeErrors;
 
@@ -100,6 +101,24 @@ public class AssertionErrorCreator {
     return multipleFailuresError.orElse(new SoftAssertionError(describeErrors(errors)));
   }
 
+  /**
+   * Creates an error reporting the given errors, only the first {@code maxRenderedErrors} ones are rendered, the error
+   * heading gives the number of the other ones.
+   *
+   * @param errors the errors to report.
+   * @param maxRenderedErrors the maximum number of errors to render.
+   * @return an error reporting the given errors.
+   * @since 3.21.0
+   */
+  public AssertionError multipleSoftAssertionsError(List<? extends Throwable> errors, int maxRenderedErrors) {
+    if (errors.size() <= maxRenderedErrors) return multipleSoftAssertionsError(errors);
+    List<? extends Throwable> renderedErrors = errors.subList(0, maxRenderedErrors);
+    int notRenderedErrorsCount = errors.size() - maxRenderedErrors;
+    String heading = format("Multiple Failures, %s more not rendered", notRenderedErrorsCount);
+    Optional<AssertionError> multipleFailuresError = tryBuildingMultipleFailuresError(heading, renderedErrors);
+    return multipleFailuresError.orElse(new SoftAssertionError(describeErrors(renderedErrors), notRenderedErrorsCount));
+  }
+
   public AssertionError multipleAssertionsError(Description description, List<? extends AssertionError> errors) {
     String heading = headingFrom(description);
     Optional<AssertionError> multipleFailuresError = tryBuildingMultipleFailuresError(heading, errors);
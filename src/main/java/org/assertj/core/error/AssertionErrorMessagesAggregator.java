@@ -20,9 +20,23 @@ import java.util.List;
 public class AssertionErrorMessagesAggregator {
 
   public static String aggregateErrorMessages(List<String> errors) {
+    return aggregateErrorMessages(errors, 0);
+  }
+
+  /**
+   * Aggregates the given error messages, the heading also gives the number of errors that were not rendered if any.
+   *
+   * @param errors the error messages to aggregate.
+   * @param notRenderedErrorsCount the number of errors that were not rendered.
+   * @return the aggregated error messages.
+   * @since 3.21.0
+   */
+  public static String aggregateErrorMessages(List<String> errors, int notRenderedErrorsCount) {
     StringBuilder msg = new StringBuilder("%nThe following ");
     countAssertions(errors, msg);
-    msg.append(" failed:%n");
+    msg.append(" failed");
+    if (notRenderedErrorsCount > 0) msg.append(" (").append(notRenderedErrorsCount).append(" more not rendered)");
+    msg.append(":%n");
 
     for (int i = 0; i < errors.size(); i++) {
       msg.append(i + 1).append(") ").append(errors.get(i)).append("%n");
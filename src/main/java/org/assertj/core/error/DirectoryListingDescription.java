@@ -0,0 +1,32 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+
+import org.assertj.core.internal.DirectoryListingResult;
+
+/**
+ * Describes how much of a directory content is displayed in error messages.
+ */
+final class DirectoryListingDescription {
+
+  private DirectoryListingDescription() {}
+
+  static String truncationNote(DirectoryListingResult<?> listing) {
+    int displayed = listing.getEntries().size();
+    if (listing.isComplete()) return format("(%s of %s entries displayed)", displayed, listing.getVisitedEntryCount());
+    return format("(%s of more than %s entries displayed, the listing was stopped)", displayed,
+                  listing.getVisitedEntryCount());
+  }
+}
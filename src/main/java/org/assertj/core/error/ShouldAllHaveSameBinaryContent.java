@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.presentation.BoundedSample.sample;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.internal.BinaryDiffResult;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that paths have the same binary content as their
+ * namesakes in a directory failed, all the differences found are reported.
+ * <p>
+ * At most {@value #MAX_ENTRIES_DISPLAYED} paths are displayed per kind of difference.
+ *
+ * @since 3.21.0
+ */
+public class ShouldAllHaveSameBinaryContent extends BasicErrorMessageFactory {
+
+  public static final int MAX_ENTRIES_DISPLAYED = 20;
+
+  /**
+   * Creates a new <code>{@link ShouldAllHaveSameBinaryContent}</code>.
+   * @param actualCount the number of actual paths in the failed assertion.
+   * @param expectedDirectory the directory containing the expected files.
+   * @param unreadable the actual paths that are not readable files.
+   * @param sharingFileName the actual paths having the same file name as another actual path.
+   * @param withoutExpected the actual paths having no file with the same name in {@code expectedDirectory}.
+   * @param differing the first difference of each actual path whose content differs, in the order of the actual paths.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldAllHaveSameBinaryContent(int actualCount, Path expectedDirectory, List<Path> unreadable,
+                                                                   List<Path> sharingFileName, List<Path> withoutExpected,
+                                                                   Map<Path, BinaryDiffResult> differing) {
+    List<Object> arguments = new ArrayList<>();
+    arguments.add(actualCount);
+    arguments.add(expectedDirectory);
+    StringBuilder format = new StringBuilder("%nExpecting all the %s actual paths to have the same binary content as the "
+                                             + "file with the same name in:%n  %s%nbut:");
+    describe("paths that are not readable files", unreadable, format, arguments);
+    describe("paths sharing their file name with another actual path", sharingFileName, format, arguments);
+    describe("paths without file with the same name in the expected directory", withoutExpected, format, arguments);
+    describe("paths whose content differ", describe(differing), format, arguments);
+    return new ShouldAllHaveSameBinaryContent(format.toString(), arguments.toArray());
+  }
+
+  private static void describe(String kind, List<?> entries, StringBuilder format, List<Object> arguments) {
+    if (entries.isEmpty()) return;
+    format.append("%n- %s (%s):%n  %s");
+    arguments.add(unquotedString(kind));
+    arguments.add(entries.size());
+    arguments.add(sample(entries, MAX_ENTRIES_DISPLAYED));
+  }
+
+  private static List<CharSequence> describe(Map<Path, BinaryDiffResult> differing) {
+    List<CharSequence> descriptions = new ArrayList<>(differing.size());
+    differing.forEach((path, diff) -> descriptions.add(unquotedString(format("%s differs at offset %s, expecting %s but was %s",
+                                                                             path, diff.offset(), diff.expected, diff.actual))));
+    return descriptions;
+  }
+
+  private ShouldAllHaveSameBinaryContent(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -17,6 +17,7 @@ import java.nio.file.Path;
 import java.util.List;
 
 import org.assertj.core.internal.ComparisonStrategy;
+import org.assertj.core.internal.DirectoryListingResult;
 import org.assertj.core.internal.StandardComparisonStrategy;
 import static org.assertj.core.error.GroupTypeDescription.getGroupTypeDescription;
 import static org.assertj.core.util.Strings.escapePercent;
@@ -78,6 +79,23 @@ public class ShouldContain extends BasicErrorMessageFactory {
     return new ShouldContain(actual, directoryContent, filterDescription);
   }
 
+  public static ErrorMessageFactory directoryShouldContain(File actual, DirectoryListingResult<String> directoryContent,
+                                                          String filterDescription) {
+    return directoryShouldContain((Object) actual, directoryContent, filterDescription);
+  }
+
+  public static ErrorMessageFactory directoryShouldContain(Path actual, DirectoryListingResult<String> directoryContent,
+                                                          String filterDescription) {
+    return directoryShouldContain((Object) actual, directoryContent, filterDescription);
+  }
+
+  private static ErrorMessageFactory directoryShouldContain(Object actual, DirectoryListingResult<String> directoryContent,
+                                                           String filterDescription) {
+    if (!directoryContent.isTruncated()) return new ShouldContain(actual, directoryContent.getEntries(), filterDescription);
+    return new ShouldContain(actual, directoryContent.getEntries(), filterDescription,
+                             DirectoryListingDescription.truncationNote(directoryContent));
+  }
+
   private ShouldContain(Object actual, Object expected, Object notFound, ComparisonStrategy comparisonStrategy,
                         GroupTypeDescription groupTypeDescription) {
     super("%nExpecting " + groupTypeDescription.getGroupTypeName()
@@ -95,4 +113,12 @@ public class ShouldContain extends BasicErrorMessageFactory {
           actual);
   }
 
+  private ShouldContain(Object actual, List<String> directoryContent, String filterDescription, String truncationNote) {
+    super("%nExpecting directory:%n" +
+          "  %s%n" +
+          "to contain at least one file matching " + escapePercent(filterDescription) + " but there was none.%n" +
+          "The directory content was " + escapePercent(truncationNote) + ":%n  " + escapePercent(directoryContent.toString()),
+          actual);
+  }
+
 }
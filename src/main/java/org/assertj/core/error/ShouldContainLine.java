@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that the text content of an {@link InputStream}
+ * contains a given line failed.
+ */
+public class ShouldContainLine extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldContainLine}</code>.
+   * @param actual the actual InputStream in the failed assertion.
+   * @param charset the charset used to read {@code actual}.
+   * @param line the expected line.
+   * @param lineCount the number of lines of {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainLine(InputStream actual, Charset charset, String line, long lineCount) {
+    return new ShouldContainLine(actual, charset, line, lineCount);
+  }
+
+  private ShouldContainLine(InputStream actual, Charset charset, String line, long lineCount) {
+    // format the count in a standard way, it is not a value to represent
+    super(format("%nExpecting content of:%n  %s%nread with %s charset to contain line:%n  %s%nbut none of its %s lines was equal to it",
+                 "%s", "%s", "%s", lineCount),
+          actual, charset, line);
+  }
+}
@@ -15,6 +15,7 @@ package org.assertj.core.error;
 import static org.assertj.core.error.GroupTypeDescription.getGroupTypeDescription;
 import static org.assertj.core.error.ShouldContainOnly.ErrorType.NOT_EXPECTED_ONLY;
 import static org.assertj.core.error.ShouldContainOnly.ErrorType.NOT_FOUND_ONLY;
+import static org.assertj.core.presentation.BoundedSample.sampleForPrinting;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
 
 import org.assertj.core.internal.ComparisonStrategy;
@@ -88,7 +89,7 @@ public class ShouldContainOnly extends BasicErrorMessageFactory {
           "  %s%n" +
           "and " + groupTypeDescription.getElementTypeName() + " not expected:%n" +
           "  %s%n%s", actual,
-          expected, notFound, notExpected, comparisonStrategy);
+          expected, sampleForPrinting(notFound), sampleForPrinting(notExpected), comparisonStrategy);
   }
 
   private ShouldContainOnly(Object actual, Object expected, Iterable<?> notFoundOrNotExpected, ErrorType errorType,
@@ -101,7 +102,7 @@ public class ShouldContainOnly extends BasicErrorMessageFactory {
           "  %s%n" + (errorType == NOT_FOUND_ONLY ?
           "but could not find the following "+groupTypeDescription.getElementTypeName()+":%n" : "but the following "+groupTypeDescription.getElementTypeName()+" were unexpected:%n") +
           "  %s%n%s",
-          actual, expected, notFoundOrNotExpected, comparisonStrategy);
+          actual, expected, sampleForPrinting(notFoundOrNotExpected), comparisonStrategy);
     // @format:on
   }
 
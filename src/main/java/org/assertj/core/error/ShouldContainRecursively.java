@@ -16,6 +16,8 @@ import java.io.File;
 import java.nio.file.Path;
 import java.util.List;
 
+import org.assertj.core.internal.DirectoryListingResult;
+
 /**
  * Creates an error message indicating that an assertion that verifies a group of elements contains recursively a given set of values failed.
  *
@@ -34,6 +36,35 @@ public class ShouldContainRecursively extends BasicErrorMessageFactory {
     return new ShouldContainRecursively(actual, directoryContent, filterDescription);
   }
 
+  public static ErrorMessageFactory directoryShouldContainRecursively(File actual, DirectoryListingResult<File> directoryContent,
+                                                                      String filterDescription) {
+    return directoryShouldContainRecursively((Object) actual, directoryContent, filterDescription);
+  }
+
+  public static ErrorMessageFactory directoryShouldContainRecursively(Path actual, DirectoryListingResult<Path> directoryContent,
+                                                                      String filterDescription) {
+    return directoryShouldContainRecursively((Object) actual, directoryContent, filterDescription);
+  }
+
+  private static ErrorMessageFactory directoryShouldContainRecursively(Object actual,
+                                                                       DirectoryListingResult<?> directoryContent,
+                                                                       String filterDescription) {
+    if (!directoryContent.isTruncated()) {
+      return new ShouldContainRecursively(actual, directoryContent.getEntries(), filterDescription);
+    }
+    return new ShouldContainRecursively(actual, directoryContent.getEntries(), filterDescription,
+                                        DirectoryListingDescription.truncationNote(directoryContent));
+  }
+
+  private ShouldContainRecursively(Object actual, List<?> directoryContent, String filterDescription,
+                                   String truncationNote) {
+    super("%nExpecting directory or any of its subdirectories (recursively):%n" +
+          "  %s%n" +
+          "to contain at least one file matching %s but there was none.%n" +
+          "The directory content was %s:%n  %s",
+          actual, filterDescription, unquotedString(truncationNote), directoryContent);
+  }
+
   private ShouldContainRecursively(Object actual, List<?> directoryContent, String filterDescription) {
     super("%nExpecting directory or any of its subdirectories (recursively):%n" +
           "  %s%n" +
@@ -14,12 +14,15 @@ package org.assertj.core.error;
 
 import java.io.File;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 
+import org.assertj.core.data.ContentSampling;
 import org.assertj.core.internal.BinaryDiffResult;
 
 /**
- * Creates an error message indicating that an assertion that verifies that a file/path has a given binary content failed.
+ * Creates an error message indicating that an assertion that verifies that a file/path/byte buffer has a given binary
+ * content failed.
  *
  * @author Olivier Michallat
  */
@@ -45,6 +48,28 @@ public class ShouldHaveBinaryContent extends BasicErrorMessageFactory {
     return new ShouldHaveBinaryContent(actual, diff);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldHaveBinaryContent}</code> for a comparison of sampled blocks.
+   * @param actual the actual file in the failed assertion.
+   * @param diff the differences between {@code actual} and the given binary content.
+   * @param sampling the sampling of the compared blocks.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveBinaryContent(File actual, BinaryDiffResult diff, ContentSampling sampling) {
+    return new ShouldHaveBinaryContent("File", actual, diff, sampling);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveBinaryContent}</code> for a comparison of sampled blocks.
+   * @param actual the actual path in the failed assertion.
+   * @param diff the differences between {@code actual} and the given binary content.
+   * @param sampling the sampling of the compared blocks.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveBinaryContent(Path actual, BinaryDiffResult diff, ContentSampling sampling) {
+    return new ShouldHaveBinaryContent("Path", actual, diff, sampling);
+  }
+
   /**
    * Creates a new <code>{@link ShouldHaveBinaryContent}</code>.
    * @param actual the actual input stream in the failed assertion.
@@ -55,18 +80,45 @@ public class ShouldHaveBinaryContent extends BasicErrorMessageFactory {
     return new ShouldHaveBinaryContent(actual, diff);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldHaveBinaryContent}</code>.
+   * @param actual the actual byte buffer in the failed assertion.
+   * @param diff the differences between the remaining bytes of {@code actual} and the given binary content, the offset
+   *          being relative to the position of {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveBinaryContent(ByteBuffer actual, BinaryDiffResult diff) {
+    return new ShouldHaveBinaryContent(actual, diff);
+  }
+
   private ShouldHaveBinaryContent(File actual, BinaryDiffResult diff) {
     super("%nFile:%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+          actual, offsetOf(diff), diff.expected, diff.actual);
   }
 
   private ShouldHaveBinaryContent(Path actual, BinaryDiffResult diff) {
     super("%nPath:%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+          actual, offsetOf(diff), diff.expected, diff.actual);
   }
 
   private ShouldHaveBinaryContent(InputStream actual, BinaryDiffResult diff) {
     super("%nInputStream%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+          actual, offsetOf(diff), diff.expected, diff.actual);
+  }
+
+  private ShouldHaveBinaryContent(ByteBuffer actual, BinaryDiffResult diff) {
+    super("%nByteBuffer:%n  %s%ndoes not have expected binary content at offset %s from its position, expecting:%n  %s%nbut was:%n  %s",
+          actual, offsetOf(diff), diff.expected, diff.actual);
+  }
+
+  private ShouldHaveBinaryContent(String actualType, Object actual, BinaryDiffResult diff, ContentSampling sampling) {
+    super("%n" + actualType + ":%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s%n"
+          + "when comparing contents sampled with:%n  %s",
+          actual, offsetOf(diff), diff.expected, diff.actual, sampling);
+  }
+
+  // the offset is a long to support huge contents but is displayed without the long 'L' suffix
+  private static Object offsetOf(BinaryDiffResult diff) {
+    return unquotedString(Long.toString(diff.offset()));
   }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.presentation.BoundedSample.sample;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the digests of the consecutive chunks of a file
+ * against a manifest failed.
+ * <p>
+ * At most {@value #MAX_CHUNKS_DISPLAYED} chunk indexes are displayed.
+ *
+ * @since 3.21.0
+ */
+public class ShouldHaveChunkDigests extends BasicErrorMessageFactory {
+
+  public static final int MAX_CHUNKS_DISPLAYED = 20;
+
+  /**
+   * Creates a new <code>{@link ShouldHaveChunkDigests}</code>.
+   * @param actual the actual file in the failed assertion.
+   * @param algorithm the algorithm used to calculate the digests.
+   * @param chunkSize the size in bytes of the chunks.
+   * @param expectedChunkCount the number of chunks in the manifest.
+   * @param actualChunkCount the number of chunks of {@code actual}.
+   * @param differingChunks the indexes of the chunks whose digest differs from the manifest one.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveChunkDigests(Path actual, String algorithm, int chunkSize,
+                                                           int expectedChunkCount, int actualChunkCount,
+                                                           List<Integer> differingChunks) {
+    return shouldHaveChunkDigests("path", actual, algorithm, chunkSize, expectedChunkCount, actualChunkCount, differingChunks);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveChunkDigests}</code>.
+   * @param actual the actual file in the failed assertion.
+   * @param algorithm the algorithm used to calculate the digests.
+   * @param chunkSize the size in bytes of the chunks.
+   * @param expectedChunkCount the number of chunks in the manifest.
+   * @param actualChunkCount the number of chunks of {@code actual}.
+   * @param differingChunks the indexes of the chunks whose digest differs from the manifest one.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveChunkDigests(File actual, String algorithm, int chunkSize,
+                                                           int expectedChunkCount, int actualChunkCount,
+                                                           List<Integer> differingChunks) {
+    return shouldHaveChunkDigests("file", actual, algorithm, chunkSize, expectedChunkCount, actualChunkCount, differingChunks);
+  }
+
+  private static ErrorMessageFactory shouldHaveChunkDigests(String actualType, Object actual, String algorithm, int chunkSize,
+                                                            int expectedChunkCount, int actualChunkCount,
+                                                            List<Integer> differingChunks) {
+    List<Object> arguments = new ArrayList<>();
+    arguments.add(actual);
+    arguments.add(unquotedString(algorithm));
+    arguments.add(chunkSize);
+    StringBuilder format = new StringBuilder("%nExpecting " + actualType
+                                             + ":%n  %s%nto match the %s digests of its %s bytes chunks but:");
+    if (expectedChunkCount != actualChunkCount) {
+      format.append("%n- it has %s chunks instead of %s");
+      arguments.add(actualChunkCount);
+      arguments.add(expectedChunkCount);
+    }
+    if (!differingChunks.isEmpty()) {
+      format.append("%n- the digests of %s chunks differ, at indexes:%n  %s");
+      arguments.add(differingChunks.size());
+      arguments.add(sample(differingChunks, MAX_CHUNKS_DISPLAYED));
+    }
+    return new ShouldHaveChunkDigests(format.toString(), arguments.toArray());
+  }
+
+  private ShouldHaveChunkDigests(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
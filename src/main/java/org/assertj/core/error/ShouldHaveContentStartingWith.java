@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that the text content of an {@link InputStream}
+ * starts with a given prefix failed.
+ */
+public class ShouldHaveContentStartingWith extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveContentStartingWith}</code>.
+   * @param actual the actual InputStream in the failed assertion.
+   * @param charset the charset used to read {@code actual}.
+   * @param expectedPrefix the expected prefix.
+   * @param actualPrefix the beginning of the content of {@code actual}, at most as long as {@code expectedPrefix}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveContentStartingWith(InputStream actual, Charset charset, String expectedPrefix,
+                                                                  String actualPrefix) {
+    return new ShouldHaveContentStartingWith(actual, charset, expectedPrefix, actualPrefix);
+  }
+
+  private ShouldHaveContentStartingWith(InputStream actual, Charset charset, String expectedPrefix, String actualPrefix) {
+    super("%nExpecting content of:%n  %s%nread with %s charset to start with:%n  %s%nbut started with:%n  %s",
+          actual, charset, expectedPrefix, actualPrefix);
+  }
+}
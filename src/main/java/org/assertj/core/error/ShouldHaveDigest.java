@@ -14,12 +14,13 @@ package org.assertj.core.error;
 
 import java.io.File;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 
 import org.assertj.core.internal.DigestDiff;
 
 /**
- * Creates an error message indicating that an assertion that verifies that file/inputStream/path have digest failed.
+ * Creates an error message indicating that an assertion that verifies that file/inputStream/path/byteBuffer have digest failed.
  *
  * @author Valeriy Vyrva
  */
@@ -37,6 +38,10 @@ public class ShouldHaveDigest extends BasicErrorMessageFactory {
     return new ShouldHaveDigest(actualSource, diff);
   }
 
+  public static ErrorMessageFactory shouldHaveDigest(ByteBuffer actualSource, DigestDiff diff) {
+    return new ShouldHaveDigest(actualSource, diff);
+  }
+
   private ShouldHaveDigest(Path actualSource, DigestDiff diff) {
     super(errorMessage("Path", diff), actualSource, diff.getExpected(), diff.getActual());
   }
@@ -49,6 +54,10 @@ public class ShouldHaveDigest extends BasicErrorMessageFactory {
     super(errorMessage("InputStream", diff), actualSource, diff.getExpected(), diff.getActual());
   }
 
+  private ShouldHaveDigest(ByteBuffer actualSource, DigestDiff diff) {
+    super(errorMessage("ByteBuffer", diff), actualSource, diff.getExpected(), diff.getActual());
+  }
+
   private static String errorMessage(String actualType, DigestDiff diff) {
     return "%nExpecting " + actualType + " %s " + diff.getDigestAlgorithm() + " digest to be:%n" +
            "  %s%n" +
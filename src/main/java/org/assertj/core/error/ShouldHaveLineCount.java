@@ -14,6 +14,9 @@ package org.assertj.core.error;
 
 import static java.lang.String.format;
 
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
 /**
  * Creates an error message indicating that an assertion that verifies that a value have certain number of lines failed.
  * 
@@ -32,10 +35,32 @@ public class ShouldHaveLineCount extends BasicErrorMessageFactory {
     return new ShouldHaveLineCount(actual, actualSize, expectedSize);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldHaveLineCount}</code> for an {@link InputStream} whose lines were counted until
+   * the expected count was exceeded.
+   * @param actual the actual InputStream in the failed assertion.
+   * @param charset the charset used to read {@code actual}.
+   * @param actualLineCount the lines count of {@code actual}, a count greater than {@code expectedLineCount} meaning that
+   *          {@code actual} has more lines than expected.
+   * @param expectedLineCount the expected lines count.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveLinesCount(InputStream actual, Charset charset, long actualLineCount,
+                                                         long expectedLineCount) {
+    return new ShouldHaveLineCount(actual, charset, actualLineCount, expectedLineCount);
+  }
+
   private ShouldHaveLineCount(Object actual, int actualSize, int expectedSize) {
     // format the sizes in a standard way, otherwise if we use (for ex) an Hexadecimal representation
     // it will format sizes in hexadecimal while we only want actual to be formatted in hexadecimal
     // Also don't indent actual first line since the remaining lines won't have any indentation
     super(format("%nExpecting text:%n%s%nto have %s lines but had %s.", "%s", expectedSize, actualSize), actual);
   }
+
+  private ShouldHaveLineCount(InputStream actual, Charset charset, long actualLineCount, long expectedLineCount) {
+    super(format("%nExpecting content of:%n  %s%nread with %s charset to have %s lines but had %s.", "%s", "%s",
+                 expectedLineCount,
+                 actualLineCount > expectedLineCount ? "more than " + expectedLineCount : actualLineCount),
+          actual, charset);
+  }
 }
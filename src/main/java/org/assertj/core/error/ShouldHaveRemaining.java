@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the number of remaining elements of a buffer
+ * failed.
+ */
+public class ShouldHaveRemaining extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveRemaining}</code>.
+   * @param actual the actual buffer in the failed assertion.
+   * @param expectedRemaining the expected number of remaining elements.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveRemaining(ByteBuffer actual, int expectedRemaining) {
+    return new ShouldHaveRemaining(actual, expectedRemaining);
+  }
+
+  private ShouldHaveRemaining(ByteBuffer actual, int expectedRemaining) {
+    // format the counts in a standard way, they are not values to represent
+    super(format("%nExpecting ByteBuffer:%n  %s%nto have %s remaining bytes but had %s", "%s", expectedRemaining,
+                 actual.remaining()),
+          actual);
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.presentation.BoundedSample.sample;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.internal.TreeDiffResult;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that two directory trees have the same content
+ * failed.
+ * <p>
+ * At most {@value #MAX_ENTRIES_DISPLAYED} entries are displayed per kind of difference.
+ *
+ * @since 3.21.0
+ */
+public class ShouldHaveSameTreeContent extends BasicErrorMessageFactory {
+
+  public static final int MAX_ENTRIES_DISPLAYED = 20;
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameTreeContent}</code>.
+   * @param actual the actual directory in the failed assertion.
+   * @param expected the expected directory.
+   * @param diff the differences between {@code actual} and {@code expected}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameTreeContent(Path actual, Path expected, TreeDiffResult diff) {
+    List<Object> arguments = new ArrayList<>();
+    arguments.add(actual);
+    arguments.add(expected);
+    StringBuilder format = new StringBuilder("%nExpecting directory:%n  %s%nto have the same tree content as:%n  %s%nbut:");
+    describe("entries only in actual", diff.getAdded(), format, arguments);
+    describe("entries only in expected", diff.getRemoved(), format, arguments);
+    describe("entries whose type, size or content differ", diff.getChanged(), format, arguments);
+    return new ShouldHaveSameTreeContent(format.toString(), arguments.toArray());
+  }
+
+  private static void describe(String kind, List<String> entries, StringBuilder format, List<Object> arguments) {
+    if (entries.isEmpty()) return;
+    format.append("%n- %s (%s):%n  %s");
+    arguments.add(unquotedString(kind));
+    arguments.add(entries.size());
+    arguments.add(sample(entries, MAX_ENTRIES_DISPLAYED));
+  }
+
+  private ShouldHaveSameTreeContent(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
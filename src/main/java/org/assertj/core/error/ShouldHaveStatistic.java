@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import org.assertj.core.data.Offset;
+
+/**
+ * Creates an error message indicating that an assertion that verifies an aggregate value (sum, min, max, average, ...)
+ * computed over the elements of a group failed.
+ */
+public class ShouldHaveStatistic extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveStatistic}</code>.
+   * @param actual the actual elements in the failed assertion.
+   * @param statistic the name of the statistic, ex: "sum".
+   * @param expected the expected value of the statistic.
+   * @param actualStatistic the value of the statistic computed over {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveStatistic(Object actual, String statistic, Number expected,
+                                                        Number actualStatistic) {
+    return new ShouldHaveStatistic(actual, statistic, expected, actualStatistic);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveStatistic}</code> for a statistic compared within an offset.
+   * @param actual the actual elements in the failed assertion.
+   * @param statistic the name of the statistic, ex: "average".
+   * @param expected the expected value of the statistic.
+   * @param offset the given positive offset.
+   * @param actualStatistic the value of the statistic computed over {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveStatistic(Object actual, String statistic, double expected,
+                                                        Offset<Double> offset, double actualStatistic) {
+    return new ShouldHaveStatistic(actual, statistic, expected, offset, actualStatistic);
+  }
+
+  private ShouldHaveStatistic(Object actual, String statistic, Number expected, Number actualStatistic) {
+    super("%nExpecting %s of:%n  %s%nto be:%n  %s%nbut was:%n  %s",
+          unquotedString(statistic), actual, expected, actualStatistic);
+  }
+
+  private ShouldHaveStatistic(Object actual, String statistic, double expected, Offset<Double> offset,
+                              double actualStatistic) {
+    super("%nExpecting %s of:%n  %s%nto be close to:%n  %s%nby less than %s but was:%n  %s",
+          unquotedString(statistic), actual, expected, offset.value, actualStatistic);
+  }
+}
@@ -24,9 +24,12 @@ import org.assertj.core.groups.Tuple;
 class ByNameMultipleExtractor implements Function<Object, Tuple> {
 
   private final String[] fieldsOrProperties;
+  // built once and reused for every input so that each property/field is resolved once per class
+  private final List<Function<Object, Object>> extractors;
 
   ByNameMultipleExtractor(String... fieldsOrProperties) {
     this.fieldsOrProperties = fieldsOrProperties;
+    this.extractors = fieldsOrProperties == null ? null : buildExtractors();
   }
 
   @Override
@@ -35,7 +38,6 @@ class ByNameMultipleExtractor implements Function<Object, Tuple> {
     checkArgument(fieldsOrProperties.length > 0, "The names of the fields/properties to read should not be empty");
     checkArgument(input != null, "The object to extract fields/properties from should not be null");
 
-    List<Function<Object, Object>> extractors = buildExtractors();
     List<Object> values = extractValues(input, extractors);
 
     return new Tuple(values.toArray());
@@ -18,15 +18,16 @@ import org.assertj.core.util.introspection.PropertyOrFieldSupport;
 
 class ByNameSingleExtractor implements Function<Object, Object> {
 
-  private final String propertyOrFieldName;
+  // resolves the property/field once per class to efficiently extract values from many objects
+  private final Function<Object, Object> propertyOrFieldExtractor;
 
   ByNameSingleExtractor(String propertyOrFieldName) {
-    this.propertyOrFieldName = propertyOrFieldName;
+    this.propertyOrFieldExtractor = PropertyOrFieldSupport.EXTRACTION.compile(propertyOrFieldName);
   }
 
   @Override
   public Object apply(Object input) {
-    return PropertyOrFieldSupport.EXTRACTION.getValueOf(propertyOrFieldName, input);
+    return propertyOrFieldExtractor.apply(input);
   }
 
 }
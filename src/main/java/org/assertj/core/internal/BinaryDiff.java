@@ -12,52 +12,280 @@
  */
 package org.assertj.core.internal;
 
-import java.io.ByteArrayInputStream;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.nio.file.StandardOpenOption.READ;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
 
+import org.assertj.core.data.ContentSampling;
 import org.assertj.core.util.VisibleForTesting;
 
-
 /**
- * Compares the binary content of two inputStreams/paths.
+ * Compares the binary content of two inputStreams/paths/byte buffers.
+ * <p>
+ * Contents are compared block by block using fixed size buffers, files are read with positional {@link FileChannel} reads
+ * so that neither of the compared contents is ever fully loaded in memory. {@link ByteBuffer}s are compared in place.
+ * <p>
+ * Paths can also be compared on a {@link ContentSampling sample} of their blocks only, see
+ * {@link #diff(Path, Path, ContentSampling)}.
  * 
  * @author Olivier Michallat
  */
 @VisibleForTesting
 public class BinaryDiff {
 
+  @VisibleForTesting
+  static final int BLOCK_SIZE = 1 << 16;
+
   @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
   }
 
+  @VisibleForTesting
+  public BinaryDiffResult diff(File actual, File expected) throws IOException {
+    return diff(actual.toPath(), expected.toPath());
+  }
+
   @VisibleForTesting
   public BinaryDiffResult diff(Path actual, byte[] expected) throws IOException {
-    try (InputStream actualStream = Files.newInputStream(actual)) {
-      return diff(actualStream, expected);
+    try (FileChannel actualChannel = FileChannel.open(actual, READ)) {
+      return diff(new ChannelBlocks(actualChannel), new ByteArrayBlocks(expected));
+    }
+  }
+
+  @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    try (FileChannel actualChannel = FileChannel.open(actual, READ);
+        FileChannel expectedChannel = FileChannel.open(expected, READ)) {
+      // contents of different sizes still have to be compared to report the offset of their first difference
+      if (actualChannel.size() == expectedChannel.size() && Files.isSameFile(actual, expected)) {
+        return BinaryDiffResult.noDiff();
+      }
+      return diff(new ChannelBlocks(actualChannel), new ChannelBlocks(expectedChannel));
+    }
+  }
+
+  /**
+   * Compares the blocks of the given paths selected by the given sampling.
+   * <p>
+   * Contents of different sizes are reported as differing where the shorter one ends, otherwise the blocks are split in
+   * as many consecutive strata as blocks to compare and one block is drawn at random in each stratum so that sampled
+   * blocks are spread over the whole contents, they are read in increasing offset order.
+   */
+  @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, Path expected, ContentSampling sampling) throws IOException {
+    try (FileChannel actualChannel = FileChannel.open(actual, READ);
+        FileChannel expectedChannel = FileChannel.open(expected, READ)) {
+      long actualSize = actualChannel.size();
+      long expectedSize = expectedChannel.size();
+      if (actualSize != expectedSize) {
+        long offset = min(actualSize, expectedSize);
+        return new BinaryDiffResult(offset, byteAt(expectedChannel, offset), byteAt(actualChannel, offset));
+      }
+      if (Files.isSameFile(actual, expected)) return BinaryDiffResult.noDiff();
+      ByteBuffer actualBlock = ByteBuffer.allocate(sampling.blockSize);
+      ByteBuffer expectedBlock = ByteBuffer.allocate(sampling.blockSize);
+      long blockCount = (actualSize + sampling.blockSize - 1) / sampling.blockSize;
+      PrimitiveIterator.OfLong sampledBlocks = sampledBlocks(blockCount, sampling);
+      while (sampledBlocks.hasNext()) {
+        long position = sampledBlocks.nextLong() * sampling.blockSize;
+        int length = min(read(actualChannel, actualBlock, position), read(expectedChannel, expectedBlock, position));
+        int mismatch = mismatch(actualBlock, 0, expectedBlock, 0, length);
+        if (mismatch != -1) {
+          return new BinaryDiffResult(position + mismatch, expectedBlock.get(mismatch) & 0xFF, actualBlock.get(mismatch) & 0xFF);
+        }
+      }
+      return BinaryDiffResult.noDiff();
     }
   }
 
+  // returns the indexes of the blocks to compare in increasing order, at least one block is drawn when there are some
+  @VisibleForTesting
+  static PrimitiveIterator.OfLong sampledBlocks(long blockCount, ContentSampling sampling) {
+    long sampleCount = min(blockCount, max(1, (long) Math.ceil(blockCount * sampling.fraction)));
+    double stratumSize = (double) blockCount / sampleCount;
+    SplittableRandom random = new SplittableRandom(sampling.seed);
+    return LongStream.range(0, sampleCount).map(stratum -> {
+      long start = (long) (stratum * stratumSize);
+      long end = stratum == sampleCount - 1 ? blockCount : min(blockCount, (long) ((stratum + 1) * stratumSize));
+      return start + random.nextLong(max(1, end - start));
+    }).iterator();
+  }
+
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, byte[] expected) throws IOException {
-    try (InputStream expectedStream = new ByteArrayInputStream(expected)) {
-		  return diff(actualStream, expectedStream);
-	  }
+    return diff(new InputStreamBlocks(actualStream), new ByteArrayBlocks(expected));
   }
 
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    return diff(new InputStreamBlocks(actualStream), new InputStreamBlocks(expectedStream));
+  }
+
+  @VisibleForTesting
+  public BinaryDiffResult diff(ByteBuffer actual, byte[] expected) {
+    return diff(actual, ByteBuffer.wrap(expected));
+  }
+
+  // compares the remaining bytes of the given buffers, their position and limit are left untouched
+  @VisibleForTesting
+  public BinaryDiffResult diff(ByteBuffer actual, ByteBuffer expected) {
+    int commonLength = min(actual.remaining(), expected.remaining());
+    int mismatch = mismatch(actual, actual.position(), expected, expected.position(), commonLength);
+    if (mismatch == -1 && actual.remaining() == expected.remaining()) return BinaryDiffResult.noDiff();
+    int offset = mismatch == -1 ? commonLength : mismatch;
+    return new BinaryDiffResult(offset, byteAt(expected, offset), byteAt(actual, offset));
+  }
+
+  private static BinaryDiffResult diff(Blocks actual, Blocks expected) throws IOException {
+    byte[] actualBlock = new byte[BLOCK_SIZE];
+    byte[] expectedBlock = new byte[BLOCK_SIZE];
+    long offset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      int actualLength = actual.readBlock(actualBlock);
+      int expectedLength = expected.readBlock(expectedBlock);
+      int commonLength = min(actualLength, expectedLength);
+      int mismatch = mismatch(actualBlock, expectedBlock, commonLength);
+      if (mismatch != -1) {
+        return new BinaryDiffResult(offset + mismatch, expectedBlock[mismatch] & 0xFF, actualBlock[mismatch] & 0xFF);
+      }
+      // blocks are only partially filled at the end of their content
+      if (actualLength != expectedLength) {
+        return new BinaryDiffResult(offset + commonLength, byteAt(expectedBlock, commonLength, expectedLength),
+                                    byteAt(actualBlock, commonLength, actualLength));
+      }
+      if (actualLength < BLOCK_SIZE) return BinaryDiffResult.noDiff(); // reached end of both contents
+      offset += BLOCK_SIZE;
+    }
+  }
+
+  /**
+   * Returns the index of the first different byte within the given length of the given arrays, -1 if there are none.
+   * <p>
+   * Blocks are compared with {@link ByteBuffer#equals(Object)} which is vectorized on recent JVMs, only a block having a
+   * difference is then scanned byte per byte.
+   */
+  @VisibleForTesting
+  static int mismatch(byte[] actual, byte[] expected, int length) {
+    return mismatch(ByteBuffer.wrap(actual), 0, ByteBuffer.wrap(expected), 0, length);
+  }
+
+  /**
+   * Returns the offset of the first different byte within the given length of the given buffers regions, -1 if there
+   * are none.
+   * <p>
+   * Regions are compared in blocks of {@link #BLOCK_SIZE} bytes through views sharing the buffers content.
+   */
+  static int mismatch(ByteBuffer actual, int actualStart, ByteBuffer expected, int expectedStart, int length) {
+    ByteBuffer actualBlock = actual.duplicate();
+    ByteBuffer expectedBlock = expected.duplicate();
+    for (int offset = 0; offset < length; offset += BLOCK_SIZE) {
+      int blockLength = min(BLOCK_SIZE, length - offset);
+      select(actualBlock, actualStart + offset, blockLength);
+      select(expectedBlock, expectedStart + offset, blockLength);
+      if (actualBlock.equals(expectedBlock)) continue;
+      for (int i = offset; i < offset + blockLength; i++) {
+        if (actual.get(actualStart + i) != expected.get(expectedStart + i)) return i;
+      }
+    }
+    return -1;
+  }
+
+  private static void select(ByteBuffer buffer, int start, int length) {
+    buffer.clear();
+    buffer.limit(start + length);
+    buffer.position(start);
+  }
+
+  private static int byteAt(byte[] block, int index, int length) {
+    return index < length ? block[index] & 0xFF : BinaryDiffResult.EOF;
+  }
+
+  private static int byteAt(ByteBuffer buffer, int offset) {
+    return offset < buffer.remaining() ? buffer.get(buffer.position() + offset) & 0xFF : BinaryDiffResult.EOF;
+  }
+
+  private static int byteAt(FileChannel channel, long offset) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(1);
+    return read(channel, buffer, offset) == 1 ? buffer.get(0) & 0xFF : BinaryDiffResult.EOF;
+  }
+
+  // fills the given buffer from the given position of the channel, returns the number of bytes read which is only less
+  // than the buffer capacity at the end of the channel content
+  private static int read(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    buffer.clear();
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position + buffer.position());
+      if (read == -1) break;
+    }
+    return buffer.position();
+  }
+
+  // reads successive blocks of a content, a block is only partially filled when the end of the content is reached
+  private interface Blocks {
+    int readBlock(byte[] block) throws IOException;
+  }
+
+  private static class InputStreamBlocks implements Blocks {
+    private final InputStream stream;
+
+    InputStreamBlocks(InputStream stream) {
+      this.stream = stream;
+    }
+
+    @Override
+    public int readBlock(byte[] block) throws IOException {
+      int length = 0;
+      while (length < block.length) {
+        int read = stream.read(block, length, block.length - length);
+        if (read == -1) break;
+        length += read;
+      }
+      return length;
+    }
+  }
+
+  private static class ChannelBlocks implements Blocks {
+    private final FileChannel channel;
+    private long position;
+
+    ChannelBlocks(FileChannel channel) {
+      this.channel = channel;
+    }
+
+    @Override
+    public int readBlock(byte[] block) throws IOException {
+      int length = read(channel, ByteBuffer.wrap(block), position);
+      position += length;
+      return length;
+    }
+  }
+
+  private static class ByteArrayBlocks implements Blocks {
+    private final byte[] content;
+    private int position;
+
+    ByteArrayBlocks(byte[] content) {
+      this.content = content;
+    }
+
+    @Override
+    public int readBlock(byte[] block) throws IOException {
+      int length = min(block.length, content.length - position);
+      System.arraycopy(content, position, block, 0, length);
+      position += length;
+      return length;
     }
   }
 }
@@ -18,11 +18,18 @@ package org.assertj.core.internal;
  * @author Olivier Michallat
  */
 public class BinaryDiffResult {
-  private static final int EOF = -1;
+  static final int EOF = -1;
 
+  /**
+   * The offset at which the difference occurred, {@link Integer#MAX_VALUE} if it does not fit in an {@code int}.
+   *
+   * @deprecated use {@link #offset()} which supports the offsets of contents larger than 2 GB.
+   */
+  @Deprecated
   public final int offset;
   public final String expected;
   public final String actual;
+  private final long longOffset;
 
   /**
    * Builds a new instance.
@@ -32,13 +39,34 @@ public class BinaryDiffResult {
    * @param actual the actual byte in the same format.
    */
   public BinaryDiffResult(int offset, int expected, int actual) {
-    this.offset = offset;
+    this((long) offset, expected, actual);
+  }
+
+  /**
+   * Builds a new instance.
+   *
+   * @param offset the offset at which the difference occurred.
+   * @param expected the expected byte as an int in the range 0 to 255, or -1 for EOF.
+   * @param actual the actual byte in the same format.
+   * @since 3.21.0
+   */
+  public BinaryDiffResult(long offset, int expected, int actual) {
+    this.longOffset = offset;
+    this.offset = (int) Math.min(offset, Integer.MAX_VALUE);
     this.expected = describe(expected);
     this.actual = describe(actual);
   }
 
+  /**
+   * @return the offset at which the difference occurred, -1 if there is no difference.
+   * @since 3.21.0
+   */
+  public long offset() {
+    return longOffset;
+  }
+
   public boolean hasNoDiff() {
-    return offset == EOF;
+    return longOffset == EOF;
   }
 
   public boolean hasDiff() {
@@ -0,0 +1,222 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.ShouldContainSequence.shouldContainSequence;
+import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.error.ShouldHaveRemaining.shouldHaveRemaining;
+import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
+import static org.assertj.core.internal.Digests.digestOf;
+import static org.assertj.core.internal.Digests.toHex;
+import static org.assertj.core.internal.ErrorMessages.nullSequence;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Reusable assertions for <code>{@link ByteBuffer}</code>s.
+ * <p>
+ * Assertions are about the remaining bytes of the buffers, i.e. the bytes between their position and their limit. The
+ * bytes are read in place with absolute gets or through views sharing the buffers content so that neither the content of
+ * the buffers is copied nor their position, limit or mark are modified.
+ */
+public class ByteBuffers {
+
+  private static final ByteBuffers INSTANCE = new ByteBuffers();
+
+  /**
+   * Returns the singleton instance of this class.
+   * @return the singleton instance of this class.
+   */
+  public static ByteBuffers instance() {
+    return INSTANCE;
+  }
+
+  @VisibleForTesting
+  BinaryDiff binaryDiff = new BinaryDiff();
+  @VisibleForTesting
+  Failures failures = Failures.instance();
+
+  @VisibleForTesting
+  ByteBuffers() {}
+
+  /**
+   * Asserts that the remaining bytes of the given ByteBuffer are equal to the given binary content.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual ByteBuffer.
+   * @param expected the expected binary content.
+   * @throws NullPointerException if {@code expected} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the remaining bytes of the given ByteBuffer are not equal to the given binary content.
+   */
+  public void assertHasBinaryContent(AssertionInfo info, ByteBuffer actual, byte[] expected) {
+    requireNonNull(expected, "The binary content to compare to should not be null");
+    assertNotNull(info, actual);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    if (result.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, result));
+  }
+
+  /**
+   * Asserts that the remaining bytes of the given ByteBuffers are equal.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual ByteBuffer.
+   * @param expected the expected ByteBuffer.
+   * @throws NullPointerException if {@code expected} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the remaining bytes of the given ByteBuffers are not equal.
+   */
+  public void assertHasSameContentAs(AssertionInfo info, ByteBuffer actual, ByteBuffer expected) {
+    requireNonNull(expected, "The ByteBuffer to compare to should not be null");
+    assertNotNull(info, actual);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    if (result.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, result));
+  }
+
+  /**
+   * Asserts that the remaining bytes of the given ByteBuffer start with the given sequence of bytes.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual ByteBuffer.
+   * @param sequence the sequence of bytes to look for.
+   * @throws NullPointerException if {@code sequence} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the given sequence is empty while the given ByteBuffer has remaining bytes.
+   * @throws AssertionError if the remaining bytes of the given ByteBuffer do not start with the given sequence.
+   */
+  public void assertStartsWith(AssertionInfo info, ByteBuffer actual, byte[] sequence) {
+    requireNonNull(sequence, nullSequence());
+    assertNotNull(info, actual);
+    if (isEmptySequenceOfEmptyBuffer(actual, sequence)) return;
+    if (actual.remaining() >= sequence.length
+        && BinaryDiff.mismatch(actual, actual.position(), ByteBuffer.wrap(sequence), 0, sequence.length) == -1) {
+      return;
+    }
+    throw failures.failure(info, shouldStartWith(actual, sequence));
+  }
+
+  /**
+   * Asserts that the remaining bytes of the given ByteBuffer contain the given sequence of bytes, without any other
+   * bytes between them.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual ByteBuffer.
+   * @param sequence the sequence of bytes to look for.
+   * @throws NullPointerException if {@code sequence} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the given sequence is empty while the given ByteBuffer has remaining bytes.
+   * @throws AssertionError if the remaining bytes of the given ByteBuffer do not contain the given sequence.
+   */
+  public void assertContainsSequence(AssertionInfo info, ByteBuffer actual, byte[] sequence) {
+    requireNonNull(sequence, nullSequence());
+    assertNotNull(info, actual);
+    if (isEmptySequenceOfEmptyBuffer(actual, sequence)) return;
+    if (indexOf(actual, sequence) == -1) throw failures.failure(info, shouldContainSequence(actual, sequence));
+  }
+
+  /**
+   * Asserts that the given ByteBuffer has the given number of remaining bytes.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual ByteBuffer.
+   * @param expected the expected number of remaining bytes.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the given ByteBuffer does not have the given number of remaining bytes.
+   */
+  public void assertHasRemaining(AssertionInfo info, ByteBuffer actual, int expected) {
+    assertNotNull(info, actual);
+    if (actual.remaining() != expected) throw failures.failure(info, shouldHaveRemaining(actual, expected));
+  }
+
+  public void assertHasDigest(AssertionInfo info, ByteBuffer actual, MessageDigest digest, byte[] expected) {
+    requireNonNull(digest, "The message digest algorithm should not be null");
+    requireNonNull(expected, "The binary representation of digest to compare to should not be null");
+    assertNotNull(info, actual);
+    DigestDiff diff = new DigestDiff(toHex(digestOf(actual, digest)), toHex(expected), digest);
+    if (diff.digestsDiffer()) throw failures.failure(info, shouldHaveDigest(actual, diff));
+  }
+
+  public void assertHasDigest(AssertionInfo info, ByteBuffer actual, MessageDigest digest, String expected) {
+    requireNonNull(expected, "The string representation of digest to compare to should not be null");
+    assertHasDigest(info, actual, digest, Digests.fromHex(expected));
+  }
+
+  public void assertHasDigest(AssertionInfo info, ByteBuffer actual, String algorithm, byte[] expected) {
+    requireNonNull(algorithm, "The message digest algorithm should not be null");
+    try {
+      assertHasDigest(info, actual, MessageDigest.getInstance(algorithm), expected);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(format("Unable to find digest implementation for: <%s>", algorithm), e);
+    }
+  }
+
+  public void assertHasDigest(AssertionInfo info, ByteBuffer actual, String algorithm, String expected) {
+    requireNonNull(expected, "The string representation of digest to compare to should not be null");
+    assertHasDigest(info, actual, algorithm, Digests.fromHex(expected));
+  }
+
+  /**
+   * Returns the offset from the position of the given buffer of the first occurrence of the given sequence in its
+   * remaining bytes, -1 if there are none.
+   * <p>
+   * Uses the Boyer-Moore-Horspool algorithm: the window is shifted according to its last byte, which skips up to the
+   * length of the sequence at each step.
+   */
+  @VisibleForTesting
+  static int indexOf(ByteBuffer buffer, byte[] sequence) {
+    int sequenceLength = sequence.length;
+    if (sequenceLength == 0) return 0;
+    int start = buffer.position();
+    int lastOffset = buffer.remaining() - sequenceLength;
+    int[] shifts = new int[256];
+    Arrays.fill(shifts, sequenceLength);
+    for (int i = 0; i < sequenceLength - 1; i++) {
+      shifts[sequence[i] & 0xFF] = sequenceLength - 1 - i;
+    }
+    byte lastByte = sequence[sequenceLength - 1];
+    int offset = 0;
+    while (offset <= lastOffset) {
+      byte windowLastByte = buffer.get(start + offset + sequenceLength - 1);
+      if (windowLastByte == lastByte && matchesAt(buffer, start + offset, sequence)) return offset;
+      offset += shifts[windowLastByte & 0xFF];
+    }
+    return -1;
+  }
+
+  // same behavior as the byte[] assertions: an empty sequence is only found in an empty content
+  private static boolean isEmptySequenceOfEmptyBuffer(ByteBuffer actual, byte[] sequence) {
+    if (sequence.length != 0) return false;
+    if (actual.hasRemaining()) throw new AssertionError("actual is not empty while group of values to look for is.");
+    return true;
+  }
+
+  private static boolean matchesAt(ByteBuffer buffer, int index, byte[] sequence) {
+    for (int i = 0; i < sequence.length - 1; i++) {
+      if (buffer.get(index + i) != sequence[i]) return false;
+    }
+    return true;
+  }
+
+  private static void assertNotNull(AssertionInfo info, ByteBuffer buffer) {
+    Objects.instance().assertNotNull(info, buffer);
+  }
+}
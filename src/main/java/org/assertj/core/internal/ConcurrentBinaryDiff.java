@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Compares the binary content of many pairs of paths, the pairs are compared concurrently by {@link BinaryDiff} on the
+ * bounded pool of threads shared by the I/O bound assertions so that the latency of the blocking reads of each pair is not
+ * paid sequentially.
+ *
+ * @since 3.21.0
+ */
+@VisibleForTesting
+public class ConcurrentBinaryDiff {
+
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
+  /**
+   * Compares each actual path with the expected path at the same index.
+   *
+   * @param actual the actual paths.
+   * @param expected the expected paths, as many as actual ones.
+   * @return the result of each comparison, in the order of the given paths.
+   * @throws IOException if any comparison fails with an I/O error, the pending comparisons are then cancelled.
+   */
+  @VisibleForTesting
+  public List<BinaryDiffResult> diff(List<Path> actual, List<Path> expected) throws IOException {
+    checkArgument(actual.size() == expected.size(), "%s actual paths can't be compared to %s expected paths", actual.size(),
+                  expected.size());
+    List<Callable<BinaryDiffResult>> comparisons = new ArrayList<>(actual.size());
+    for (int i = 0; i < actual.size(); i++) {
+      Path actualPath = actual.get(i);
+      Path expectedPath = expected.get(i);
+      comparisons.add(() -> binaryDiff.diff(actualPath, expectedPath));
+    }
+    return ConcurrentTasks.invokeAll(comparisons);
+  }
+}
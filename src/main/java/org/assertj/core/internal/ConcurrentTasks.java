@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Runs the I/O bound tasks of the assertions comparing or hashing contents on a single bounded pool of daemon threads shared
+ * by all assertions.
+ * <p>
+ * Tasks are never interrupted: interrupting a thread blocked in a {@link java.nio.channels.FileChannel} read closes the
+ * channel, which may belong to the caller. When a task fails, the pending ones are cancelled without interruption and the
+ * running ones complete.
+ * <p>
+ * Tasks submitted from a pool thread run in the submitting thread, a pool thread waiting for tasks queued behind it could
+ * otherwise wait forever once all the pool threads do the same.
+ */
+final class ConcurrentTasks {
+
+  // the tasks mostly wait for reads, more threads than processors keep the storage busy
+  static final int MAX_THREADS = 2 * Runtime.getRuntime().availableProcessors();
+
+  private static final ThreadLocal<Boolean> POOL_THREAD = ThreadLocal.withInitial(() -> false);
+  private static final ThreadPoolExecutor EXECUTOR = newExecutor();
+
+  private ConcurrentTasks() {}
+
+  private static ThreadPoolExecutor newExecutor() {
+    ThreadFactory daemonThreads = new DaemonThreads("assertj-io");
+    ThreadFactory poolThreads = runnable -> daemonThreads.newThread(() -> {
+      POOL_THREAD.set(true);
+      runnable.run();
+    });
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 30, SECONDS, new LinkedBlockingQueue<>(),
+                                                         poolThreads);
+    // idle threads are released between assertions
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * @return whether the current thread is one of the pool threads.
+   */
+  static boolean isPoolThread() {
+    return POOL_THREAD.get();
+  }
+
+  /**
+   * Runs the given task on the pool, its result is obtained with {@link #resultOf(Future)}.
+   * <p>
+   * The task must not be submitted from a pool thread, see {@link #isPoolThread()}.
+   */
+  static <T> Future<T> submit(Callable<T> task) {
+    return EXECUTOR.submit(task);
+  }
+
+  /**
+   * Runs the given tasks concurrently and returns their results in the order of the tasks.
+   *
+   * @throws IOException the first error of the tasks in their order, the pending tasks are then cancelled.
+   */
+  static <T> List<T> invokeAll(List<? extends Callable<T>> tasks) throws IOException {
+    List<T> results = new ArrayList<>(tasks.size());
+    if (tasks.size() == 1 || isPoolThread()) {
+      for (Callable<T> task : tasks) {
+        results.add(call(task));
+      }
+      return results;
+    }
+    List<Future<T>> futures = new ArrayList<>(tasks.size());
+    try {
+      for (Callable<T> task : tasks) {
+        futures.add(EXECUTOR.submit(task));
+      }
+      for (Future<T> future : futures) {
+        results.add(resultOf(future));
+      }
+      return results;
+    } finally {
+      // no-op for the completed tasks
+      futures.forEach(future -> future.cancel(false));
+    }
+  }
+
+  /**
+   * Waits for the result of the given task and rethrows its error, {@link UncheckedIOException}s being unwrapped.
+   */
+  static <T> T resultOf(Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a concurrent task");
+    } catch (ExecutionException e) {
+      throw rethrow(e.getCause());
+    }
+  }
+
+  private static <T> T call(Callable<T> task) throws IOException {
+    try {
+      return task.call();
+    } catch (Exception e) {
+      throw rethrow(e);
+    }
+  }
+
+  private static IOException rethrow(Throwable error) throws IOException {
+    if (error instanceof IOException) throw (IOException) error;
+    if (error instanceof UncheckedIOException) throw ((UncheckedIOException) error).getCause();
+    if (error instanceof RuntimeException) throw (RuntimeException) error;
+    if (error instanceof Error) throw (Error) error;
+    throw new IllegalStateException(error);
+  }
+}
@@ -38,7 +38,8 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
-import java.util.concurrent.ConcurrentHashMap;
+
+import org.assertj.core.util.introspection.ClassMetadata;
 
 /**
  * Tests two objects for differences by doing a 'deep' comparison.
@@ -51,8 +52,6 @@ import java.util.concurrent.ConcurrentHashMap;
 public class DeepDifference {
 
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these:%s";
-  private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
-  private static final Map<Class<?>, Boolean> customHash = new ConcurrentHashMap<>();
 
   private final static class DualKey {
 
@@ -623,7 +622,7 @@ public class DeepDifference {
 
   /**
    * Determine if the passed in class has a non-Object.equals() method. This
-   * method caches its results in static ConcurrentHashMap to benefit
+   * method caches its results in {@link ClassMetadata} to benefit
    * execution performance.
    *
    * @param c Class to check.
@@ -631,21 +630,7 @@ public class DeepDifference {
    *         between itself and just below Object in it's inheritance.
    */
   static boolean hasCustomEquals(Class<?> c) {
-    if (customEquals.containsKey(c)) {
-      return customEquals.get(c);
-    }
-
-    Class<?> origClass = c;
-    while (!Object.class.equals(c)) {
-      try {
-        c.getDeclaredMethod("equals", Object.class);
-        customEquals.put(origClass, true);
-        return true;
-      } catch (Exception ignored) {}
-      c = c.getSuperclass();
-    }
-    customEquals.put(origClass, false);
-    return false;
+    return ClassMetadata.of(c).hasOverriddenEquals();
   }
 
   /**
@@ -722,7 +707,7 @@ public class DeepDifference {
 
   /**
    * Determine if the passed in class has a non-Object.hashCode() method. This
-   * method caches its results in static ConcurrentHashMap to benefit
+   * method caches its results in {@link ClassMetadata} to benefit
    * execution performance.
    *
    * @param c Class to check.
@@ -730,20 +715,6 @@ public class DeepDifference {
    *         between itself and just below Object in it's inheritance.
    */
   static boolean hasCustomHashCode(Class<?> c) {
-    Class<?> origClass = c;
-    if (customHash.containsKey(c)) {
-      return customHash.get(c);
-    }
-
-    while (!Object.class.equals(c)) {
-      try {
-        c.getDeclaredMethod("hashCode");
-        customHash.put(origClass, true);
-        return true;
-      } catch (Exception ignored) {}
-      c = c.getSuperclass();
-    }
-    customHash.put(origClass, false);
-    return false;
+    return ClassMetadata.of(c).hasOverriddenHashCode();
   }
 }
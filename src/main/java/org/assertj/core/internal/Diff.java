@@ -13,8 +13,11 @@
 package org.assertj.core.internal;
 
 import static java.nio.file.Files.newBufferedReader;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.util.Closeables.closeQuietly;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -24,17 +27,27 @@ import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
+import org.assertj.core.configuration.Configuration;
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
 
-
 /**
  * Compares the contents of two files, inputStreams or paths.
+ * <p>
+ * Contents are first compared line by line while they are equal, only keeping the last
+ * {@link Configuration#diffContextLines() context lines} equal lines, so that equal contents are compared in constant memory. The Myers diff algorithm is then run from these context lines
+ * on, the deltas being reported with their line numbers in the whole contents.
  * 
  * @author David DIDIER
  * @author Alex Ruiz
@@ -47,6 +60,26 @@ import org.assertj.core.util.diff.Patch;
 @VisibleForTesting
 public class Diff {
 
+  // null to read it from the registered configuration on each diff
+  private final Integer contextLines;
+
+  public Diff() {
+    contextLines = null;
+  }
+
+  /**
+   * Creates a new {@link Diff} running the Myers diff algorithm from the given number of equal lines before the first
+   * difference instead of the {@link Configuration#diffContextLines() configured} one.
+   *
+   * @param contextLines the number of equal lines preceding the first difference to diff.
+   * @throws IllegalArgumentException if {@code contextLines} is negative.
+   */
+  @VisibleForTesting
+  public Diff(int contextLines) {
+    checkArgument(contextLines >= 0, "contextLines must be >= 0, but was %s", contextLines);
+    this.contextLines = contextLines;
+  }
+
   @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
     return diff(readerFor(actual), readerFor(expected));
@@ -54,7 +87,12 @@ public class Diff {
 
   @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, String expected) throws IOException {
-    return diff(readerFor(actual), readerFor(expected));
+    return diff(actual, expected, Charset.defaultCharset());
+  }
+
+  @VisibleForTesting
+  public List<Delta<String>> diff(InputStream actual, String expected, Charset charset) throws IOException {
+    return diff(readerFor(actual, charset), readerFor(expected));
   }
 
   @VisibleForTesting
@@ -78,7 +116,11 @@ public class Diff {
   }
 
   private BufferedReader readerFor(InputStream stream) {
-    return new BufferedReader(new InputStreamReader(stream, Charset.defaultCharset()));
+    return readerFor(stream, Charset.defaultCharset());
+  }
+
+  private BufferedReader readerFor(InputStream stream, Charset charset) {
+    return new BufferedReader(new InputStreamReader(stream, charset));
   }
 
   private BufferedReader readerFor(String string) {
@@ -87,22 +129,63 @@ public class Diff {
 
   private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
     try {
-      List<String> actualLines = linesFromBufferedReader(actual);
-      List<String> expectedLines = linesFromBufferedReader(expected);
-      
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      int contextLines = this.contextLines != null ? this.contextLines : CONFIGURATION_PROVIDER.configuration().diffContextLines();
+      Deque<String> context = new ArrayDeque<>();
+      int equalLines = 0;
+      while (true) {
+        String actualLine = actual.readLine();
+        String expectedLine = expected.readLine();
+        if (actualLine == null && expectedLine == null) return emptyList();
+        if (actualLine == null || !actualLine.equals(expectedLine)) {
+          List<String> actualLines = linesFromBufferedReader(context, actualLine, actual);
+          List<String> expectedLines = linesFromBufferedReader(context, expectedLine, expected);
+          Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
+          return unmodifiableList(shift(patch.getDeltas(), equalLines - context.size()));
+        }
+        equalLines++;
+        if (contextLines == 0) continue;
+        if (context.size() == contextLines) context.removeFirst();
+        context.addLast(actualLine);
+      }
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
-  private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
+  private static List<String> linesFromBufferedReader(Deque<String> context, String firstLine,
+                                                      BufferedReader reader) throws IOException {
+    List<String> lines = new ArrayList<>(context);
+    if (firstLine == null) return lines;
+    lines.add(firstLine);
     String line;
-    List<String> lines = new ArrayList<>();
     while ((line = reader.readLine()) != null) {
       lines.add(line);
     }
     return lines;
   }
+
+  // deltas positions are relative to the diffed lines, shift them to the position in the whole contents
+  private static List<Delta<String>> shift(List<Delta<String>> deltas, int lines) {
+    if (lines == 0) return deltas;
+    List<Delta<String>> shiftedDeltas = new ArrayList<>(deltas.size());
+    for (Delta<String> delta : deltas) {
+      Chunk<String> original = shift(delta.getOriginal(), lines);
+      Chunk<String> revised = shift(delta.getRevised(), lines);
+      switch (delta.getType()) {
+      case CHANGE:
+        shiftedDeltas.add(new ChangeDelta<>(original, revised));
+        break;
+      case DELETE:
+        shiftedDeltas.add(new DeleteDelta<>(original, revised));
+        break;
+      default:
+        shiftedDeltas.add(new InsertDelta<>(original, revised));
+      }
+    }
+    return shiftedDeltas;
+  }
+
+  private static Chunk<String> shift(Chunk<String> chunk, int lines) {
+    return new Chunk<>(chunk.getPosition() + lines, chunk.getLines());
+  }
 }
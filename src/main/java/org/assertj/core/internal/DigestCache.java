@@ -0,0 +1,256 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.move;
+import static java.nio.file.Files.newInputStream;
+import static java.nio.file.Files.newOutputStream;
+import static java.nio.file.Files.readAttributes;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Caches the digests of files so that assertions checking the digest of the same unchanged file do not hash it again.
+ * <p>
+ * A cached digest is only reused if the real path, size, last modified time and file key of the file as well as the digest
+ * algorithm are the same as when it was computed. Digests are kept in memory and, if a store directory is set, in one
+ * properties file per file and algorithm so that they are reused across JVMs.
+ * <p>
+ * The cache is disabled by default, see {@link Configuration#digestCacheEnabled()}.
+ *
+ * @since 3.21.0
+ */
+public class DigestCache {
+
+  // files modified more recently than this are not cached as their next update might not change their modification time
+  @VisibleForTesting
+  static final Duration MODIFICATION_TIME_PRECISION = Duration.ofSeconds(2);
+
+  private static final DigestCache INSTANCE = new DigestCache();
+
+  private static volatile boolean enabled = Configuration.DIGEST_CACHE_ENABLED;
+  private static volatile Path storeDirectory;
+
+  private final ConcurrentMap<String, CachedDigest> digests = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the singleton instance of this class.
+   *
+   * @return the singleton instance of this class.
+   */
+  public static DigestCache instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns whether the digests of files are cached.
+   *
+   * @return whether the digests of files are cached.
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Sets whether the digests of files are cached.
+   *
+   * @param enabled whether the digests of files are cached.
+   */
+  public static void setEnabled(boolean enabled) {
+    DigestCache.enabled = enabled;
+  }
+
+  /**
+   * Returns the directory where cached digests are stored, {@code null} if they are kept in memory only.
+   *
+   * @return the directory where cached digests are stored.
+   */
+  public static Path getStoreDirectory() {
+    return storeDirectory;
+  }
+
+  /**
+   * Sets the directory where cached digests are stored, {@code null} keeps them in memory only.
+   *
+   * @param storeDirectory the directory where cached digests are stored.
+   */
+  public static void setStoreDirectory(Path storeDirectory) {
+    DigestCache.storeDirectory = storeDirectory;
+  }
+
+  @VisibleForTesting
+  DigestCache() {}
+
+  @FunctionalInterface
+  interface Digester {
+    byte[] digest() throws IOException;
+  }
+
+  /**
+   * Returns the digest of the given file computed with the given algorithm, the given {@link Digester} is only called if
+   * the cache is disabled or if it does not hold the digest of the current version of the file.
+   */
+  byte[] digestOf(Path path, String algorithm, Digester digester) throws IOException {
+    if (!enabled) return digester.digest();
+    Path realPath = path.toRealPath();
+    String key = realPath + "\n" + algorithm;
+    FileState state = FileState.of(realPath);
+    CachedDigest cached = digests.get(key);
+    if (cached == null) cached = load(key);
+    if (cached != null && cached.state.equals(state)) return cached.digest.clone();
+    byte[] digest = digester.digest();
+    // the file might have been updated while it was hashed
+    if (state.isOldEnoughToBeCached() && state.equals(FileState.of(realPath))) {
+      CachedDigest computed = new CachedDigest(state, digest.clone());
+      digests.put(key, computed);
+      store(key, computed);
+    }
+    return digest;
+  }
+
+  // the store is a best effort optimization: unreadable entries are ignored and failing to store one is not an error
+
+  private static CachedDigest load(String key) {
+    Path directory = storeDirectory;
+    if (directory == null) return null;
+    Properties properties = new Properties();
+    try (InputStream input = newInputStream(storeFile(directory, key))) {
+      properties.load(input);
+      // guards against a hash collision of the store file names
+      if (!key.equals(properties.getProperty("key"))) return null;
+      FileState state = new FileState(Long.parseLong(properties.getProperty("size")),
+                                      Long.parseLong(properties.getProperty("lastModified")),
+                                      properties.getProperty("fileKey"));
+      return new CachedDigest(state, Digests.fromHex(properties.getProperty("digest")));
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static void store(String key, CachedDigest cachedDigest) {
+    Path directory = storeDirectory;
+    if (directory == null) return;
+    Properties properties = new Properties();
+    properties.setProperty("key", key);
+    properties.setProperty("size", String.valueOf(cachedDigest.state.size));
+    properties.setProperty("lastModified", String.valueOf(cachedDigest.state.lastModified));
+    properties.setProperty("fileKey", cachedDigest.state.fileKey);
+    properties.setProperty("digest", Digests.toHex(cachedDigest.digest));
+    Path temporaryFile = null;
+    try {
+      createDirectories(directory);
+      temporaryFile = createTempFile(directory, "digest", ".tmp");
+      try (OutputStream output = newOutputStream(temporaryFile)) {
+        properties.store(output, null);
+      }
+      // readers in other JVMs must never see a partially written entry
+      Path storeFile = storeFile(directory, key);
+      try {
+        move(temporaryFile, storeFile, REPLACE_EXISTING, ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        move(temporaryFile, storeFile, REPLACE_EXISTING);
+      }
+    } catch (IOException | RuntimeException e) {
+      // the digest is still cached in memory
+    } finally {
+      deleteQuietly(temporaryFile);
+    }
+  }
+
+  private static Path storeFile(Path directory, String key) {
+    try {
+      byte[] name = MessageDigest.getInstance("SHA-256").digest(key.getBytes(UTF_8));
+      return directory.resolve(Digests.toHex(name) + ".properties");
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform must support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    if (path == null) return;
+    try {
+      deleteIfExists(path);
+    } catch (IOException e) {
+      // leftover temporary files are harmless
+    }
+  }
+
+  private static class CachedDigest {
+    private final FileState state;
+    private final byte[] digest;
+
+    CachedDigest(FileState state, byte[] digest) {
+      this.state = state;
+      this.digest = digest;
+    }
+  }
+
+  private static class FileState {
+    private final long size;
+    private final long lastModified;
+    // the file key identifies the file whatever its path, it changes when a file is replaced by another one
+    private final String fileKey;
+
+    FileState(long size, long lastModified, String fileKey) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.fileKey = fileKey;
+    }
+
+    static FileState of(Path path) throws IOException {
+      BasicFileAttributes attributes = readAttributes(path, BasicFileAttributes.class);
+      return new FileState(attributes.size(), attributes.lastModifiedTime().to(NANOSECONDS),
+                           String.valueOf(attributes.fileKey()));
+    }
+
+    boolean isOldEnoughToBeCached() {
+      return MILLISECONDS.toNanos(System.currentTimeMillis()) - lastModified >= MODIFICATION_TIME_PRECISION.toNanos();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof FileState)) return false;
+      FileState other = (FileState) obj;
+      return size == other.size && lastModified == other.lastModified && fileKey.equals(other.fileKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(size) * 31 + Long.hashCode(lastModified);
+    }
+  }
+}
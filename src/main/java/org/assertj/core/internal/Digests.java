@@ -12,12 +12,27 @@
  */
 package org.assertj.core.internal;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.util.Hexadecimals.byteToHexString;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.assertj.core.util.VisibleForTesting;
 
 /**
  * Reusable utils for digest processing
@@ -27,6 +42,14 @@ import java.security.MessageDigest;
 public final class Digests {
 
   private static final int BUFFER_SIZE = 1024 * 8;
+  private static final int BLOCK_SIZE = 1024 * 1024;
+  // channels larger than this are read by another thread while the calling one hashes the blocks already read
+  @VisibleForTesting
+  static final long PIPELINE_THRESHOLD = 4L * BLOCK_SIZE;
+  // one block being read, one being hashed and a spare one so that the reading thread rarely waits
+  private static final int PIPELINE_BLOCKS = 3;
+  private static final ByteBuffer END_OF_CHANNEL = ByteBuffer.allocate(0);
+  private static final ByteBuffer STOP_READING = ByteBuffer.allocate(0);
 
   private Digests() {
   }
@@ -53,15 +76,136 @@ public final class Digests {
     requireNonNull(stream, "The stream should not be null");
     requireNonNull(messageDigest, "The digest should not be null");
     requireNonNull(expected, "The expected should not be null");
+    byte[] actualDigest = digestOf(stream, messageDigest);
+    String expectedHex = toHex(expected);
+    String actualHex = toHex(actualDigest);
+    return new DigestDiff(actualHex, expectedHex, messageDigest);
+  }
+
+  // the given stream is not closed
+  public static byte[] digestOf(InputStream stream, MessageDigest messageDigest) throws IOException {
     messageDigest.reset();
     byte[] buffer = new byte[BUFFER_SIZE];
     int len;
     while ((len = stream.read(buffer)) > 0) {
       messageDigest.update(buffer, 0, len);
     }
-    byte[] actualDigest = messageDigest.digest();
-    String expectedHex = toHex(expected);
-    String actualHex = toHex(actualDigest);
-    return new DigestDiff(actualHex, expectedHex, messageDigest);
+    return messageDigest.digest();
+  }
+
+  // digests the remaining bytes of the given buffer in place, its position is left untouched
+  public static byte[] digestOf(ByteBuffer buffer, MessageDigest messageDigest) {
+    messageDigest.reset();
+    messageDigest.update(buffer.duplicate());
+    return messageDigest.digest();
+  }
+
+  // the given channel is not closed, it is read with positional reads so its position is left untouched
+  public static byte[] digestOf(FileChannel channel, MessageDigest messageDigest) throws IOException {
+    messageDigest.reset();
+    long size = channel.size();
+    // a pool thread reads by itself as the reading task could be queued behind tasks waiting like it
+    if (size > PIPELINE_THRESHOLD && !ConcurrentTasks.isPoolThread()) return pipelinedDigestOf(channel, messageDigest);
+    ByteBuffer block = ByteBuffer.allocate((int) min(max(size, BUFFER_SIZE), BLOCK_SIZE));
+    long position = 0;
+    int read;
+    while ((read = channel.read(block, position)) >= 0) {
+      position += read;
+      block.flip();
+      messageDigest.update(block);
+      block.clear();
+    }
+    return messageDigest.digest();
+  }
+
+  private static byte[] pipelinedDigestOf(FileChannel channel, MessageDigest messageDigest) throws IOException {
+    // room for all the blocks and a marker in both queues so that adding to them never blocks
+    BlockingQueue<ByteBuffer> emptyBlocks = new ArrayBlockingQueue<>(PIPELINE_BLOCKS + 1);
+    BlockingQueue<ByteBuffer> readBlocks = new ArrayBlockingQueue<>(PIPELINE_BLOCKS + 1);
+    for (int i = 0; i < PIPELINE_BLOCKS; i++) {
+      emptyBlocks.add(ByteBuffer.allocate(BLOCK_SIZE));
+    }
+    AtomicBoolean stopped = new AtomicBoolean();
+    Future<Void> reading = ConcurrentTasks.submit(() -> readBlocks(channel, emptyBlocks, readBlocks, stopped));
+    try {
+      for (ByteBuffer block = readBlocks.take(); block != END_OF_CHANNEL; block = readBlocks.take()) {
+        messageDigest.update(block);
+        block.clear();
+        emptyBlocks.add(block);
+      }
+      // rethrows the error that stopped the reading thread if any
+      ConcurrentTasks.resultOf(reading);
+      return messageDigest.digest();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while computing a digest");
+    } finally {
+      // the reading thread is not interrupted as it would close the channel, it stops before its next read instead
+      stopped.set(true);
+      emptyBlocks.add(STOP_READING);
+    }
+  }
+
+  private static Void readBlocks(FileChannel channel, BlockingQueue<ByteBuffer> emptyBlocks,
+                                 BlockingQueue<ByteBuffer> readBlocks, AtomicBoolean stopped) throws IOException,
+                                                                                             InterruptedException {
+    try {
+      long position = 0;
+      int read = 0;
+      while (read >= 0) {
+        ByteBuffer block = emptyBlocks.take();
+        if (block == STOP_READING || stopped.get()) return null;
+        // fill the whole block to hash large blocks only
+        while (block.hasRemaining() && (read = channel.read(block, position)) >= 0) {
+          position += read;
+        }
+        block.flip();
+        readBlocks.add(block);
+      }
+      return null;
+    } finally {
+      readBlocks.add(END_OF_CHANNEL);
+    }
+  }
+
+  // the digests of the consecutive chunkSize bytes chunks of the given channel (the last one may be smaller) computed in
+  // parallel with positional reads, the given channel is not closed
+  public static List<byte[]> chunkDigestsOf(FileChannel channel, String algorithm, int chunkSize) throws IOException {
+    long size = channel.size();
+    int chunkCount = toIntExact((size + chunkSize - 1) / chunkSize);
+    if (chunkCount == 0) return new ArrayList<>();
+    List<Callable<byte[]>> chunkDigests = new ArrayList<>(chunkCount);
+    for (int i = 0; i < chunkCount; i++) {
+      long start = (long) i * chunkSize;
+      long end = min(start + chunkSize, size);
+      chunkDigests.add(() -> digestOf(channel, MessageDigest.getInstance(algorithm), start, end));
+    }
+    return ConcurrentTasks.invokeAll(chunkDigests);
+  }
+
+  // the indexes of the chunks whose digest differs from the expected hexadecimal one, the extra chunks of either side are
+  // not compared
+  static List<Integer> differingChunks(List<byte[]> actualDigests, List<String> expectedDigests) {
+    List<Integer> differingChunks = new ArrayList<>();
+    for (int i = 0; i < min(actualDigests.size(), expectedDigests.size()); i++) {
+      if (!toHex(actualDigests.get(i)).equalsIgnoreCase(expectedDigests.get(i))) differingChunks.add(i);
+    }
+    return differingChunks;
+  }
+
+  private static byte[] digestOf(FileChannel channel, MessageDigest messageDigest, long start, long end) throws IOException {
+    ByteBuffer block = ByteBuffer.allocate((int) min(end - start, BLOCK_SIZE));
+    long position = start;
+    while (position < end) {
+      block.clear();
+      block.limit((int) min(block.capacity(), end - position));
+      int read = channel.read(block, position);
+      // the channel was truncated after its size was read
+      if (read < 0) break;
+      position += read;
+      block.flip();
+      messageDigest.update(block);
+    }
+    return messageDigest.digest();
   }
 }
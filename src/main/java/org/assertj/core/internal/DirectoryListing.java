@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Math.max;
+import static java.lang.String.format;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Lists the content of directories to describe it in error messages without loading huge directories in memory: at most
+ * {@code maxReportedEntries} entries are kept, the listing stops after visiting {@code maxVisitedEntries} entries and the
+ * recursive listing does not go deeper than {@code maxDepth} levels.
+ * <p>
+ * The maximum depth and number of reported entries are given by {@link Configuration#directoryListingMaxDepth()} and
+ * {@link Configuration#directoryListingMaxReportedEntries()}, at least {@value #MAX_VISITED_ENTRIES} entries are visited.
+ *
+ * @since 3.21.0
+ */
+@VisibleForTesting
+public class DirectoryListing {
+
+  public static final long MAX_VISITED_ENTRIES = 100_000;
+
+  private final int maxDepth;
+  private final int maxReportedEntries;
+  private final long maxVisitedEntries;
+
+  @VisibleForTesting
+  DirectoryListing(int maxDepth, int maxReportedEntries, long maxVisitedEntries) {
+    checkArgument(maxDepth >= 1, "maxDepth must be >= 1, but was %s", maxDepth);
+    checkArgument(maxReportedEntries >= 1, "maxReportedEntries must be >= 1, but was %s", maxReportedEntries);
+    checkArgument(maxVisitedEntries >= maxReportedEntries,
+                  "maxVisitedEntries must be >= maxReportedEntries (%s), but was %s", maxReportedEntries, maxVisitedEntries);
+    this.maxDepth = maxDepth;
+    this.maxReportedEntries = maxReportedEntries;
+    this.maxVisitedEntries = maxVisitedEntries;
+  }
+
+  /**
+   * Returns a {@link DirectoryListing} with the limits of the registered configuration, they are read each time a directory
+   * listing is described so that changing them does not require {@link Configuration#apply()}.
+   */
+  static DirectoryListing fromConfiguration() {
+    Configuration configuration = CONFIGURATION_PROVIDER.configuration();
+    int maxReportedEntries = configuration.directoryListingMaxReportedEntries();
+    return new DirectoryListing(configuration.directoryListingMaxDepth(), maxReportedEntries,
+                                max(MAX_VISITED_ENTRIES, maxReportedEntries));
+  }
+
+  /**
+   * Returns the first entries, in iteration order, of the given directory entries.
+   */
+  <E, T> DirectoryListingResult<T> firstEntries(Iterator<? extends E> entries, Function<? super E, T> mapper) {
+    List<T> reportedEntries = new ArrayList<>();
+    long visitedEntryCount = 0;
+    while (entries.hasNext()) {
+      if (visitedEntryCount == maxVisitedEntries) return new DirectoryListingResult<>(reportedEntries, visitedEntryCount, false);
+      E entry = entries.next();
+      visitedEntryCount++;
+      if (reportedEntries.size() < maxReportedEntries) reportedEntries.add(mapper.apply(entry));
+    }
+    return new DirectoryListingResult<>(reportedEntries, visitedEntryCount, true);
+  }
+
+  /**
+   * Returns the smallest entries according to the given comparator of the recursive content of the given directory.
+   */
+  <T> DirectoryListingResult<T> sortedRecursiveContent(Path directory, Function<Path, T> mapper,
+                                                       Comparator<? super T> comparator) {
+    // the greatest kept entry is at the head to be replaced by a smaller one
+    PriorityQueue<T> smallestEntries = new PriorityQueue<>(maxReportedEntries + 1, comparator.reversed());
+    long visitedEntryCount = 0;
+    boolean complete = true;
+    try (Stream<Path> walk = Files.walk(directory, maxDepth)) {
+      Iterator<Path> entries = walk.filter(path -> !path.equals(directory)).iterator();
+      while (entries.hasNext()) {
+        if (visitedEntryCount == maxVisitedEntries) {
+          complete = false;
+          break;
+        }
+        smallestEntries.add(mapper.apply(entries.next()));
+        visitedEntryCount++;
+        if (smallestEntries.size() > maxReportedEntries) smallestEntries.poll();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(format("Unable to walk recursively the directory :<%s>", directory), e);
+    }
+    List<T> reportedEntries = new ArrayList<>(smallestEntries);
+    reportedEntries.sort(comparator);
+    return new DirectoryListingResult<>(reportedEntries, visitedEntryCount, complete);
+  }
+}
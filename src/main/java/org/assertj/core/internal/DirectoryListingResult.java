@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.List;
+
+/**
+ * Value class to hold the entries of a directory listed to be described in an error message: only the first entries are
+ * kept and the listing may have been stopped before visiting all the entries of huge directories.
+ *
+ * @param <T> the type of the listed entries.
+ * @since 3.21.0
+ */
+public class DirectoryListingResult<T> {
+
+  private final List<T> entries;
+  private final long visitedEntryCount;
+  private final boolean complete;
+
+  /**
+   * Builds a new instance.
+   *
+   * @param entries the entries kept to be reported.
+   * @param visitedEntryCount the number of entries visited by the listing.
+   * @param complete whether all the entries of the directory were visited.
+   */
+  public DirectoryListingResult(List<T> entries, long visitedEntryCount, boolean complete) {
+    this.entries = unmodifiableList(entries);
+    this.visitedEntryCount = visitedEntryCount;
+    this.complete = complete;
+  }
+
+  public List<T> getEntries() {
+    return entries;
+  }
+
+  public long getVisitedEntryCount() {
+    return visitedEntryCount;
+  }
+
+  public boolean isComplete() {
+    return complete;
+  }
+
+  public boolean isTruncated() {
+    return !complete || entries.size() < visitedEntryCount;
+  }
+}
@@ -20,6 +20,8 @@ import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.DeferredAssertionError;
+import org.assertj.core.api.ErrorCollector;
 import org.assertj.core.configuration.Configuration;
 import org.assertj.core.configuration.ConfigurationProvider;
 import org.assertj.core.description.Description;
@@ -122,6 +124,12 @@ public class Failures {
   public AssertionError failure(AssertionInfo info, ErrorMessageFactory messageFactory) {
     AssertionError error = failureIfErrorMessageIsOverridden(info);
     if (error != null) return error;
+    if (ErrorCollector.isDeferringErrorRenderingInCurrentThread()) {
+      // the error is collected past the soft assertions rendering limit, its message is only rendered when needed
+      printThreadDumpIfNeeded();
+      return new DeferredAssertionError(messageFactory, info.description(), info.representation(),
+                                        removeAssertJRelatedElementsFromStackTrace);
+    }
     String assertionErrorMessage = assertionErrorMessage(info, messageFactory);
     AssertionError assertionError = assertionErrorCreator.assertionError(assertionErrorMessage);
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
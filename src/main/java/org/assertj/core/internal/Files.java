@@ -13,7 +13,6 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static java.nio.file.Files.readAllBytes;
 import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -29,6 +28,7 @@ import static org.assertj.core.error.ShouldContain.directoryShouldContain;
 import static org.assertj.core.error.ShouldContainRecursively.directoryShouldContainRecursively;
 import static org.assertj.core.error.ShouldExist.shouldExist;
 import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
+import static org.assertj.core.error.ShouldHaveChunkDigests.shouldHaveChunkDigests;
 import static org.assertj.core.error.ShouldHaveContent.shouldHaveContent;
 import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
 import static org.assertj.core.error.ShouldHaveExtension.shouldHaveExtension;
@@ -40,14 +40,13 @@ import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldNotContain.directoryShouldNotContain;
 import static org.assertj.core.error.ShouldNotExist.shouldNotExist;
-import static org.assertj.core.internal.Digests.digestDiff;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.file.Path;
@@ -59,6 +58,7 @@ import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.data.ContentSampling;
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.core.util.diff.Delta;
 
@@ -90,6 +90,8 @@ public class Files {
   @VisibleForTesting
   BinaryDiff binaryDiff = new BinaryDiff();
   @VisibleForTesting
+  DigestCache digestCache = DigestCache.instance();
+  @VisibleForTesting
   Failures failures = Failures.instance();
   @VisibleForTesting
   NioFilesWrapper nioFilesWrapper = NioFilesWrapper.instance();
@@ -125,7 +127,7 @@ public class Files {
       try {
         // MalformedInputException is thrown by readLine() called in diff
         // compute a binary diff, if there is a binary diff, it it shows the offset of the malformed input
-        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
+        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
         if (binaryDiffResult.hasNoDiff()) {
           // fall back to the UncheckedIOException : not throwing an error is wrong as there was one in the first place.
           throw e;
@@ -155,13 +157,38 @@ public class Files {
     verifyIsFile(expected);
     assertIsFile(info, actual);
     try {
-      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
       if (binaryDiffResult.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult));
     } catch (IOException ioe) {
       throw new UncheckedIOException(format(UNABLE_TO_COMPARE_FILE_CONTENTS, actual, expected), ioe);
     }
   }
 
+  /**
+   * Asserts that the given files have the same binary content on the blocks selected by the given sampling.
+   * @param info contains information about the assertion.
+   * @param actual the "actual" file.
+   * @param expected the "expected" file.
+   * @param sampling the sampling of the compared blocks.
+   * @throws NullPointerException if {@code expected} or {@code sampling} is {@code null}.
+   * @throws IllegalArgumentException if {@code expected} is not an existing file.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if {@code actual} is not an existing file.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if the given files do not have the same size or same content on the sampled blocks.
+   */
+  public void assertSameBinaryContentAs(AssertionInfo info, File actual, File expected, ContentSampling sampling) {
+    requireNonNull(sampling, "The content sampling should not be null");
+    verifyIsFile(expected);
+    assertIsFile(info, actual);
+    try {
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual.toPath(), expected.toPath(), sampling);
+      if (binaryDiffResult.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult, sampling));
+    } catch (IOException ioe) {
+      throw new UncheckedIOException(format(UNABLE_TO_COMPARE_FILE_CONTENTS, actual, expected), ioe);
+    }
+  }
+
   /**
    * Asserts that the given file has the given binary content.
    * @param info contains information about the assertion.
@@ -436,14 +463,22 @@ public class Files {
     assertExists(info, actual);
     assertIsFile(info, actual);
     assertCanRead(info, actual);
-    try (InputStream actualStream = nioFilesWrapper.newInputStream(actual.toPath())) {
-      DigestDiff digestDiff = digestDiff(actualStream, digest, expected);
+    Path actualPath = actual.toPath();
+    try {
+      byte[] actualDigest = digestCache.digestOf(actualPath, digest.getAlgorithm(), () -> digestOf(actualPath, digest));
+      DigestDiff digestDiff = new DigestDiff(Digests.toHex(actualDigest), Digests.toHex(expected), digest);
       if (digestDiff.digestsDiffer()) throw failures.failure(info, shouldHaveDigest(actual, digestDiff));
     } catch (IOException e) {
       throw new UncheckedIOException(format("Unable to calculate digest of path:<%s>", actual), e);
     }
   }
 
+  private byte[] digestOf(Path path, MessageDigest digest) throws IOException {
+    try (FileChannel channel = nioFilesWrapper.newFileChannel(path)) {
+      return Digests.digestOf(channel, digest);
+    }
+  }
+
   public void assertHasDigest(AssertionInfo info, File actual, MessageDigest digest, String expected) {
     requireNonNull(expected, "The string representation of digest to compare to should not be null");
     assertHasDigest(info, actual, digest, Digests.fromHex(expected));
@@ -463,14 +498,37 @@ public class Files {
     assertHasDigest(info, actual, algorithm, Digests.fromHex(expected));
   }
 
+  public void assertHasChunkDigests(AssertionInfo info, File actual, String algorithm, int chunkSize,
+                                    List<String> expected) {
+    requireNonNull(algorithm, "The message digest algorithm should not be null");
+    checkArgument(chunkSize > 0, "The chunk size must be > 0, but was %s", chunkSize);
+    requireNonNull(expected, "The chunk digests to compare to should not be null");
+    assertExists(info, actual);
+    assertIsFile(info, actual);
+    assertCanRead(info, actual);
+    try {
+      MessageDigest.getInstance(algorithm);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(format("Unable to find digest implementation for: <%s>", algorithm), e);
+    }
+    try (FileChannel actualChannel = nioFilesWrapper.newFileChannel(actual.toPath())) {
+      List<byte[]> actualDigests = Digests.chunkDigestsOf(actualChannel, algorithm, chunkSize);
+      List<Integer> differingChunks = Digests.differingChunks(actualDigests, expected);
+      if (actualDigests.size() != expected.size() || !differingChunks.isEmpty())
+        throw failures.failure(info, shouldHaveChunkDigests(actual, algorithm, chunkSize, expected.size(), actualDigests.size(),
+                                                            differingChunks));
+    } catch (IOException e) {
+      throw new UncheckedIOException(format("Unable to calculate chunk digests of file:<%s>", actual), e);
+    }
+  }
+
   public void assertIsEmptyDirectory(AssertionInfo info, File actual) {
     List<File> files = directoryContent(info, actual);
     if (!files.isEmpty()) throw failures.failure(info, shouldBeEmptyDirectory(actual, files));
   }
 
   public void assertIsNotEmptyDirectory(AssertionInfo info, File actual) {
-    boolean isEmptyDirectory = directoryContent(info, actual).isEmpty();
-    if (isEmptyDirectory) throw failures.failure(info, shouldNotBeEmpty());
+    if (!directoryContainsAny(info, actual, ANY)) throw failures.failure(info, shouldNotBeEmpty());
   }
 
   public void assertIsDirectoryContaining(AssertionInfo info, File actual, Predicate<File> filter) {
@@ -523,13 +581,24 @@ public class Files {
     return list(items);
   }
 
+  private boolean directoryContainsAny(AssertionInfo info, File actual, Predicate<File> filter) {
+    assertIsDirectory(info, actual);
+    // java.io lists all the names anyway but no entry is collected and the filter is not called after the first match
+    boolean[] found = { false };
+    File[] items = actual.listFiles(file -> {
+      if (!found[0]) found[0] = filter.test(file);
+      return false;
+    });
+    requireNonNull(items, "Directory listing should not be null");
+    return found[0];
+  }
+
   private List<File> directoryContent(AssertionInfo info, File actual) {
     return filterDirectory(info, actual, ANY);
   }
 
   private void assertIsDirectoryContaining(AssertionInfo info, File actual, Predicate<File> filter, String filterPresentation) {
-    List<File> matchingFiles = filterDirectory(info, actual, filter);
-    if (matchingFiles.isEmpty()) {
+    if (!directoryContainsAny(info, actual, filter)) {
       throw failures.failure(info, directoryShouldContain(actual, directoryContentDescription(info, actual), filterPresentation));
     }
   }
@@ -542,8 +611,10 @@ public class Files {
     }
   }
 
-  private List<String> directoryContentDescription(AssertionInfo info, File actual) {
-    return toFileNames(directoryContent(info, actual));
+  private DirectoryListingResult<String> directoryContentDescription(AssertionInfo info, File actual) {
+    // java.io lists the whole directory, only the reported names are bounded
+    List<File> files = directoryContent(info, actual);
+    return DirectoryListing.fromConfiguration().firstEntries(files.iterator(), File::getName);
   }
 
   private boolean isDirectoryRecursivelyContaining(AssertionInfo info, File actual, Predicate<File> filter) {
@@ -553,11 +624,9 @@ public class Files {
     }
   }
 
-  private List<File> sortedRecursiveContent(File directory) {
-    try (Stream<File> fileStream = recursiveContentOf(directory)) {
-      return fileStream.sorted(comparing(File::getAbsolutePath))
-                       .collect(toList());
-    }
+  private DirectoryListingResult<File> sortedRecursiveContent(File directory) {
+    return DirectoryListing.fromConfiguration().sortedRecursiveContent(directory.toPath(), Path::toFile,
+                                                                       comparing(File::getAbsolutePath));
   }
 
   private Stream<File> recursiveContentOf(File directory) {
@@ -13,23 +13,34 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.error.ShouldBeEmpty.shouldBeEmpty;
+import static org.assertj.core.error.ShouldContainLine.shouldContainLine;
+import static org.assertj.core.error.ShouldHaveContentStartingWith.shouldHaveContentStartingWith;
 import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
 import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.error.ShouldHaveLineCount.shouldHaveLinesCount;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.internal.Digests.digestDiff;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.InsertDelta;
 
 /**
  * Reusable assertions for <code>{@link InputStream}</code>s.
@@ -123,16 +134,17 @@ public class InputStreams {
    * @param info contains information about the assertion.
    * @param actual the actual InputStream.
    * @param expected the expected String.
+   * @param charset the charset used to read the actual InputStream.
    * @throws NullPointerException if {@code expected} is {@code null}.
    * @throws AssertionError if {@code actual} is {@code null}.
    * @throws AssertionError if the given InputStream does not have the same content as the given String.
    * @throws InputStreamsException if an I/O error occurs.
    */
-  public void assertHasContent(AssertionInfo info, InputStream actual, String expected) {
+  public void assertHasContent(AssertionInfo info, InputStream actual, String expected, Charset charset) {
     requireNonNull(expected, "The String to compare to should not be null");
     assertNotNull(info, actual);
     try {
-      List<Delta<String>> diffs = diff.diff(actual, expected);
+      List<Delta<String>> diffs = diff.diff(actual, expected, charset);
       if (diffs.isEmpty()) return;
       throw failures.failure(info, shouldHaveSameContent(actual, expected, diffs));
     } catch (IOException e) {
@@ -163,6 +175,138 @@ public class InputStreams {
     }
   }
 
+  /**
+   * Asserts that the text content of the given InputStream starts with the given prefix, only the characters needed to
+   * compare with the prefix are read.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual InputStream.
+   * @param charset the charset used to read the actual InputStream.
+   * @param prefix the expected prefix.
+   * @throws NullPointerException if {@code charset} or {@code prefix} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the text content of the given InputStream does not start with the given prefix.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public void assertHasContentStartingWith(AssertionInfo info, InputStream actual, Charset charset, String prefix) {
+    requireNonNull(charset, "The charset should not be null");
+    requireNonNull(prefix, "The prefix to look for should not be null");
+    assertNotNull(info, actual);
+    try {
+      String actualPrefix = new TextScanner(actual, charset).read(prefix.length());
+      if (actualPrefix.equals(prefix)) return;
+      throw failures.failure(info, shouldHaveContentStartingWith(actual, charset, prefix, actualPrefix));
+    } catch (IOException e) {
+      throw new InputStreamsException(format("Unable to read contents of InputStream:%n  <%s>", actual), e);
+    }
+  }
+
+  /**
+   * Asserts that the text content of the given InputStream contains the given line, lines are read until the given one
+   * is found.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual InputStream.
+   * @param charset the charset used to read the actual InputStream.
+   * @param line the expected line, without line terminator.
+   * @throws NullPointerException if {@code charset} or {@code line} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if none of the lines of the given InputStream is equal to the given one.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public void assertContainsLine(AssertionInfo info, InputStream actual, Charset charset, String line) {
+    requireNonNull(charset, "The charset should not be null");
+    requireNonNull(line, "The line to look for should not be null");
+    assertNotNull(info, actual);
+    try {
+      TextScanner scanner = new TextScanner(actual, charset);
+      long lineCount = 0;
+      String actualLine;
+      while ((actualLine = scanner.nextLine()) != null) {
+        if (actualLine.equals(line)) return;
+        lineCount++;
+      }
+      throw failures.failure(info, shouldContainLine(actual, charset, line, lineCount));
+    } catch (IOException e) {
+      throw new InputStreamsException(format("Unable to read contents of InputStream:%n  <%s>", actual), e);
+    }
+  }
+
+  /**
+   * Asserts that the text content of the given InputStream has the given number of lines, lines are counted without
+   * being built and counting stops as soon as the expected number is exceeded.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual InputStream.
+   * @param charset the charset used to read the actual InputStream.
+   * @param expectedLineCount the expected number of lines.
+   * @throws NullPointerException if {@code charset} is {@code null}.
+   * @throws IllegalArgumentException if {@code expectedLineCount} is negative.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the given InputStream does not have the expected number of lines.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public void assertHasLineCount(AssertionInfo info, InputStream actual, Charset charset, long expectedLineCount) {
+    requireNonNull(charset, "The charset should not be null");
+    checkArgument(expectedLineCount >= 0, "The expected line count should be >= 0, but was %s", expectedLineCount);
+    assertNotNull(info, actual);
+    try {
+      // counting one line past the expected count is enough to know that there are too many lines
+      long maxLineCount = expectedLineCount == Long.MAX_VALUE ? Long.MAX_VALUE : expectedLineCount + 1;
+      long lineCount = new TextScanner(actual, charset).countLines(maxLineCount);
+      if (lineCount == expectedLineCount) return;
+      throw failures.failure(info, shouldHaveLinesCount(actual, charset, lineCount, expectedLineCount));
+    } catch (IOException e) {
+      throw new InputStreamsException(format("Unable to read contents of InputStream:%n  <%s>", actual), e);
+    }
+  }
+
+  /**
+   * Asserts that the lines of the given InputStreams are equal, both InputStreams being read with the given charset.
+   * <p>
+   * Unlike {@link #assertSameContentAs(AssertionInfo, InputStream, InputStream)}, the comparison stops at the first
+   * different line which is the only difference reported.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual InputStream.
+   * @param charset the charset used to read both InputStreams.
+   * @param expected the expected InputStream.
+   * @throws NullPointerException if {@code charset} or {@code expected} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the lines of the given InputStreams differ.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public void assertMatchesLinesOf(AssertionInfo info, InputStream actual, Charset charset, InputStream expected) {
+    requireNonNull(charset, "The charset should not be null");
+    requireNonNull(expected, "The InputStream to compare to should not be null");
+    assertNotNull(info, actual);
+    try {
+      TextScanner actualScanner = new TextScanner(actual, charset);
+      TextScanner expectedScanner = new TextScanner(expected, charset);
+      for (int position = 0;; position++) {
+        String actualLine = actualScanner.nextLine();
+        String expectedLine = expectedScanner.nextLine();
+        if (actualLine == null && expectedLine == null) return;
+        if (actualLine == null || !actualLine.equals(expectedLine)) {
+          List<Delta<String>> diffs = singletonList(firstDifference(position, actualLine, expectedLine));
+          throw failures.failure(info, shouldHaveSameContent(actual, expected, diffs));
+        }
+      }
+    } catch (IOException e) {
+      String msg = format("Unable to compare contents of InputStreams:%n  <%s>%nand:%n  <%s>", actual, expected);
+      throw new InputStreamsException(msg, e);
+    }
+  }
+
+  // deltas go from expected to actual as the ones computed by Diff
+  private static Delta<String> firstDifference(int position, String actualLine, String expectedLine) {
+    Chunk<String> original = new Chunk<>(position, expectedLine == null ? emptyList() : singletonList(expectedLine));
+    Chunk<String> revised = new Chunk<>(position, actualLine == null ? emptyList() : singletonList(actualLine));
+    if (actualLine == null) return new DeleteDelta<>(original, revised);
+    if (expectedLine == null) return new InsertDelta<>(original, revised);
+    return new ChangeDelta<>(original, revised);
+  }
+
   private static void assertNotNull(AssertionInfo info, InputStream stream) {
     Objects.instance().assertNotNull(info, stream);
   }
@@ -14,6 +14,7 @@ package org.assertj.core.internal;
 
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
+import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
@@ -126,6 +127,8 @@ public class Iterables {
   Conditions conditions = Conditions.instance();
   @VisibleForTesting
   Predicates predicates = Predicates.instance();
+  @VisibleForTesting
+  ParallelIterableEvaluator evaluator = ParallelIterableEvaluator.instance();
 
   /**
    * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
@@ -358,6 +361,12 @@ public class Iterables {
     return comparisonStrategy.iterableContains(actual, value);
   }
 
+  private boolean containsNull(Iterable<?> actual) {
+    // a custom comparison strategy could consider null equal to some non null elements
+    if (comparisonStrategy instanceof StandardComparisonStrategy) return evaluator.anyMatch(actual, element -> isNull(element));
+    return iterableContains(actual, null);
+  }
+
   private void iterablesRemoveFirst(Iterable<?> actual, Object value) {
     comparisonStrategy.iterablesRemoveFirst(actual, value);
   }
@@ -825,7 +834,7 @@ public class Iterables {
    */
   public void assertDoesNotContainNull(AssertionInfo info, Iterable<?> actual) {
     assertNotNull(info, actual);
-    if (iterableContains(actual, null)) throw failures.failure(info, shouldNotContainNull(actual));
+    if (containsNull(actual)) throw failures.failure(info, shouldNotContainNull(actual));
   }
 
   /**
@@ -1273,7 +1282,7 @@ public class Iterables {
                                  PredicateDescription predicateDescription) {
     assertNotNull(info, actual);
     predicates.assertIsNotNull(predicate);
-    List<? extends E> nonMatches = stream(actual).filter(predicate.negate()).collect(toList());
+    List<? extends E> nonMatches = evaluator.nonMatching(actual, predicate);
 
     if (!nonMatches.isEmpty()) {
       throw failures.failure(info, elementsShouldMatch(actual,
@@ -1307,21 +1316,18 @@ public class Iterables {
                                  PredicateDescription predicateDescription) {
     assertNotNull(info, actual);
     predicates.assertIsNotNull(predicate);
-    stream(actual).filter(predicate)
-                  .findFirst()
-                  .orElseThrow(() -> failures.failure(info, anyElementShouldMatch(actual, predicateDescription)));
+    if (!evaluator.anyMatch(actual, predicate))
+      throw failures.failure(info, anyElementShouldMatch(actual, predicateDescription));
   }
 
   public <E> void assertNoneMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
                                   PredicateDescription predicateDescription) {
     assertNotNull(info, actual);
     predicates.assertIsNotNull(predicate);
-    stream(actual).filter(predicate)
-                  .findFirst()
-                  .ifPresent(e -> {
-                    throw failures.failure(info, noElementsShouldMatch(actual, e,
-                                                                       predicateDescription));
-                  });
+    evaluator.firstMatching(actual, predicate)
+             .ifPresent(e -> {
+               throw failures.failure(info, noElementsShouldMatch(actual, e, predicateDescription));
+             });
   }
 
   /**
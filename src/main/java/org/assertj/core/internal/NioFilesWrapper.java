@@ -14,11 +14,13 @@ package org.assertj.core.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.function.Predicate;
 
 /**
@@ -74,6 +76,10 @@ public class NioFilesWrapper {
     return Files.newInputStream(path, options);
   }
 
+  public FileChannel newFileChannel(Path path) throws IOException {
+    return FileChannel.open(path, StandardOpenOption.READ);
+  }
+
   public DirectoryStream<Path> newDirectoryStream(Path path, Predicate<Path> matcher) throws IOException {
     return Files.newDirectoryStream(path, matcher::test);
   }
@@ -18,9 +18,7 @@ import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
 import static java.util.Objects.deepEquals;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
 import static org.assertj.core.error.ShouldBeEqualByComparingFieldByFieldRecursively.shouldBeEqualByComparingFieldByFieldRecursive;
 import static org.assertj.core.error.ShouldBeEqualByComparingOnlyGivenFields.shouldBeEqualComparingOnlyGivenFields;
@@ -58,7 +56,6 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
@@ -71,6 +68,7 @@ import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.error.GroupTypeDescription;
 import org.assertj.core.internal.DeepDifference.Difference;
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.introspection.ClassMetadata;
 import org.assertj.core.util.introspection.FieldSupport;
 import org.assertj.core.util.introspection.IntrospectionError;
 import org.assertj.core.util.introspection.PropertyOrFieldSupport;
@@ -814,37 +812,12 @@ public class Objects {
    */
   public static Set<Field> getDeclaredFieldsIncludingInherited(Class<?> clazz) {
     requireNonNull(clazz, "expecting Class parameter not to be null");
-    Set<Field> declaredFields = getDeclaredFieldsIgnoringSyntheticAndStatic(clazz);
-    // get fields declared in superclass
-    Class<?> superclazz = clazz.getSuperclass();
-    while (superclazz != null && !superclazz.getName().startsWith("java.lang")) {
-      declaredFields.addAll(getDeclaredFieldsIgnoringSyntheticAndStatic(superclazz));
-      superclazz = superclazz.getSuperclass();
-    }
-    return declaredFields;
+    // copy the cached fields as callers are allowed to modify the returned set
+    return new LinkedHashSet<>(ClassMetadata.of(clazz).getDeclaredFieldsIncludingInherited());
   }
 
   public static Set<String> getFieldsNames(Class<?> clazz) {
-    return getDeclaredFieldsIncludingInherited(clazz).stream()
-                                                     .map(Field::getName)
-                                                     .collect(toSet());
-  }
-
-  /**
-   * Returns the declared fields of a given class excluding any synthetic or static fields.
-   * <p>
-   * Synthetic fields are fields that are generated by the compiler for access purposes, or by instrumentation tools e.g. JaCoCo adds in a $jacocoData field
-   * and therefore should be ignored when comparing fields.
-   * <p>
-   * Static fields are used as constants, and are not associated with an object.
-   *
-   * @param clazz the class we want the declared fields.
-   * @return the declared fields of given class excluding any synthetic fields.
-   */
-  private static Set<Field> getDeclaredFieldsIgnoringSyntheticAndStatic(Class<?> clazz) {
-    return stream(clazz.getDeclaredFields()).filter(field -> !(field.isSynthetic()
-                                                               || Modifier.isStatic(field.getModifiers())))
-                                            .collect(toCollection(LinkedHashSet::new));
+    return ClassMetadata.of(clazz).getFieldsNames();
   }
 
   public boolean areEqualToIgnoringGivenFields(Object actual, Object other,
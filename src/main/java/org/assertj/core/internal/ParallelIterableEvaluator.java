@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.util.Streams;
+
+/**
+ * Evaluates predicates over the elements of an {@link Iterable}.
+ * <p>
+ * {@link Collection}s having at least {@link #getParallelEvaluationThreshold()} elements are evaluated in parallel: their
+ * {@link Spliterator} is recursively split with {@link Spliterator#trySplit()} and the resulting chunks are evaluated
+ * in the common fork-join pool, other iterables are evaluated serially.
+ * <p>
+ * Results are always reported in encounter order so that error messages are the same whatever the evaluation mode is.
+ * Parallel evaluation is disabled by default as the predicates given by users are not required to be thread safe.
+ *
+ * @since 3.21.0
+ */
+public class ParallelIterableEvaluator {
+
+  private static final ParallelIterableEvaluator INSTANCE = new ParallelIterableEvaluator();
+
+  private static volatile int parallelEvaluationThreshold = Configuration.PARALLEL_EVALUATION_THRESHOLD;
+
+  /**
+   * Returns the singleton instance of this class.
+   *
+   * @return the singleton instance of this class.
+   */
+  public static ParallelIterableEvaluator instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the minimum size a {@link Collection} must have to be evaluated in parallel, {@code 0} meaning that parallel
+   * evaluation is disabled.
+   *
+   * @return the minimum size a {@link Collection} must have to be evaluated in parallel.
+   */
+  public static int getParallelEvaluationThreshold() {
+    return parallelEvaluationThreshold;
+  }
+
+  /**
+   * Sets the minimum size a {@link Collection} must have to be evaluated in parallel, {@code 0} disables parallel
+   * evaluation.
+   *
+   * @param threshold the minimum size a {@link Collection} must have to be evaluated in parallel.
+   * @throws IllegalArgumentException if the given threshold is negative.
+   */
+  public static void setParallelEvaluationThreshold(int threshold) {
+    checkArgument(threshold >= 0, "parallelEvaluationThreshold must be >= 0, but was %s", threshold);
+    parallelEvaluationThreshold = threshold;
+  }
+
+  /**
+   * Returns the elements of the given {@code Iterable} not matching the given predicate, in encounter order.
+   *
+   * @param <E> the type of the elements.
+   * @param actual the given {@code Iterable}.
+   * @param predicate the predicate to evaluate.
+   * @return the elements not matching the given predicate.
+   */
+  public <E> List<E> nonMatching(Iterable<? extends E> actual, Predicate<? super E> predicate) {
+    return this.<E> stream(actual).filter(predicate.negate()).collect(toList());
+  }
+
+  /**
+   * Returns whether any element of the given {@code Iterable} matches the given predicate, the evaluation stops as soon
+   * as a matching element is found.
+   *
+   * @param <E> the type of the elements.
+   * @param actual the given {@code Iterable}.
+   * @param predicate the predicate to evaluate.
+   * @return whether any element matches the given predicate.
+   */
+  public <E> boolean anyMatch(Iterable<? extends E> actual, Predicate<? super E> predicate) {
+    return this.<E> stream(actual).anyMatch(predicate);
+  }
+
+  /**
+   * Returns the first element in encounter order of the given {@code Iterable} matching the given predicate.
+   *
+   * @param <E> the type of the elements.
+   * @param actual the given {@code Iterable}.
+   * @param predicate the predicate to evaluate.
+   * @return the first element matching the given predicate if any.
+   */
+  public <E> Optional<E> firstMatching(Iterable<? extends E> actual, Predicate<? super E> predicate) {
+    return this.<E> stream(actual).filter(predicate).findFirst();
+  }
+
+  boolean shouldEvaluateInParallel(Iterable<?> actual) {
+    return parallelEvaluationThreshold > 0
+           && actual instanceof Collection
+           && ((Collection<?>) actual).size() >= parallelEvaluationThreshold;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <E> Stream<E> stream(Iterable<? extends E> actual) {
+    if (shouldEvaluateInParallel(actual)) return StreamSupport.stream((Spliterator<E>) actual.spliterator(), true);
+    return Streams.stream((Iterable<E>) actual);
+  }
+}
@@ -13,11 +13,13 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static java.nio.file.Files.readAllBytes;
 import static java.nio.file.Files.walk;
+import static java.util.Comparator.naturalOrder;
 import static java.util.Objects.requireNonNull;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
+import static org.assertj.core.error.ShouldAllHaveSameBinaryContent.shouldAllHaveSameBinaryContent;
 import static org.assertj.core.error.ShouldBeAbsolutePath.shouldBeAbsolutePath;
 import static org.assertj.core.error.ShouldBeCanonicalPath.shouldBeCanonicalPath;
 import static org.assertj.core.error.ShouldBeDirectory.shouldBeDirectory;
@@ -36,22 +38,25 @@ import static org.assertj.core.error.ShouldEndWithPath.shouldEndWith;
 import static org.assertj.core.error.ShouldExist.shouldExist;
 import static org.assertj.core.error.ShouldExist.shouldExistNoFollowLinks;
 import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
+import static org.assertj.core.error.ShouldHaveChunkDigests.shouldHaveChunkDigests;
 import static org.assertj.core.error.ShouldHaveContent.shouldHaveContent;
 import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
 import static org.assertj.core.error.ShouldHaveName.shouldHaveName;
 import static org.assertj.core.error.ShouldHaveNoParent.shouldHaveNoParent;
 import static org.assertj.core.error.ShouldHaveParent.shouldHaveParent;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.core.error.ShouldHaveSameTreeContent.shouldHaveSameTreeContent;
 import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldNotContain.directoryShouldNotContain;
 import static org.assertj.core.error.ShouldNotExist.shouldNotExist;
 import static org.assertj.core.error.ShouldStartWithPath.shouldStartWith;
+import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.DirectoryStream;
 import java.nio.file.LinkOption;
@@ -59,12 +64,17 @@ import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.exception.PathsException;
+import org.assertj.core.data.ContentSampling;
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.core.util.diff.Delta;
 
@@ -89,6 +99,12 @@ public class Paths {
   @VisibleForTesting
   BinaryDiff binaryDiff = new BinaryDiff();
   @VisibleForTesting
+  ConcurrentBinaryDiff concurrentBinaryDiff = new ConcurrentBinaryDiff();
+  @VisibleForTesting
+  TreeDiff treeDiff = new TreeDiff();
+  @VisibleForTesting
+  DigestCache digestCache = DigestCache.instance();
+  @VisibleForTesting
   Failures failures = Failures.instance();
 
   private final NioFilesWrapper nioFilesWrapper;
@@ -320,13 +336,89 @@ public class Paths {
     checkArgument(nioFilesWrapper.isReadable(expected), "The given Path <%s> to compare actual content to should be readable",
                   expected);
     try {
-      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected));
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
       if (binaryDiffResult.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult));
     } catch (IOException ioe) {
       throw new UncheckedIOException(format(UNABLE_TO_COMPARE_PATH_CONTENTS, actual, expected), ioe);
     }
   }
 
+  public void assertHasSameBinaryContentAs(AssertionInfo info, Path actual, Path expected, ContentSampling sampling) {
+    requireNonNull(expected, "The given Path to compare actual content to should not be null");
+    requireNonNull(sampling, "The content sampling should not be null");
+    assertIsReadable(info, actual);
+    checkArgument(nioFilesWrapper.exists(expected), "The given Path <%s> to compare actual content to should exist", expected);
+    checkArgument(nioFilesWrapper.isReadable(expected), "The given Path <%s> to compare actual content to should be readable",
+                  expected);
+    try {
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected, sampling);
+      if (binaryDiffResult.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult, sampling));
+    } catch (IOException ioe) {
+      throw new UncheckedIOException(format(UNABLE_TO_COMPARE_PATH_CONTENTS, actual, expected), ioe);
+    }
+  }
+
+  public void assertAllHaveSameBinaryContentAs(AssertionInfo info, Iterable<? extends Path> actual, Path expectedDirectory) {
+    requireNonNull(expectedDirectory, "The given directory to compare actual contents to should not be null");
+    checkArgument(nioFilesWrapper.isDirectory(expectedDirectory),
+                  "The given Path <%s> to compare actual contents to should be an existing directory", expectedDirectory);
+    Objects.instance().assertNotNull(info, actual);
+    List<Path> actualPaths = newArrayList(actual);
+    // paths sharing a file name can't be told apart from their golden, none of them is compared
+    Map<Path, Integer> fileNameCounts = new HashMap<>();
+    for (Path path : actualPaths) {
+      if (path.getFileName() != null) fileNameCounts.merge(path.getFileName(), 1, Integer::sum);
+    }
+    List<Path> unreadable = new ArrayList<>();
+    List<Path> sharingFileName = new ArrayList<>();
+    List<Path> withoutExpected = new ArrayList<>();
+    List<Path> actualToCompare = new ArrayList<>();
+    List<Path> expectedToCompare = new ArrayList<>();
+    for (Path path : actualPaths) {
+      Path fileName = path.getFileName();
+      // a path without file name, like a root, can't be a regular file
+      if (fileName == null || !nioFilesWrapper.isRegularFile(path) || !nioFilesWrapper.isReadable(path)) {
+        unreadable.add(path);
+        continue;
+      }
+      if (fileNameCounts.get(fileName) > 1) {
+        sharingFileName.add(path);
+        continue;
+      }
+      Path expected = expectedDirectory.resolve(fileName.toString());
+      if (!nioFilesWrapper.isRegularFile(expected) || !nioFilesWrapper.isReadable(expected)) withoutExpected.add(path);
+      else {
+        actualToCompare.add(path);
+        expectedToCompare.add(expected);
+      }
+    }
+    Map<Path, BinaryDiffResult> differing = new LinkedHashMap<>();
+    try {
+      List<BinaryDiffResult> results = concurrentBinaryDiff.diff(actualToCompare, expectedToCompare);
+      for (int i = 0; i < results.size(); i++) {
+        if (results.get(i).hasDiff()) differing.put(actualToCompare.get(i), results.get(i));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(format("Unable to compare contents of paths to the ones in:<%s>", expectedDirectory), e);
+    }
+    if (unreadable.isEmpty() && sharingFileName.isEmpty() && withoutExpected.isEmpty() && differing.isEmpty()) return;
+    throw failures.failure(info, shouldAllHaveSameBinaryContent(actualPaths.size(), expectedDirectory, unreadable,
+                                                                sharingFileName, withoutExpected, differing));
+  }
+
+  public void assertHasSameTreeContentAs(AssertionInfo info, Path actual, Path expected) {
+    requireNonNull(expected, "The given Path to compare actual tree to should not be null");
+    checkArgument(nioFilesWrapper.isDirectory(expected),
+                  "The given Path <%s> to compare actual tree to should be an existing directory", expected);
+    assertIsDirectory(info, actual);
+    try {
+      TreeDiffResult treeDiffResult = treeDiff.diff(actual, expected);
+      if (treeDiffResult.hasDiff()) throw failures.failure(info, shouldHaveSameTreeContent(actual, expected, treeDiffResult));
+    } catch (IOException e) {
+      throw new UncheckedIOException(format(UNABLE_TO_COMPARE_PATH_CONTENTS, actual, expected), e);
+    }
+  }
+
   public void assertHasSameContentAs(AssertionInfo info, Path actual, Charset actualCharset, Path expected,
                                      Charset expectedCharset) {
     requireNonNull(expected, "The given Path to compare actual content to should not be null");
@@ -348,14 +440,21 @@ public class Paths {
     requireNonNull(expected, "The binary representation of digest to compare to should not be null");
     assertIsRegularFile(info, actual);
     assertIsReadable(info, actual);
-    try (InputStream actualStream = nioFilesWrapper.newInputStream(actual)) {
-      DigestDiff diff = Digests.digestDiff(actualStream, digest, expected);
+    try {
+      byte[] actualDigest = digestCache.digestOf(actual, digest.getAlgorithm(), () -> digestOf(actual, digest));
+      DigestDiff diff = new DigestDiff(Digests.toHex(actualDigest), Digests.toHex(expected), digest);
       if (diff.digestsDiffer()) throw failures.failure(info, shouldHaveDigest(actual, diff));
     } catch (IOException e) {
       throw new UncheckedIOException(format("Unable to calculate digest of path:<%s>", actual), e);
     }
   }
 
+  private byte[] digestOf(Path path, MessageDigest digest) throws IOException {
+    try (FileChannel channel = nioFilesWrapper.newFileChannel(path)) {
+      return Digests.digestOf(channel, digest);
+    }
+  }
+
   public void assertHasDigest(AssertionInfo info, Path actual, MessageDigest digest, String expected) {
     requireNonNull(expected, "The string representation of digest to compare to should not be null");
     assertHasDigest(info, actual, digest, Digests.fromHex(expected));
@@ -375,6 +474,29 @@ public class Paths {
     assertHasDigest(info, actual, algorithm, Digests.fromHex(expected));
   }
 
+  public void assertHasChunkDigests(AssertionInfo info, Path actual, String algorithm, int chunkSize,
+                                    List<String> expected) {
+    requireNonNull(algorithm, "The message digest algorithm should not be null");
+    checkArgument(chunkSize > 0, "The chunk size must be > 0, but was %s", chunkSize);
+    requireNonNull(expected, "The chunk digests to compare to should not be null");
+    assertIsRegularFile(info, actual);
+    assertIsReadable(info, actual);
+    try {
+      MessageDigest.getInstance(algorithm);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(format("Unable to find digest implementation for: <%s>", algorithm), e);
+    }
+    try (FileChannel actualChannel = nioFilesWrapper.newFileChannel(actual)) {
+      List<byte[]> actualDigests = Digests.chunkDigestsOf(actualChannel, algorithm, chunkSize);
+      List<Integer> differingChunks = Digests.differingChunks(actualDigests, expected);
+      if (actualDigests.size() != expected.size() || !differingChunks.isEmpty())
+        throw failures.failure(info, shouldHaveChunkDigests(actual, algorithm, chunkSize, expected.size(), actualDigests.size(),
+                                                            differingChunks));
+    } catch (IOException e) {
+      throw new UncheckedIOException(format("Unable to calculate chunk digests of path:<%s>", actual), e);
+    }
+  }
+
   public void assertIsDirectoryContaining(AssertionInfo info, Path actual, Predicate<Path> filter) {
     requireNonNull(filter, "The paths filter should not be null");
     assertIsDirectoryContaining(info, actual, filter, "the given filter");
@@ -415,8 +537,7 @@ public class Paths {
   }
 
   public void assertIsNotEmptyDirectory(AssertionInfo info, Path actual) {
-    boolean isEmptyDirectory = directoryContent(info, actual).isEmpty();
-    if (isEmptyDirectory) throw failures.failure(info, shouldNotBeEmpty());
+    if (!directoryContainsAny(info, actual, ANY)) throw failures.failure(info, shouldNotBeEmpty());
   }
 
   public static List<String> toPathNames(List<Path> files) {
@@ -436,13 +557,22 @@ public class Paths {
     }
   }
 
+  // stops listing the directory at the first matching entry
+  private boolean directoryContainsAny(AssertionInfo info, Path actual, Predicate<Path> filter) {
+    assertIsDirectory(info, actual);
+    try (DirectoryStream<Path> stream = nioFilesWrapper.newDirectoryStream(actual, filter)) {
+      return stream.iterator().hasNext();
+    } catch (IOException e) {
+      throw new UncheckedIOException(format("Unable to list directory content: <%s>", actual), e);
+    }
+  }
+
   private List<Path> directoryContent(AssertionInfo info, Path actual) {
     return filterDirectory(info, actual, ANY);
   }
 
   private void assertIsDirectoryContaining(AssertionInfo info, Path actual, Predicate<Path> filter, String filterPresentation) {
-    List<Path> matchingFiles = filterDirectory(info, actual, filter);
-    if (matchingFiles.isEmpty()) {
+    if (!directoryContainsAny(info, actual, filter)) {
       throw failures.failure(info, directoryShouldContain(actual, directoryContentDescription(info, actual), filterPresentation));
     }
   }
@@ -454,10 +584,8 @@ public class Paths {
     }
   }
 
-  private List<Path> sortedRecursiveContent(Path path) {
-    try (Stream<Path> pathContent = recursiveContentOf(path)) {
-      return pathContent.sorted().collect(toList());
-    }
+  private DirectoryListingResult<Path> sortedRecursiveContent(Path path) {
+    return DirectoryListing.fromConfiguration().sortedRecursiveContent(path, identity(), naturalOrder());
   }
 
   private Stream<Path> recursiveContentOf(Path directory) {
@@ -483,8 +611,13 @@ public class Paths {
     }
   }
 
-  private List<String> directoryContentDescription(AssertionInfo info, Path actual) {
-    return toPathNames(directoryContent(info, actual));
+  private DirectoryListingResult<String> directoryContentDescription(AssertionInfo info, Path actual) {
+    assertIsDirectory(info, actual);
+    try (DirectoryStream<Path> stream = nioFilesWrapper.newDirectoryStream(actual, ANY)) {
+      return DirectoryListing.fromConfiguration().firstEntries(stream.iterator(), Path::toString);
+    } catch (IOException e) {
+      throw new UncheckedIOException(format("Unable to list directory content: <%s>", actual), e);
+    }
   }
 
   private PathMatcher pathMatcher(AssertionInfo info, Path actual, String syntaxAndPattern) {
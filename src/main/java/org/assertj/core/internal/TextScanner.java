@@ -0,0 +1,171 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.charset.CodingErrorAction.REPLACE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * Reads the text of an {@link InputStream} incrementally: bytes are decoded with a single {@link CharsetDecoder} through
+ * fixed size buffers so that only what callers ask for (a prefix, a line) is ever turned into a {@code String}.
+ * <p>
+ * Lines are terminated by {@code \n}, {@code \r} or {@code \r\n} as with {@link java.io.BufferedReader#readLine()},
+ * malformed or unmappable input is replaced as with {@link String#String(byte[], Charset)}.
+ */
+class TextScanner {
+
+  static final int BUFFER_SIZE = 8192;
+
+  private final InputStream stream;
+  private final CharsetDecoder decoder;
+  // both buffers are kept ready to be read from
+  private final ByteBuffer bytes;
+  private final CharBuffer chars;
+  private boolean endOfInput;
+  private boolean flushed;
+  private boolean skipLineFeed;
+
+  TextScanner(InputStream stream, Charset charset) {
+    this(stream, charset, BUFFER_SIZE);
+  }
+
+  TextScanner(InputStream stream, Charset charset, int bufferSize) {
+    this.stream = stream;
+    this.decoder = charset.newDecoder().onMalformedInput(REPLACE).onUnmappableCharacter(REPLACE);
+    this.bytes = ByteBuffer.allocate(bufferSize);
+    this.chars = CharBuffer.allocate(bufferSize);
+    bytes.flip();
+    chars.flip();
+  }
+
+  /**
+   * Reads at most {@code length} characters.
+   *
+   * @param length the maximum number of characters to read.
+   * @return the characters read, less than {@code length} only if the end of the text was reached.
+   * @throws IOException if the stream could not be read.
+   */
+  String read(int length) throws IOException {
+    StringBuilder text = new StringBuilder(Math.min(length, chars.capacity()));
+    while (text.length() < length && hasRemaining()) {
+      int count = Math.min(length - text.length(), chars.remaining());
+      text.append(chars.array(), chars.position(), count);
+      chars.position(chars.position() + count);
+    }
+    return text.toString();
+  }
+
+  /**
+   * Reads the next line.
+   *
+   * @return the next line without its terminator, or {@code null} if the end of the text was reached.
+   * @throws IOException if the stream could not be read.
+   */
+  String nextLine() throws IOException {
+    StringBuilder line = null;
+    while (hasRemaining()) {
+      if (skipLineFeed) {
+        skipLineFeed = false;
+        if (chars.get(chars.position()) == '\n') {
+          chars.get();
+          continue;
+        }
+      }
+      int start = chars.position();
+      while (chars.hasRemaining()) {
+        char c = chars.get();
+        if (c == '\n' || c == '\r') {
+          skipLineFeed = c == '\r';
+          return append(line, start, chars.position() - 1).toString();
+        }
+      }
+      line = append(line, start, chars.position());
+    }
+    return line == null ? null : line.toString();
+  }
+
+  /**
+   * Counts the remaining lines without building them, stopping as soon as {@code maxLines} lines were counted.
+   *
+   * @param maxLines the number of lines after which counting stops.
+   * @return the number of remaining lines if less than {@code maxLines}, {@code maxLines} otherwise.
+   * @throws IOException if the stream could not be read.
+   */
+  long countLines(long maxLines) throws IOException {
+    long lines = 0;
+    boolean unterminatedLine = false;
+    while (lines < maxLines && hasRemaining()) {
+      char c = chars.get();
+      if (skipLineFeed) {
+        skipLineFeed = false;
+        if (c == '\n') continue;
+      }
+      if (c == '\n' || c == '\r') {
+        lines++;
+        unterminatedLine = false;
+        skipLineFeed = c == '\r';
+      } else {
+        unterminatedLine = true;
+      }
+    }
+    return unterminatedLine ? lines + 1 : lines;
+  }
+
+  private StringBuilder append(StringBuilder line, int start, int end) {
+    if (line == null) line = new StringBuilder(end - start);
+    return line.append(chars.array(), start, end - start);
+  }
+
+  private boolean hasRemaining() throws IOException {
+    return chars.hasRemaining() || decodeMore();
+  }
+
+  // only called once all the decoded characters were consumed
+  private boolean decodeMore() throws IOException {
+    if (flushed) return false;
+    chars.clear();
+    try {
+      while (true) {
+        CoderResult result = decoder.decode(bytes, chars, endOfInput);
+        if (result.isError()) result.throwException();
+        if (endOfInput) {
+          if (result.isUnderflow()) flushed = decoder.flush(chars).isUnderflow();
+          break;
+        }
+        if (chars.position() > 0) break;
+        readBytes();
+      }
+    } finally {
+      chars.flip();
+    }
+    return chars.hasRemaining();
+  }
+
+  private void readBytes() throws IOException {
+    bytes.compact();
+    try {
+      int read = stream.read(bytes.array(), bytes.position(), bytes.remaining());
+      if (read == -1) endOfInput = true;
+      else bytes.position(bytes.position() + read);
+    } finally {
+      bytes.flip();
+    }
+  }
+}
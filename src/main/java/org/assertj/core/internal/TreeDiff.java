@@ -0,0 +1,157 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.String.format;
+import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Compares two directory trees: their structure, file sizes and symbolic link targets are compared first, the content of the
+ * files having the same size in both trees is then compared by hashing them in parallel on the bounded pool of threads
+ * shared by the I/O bound assertions.
+ * <p>
+ * Symbolic links are not followed, two links are the same if their targets, as returned by
+ * {@link Files#readSymbolicLink(Path)}, are equal.
+ *
+ * @since 3.21.0
+ */
+@VisibleForTesting
+public class TreeDiff {
+
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+
+  @VisibleForTesting
+  public TreeDiffResult diff(Path actual, Path expected) throws IOException {
+    SortedMap<String, Entry> actualEntries = entriesOf(actual);
+    SortedMap<String, Entry> expectedEntries = entriesOf(expected);
+    List<String> added = new ArrayList<>();
+    List<String> removed = new ArrayList<>();
+    List<String> changed = new ArrayList<>();
+    List<String> filesToHash = new ArrayList<>();
+    for (Map.Entry<String, Entry> actualEntry : actualEntries.entrySet()) {
+      String name = actualEntry.getKey();
+      Entry expectedEntry = expectedEntries.get(name);
+      if (expectedEntry == null) added.add(name);
+      else if (!actualEntry.getValue().hasSameMetadataAs(expectedEntry)) changed.add(name);
+      else if (actualEntry.getValue().isRegularFile) filesToHash.add(name);
+    }
+    for (String name : expectedEntries.keySet()) {
+      if (!actualEntries.containsKey(name)) removed.add(name);
+    }
+    changed.addAll(filesWithDifferentContent(actual, expected, filesToHash));
+    // keep the changed entries sorted as the ones whose content differ were added last
+    changed.sort(null);
+    return new TreeDiffResult(added, removed, changed);
+  }
+
+  private List<String> filesWithDifferentContent(Path actual, Path expected, List<String> names) throws IOException {
+    List<Callable<Boolean>> comparisons = new ArrayList<>(names.size());
+    for (String name : names) {
+      comparisons.add(() -> haveSameDigest(actual.resolve(name), expected.resolve(name)));
+    }
+    List<Boolean> haveSameDigest = ConcurrentTasks.invokeAll(comparisons);
+    List<String> filesWithDifferentContent = new ArrayList<>();
+    for (int i = 0; i < names.size(); i++) {
+      if (!haveSameDigest.get(i)) filesWithDifferentContent.add(names.get(i));
+    }
+    return filesWithDifferentContent;
+  }
+
+  private static boolean haveSameDigest(Path actual, Path expected) throws IOException {
+    MessageDigest messageDigest = newMessageDigest();
+    return Arrays.equals(digestOf(actual, messageDigest), digestOf(expected, messageDigest));
+  }
+
+  private static byte[] digestOf(Path path, MessageDigest messageDigest) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, READ)) {
+      return Digests.digestOf(channel, messageDigest);
+    }
+  }
+
+  private static MessageDigest newMessageDigest() {
+    try {
+      return MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(format("Unable to find digest implementation for: <%s>", DIGEST_ALGORITHM), e);
+    }
+  }
+
+  // the entries of the given tree by their path relative to its root, using '/' as separator whatever the file system
+  private static SortedMap<String, Entry> entriesOf(Path root) throws IOException {
+    SortedMap<String, Entry> entries = new TreeMap<>();
+    Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+        if (!directory.equals(root)) entries.put(relativeName(root, directory), new Entry(attributes, null));
+        return CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+        Path linkTarget = attributes.isSymbolicLink() ? Files.readSymbolicLink(file) : null;
+        entries.put(relativeName(root, file), new Entry(attributes, linkTarget));
+        return CONTINUE;
+      }
+    });
+    return entries;
+  }
+
+  private static String relativeName(Path root, Path path) {
+    String separator = root.getFileSystem().getSeparator();
+    String name = root.relativize(path).toString();
+    return separator.equals("/") ? name : name.replace(separator, "/");
+  }
+
+  private static class Entry {
+    private final boolean isDirectory;
+    private final boolean isRegularFile;
+    private final boolean isSymbolicLink;
+    private final long size;
+    private final Path linkTarget;
+
+    Entry(BasicFileAttributes attributes, Path linkTarget) {
+      isDirectory = attributes.isDirectory();
+      isRegularFile = attributes.isRegularFile();
+      isSymbolicLink = attributes.isSymbolicLink();
+      // only the size of regular files is meaningful
+      size = isRegularFile ? attributes.size() : 0;
+      this.linkTarget = linkTarget;
+    }
+
+    boolean hasSameMetadataAs(Entry other) {
+      return isDirectory == other.isDirectory && isRegularFile == other.isRegularFile && isSymbolicLink == other.isSymbolicLink
+             && size == other.size && Objects.equals(linkTarget, other.linkTarget);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.List;
+
+/**
+ * Value class to hold the result of comparing two directory trees, entries are described by their path relative to the
+ * root of their tree.
+ *
+ * @since 3.21.0
+ */
+public class TreeDiffResult {
+
+  private final List<String> added;
+  private final List<String> removed;
+  private final List<String> changed;
+
+  /**
+   * Builds a new instance.
+   *
+   * @param added the entries of the actual tree missing from the expected tree.
+   * @param removed the entries of the expected tree missing from the actual tree.
+   * @param changed the entries of both trees whose type, size or content differ.
+   */
+  public TreeDiffResult(List<String> added, List<String> removed, List<String> changed) {
+    this.added = unmodifiableList(added);
+    this.removed = unmodifiableList(removed);
+    this.changed = unmodifiableList(changed);
+  }
+
+  public List<String> getAdded() {
+    return added;
+  }
+
+  public List<String> getRemoved() {
+    return removed;
+  }
+
+  public List<String> getChanged() {
+    return changed;
+  }
+
+  public boolean hasNoDiff() {
+    return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+  }
+
+  public boolean hasDiff() {
+    return !hasNoDiff();
+  }
+}
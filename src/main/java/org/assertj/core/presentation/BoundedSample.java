@@ -0,0 +1,187 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import static java.lang.reflect.Array.get;
+import static java.lang.reflect.Array.getLength;
+import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+
+import org.assertj.core.util.ArrayWrapperList;
+
+/**
+ * A bounded view of a group of elements: the first and last elements of the group along with its total number of elements.
+ * <p>
+ * Error message factories use it to keep only the elements that can be displayed instead of full copies of potentially huge
+ * groups, {@link StandardRepresentation} formats it like the original group, i.e. with {@code ...} between the first and the
+ * last elements when some elements were left out. Other {@link Representation}s see it as an {@link Iterable} over the kept
+ * elements.
+ * <p>
+ * Groups are bounded by sampling their head and tail rather than by streaming their representation into a bounded buffer:
+ * only the kept elements are represented, each of them as a whole.
+ *
+ * @param <T> the type of elements.
+ * @since 3.21.0
+ */
+public final class BoundedSample<T> implements Iterable<T> {
+
+  private final List<T> first;
+  private final List<T> last;
+  private final long totalCount;
+
+  private BoundedSample(List<T> first, List<T> last, long totalCount) {
+    this.first = unmodifiableList(first);
+    this.last = unmodifiableList(last);
+    this.totalCount = totalCount;
+  }
+
+  /**
+   * Returns the given elements if there are at most {@link StandardRepresentation#getMaxElementsForPrinting()} of them,
+   * otherwise a {@link BoundedSample} keeping only the elements that are displayed in error messages.
+   * <p>
+   * {@code null} is returned as is.
+   *
+   * @param <T> the type of elements.
+   * @param elements the elements to sample.
+   * @return the given elements or a bounded sample of them.
+   */
+  public static <T> Iterable<T> sampleForPrinting(Iterable<T> elements) {
+    return sample(elements, StandardRepresentation.getMaxElementsForPrinting());
+  }
+
+  /**
+   * Returns the given elements if there are at most {@code maxElements} of them, otherwise a {@link BoundedSample} with the
+   * first {@code (maxElements + 1) / 2} and the last {@code maxElements / 2} elements.
+   * <p>
+   * The elements are iterated only once and at most {@code maxElements} of them are kept at any time.
+   * {@code null} is returned as is.
+   *
+   * @param <T> the type of elements.
+   * @param elements the elements to sample.
+   * @param maxElements the maximum number of elements to keep.
+   * @return the given elements or a bounded sample of them.
+   * @throws IllegalArgumentException if {@code maxElements} is less than 1.
+   */
+  public static <T> Iterable<T> sample(Iterable<T> elements, int maxElements) {
+    checkArgument(maxElements >= 1, "maxElements must be >= 1, but was %s", maxElements);
+    if (elements == null || elements instanceof BoundedSample) return elements;
+    if (elements instanceof Collection && ((Collection<?>) elements).size() <= maxElements) return elements;
+    int maxFirst = (maxElements + 1) / 2;
+    int maxLast = maxElements / 2;
+    if (elements instanceof List && elements instanceof RandomAccess) {
+      List<T> list = (List<T>) elements;
+      int size = list.size();
+      return new BoundedSample<>(new ArrayList<>(list.subList(0, maxFirst)), new ArrayList<>(list.subList(size - maxLast, size)),
+                                 size);
+    }
+    List<T> first = new ArrayList<>(maxFirst);
+    Iterator<T> iterator = elements.iterator();
+    while (iterator.hasNext() && first.size() < maxFirst) {
+      first.add(iterator.next());
+    }
+    // keep the last elements in a ring buffer
+    Object[] last = new Object[maxLast];
+    long count = first.size();
+    int next = 0;
+    while (iterator.hasNext()) {
+      T element = iterator.next();
+      if (maxLast > 0) {
+        last[next] = element;
+        next = (next + 1) % maxLast;
+      }
+      count++;
+    }
+    if (count <= maxElements) return elements;
+    List<T> lastElements = new ArrayList<>(maxLast);
+    for (int i = 0; i < maxLast; i++) {
+      @SuppressWarnings("unchecked")
+      T element = (T) last[(next + i) % maxLast];
+      lastElements.add(element);
+    }
+    return new BoundedSample<>(first, lastElements, count);
+  }
+
+  // samples arrays by index, primitive arrays elements are only boxed when they are kept
+  static Iterable<Object> sampleArray(Object array, int maxElements) {
+    int length = getLength(array);
+    if (length <= maxElements) return ArrayWrapperList.wrap(array);
+    int maxFirst = (maxElements + 1) / 2;
+    int maxLast = maxElements / 2;
+    List<Object> first = new ArrayList<>(maxFirst);
+    for (int i = 0; i < maxFirst; i++) {
+      first.add(get(array, i));
+    }
+    List<Object> last = new ArrayList<>(maxLast);
+    for (int i = length - maxLast; i < length; i++) {
+      last.add(get(array, i));
+    }
+    return new BoundedSample<>(first, last, length);
+  }
+
+  /**
+   * @return the first elements of the sampled group.
+   */
+  public List<T> getFirst() {
+    return first;
+  }
+
+  /**
+   * @return the last elements of the sampled group.
+   */
+  public List<T> getLast() {
+    return last;
+  }
+
+  /**
+   * @return the number of elements of the sampled group.
+   */
+  public long getTotalCount() {
+    return totalCount;
+  }
+
+  /**
+   * @return the number of elements of the sampled group that are not kept in this sample.
+   */
+  public long getOmittedCount() {
+    return totalCount - first.size() - last.size();
+  }
+
+  /**
+   * Iterates over the first then the last elements of the sampled group.
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return Stream.concat(first.stream(), last.stream()).iterator();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof BoundedSample)) return false;
+    BoundedSample<?> other = (BoundedSample<?>) obj;
+    return totalCount == other.totalCount && first.equals(other.first) && last.equals(other.last);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(first, last, totalCount);
+  }
+}
@@ -13,8 +13,7 @@
 package org.assertj.core.presentation;
 
 import static java.lang.Integer.toHexString;
-import static java.lang.reflect.Array.get;
-import static java.lang.reflect.Array.getLength;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayTypePrimitive;
@@ -563,8 +562,11 @@ public class StandardRepresentation implements Representation {
 
   protected String formatPrimitiveArray(Object o) {
     if (!isArrayTypePrimitive(o)) throw notAnArrayOfPrimitives(o);
-    Object[] array = toObjectArray(o);
-    return format(array, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, array);
+    // only the elements that can be displayed are boxed
+    RepresentedElements representedElements = representElements(BoundedSample.sampleArray(o, maxElementsForPrinting),
+                                                                 DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR,
+                                                                 INDENTATION_FOR_SINGLE_LINE, o);
+    return representGroup(representedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE);
   }
 
   protected String multiLineFormat(Object[] array, Object root) {
@@ -578,7 +580,8 @@ public class StandardRepresentation implements Representation {
   protected String format(Object[] array, String start, String end, String elementSeparator, String indentation, Object root) {
     if (array == null) return null;
     // root is used to avoid infinite recursion in case one element refers to it.
-    List<String> representedElements = representElements(Stream.of(array), start, end, elementSeparator, indentation, root);
+    RepresentedElements representedElements = representElements(BoundedSample.sampleArray(array, maxElementsForPrinting), start,
+                                                                 end, elementSeparator, indentation, root);
     return representGroup(representedElements, start, end, elementSeparator, indentation);
   }
 
@@ -588,7 +591,7 @@ public class StandardRepresentation implements Representation {
     Iterator<?> iterator = iterable.iterator();
     if (!iterator.hasNext()) return start + end;
     // alreadyVisited is used to avoid infinite recursion when one element is a container already visited
-    List<String> representedElements = representElements(stream(iterable), start, end, elementSeparator, indentation, root);
+    RepresentedElements representedElements = representElements(iterable, start, end, elementSeparator, indentation, root);
     return representGroup(representedElements, start, end, elementSeparator, indentation);
   }
 
@@ -607,6 +610,24 @@ public class StandardRepresentation implements Representation {
 
   // private methods
 
+  // only the elements that can be displayed are sampled and represented, the others are never visited again
+  private RepresentedElements representElements(Iterable<?> elements, String start, String end, String elementSeparator,
+                                                String indentation, Object root) {
+    Iterable<?> sample = BoundedSample.sample(elements, maxElementsForPrinting);
+    if (!(sample instanceof BoundedSample)) {
+      return new RepresentedElements(representElements(stream(sample), start, end, elementSeparator, indentation, root),
+                                     emptyList(), false);
+    }
+    // the sample may have been taken when maxElementsForPrinting was greater
+    BoundedSample<?> boundedSample = (BoundedSample<?>) sample;
+    List<?> first = boundedSample.getFirst();
+    List<?> last = boundedSample.getLast();
+    first = first.subList(0, Math.min(first.size(), (maxElementsForPrinting + 1) / 2));
+    last = last.subList(last.size() - Math.min(last.size(), maxElementsForPrinting / 2), last.size());
+    return new RepresentedElements(representElements(first.stream(), start, end, elementSeparator, indentation, root),
+                                   representElements(last.stream(), start, end, elementSeparator, indentation, root), true);
+  }
+
   private List<String> representElements(Stream<?> elements, String start, String end, String elementSeparator,
                                          String indentation, Object root) {
     return elements.map(element -> safeStringOf(element, start, end, elementSeparator, indentation, root))
@@ -614,24 +635,24 @@ public class StandardRepresentation implements Representation {
   }
 
   // this method only deals with max number of elements to display, the elements representation is already computed
-  private static String representGroup(List<String> representedElements, String start, String end, String elementSeparator,
-                                       String indentation) {
-    int size = representedElements.size();
+  private static String representGroup(RepresentedElements representedElements, String start, String end,
+                                       String elementSeparator, String indentation) {
+    List<String> firstElements = representedElements.first;
+    int size = firstElements.size();
     StringBuilder desc = new StringBuilder(start);
-    if (size <= maxElementsForPrinting) {
+    if (!representedElements.truncated) {
       // display all elements
       for (int i = 0; i < size; i++) {
         if (i != 0) desc.append(indentation);
-        desc.append(representedElements.get(i));
+        desc.append(firstElements.get(i));
         if (i != size - 1) desc.append(elementSeparator);
       }
       return desc.append(end).toString();
     }
-    // we can't display all elements, picks the first and last maxElementsForPrinting/2 elements
+    // we can't display all elements, the first and last maxElementsForPrinting/2 elements have been picked
     // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
-    int maxFirstElementsToPrint = (maxElementsForPrinting + 1) / 2;
-    for (int i = 0; i < maxFirstElementsToPrint; i++) {
-      desc.append(representedElements.get(i)).append(elementSeparator).append(indentation);
+    for (String element : firstElements) {
+      desc.append(element).append(elementSeparator).append(indentation);
     }
     desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
     // we only append a new line if the separator had one ",\n"
@@ -648,10 +669,10 @@ public class StandardRepresentation implements Representation {
       desc.append(System.lineSeparator());
     }
     // display last elements
-    int maxLastElementsToPrint = maxElementsForPrinting / 2;
-    for (int i = size - maxLastElementsToPrint; i < size; i++) {
-      if (i != size - maxLastElementsToPrint) desc.append(elementSeparator);
-      desc.append(indentation).append(representedElements.get(i));
+    List<String> lastElements = representedElements.last;
+    for (int i = 0; i < lastElements.size(); i++) {
+      if (i != 0) desc.append(elementSeparator);
+      desc.append(indentation).append(lastElements.get(i));
     }
     return desc.append(end).toString();
   }
@@ -709,13 +730,16 @@ public class StandardRepresentation implements Representation {
     return o == map ? "(this Map)" : toStringOf(o);
   }
 
-  private static Object[] toObjectArray(Object o) {
-    int length = getLength(o);
-    Object[] array = new Object[length];
-    for (int i = 0; i < length; i++) {
-      array[i] = get(o, i);
+  private static final class RepresentedElements {
+    private final List<String> first;
+    private final List<String> last;
+    private final boolean truncated;
+
+    private RepresentedElements(List<String> first, List<String> last, boolean truncated) {
+      this.first = first;
+      this.last = last;
+      this.truncated = truncated;
     }
-    return array;
   }
 
 }
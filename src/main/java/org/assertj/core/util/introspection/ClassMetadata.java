@@ -0,0 +1,210 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static java.util.Arrays.stream;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toSet;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The introspection metadata of a class: its methods, getters, fields, field names and whether it overrides
+ * {@code equals}/{@code hashCode}.
+ * <p>
+ * Metadata are computed lazily, including negative results, and cached in a {@link ClassValue} which, unlike a map keyed
+ * by class, does not prevent classes and their class loaders from being garbage collected. This is the single place
+ * where AssertJ caches per class introspection results, {@link #preload(Class...)} can be used to compute them upfront.
+ *
+ * @since 3.21.0
+ */
+public final class ClassMetadata {
+
+  private static final ClassValue<ClassMetadata> REGISTRY = new ClassValue<ClassMetadata>() {
+    @Override
+    protected ClassMetadata computeValue(Class<?> type) {
+      return new ClassMetadata(type);
+    }
+  };
+
+  private final Class<?> type;
+
+  // no-arg methods by name, ConcurrentHashMap does not permit nulls - Optional allows caching of 'missing' values
+  final Map<String, Optional<Method>> noArgMethods = new ConcurrentHashMap<>();
+  // property getters by property name with and without bare name property methods
+  final Map<String, Introspection.ResolvedGetter> getters = new ConcurrentHashMap<>();
+  final Map<String, Introspection.ResolvedGetter> bareNameGetters = new ConcurrentHashMap<>();
+  // fields by name when access is forced or limited to public fields
+  final Map<String, FieldUtils.ResolvedField> accessibleFields = new ConcurrentHashMap<>();
+  final Map<String, FieldUtils.ResolvedField> publicFields = new ConcurrentHashMap<>();
+  // how PropertyOrFieldSupport reads a value by name
+  final Map<PropertyOrFieldSupport.AccessorKey, PropertyOrFieldSupport.Accessor> propertyOrFieldAccessors = new ConcurrentHashMap<>();
+
+  // racing threads compute the same values, hence no need for synchronization
+  private volatile Set<Field> declaredFieldsIncludingInherited;
+  private volatile Set<String> fieldsNames;
+  private volatile Boolean overriddenEquals;
+  private volatile Boolean overriddenHashCode;
+
+  private ClassMetadata(Class<?> type) {
+    this.type = type;
+  }
+
+  /**
+   * Returns the metadata of the given class.
+   *
+   * @param type the class to get the metadata of.
+   * @return the metadata of the given class.
+   * @throws NullPointerException if the given class is {@code null}.
+   */
+  public static ClassMetadata of(Class<?> type) {
+    requireNonNull(type, "expecting Class parameter not to be null");
+    return REGISTRY.get(type);
+  }
+
+  /**
+   * Computes upfront the fields related metadata of the given classes and whether they override {@code equals} and
+   * {@code hashCode}, which avoids paying for it in the first assertions using them.
+   *
+   * @param types the classes to compute the metadata of.
+   */
+  public static void preload(Class<?>... types) {
+    for (Class<?> type : types) {
+      ClassMetadata metadata = of(type);
+      metadata.getFieldsNames();
+      metadata.hasOverriddenEquals();
+      metadata.hasOverriddenHashCode();
+    }
+  }
+
+  /**
+   * Returns the declared fields of the class and of its superclasses (except {@code java.lang} ones) excluding any
+   * synthetic or static fields.
+   *
+   * @return the unmodifiable set of fields.
+   */
+  public Set<Field> getDeclaredFieldsIncludingInherited() {
+    Set<Field> fields = declaredFieldsIncludingInherited;
+    if (fields == null) {
+      Set<Field> declaredFields = getDeclaredFieldsIgnoringSyntheticAndStatic(type);
+      // get fields declared in superclass
+      Class<?> superclazz = type.getSuperclass();
+      while (superclazz != null && !superclazz.getName().startsWith("java.lang")) {
+        declaredFields.addAll(getDeclaredFieldsIgnoringSyntheticAndStatic(superclazz));
+        superclazz = superclazz.getSuperclass();
+      }
+      fields = unmodifiableSet(declaredFields);
+      declaredFieldsIncludingInherited = fields;
+    }
+    return fields;
+  }
+
+  /**
+   * Returns the names of the fields returned by {@link #getDeclaredFieldsIncludingInherited()}.
+   *
+   * @return the unmodifiable set of field names.
+   */
+  public Set<String> getFieldsNames() {
+    Set<String> names = fieldsNames;
+    if (names == null) {
+      names = unmodifiableSet(getDeclaredFieldsIncludingInherited().stream().map(Field::getName).collect(toSet()));
+      fieldsNames = names;
+    }
+    return names;
+  }
+
+  /**
+   * Returns whether the class has an {@code equals} method somewhere between itself and just below {@code Object} in its
+   * inheritance.
+   *
+   * @return whether the class overrides {@code Object.equals}.
+   */
+  public boolean hasOverriddenEquals() {
+    Boolean result = overriddenEquals;
+    if (result == null) {
+      result = declaresMethodBelowObject("equals", Object.class);
+      overriddenEquals = result;
+    }
+    return result;
+  }
+
+  /**
+   * Returns whether the class has a {@code hashCode} method somewhere between itself and just below {@code Object} in its
+   * inheritance.
+   *
+   * @return whether the class overrides {@code Object.hashCode}.
+   */
+  public boolean hasOverriddenHashCode() {
+    Boolean result = overriddenHashCode;
+    if (result == null) {
+      result = declaresMethodBelowObject("hashCode");
+      overriddenHashCode = result;
+    }
+    return result;
+  }
+
+  Optional<Method> findNoArgMethod(String name) {
+    return noArgMethods.computeIfAbsent(name, this::lookupNoArgMethod);
+  }
+
+  private Optional<Method> lookupNoArgMethod(String name) {
+    // try public methods only
+    Class<?> clazz = type;
+    try {
+      return Optional.of(clazz.getMethod(name));
+    } catch (NoSuchMethodException | SecurityException ignored) {}
+    // search all methods
+    while (clazz != null) {
+      try {
+        return Optional.of(clazz.getDeclaredMethod(name));
+      } catch (NoSuchMethodException | SecurityException ignored) {}
+      clazz = clazz.getSuperclass();
+    }
+    return Optional.empty();
+  }
+
+  private boolean declaresMethodBelowObject(String name, Class<?>... parameterTypes) {
+    Class<?> c = type;
+    while (!Object.class.equals(c)) {
+      try {
+        c.getDeclaredMethod(name, parameterTypes);
+        return true;
+      } catch (Exception ignored) {}
+      c = c.getSuperclass();
+    }
+    return false;
+  }
+
+  /**
+   * Returns the declared fields of a given class excluding any synthetic or static fields.
+   * <p>
+   * Synthetic fields are fields that are generated by the compiler for access purposes, or by instrumentation tools e.g. JaCoCo adds in a $jacocoData field
+   * and therefore should be ignored when comparing fields.
+   * <p>
+   * Static fields are used as constants, and are not associated with an object.
+   */
+  private static Set<Field> getDeclaredFieldsIgnoringSyntheticAndStatic(Class<?> clazz) {
+    return stream(clazz.getDeclaredFields()).filter(field -> !(field.isSynthetic()
+                                                               || Modifier.isStatic(field.getModifiers())))
+                                            .collect(toCollection(LinkedHashSet::new));
+  }
+}
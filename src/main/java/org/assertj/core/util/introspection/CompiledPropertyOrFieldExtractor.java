@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.WrongMethodTypeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads a property or field, possibly nested, like {@link PropertyOrFieldSupport#getValueOf(String, Object)} does, but
+ * through the {@link MethodHandle}s of the getter or field of each name resolved once per class and cached in
+ * {@link ClassMetadata}, reading the value of objects of an already seen class is then a direct call.
+ * <p>
+ * The resolved handles are only used when they can't change the outcome: map keys, missing properties/fields and getters
+ * throwing an exception are delegated to {@link PropertyOrFieldSupport#getSimpleValue(String, Object)} so that values and
+ * errors are exactly the same, except for {@link Error}s thrown by getters which are propagated.
+ */
+class CompiledPropertyOrFieldExtractor implements Function<Object, Object> {
+
+  private static final String SEPARATOR = ".";
+
+  private final PropertyOrFieldSupport propertyOrFieldSupport;
+  private final FieldSupport fieldSupport;
+  private final String propertyOrFieldName;
+  private final Segment[] segments;
+
+  CompiledPropertyOrFieldExtractor(PropertyOrFieldSupport propertyOrFieldSupport, FieldSupport fieldSupport,
+                                   String propertyOrFieldName) {
+    this.propertyOrFieldSupport = propertyOrFieldSupport;
+    this.fieldSupport = fieldSupport;
+    this.propertyOrFieldName = propertyOrFieldName;
+    this.segments = propertyOrFieldName == null ? new Segment[0] : splitNames(propertyOrFieldName);
+  }
+
+  @Override
+  public Object apply(Object input) {
+    checkArgument(propertyOrFieldName != null, "The name of the property/field to read should not be null");
+    checkArgument(!propertyOrFieldName.isEmpty(), "The name of the property/field to read should not be empty");
+    checkArgument(input != null, "The object to extract property/field from should not be null");
+    Object value = segments[0].valueOf(input);
+    for (int i = 1; i < segments.length; i++) {
+      // when one of the intermediate nested property/field value is null, return null
+      if (value == null) return null;
+      value = segments[i].valueOf(value);
+    }
+    return value;
+  }
+
+  // same splitting as PropertyOrFieldSupport.getValueOf
+  private Segment[] splitNames(String names) {
+    List<Segment> segmentList = new ArrayList<>();
+    String remainingNames = names;
+    while (isNested(remainingNames)) {
+      int separatorIndex = remainingNames.indexOf(SEPARATOR);
+      segmentList.add(new Segment(remainingNames.substring(0, separatorIndex)));
+      remainingNames = remainingNames.substring(separatorIndex + 1);
+    }
+    segmentList.add(new Segment(remainingNames));
+    return segmentList.toArray(new Segment[0]);
+  }
+
+  private static boolean isNested(String propertyOrFieldName) {
+    return propertyOrFieldName.contains(SEPARATOR)
+           && !propertyOrFieldName.startsWith(SEPARATOR)
+           && !propertyOrFieldName.endsWith(SEPARATOR);
+  }
+
+  private final class Segment {
+
+    private final String name;
+
+    private Segment(String name) {
+      this.name = name;
+    }
+
+    private Object valueOf(Object target) {
+      MethodHandle handle = accessorOf(target);
+      if (handle == null) return propertyOrFieldSupport.getSimpleValue(name, target);
+      try {
+        return (Object) handle.invokeExact(target);
+      } catch (WrongMethodTypeException | ClassCastException e) {
+        // the handle can't read the target, let the regular lookup do it
+        return propertyOrFieldSupport.getSimpleValue(name, target);
+      } catch (Error e) {
+        throw e;
+      } catch (Throwable e) {
+        // only getters throw other exceptions, let the regular lookup decide what to do, ex: falling back to the field
+        return propertyOrFieldSupport.getValueAfterGetterFailure(name, target, e);
+      }
+    }
+
+    // the getter and field handles are cached in ClassMetadata per introspection settings, which can be changed at any time
+    private MethodHandle accessorOf(Object target) {
+      MethodHandle getter = Introspection.findPropertyGetterHandle(name, target);
+      if (getter != null) return getter;
+      return FieldUtils.findFieldGetter(target.getClass(), name, fieldSupport.isAllowedToUsePrivateFields());
+    }
+  }
+}
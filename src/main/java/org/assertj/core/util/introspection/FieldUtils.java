@@ -12,11 +12,15 @@
  */
 package org.assertj.core.util.introspection;
 
+import static java.lang.invoke.MethodType.methodType;
 import static java.lang.reflect.Modifier.isStatic;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Map;
 
 /**
  * Shameless copy from Apache commons lang and then modified to keep only the interesting stuff for AssertJ.
@@ -29,6 +33,8 @@ import java.lang.reflect.Modifier;
  */
 class FieldUtils {
 
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
   /**
    * Gets an accessible <code>Field</code> by name breaking scope if requested. Superclasses/interfaces will be
    * considered.
@@ -44,6 +50,37 @@ class FieldUtils {
   static Field getField(final Class<?> cls, String fieldName, boolean forceAccess) throws IllegalAccessException {
     checkArgument(cls != null, "The class must not be null");
     checkArgument(fieldName != null, "The field name must not be null");
+    return resolveField(cls, fieldName, forceAccess).field();
+  }
+
+  /**
+   * Returns the cached getter handle of the named field, the handle takes the object as parameter and returns the field
+   * value as an {@code Object}.
+   *
+   * @param cls the class to reflect, must not be null
+   * @param fieldName the field name to obtain
+   * @param forceAccess whether to break scope restrictions using the <code>setAccessible</code> method.
+   * @return the getter handle or {@code null} if the field is not found, not readable or static/synthetic.
+   */
+  static MethodHandle findFieldGetter(Class<?> cls, String fieldName, boolean forceAccess) {
+    return resolveField(cls, fieldName, forceAccess).getter;
+  }
+
+  private static ResolvedField resolveField(Class<?> cls, String fieldName, boolean forceAccess) {
+    ClassMetadata metadata = ClassMetadata.of(cls);
+    Map<String, ResolvedField> resolvedFields = forceAccess ? metadata.accessibleFields : metadata.publicFields;
+    return resolvedFields.computeIfAbsent(fieldName, name -> {
+      try {
+        return ResolvedField.of(lookupField(cls, name, forceAccess));
+      } catch (IllegalAccessException e) {
+        return ResolvedField.inaccessible(e.getMessage());
+      } catch (IllegalArgumentException e) {
+        return ResolvedField.ambiguous(e.getMessage());
+      }
+    });
+  }
+
+  private static Field lookupField(final Class<?> cls, String fieldName, boolean forceAccess) throws IllegalAccessException {
     // Sun Java 1.3 has a bugged implementation of getField hence we write the
     // code ourselves
 
@@ -140,13 +177,72 @@ class FieldUtils {
   static Object readField(Object target, String fieldName, boolean forceAccess) throws IllegalAccessException {
     checkArgument(target != null, "target object must not be null");
     Class<?> cls = target.getClass();
-    Field field = getField(cls, fieldName, forceAccess);
+    checkArgument(fieldName != null, "The field name must not be null");
+    ResolvedField resolvedField = resolveField(cls, fieldName, forceAccess);
+    Field field = resolvedField.field();
     checkArgument(field != null, "Cannot locate field %s on %s", fieldName, cls);
     checkArgument(!isStatic(field.getModifiers()), "Reading static field is not supported and field %s is static on %s",
                   fieldName, cls);
     checkArgument(!field.isSynthetic(), "Reading synthetic field is not supported and field %s is", fieldName);
-    // already forced access above, don't repeat it here:
-    return readField(field, target);
+    if (resolvedField.getter == null) {
+      // already forced access above, don't repeat it here:
+      return readField(field, target);
+    }
+    try {
+      return (Object) resolvedField.getter.invokeExact(target);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
   }
 
+  /**
+   * The outcome of a field lookup, resolved once per class, field name and access mode.
+   * <p>
+   * Absent fields are cached too and lookup errors are replayed with the same message, readable fields come with a
+   * {@link MethodHandle} getter so that reading them afterwards does not need any further reflection.
+   */
+  static final class ResolvedField {
+
+    private static final ResolvedField NOT_FOUND = new ResolvedField(null, null, null, null);
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final String illegalAccessMessage;
+    private final String illegalArgumentMessage;
+
+    private ResolvedField(Field field, MethodHandle getter, String illegalAccessMessage, String illegalArgumentMessage) {
+      this.field = field;
+      this.getter = getter;
+      this.illegalAccessMessage = illegalAccessMessage;
+      this.illegalArgumentMessage = illegalArgumentMessage;
+    }
+
+    private static ResolvedField of(Field field) {
+      if (field == null) return NOT_FOUND;
+      if (isStatic(field.getModifiers()) || field.isSynthetic()) return new ResolvedField(field, null, null, null);
+      MemberUtils.setAccessibleWorkaround(field);
+      try {
+        return new ResolvedField(field, LOOKUP.unreflectGetter(field).asType(methodType(Object.class, Object.class)), null, null);
+      } catch (IllegalAccessException e) {
+        // not readable with a handle, reading it with reflection will report the problem
+        return new ResolvedField(field, null, null, null);
+      }
+    }
+
+    private static ResolvedField inaccessible(String message) {
+      return new ResolvedField(null, null, message, null);
+    }
+
+    private static ResolvedField ambiguous(String message) {
+      return new ResolvedField(null, null, null, message);
+    }
+
+    private Field field() throws IllegalAccessException {
+      if (illegalAccessMessage != null) throw new IllegalAccessException(illegalAccessMessage);
+      if (illegalArgumentMessage != null) throw new IllegalArgumentException(illegalArgumentMessage);
+      return field;
+    }
+  }
 }
@@ -13,18 +13,18 @@
 package org.assertj.core.util.introspection;
 
 import static java.lang.String.format;
+import static java.lang.invoke.MethodType.methodType;
 import static java.lang.reflect.Modifier.isPublic;
 import static java.util.Locale.ENGLISH;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.util.Preconditions.checkNotNullOrEmpty;
 import static org.assertj.core.util.Strings.quote;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.assertj.core.configuration.ConfigurationProvider;
 import org.assertj.core.util.VisibleForTesting;
@@ -37,15 +37,13 @@ import org.assertj.core.util.VisibleForTesting;
  */
 public final class Introspection {
 
-  // We want to cache negative results (i.e. absence of methods) to avoid same overhead on subsequent lookups
-  // However ConcurrentHashMap does not permit nulls - Optional allows caching of 'missing' values
-  private static final Map<MethodKey, Optional<Method>> METHOD_CACHE = new ConcurrentHashMap<>();
-
   // set false by default to follow the principle of least surprise as usual property getter are getX() isX(), not x().
   private static boolean bareNamePropertyMethods = false;
 
   /**
    * Returns the getter {@link Method} for a property matching the given name in the given object.
+   * <p>
+   * Getters are resolved once per class and are not invoked.
    *
    * @param propertyName the given property name.
    * @param target the given object.
@@ -58,21 +56,41 @@ public final class Introspection {
   public static Method getPropertyGetter(String propertyName, Object target) {
     checkNotNullOrEmpty(propertyName);
     requireNonNull(target);
-    Method getter = findGetter(propertyName, target);
-    if (getter == null) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage("No getter for property %s in %s", propertyName, target));
-    }
-    if (!isPublic(getter.getModifiers())) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage("No public getter for property %s in %s", propertyName, target));
-    }
-    try {
-      // force access for static class with public getter
-      getter.setAccessible(true);
-      getter.invoke(target);
-    } catch (Exception t) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage("Unable to find property %s in %s", propertyName, target), t);
-    }
-    return getter;
+    return resolveGetter(propertyName, target).method(propertyName, target);
+  }
+
+  /**
+   * Returns a ready to call handle of the getter for a property matching the given name in the given object, the handle
+   * takes the object as parameter and returns the property value as an {@code Object}.
+   * <p>
+   * Getters are resolved once per class, unlike {@link #getPropertyGetter(String, Object)} the getter is not invoked to
+   * check it can be called.
+   *
+   * @param propertyName the given property name.
+   * @param target the given object.
+   * @return the getter handle for a property matching the given name in the given object.
+   * @throws IntrospectionError if the getter for the matching property cannot be found or accessed.
+   */
+  static MethodHandle getPropertyGetterHandle(String propertyName, Object target) {
+    checkNotNullOrEmpty(propertyName);
+    requireNonNull(target);
+    return resolveGetter(propertyName, target).handle(propertyName, target);
+  }
+
+  // same as getPropertyGetterHandle but returns null instead of throwing an IntrospectionError when there is no usable getter
+  static MethodHandle findPropertyGetterHandle(String propertyName, Object target) {
+    return resolveGetter(propertyName, target).handle;
+  }
+
+  static IntrospectionError propertyNotFoundError(String propertyName, Object target, Throwable cause) {
+    return new IntrospectionError(propertyNotFoundErrorMessage("Unable to find property %s in %s", propertyName, target), cause);
+  }
+
+  private static ResolvedGetter resolveGetter(String propertyName, Object target) {
+    // getters are checked once per class, property and lookup mode, the reason why there is no usable getter is cached too
+    ClassMetadata metadata = ClassMetadata.of(target.getClass());
+    Map<String, ResolvedGetter> getters = bareNamePropertyMethods ? metadata.bareNameGetters : metadata.getters;
+    return getters.computeIfAbsent(propertyName, name -> ResolvedGetter.of(findGetter(name, target)));
   }
 
   public static void setExtractBareNamePropertyMethods(boolean barenamePropertyMethods) {
@@ -111,46 +129,51 @@ public final class Introspection {
   }
 
   private static Method findMethod(String name, Object target) {
-    final MethodKey methodKey = new MethodKey(name, target.getClass());
-    return METHOD_CACHE.computeIfAbsent(methodKey, Introspection::findMethodByKey).orElse(null);
+    return ClassMetadata.of(target.getClass()).findNoArgMethod(name).orElse(null);
   }
 
-  private static Optional<Method> findMethodByKey(MethodKey key) {
-    // try public methods only
-    Class<?> clazz = key.clazz;
-    try {
-      return Optional.of(clazz.getMethod(key.name));
-    } catch (NoSuchMethodException | SecurityException ignored) {}
-    // search all methods
-    while (clazz != null) {
-      try {
-        return Optional.of(clazz.getDeclaredMethod(key.name));
-      } catch (NoSuchMethodException | SecurityException ignored) {}
-      clazz = clazz.getSuperclass();
+  /**
+   * The outcome of a getter lookup: either a ready to call getter or the reason why there is none.
+   */
+  static final class ResolvedGetter {
+    private final Method method;
+    private final MethodHandle handle;
+    private final String errorMessage;
+    private final Exception errorCause;
+
+    private ResolvedGetter(Method method, MethodHandle handle, String errorMessage, Exception errorCause) {
+      this.method = method;
+      this.handle = handle;
+      this.errorMessage = errorMessage;
+      this.errorCause = errorCause;
     }
-    return Optional.empty();
-  }
 
-  private static final class MethodKey {
-    private final String name;
-    private final Class<?> clazz;
+    private static ResolvedGetter of(Method getter) {
+      if (getter == null) return new ResolvedGetter(null, null, "No getter for property %s in %s", null);
+      if (!isPublic(getter.getModifiers())) return new ResolvedGetter(null, null, "No public getter for property %s in %s", null);
+      try {
+        // force access for static class with public getter
+        getter.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup().unreflect(getter).asType(methodType(Object.class, Object.class));
+        return new ResolvedGetter(getter, handle, null, null);
+      } catch (Exception e) {
+        return new ResolvedGetter(null, null, "Unable to find property %s in %s", e);
+      }
+    }
 
-    private MethodKey(final String name, final Class<?> clazz) {
-      this.name = name;
-      this.clazz = clazz;
+    private Method method(String propertyName, Object target) {
+      checkResolved(propertyName, target);
+      return method;
     }
 
-    @Override
-    public boolean equals(final Object o) {
-      if (this == o) return true;
-      if (o == null || getClass() != o.getClass()) return false;
-      final MethodKey methodKey = (MethodKey) o;
-      return Objects.equals(name, methodKey.name) && Objects.equals(clazz, methodKey.clazz);
+    private MethodHandle handle(String propertyName, Object target) {
+      checkResolved(propertyName, target);
+      return handle;
     }
 
-    @Override
-    public int hashCode() {
-      return Objects.hash(name, clazz);
+    private void checkResolved(String propertyName, Object target) {
+      if (errorMessage != null)
+        throw new IntrospectionError(propertyNotFoundErrorMessage(errorMessage, propertyName, target), errorCause);
     }
   }
 
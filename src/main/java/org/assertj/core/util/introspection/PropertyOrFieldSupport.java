@@ -13,9 +13,14 @@
 package org.assertj.core.util.introspection;
 
 import static java.lang.String.format;
+import static java.lang.reflect.Modifier.isStatic;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 import org.assertj.core.util.VisibleForTesting;
 
@@ -60,34 +65,111 @@ public class PropertyOrFieldSupport {
     return getSimpleValue(propertyOrFieldName, input);
   }
 
+  /**
+   * Returns a function reading the given property or field, possibly nested, like {@link #getValueOf(String, Object)}
+   * does but resolving the getter or field of each name once per class instead of once per object.
+   * <p>
+   * It should be preferred over {@link #getValueOf(String, Object)} to read the same property or field of many objects.
+   *
+   * @param propertyOrFieldName the name of the property or field to read.
+   * @return a function reading the given property or field.
+   */
+  public Function<Object, Object> compile(String propertyOrFieldName) {
+    return new CompiledPropertyOrFieldExtractor(this, fieldSupport, propertyOrFieldName);
+  }
+
   public Object getSimpleValue(String name, Object input) {
+    // nothing to cache for null, let the original lookup handle it
+    if (name == null || name.isEmpty() || input == null) return getSimpleValueByTrialAndError(name, input);
+    // try to get name as a property, then try as a field, then try as a map key
+    Accessor accessor = accessorFor(name, input);
+    switch (accessor.kind) {
+    case PROPERTY:
+      try {
+        return (Object) accessor.getter.invokeExact(input);
+      } catch (Throwable e) {
+        return getValueAfterGetterFailure(name, input, e);
+      }
+    case FIELD:
+      try {
+        return accessor.field.get(input);
+      } catch (Exception e) {
+        return getSimpleValueByTrialAndError(name, input);
+      }
+    case MAP_KEY:
+      Map<?, ?> map = (Map<?, ?>) input;
+      if (map.containsKey(name)) return map.get(name);
+      return getSimpleValueByTrialAndError(name, input);
+    default:
+      // no value found with given name, it is considered as an error that the original lookup describes
+      return getSimpleValueByTrialAndError(name, input);
+    }
+  }
+
+  // the original lookup relying on introspection errors, used when the cached accessor can't read the value
+  private Object getSimpleValueByTrialAndError(String name, Object input) {
     // try to get name as a property, then try as a field, then try as a map key
     try {
       return propertySupport.propertyValueOf(name, Object.class, input);
     } catch (IntrospectionError propertyIntrospectionError) {
       // no luck as a property, let's try as a field
-      try {
-        return fieldSupport.fieldValue(name, Object.class, input);
-      } catch (IntrospectionError fieldIntrospectionError) {
-        // neither field nor property found with given name
-
-        // if the input object is a map, try name as a map key
-        if (input instanceof Map) {
-          Map<?, ?> map = (Map<?, ?>) input;
-          if (map.containsKey(name)) return map.get(name);
-        }
-
-        // no value found with given name, it is considered as an error
-        String message = format("%nCan't find any field or property with name '%s'.%n" +
-                                "Error when introspecting properties was :%n" +
-                                "- %s %n" +
-                                "Error when introspecting fields was :%n" +
-                                "- %s",
-                                name, propertyIntrospectionError.getMessage(),
-                                fieldIntrospectionError.getMessage());
-        throw new IntrospectionError(message, fieldIntrospectionError);
+      return getFieldOrMapValue(name, input, propertyIntrospectionError);
+    }
+  }
+
+  // the getter failed, like the original lookup let's try as a field but without calling the getter again
+  Object getValueAfterGetterFailure(String name, Object input, Throwable getterError) {
+    return getFieldOrMapValue(name, input, PropertySupport.propertyValueError(name, input, getterError));
+  }
+
+  private Object getFieldOrMapValue(String name, Object input, IntrospectionError propertyIntrospectionError) {
+    try {
+      return fieldSupport.fieldValue(name, Object.class, input);
+    } catch (IntrospectionError fieldIntrospectionError) {
+      // neither field nor property found with given name
+
+      // if the input object is a map, try name as a map key
+      if (input instanceof Map) {
+        Map<?, ?> map = (Map<?, ?>) input;
+        if (map.containsKey(name)) return map.get(name);
+      }
+
+      // no value found with given name, it is considered as an error
+      String message = format("%nCan't find any field or property with name '%s'.%n" +
+                              "Error when introspecting properties was :%n" +
+                              "- %s %n" +
+                              "Error when introspecting fields was :%n" +
+                              "- %s",
+                              name, propertyIntrospectionError.getMessage(),
+                              fieldIntrospectionError.getMessage());
+      throw new IntrospectionError(message, fieldIntrospectionError);
+    }
+  }
+
+  private Accessor accessorFor(String name, Object input) {
+    // We want to cache how to read a property or field, including its absence, to avoid the introspection errors overhead
+    AccessorKey key = new AccessorKey(name, Introspection.canExtractBareNamePropertyMethods(),
+                                      fieldSupport.isAllowedToUsePrivateFields());
+    Map<AccessorKey, Accessor> accessors = ClassMetadata.of(input.getClass()).propertyOrFieldAccessors;
+    return accessors.computeIfAbsent(key, accessorKey -> resolveAccessor(accessorKey, input));
+  }
+
+  // resolved once per key, the hot path never relies on exceptions to find out that a property or field is missing
+  private static Accessor resolveAccessor(AccessorKey key, Object input) {
+    // nested names are handled by the property and field supports
+    if (key.name.contains(SEPARATOR)) return Accessor.ABSENT;
+    MethodHandle getter = Introspection.findPropertyGetterHandle(key.name, input);
+    if (getter != null) return new Accessor(AccessorKind.PROPERTY, getter, null);
+    try {
+      Field field = FieldUtils.getField(input.getClass(), key.name, key.allowUsingPrivateFields);
+      if (field != null && !isStatic(field.getModifiers()) && !field.isSynthetic()) {
+        MemberUtils.setAccessibleWorkaround(field);
+        return new Accessor(AccessorKind.FIELD, null, field);
       }
+    } catch (IllegalAccessException | RuntimeException e) {
+      // the field is not readable
     }
+    return input instanceof Map ? Accessor.MAP_KEY : Accessor.ABSENT;
   }
 
   private String popNameFrom(String propertyOrFieldNameChain) {
@@ -106,4 +188,51 @@ public class PropertyOrFieldSupport {
            && !propertyOrFieldName.endsWith(SEPARATOR);
   }
 
+  private enum AccessorKind {
+    PROPERTY, FIELD, MAP_KEY, ABSENT
+  }
+
+  static final class Accessor {
+    private static final Accessor MAP_KEY = new Accessor(AccessorKind.MAP_KEY, null, null);
+    private static final Accessor ABSENT = new Accessor(AccessorKind.ABSENT, null, null);
+
+    private final AccessorKind kind;
+    private final MethodHandle getter;
+    private final Field field;
+
+    private Accessor(AccessorKind kind, MethodHandle getter, Field field) {
+      this.kind = kind;
+      this.getter = getter;
+      this.field = field;
+    }
+  }
+
+  static final class AccessorKey {
+    private final String name;
+    // the resolution depends on the introspection settings which can be changed at any time
+    private final boolean bareNamePropertyMethods;
+    private final boolean allowUsingPrivateFields;
+
+    private AccessorKey(String name, boolean bareNamePropertyMethods, boolean allowUsingPrivateFields) {
+      this.name = name;
+      this.bareNamePropertyMethods = bareNamePropertyMethods;
+      this.allowUsingPrivateFields = allowUsingPrivateFields;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      AccessorKey other = (AccessorKey) o;
+      return name.equals(other.name)
+             && bareNamePropertyMethods == other.bareNamePropertyMethods
+             && allowUsingPrivateFields == other.allowUsingPrivateFields;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, bareNamePropertyMethods, allowUsingPrivateFields);
+    }
+  }
+
 }
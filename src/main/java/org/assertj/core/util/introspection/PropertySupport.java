@@ -21,7 +21,7 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Streams.stream;
 import static org.assertj.core.util.introspection.Introspection.getPropertyGetter;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.Collections;
 import java.util.List;
 
@@ -147,19 +147,23 @@ public class PropertySupport {
    */
   @SuppressWarnings("unchecked")
   public <T> T propertyValue(String propertyName, Class<T> clazz, Object target) {
-    Method getter = getPropertyGetter(propertyName, target);
+    MethodHandle getter = Introspection.getPropertyGetterHandle(propertyName, target);
     try {
-      return (T) getter.invoke(target);
+      return (T) (Object) getter.invokeExact(target);
     } catch (ClassCastException e) {
       String msg = format("Unable to obtain the value of the property <'%s'> from <%s> - wrong property type specified <%s>",
                           propertyName, target, clazz);
       throw new IntrospectionError(msg, e);
-    } catch (Exception unexpected) {
-      String msg = format("Unable to obtain the value of the property <'%s'> from <%s>", propertyName, target);
-      throw new IntrospectionError(msg, unexpected);
+    } catch (Throwable unexpected) {
+      throw propertyValueError(propertyName, target, unexpected);
     }
   }
 
+  static IntrospectionError propertyValueError(String propertyName, Object target, Throwable cause) {
+    // a failing getter is reported as before getters were resolved once per class, when it was called to check it
+    return Introspection.propertyNotFoundError(propertyName, target, cause);
+  }
+
   /**
    * Returns the value of the given property name given target. If the given object is {@code null}, this method will
    * return null.<br>
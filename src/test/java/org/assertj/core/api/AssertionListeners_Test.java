@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+
+import org.assertj.core.test.RecordingAssertionListener;
+import org.junit.jupiter.api.Test;
+
+class AssertionListeners_Test {
+
+  private final RecordingAssertionListener listener = new RecordingAssertionListener();
+
+  @Test
+  void should_not_listen_to_assertions_when_no_listener_is_registered() {
+    then(CONFIGURATION_PROVIDER.assertionListener()).isNull();
+    then(AssertionListeners.LISTENING_TO_ASSERTIONS).isFalse();
+  }
+
+  @Test
+  void should_notify_succeeded_assertion_and_return_its_result() throws Exception {
+    // WHEN
+    Object result = AssertionListeners.callAndNotify(listener, ObjectAssert.class, "isNotNull", () -> "result");
+    // THEN
+    then(result).isEqualTo("result");
+    then(listener.recordedAssertions()).containsExactly("ObjectAssert.isNotNull succeeded");
+  }
+
+  @Test
+  void should_only_notify_the_outermost_assertion() throws Exception {
+    // WHEN
+    AssertionListeners.callAndNotify(listener, ObjectAssert.class, "satisfies",
+                                     () -> AssertionListeners.callAndNotify(listener, ListAssert.class, "contains",
+                                                                            () -> "nested"));
+    // THEN
+    then(listener.recordedAssertions()).containsExactly("ObjectAssert.satisfies succeeded");
+  }
+
+  @Test
+  void should_notify_failed_assertion_and_rethrow_its_error() {
+    // GIVEN
+    AssertionError assertionError = new AssertionError("boom");
+    // WHEN
+    Throwable throwable = catchThrowable(() -> AssertionListeners.callAndNotify(listener, ObjectAssert.class, "isNull", () -> {
+      throw assertionError;
+    }));
+    // THEN
+    then(throwable).isSameAs(assertionError);
+    then(listener.recordedAssertions()).containsExactly("ObjectAssert.isNull failed");
+  }
+
+  @Test
+  void should_not_notify_assertion_throwing_other_exceptions() {
+    // GIVEN
+    IllegalStateException exception = new IllegalStateException("boom");
+    // WHEN
+    Throwable throwable = catchThrowable(() -> AssertionListeners.callAndNotify(listener, ObjectAssert.class, "isNull", () -> {
+      throw exception;
+    }));
+    // THEN
+    then(throwable).isSameAs(exception);
+    then(listener.recordedAssertions()).isEmpty();
+  }
+
+  @Test
+  void should_report_soft_assertions_proxies_as_the_assert_class_they_extend() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    Class<?> userAssertClass = AssertionListeners.userAssertClass(softly.assertThat(new Object()).getClass());
+    // THEN
+    then(userAssertClass).isEqualTo(ObjectAssert.class);
+  }
+
+  @Test
+  void should_report_plain_assert_classes_as_is() {
+    then(AssertionListeners.userAssertClass(ListAssert.class)).isEqualTo(ListAssert.class);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.function.Consumer;
+
+import org.assertj.core.api.AssertionMetrics.Histogram;
+import org.junit.jupiter.api.Test;
+
+class AssertionMetrics_Test {
+
+  @Test
+  void should_aggregate_assertions_per_assert_class_name_and_method() {
+    // GIVEN
+    AssertionMetrics assertionMetrics = new AssertionMetrics(report -> {});
+    // WHEN
+    assertionMetrics.assertionSucceeded(ObjectAssert.class, "isEqualTo", 2_000);
+    assertionMetrics.assertionFailed(ObjectAssert.class, "isEqualTo", 4_000, new AssertionError());
+    assertionMetrics.assertionSucceeded(ListAssert.class, "contains", 1_000_000);
+    // THEN
+    String[] lines = assertionMetrics.report().split(System.lineSeparator());
+    then(lines).hasSize(4);
+    then(lines[0]).isEqualTo("AssertJ assertion metrics (durations in microseconds)");
+    then(lines[1].split(" +")).containsExactly("assertion", "count", "failures", "total", "mean", "p50", "p90", "p99", "max");
+    // the assertions taking the most time come first
+    then(lines[2].split(" +")).containsExactly("org.assertj.core.api.ListAssert.contains", "1", "0", "1000", "1000", "1000", "1000", "1000", "1000");
+    then(lines[3].split(" +")).containsExactly("org.assertj.core.api.ObjectAssert.isEqualTo", "2", "1", "6", "3", "2", "4", "4", "4");
+  }
+
+  @Test
+  void should_report_percentiles_as_power_of_two_upper_bounds() {
+    // GIVEN
+    Histogram histogram = new Histogram();
+    // WHEN
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i * 100, false);
+    }
+    // THEN
+    then(histogram.count()).isEqualTo(100);
+    then(histogram.totalNanos()).isEqualTo(505_000);
+    then(histogram.maxNanos()).isEqualTo(10_000);
+    then(histogram.percentile(0.5)).isEqualTo(8_191);
+    then(histogram.percentile(0.9)).isEqualTo(10_000);
+    then(histogram.percentile(0.01)).isEqualTo(127);
+  }
+
+  @Test
+  void should_count_failures() {
+    // GIVEN
+    Histogram histogram = new Histogram();
+    // WHEN
+    histogram.record(0, true);
+    histogram.record(5, false);
+    // THEN
+    then(histogram.count()).isEqualTo(2);
+    then(histogram.failures()).isEqualTo(1);
+    then(histogram.percentile(0.5)).isZero();
+  }
+
+  @Test
+  void should_fail_if_report_consumer_is_null() {
+    // GIVEN
+    Consumer<String> reportAtExit = null;
+    // WHEN/THEN
+    assertThatNullPointerException().isThrownBy(() -> new AssertionMetrics(reportAtExit))
+                                    .withMessage("The report consumer should not be null");
+  }
+
+  @Test
+  void should_print_report_at_exit_by_default() {
+    // WHEN
+    AssertionMetrics assertionMetrics = new AssertionMetrics();
+    // THEN
+    then(Runtime.getRuntime().removeShutdownHook(assertionMetrics.reportAtExitHook)).isTrue();
+  }
+
+  @Test
+  void should_pass_report_to_the_given_consumer_at_exit() {
+    // GIVEN
+    StringBuilder reportAtExit = new StringBuilder();
+    AssertionMetrics assertionMetrics = new AssertionMetrics(reportAtExit::append);
+    assertionMetrics.assertionSucceeded(ObjectAssert.class, "isNotNull", 1_000);
+    Runtime.getRuntime().removeShutdownHook(assertionMetrics.reportAtExitHook);
+    // WHEN
+    assertionMetrics.reportAtExitHook.run();
+    // THEN
+    then(reportAtExit.toString()).isEqualTo(assertionMetrics.report())
+                                 .contains("org.assertj.core.api.ObjectAssert.isNotNull");
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Assertions#assertThatIntStream(IntStream)}</code>,
+ * <code>{@link Assertions#assertThatLongStream(LongStream)}</code> and
+ * <code>{@link Assertions#assertThatDoubleStream(DoubleStream)}</code>.
+ */
+class Assertions_assertThatIntStream_Test {
+
+  @Test
+  void should_create_IntStreamAssert_with_actual() {
+    IntStream actual = IntStream.of(1, 2);
+    IntStreamAssert assertions = Assertions.assertThatIntStream(actual);
+    assertThat(assertions.actual).isSameAs(actual);
+  }
+
+  @Test
+  void should_create_LongStreamAssert_with_actual() {
+    LongStream actual = LongStream.of(1, 2);
+    LongStreamAssert assertions = Assertions.assertThatLongStream(actual);
+    assertThat(assertions.actual).isSameAs(actual);
+  }
+
+  @Test
+  void should_create_DoubleStreamAssert_with_actual() {
+    DoubleStream actual = DoubleStream.of(1.0, 2.0);
+    DoubleStreamAssert assertions = Assertions.assertThatDoubleStream(actual);
+    assertThat(assertions.actual).isSameAs(actual);
+  }
+}
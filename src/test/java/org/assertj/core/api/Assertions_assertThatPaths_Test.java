@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.list;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Assertions#assertThatPaths(Iterable)}</code>.
+ */
+class Assertions_assertThatPaths_Test {
+
+  @Test
+  void should_create_PathsAssert_with_actual() {
+    List<Path> actual = list(Paths.get("a.bin"), Paths.get("b.bin"));
+    PathsAssert assertions = Assertions.assertThatPaths(actual);
+    assertThat(assertions.actual).isSameAs(actual);
+  }
+
+  @Test
+  void should_create_PathsAssert_with_actual_using_bdd_style() {
+    List<Path> actual = list(Paths.get("a.bin"));
+    PathsAssert assertions = BDDAssertions.thenPaths(actual);
+    assertThat(assertions.actual).isSameAs(actual);
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Assertions#assertThat(ByteBuffer)}</code>.
+ */
+class Assertions_assertThat_with_ByteBuffer_Test {
+
+  private final ByteBuffer actual = ByteBuffer.allocateDirect(4);
+
+  @Test
+  void should_create_Assert() {
+    // WHEN
+    AbstractByteBufferAssert<?> assertions = Assertions.assertThat(actual);
+    // THEN
+    then(assertions).isInstanceOf(ByteBufferAssert.class);
+  }
+
+  @Test
+  void should_pass_actual() {
+    // WHEN
+    AbstractByteBufferAssert<?> assertions = Assertions.assertThat(actual);
+    // THEN
+    then(assertions.actual).isSameAs(actual);
+  }
+
+  @Test
+  void should_allow_comparison_assertions_as_ByteBuffer_is_Comparable() {
+    // GIVEN
+    ByteBuffer smaller = ByteBuffer.wrap(new byte[] { 1, 2 });
+    ByteBuffer bigger = ByteBuffer.wrap(new byte[] { 1, 3 });
+    // WHEN/THEN
+    Assertions.assertThat(smaller).isLessThan(bigger)
+              .isEqualByComparingTo(ByteBuffer.wrap(new byte[] { 1, 2 }))
+              .isBetween(smaller, bigger);
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class CollectedAssertionErrors_Test {
+
+  private final CollectedAssertionErrors collectedErrors = new CollectedAssertionErrors();
+
+  @Test
+  void should_be_empty_when_no_errors_were_collected() {
+    then(collectedErrors.isEmpty()).isTrue();
+    then(collectedErrors.toList()).isEmpty();
+  }
+
+  @Test
+  void should_return_errors_in_the_order_they_were_collected() {
+    // GIVEN
+    AssertionError first = new AssertionError("first");
+    AssertionError second = new AssertionError("second");
+    AssertionError third = new AssertionError("third");
+    // WHEN
+    collectedErrors.add(first);
+    collectedErrors.add(second);
+    collectedErrors.add(third);
+    // THEN
+    then(collectedErrors.toList()).containsExactly(first, second, third);
+  }
+
+  @Test
+  void should_collect_errors_from_concurrent_threads() throws InterruptedException {
+    // GIVEN
+    int threads = 8;
+    int errorsPerThread = 1_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    // WHEN
+    for (int thread = 0; thread < threads; thread++) {
+      String threadName = "thread-" + thread;
+      executor.execute(() -> {
+        awaitQuietly(start);
+        IntStream.range(0, errorsPerThread).forEach(i -> collectedErrors.add(new AssertionError(threadName + ":" + i)));
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    executor.awaitTermination(30, TimeUnit.SECONDS);
+    // THEN
+    List<AssertionError> errors = collectedErrors.toList();
+    then(errors).hasSize(threads * errorsPerThread);
+    List<String> firstThreadMessages = errors.stream()
+                                             .map(AssertionError::getMessage)
+                                             .filter(message -> message.startsWith("thread-0:"))
+                                             .collect(toList());
+    then(firstThreadMessages).hasSize(errorsPerThread)
+                             .isSortedAccordingTo((m1, m2) -> Integer.compare(index(m1), index(m2)));
+  }
+
+  @Test
+  void should_use_a_power_of_two_number_of_stripes() {
+    then(CollectedAssertionErrors.stripesCount(1)).isEqualTo(1);
+    then(CollectedAssertionErrors.stripesCount(6)).isEqualTo(8);
+    then(CollectedAssertionErrors.stripesCount(8)).isEqualTo(8);
+    then(CollectedAssertionErrors.stripesCount(1000)).isEqualTo(64);
+  }
+
+  private static int index(String message) {
+    return Integer.parseInt(message.substring(message.indexOf(':') + 1));
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
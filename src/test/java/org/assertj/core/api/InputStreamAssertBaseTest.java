@@ -12,10 +12,13 @@
  */
 package org.assertj.core.api;
 
+import static java.nio.charset.Charset.defaultCharset;
+import static org.assertj.core.util.AssertionsUtil.getDifferentCharsetFrom;
 import static org.mockito.Mockito.mock;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.Charset;
 
 import org.assertj.core.internal.InputStreams;
 
@@ -27,6 +30,7 @@ import org.assertj.core.internal.InputStreams;
  */
 public abstract class InputStreamAssertBaseTest extends BaseTestTemplate<InputStreamAssert, InputStream> {
   protected InputStreams inputStreams;
+  protected Charset otherCharset;
 
   @Override
   protected InputStreamAssert create_assertions() {
@@ -38,6 +42,11 @@ public abstract class InputStreamAssertBaseTest extends BaseTestTemplate<InputSt
     super.inject_internal_objects();
     inputStreams = mock(InputStreams.class);
     assertions.inputStreams = inputStreams;
+    otherCharset = getDifferentCharsetFrom(defaultCharset());
+  }
+
+  protected Charset getCharset(InputStreamAssert someAssertions) {
+    return someAssertions.charset;
   }
 
   protected InputStreams getInputStreams(InputStreamAssert someAssertions) {
@@ -38,6 +38,7 @@ import static org.assertj.core.api.InstanceOfAssertFactories.BOOLEAN_ARRAY;
 import static org.assertj.core.api.InstanceOfAssertFactories.BYTE;
 import static org.assertj.core.api.InstanceOfAssertFactories.BYTE_2D_ARRAY;
 import static org.assertj.core.api.InstanceOfAssertFactories.BYTE_ARRAY;
+import static org.assertj.core.api.InstanceOfAssertFactories.BYTE_BUFFER;
 import static org.assertj.core.api.InstanceOfAssertFactories.CHARACTER;
 import static org.assertj.core.api.InstanceOfAssertFactories.CHAR_2D_ARRAY;
 import static org.assertj.core.api.InstanceOfAssertFactories.CHAR_ARRAY;
@@ -131,6 +132,7 @@ import java.math.BigInteger;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
@@ -527,6 +529,16 @@ class InstanceOfAssertFactoriesTest {
     result.hasContent("stream");
   }
 
+  @Test
+  void byte_buffer_factory_should_allow_byte_buffer_assertions() {
+    // GIVEN
+    Object value = ByteBuffer.wrap(new byte[] { 1, 2 });
+    // WHEN
+    AbstractByteBufferAssert<?> result = assertThat(value).asInstanceOf(BYTE_BUFFER);
+    // THEN
+    result.hasBinaryContent(new byte[] { 1, 2 });
+  }
+
   @Test
   void float_factory_should_allow_float_assertions() {
     // GIVEN
@@ -32,4 +32,10 @@ class SoftAssertionErrorTest {
     assertThat(error).hasMessage(format("%nThe following 2 assertions failed:%n1) One%n2) Two%n"));
   }
 
+  @Test
+  void should_give_the_number_of_errors_not_rendered() {
+    SoftAssertionError error = new SoftAssertionError(Lists.newArrayList("One", "Two"), 3);
+    assertThat(error).hasMessage(format("%nThe following 2 assertions failed (3 more not rendered):%n1) One%n2) Two%n"));
+  }
+
 }
@@ -19,6 +19,7 @@ import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.as;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.Assertions.in;
@@ -975,6 +976,20 @@ class SoftAssertionsTest extends BaseAssertionsTest {
     assertThat(softly.errorsCollected()).hasSize(16);
   }
 
+  @Test
+  void should_collect_errors_after_a_proxied_call_has_thrown_an_exception() {
+    // GIVEN
+    Throwable thrown = catchThrowable(() -> softly.assertThat("foo").satisfies(value -> {
+      throw new IllegalStateException("boom");
+    }));
+    // WHEN
+    softly.assertThat(1).isEqualTo(2);
+    softly.assertThat(emptyList()).first();
+    // THEN
+    then(thrown).isInstanceOf(IllegalStateException.class);
+    assertThat(softly.errorsCollected()).hasSize(2);
+  }
+
   @Test
   void check_477_bugfix() {
     // GIVEN
@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.as;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.configuration.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SoftAssertions_maxRenderedErrors_Test {
+
+  private final Configuration configuration = CONFIGURATION_PROVIDER.configuration();
+  private final SoftAssertions softly = new SoftAssertions();
+  private int maxRenderedErrors;
+
+  @BeforeEach
+  void beforeEach() {
+    maxRenderedErrors = configuration.maxRenderedSoftAssertionErrors();
+    configuration.setMaxRenderedSoftAssertionErrors(2);
+  }
+
+  @AfterEach
+  void afterEach() {
+    configuration.setMaxRenderedSoftAssertionErrors(maxRenderedErrors);
+  }
+
+  @Test
+  void should_render_error_message_when_the_assertion_fails_within_the_rendering_limit() {
+    // GIVEN
+    List<String> actual = new ArrayList<>();
+    actual.add("before");
+    softly.assertThat(actual).isEmpty();
+    // WHEN
+    actual.set(0, "after");
+    // THEN
+    then(softly.errorsCollected()).singleElement(as(InstanceOfAssertFactories.THROWABLE))
+                                  .isNotInstanceOf(DeferredAssertionError.class)
+                                  .hasMessageContaining("before")
+                                  .hasMessageNotContaining("after");
+  }
+
+  @Test
+  void should_only_render_error_message_when_needed_past_the_rendering_limit() {
+    // GIVEN
+    softly.assertThat((Object) 1).isInstanceOf(String.class);
+    softly.assertThat((Object) 2).isInstanceOf(String.class);
+    CountingToString actual = new CountingToString();
+    // WHEN
+    softly.assertThat(actual).as("counting").isInstanceOf(String.class);
+    // THEN
+    then(actual.toStringCalls).hasValue(0);
+    List<Throwable> errors = softly.errorsCollected();
+    then(errors).hasSize(3);
+    then(errors.get(2)).isInstanceOf(DeferredAssertionError.class);
+    then(actual.toStringCalls).hasValue(0);
+    then(errors.get(2)).hasMessageStartingWith("[counting] ")
+                       .hasMessageContaining("CountingToString")
+                       .hasMessageContaining("to be an instance of:");
+    then(actual.toStringCalls).hasPositiveValue();
+  }
+
+  @Test
+  void should_report_the_number_of_errors_past_the_rendering_limit_in_the_heading() {
+    // GIVEN
+    CountingToString third = new CountingToString();
+    softly.assertThat((Object) 1).isInstanceOf(String.class);
+    softly.assertThat((Object) 2).isInstanceOf(String.class);
+    softly.assertThat(third).as("third").isInstanceOf(String.class);
+    softly.assertThat((Object) 4).as("fourth").isInstanceOf(String.class);
+    // WHEN
+    AssertionError error = (AssertionError) catchThrowable(softly::assertAll);
+    // THEN
+    then(error).hasMessageContaining("Multiple Failures, 2 more not rendered (2 failures)")
+               .hasMessageContaining("-- failure 2 --")
+               .hasMessageNotContaining("-- failure 3 --")
+               .hasMessageNotContaining("third")
+               .hasMessageNotContaining("fourth");
+    then(third.toStringCalls).hasValue(0);
+  }
+
+  @Test
+  void should_render_all_errors_within_the_rendering_limit() {
+    // GIVEN
+    softly.assertThat((Object) 1).isInstanceOf(String.class);
+    softly.assertThat((Object) 2).as("second").isInstanceOf(String.class);
+    // WHEN
+    AssertionError error = (AssertionError) catchThrowable(softly::assertAll);
+    // THEN
+    then(error).hasMessageContaining("Multiple Failures (2 failures)")
+               .hasMessageContaining("[second] ");
+  }
+
+  @Test
+  void should_not_defer_hard_assertions_errors() {
+    // GIVEN
+    softly.assertThat((Object) 1).isInstanceOf(String.class);
+    softly.assertThat((Object) 2).isInstanceOf(String.class);
+    // WHEN
+    Throwable error = catchThrowable(() -> Assertions.assertThat((Object) 3).isInstanceOf(String.class));
+    // THEN
+    then(error).isNotInstanceOf(DeferredAssertionError.class);
+  }
+
+  @Test
+  void should_fail_if_max_rendered_errors_is_less_than_one() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> configuration.setMaxRenderedSoftAssertionErrors(0));
+    // THEN
+    then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxRenderedSoftAssertionErrors must be >= 1, but was 0");
+  }
+
+  private static class CountingToString {
+    private final AtomicInteger toStringCalls = new AtomicInteger();
+
+    @Override
+    public String toString() {
+      toStringCalls.incrementAndGet();
+      return "CountingToString";
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SoftProxiesGenerator_Test {
+
+  @Test
+  void should_find_concrete_assert_classes_only() throws IOException {
+    // GIVEN
+    Path classesDirectory = classesDirectoryOf(ObjectAssert.class);
+    // WHEN
+    List<Class<?>> assertClasses = SoftProxiesGenerator.findProxiableAssertClasses(classesDirectory);
+    // THEN
+    then(assertClasses).contains(ObjectAssert.class, ListAssert.class, IterableSizeAssert.class,
+                                 RecursiveComparisonAssert.class)
+                       .doesNotContain(AbstractObjectAssert.class, Assert.class);
+  }
+
+  @Test
+  void should_save_proxy_class_along_its_auxiliary_classes(@TempDir File classesDirectory) throws IOException {
+    // WHEN
+    SoftProxiesGenerator.generateProxyClass(BooleanAssert.class, classesDirectory);
+    // THEN
+    File packageDirectory = new File(classesDirectory, "org/assertj/core/api");
+    then(new File(packageDirectory, "BooleanAssert$AssertJ$SoftProxy.class")).isFile();
+    then(packageDirectory.list()).anyMatch(name -> name.startsWith("BooleanAssert$AssertJ$SoftProxy$auxiliary$"));
+  }
+
+  @Test
+  void should_load_proxy_generated_from_the_same_assert_class_signature(@TempDir File classesDirectory) throws Exception {
+    // GIVEN
+    SoftProxiesGenerator.generateProxyClass(UserDefinedAssert.class, classesDirectory);
+    try (URLClassLoader classLoader = classLoaderOf(classesDirectory)) {
+      // WHEN
+      Class<?> proxyClass = SoftProxies.loadPregeneratedProxyClass(UserDefinedAssert.class, classLoader);
+      // THEN
+      then(proxyClass).isNotNull()
+                      .hasSuperclass(UserDefinedAssert.class);
+      then(AssertJProxySetup.class).isAssignableFrom(proxyClass);
+    }
+  }
+
+  @Test
+  void should_ignore_stale_proxy_generated_from_another_assert_class_signature(@TempDir File classesDirectory) throws Exception {
+    // GIVEN
+    int staleSignature = SoftProxies.signatureOf(UserDefinedAssert.class) + 1;
+    SoftProxiesGenerator.generateProxyClass(UserDefinedAssert.class, staleSignature, classesDirectory);
+    try (URLClassLoader classLoader = classLoaderOf(classesDirectory)) {
+      // WHEN
+      Class<?> proxyClass = SoftProxies.loadPregeneratedProxyClass(UserDefinedAssert.class, classLoader);
+      // THEN
+      then(proxyClass).isNull();
+    }
+  }
+
+  @Test
+  void should_not_find_proxy_that_was_not_generated() {
+    then(SoftProxies.loadPregeneratedProxyClass(UserDefinedAssert.class, UserDefinedAssert.class.getClassLoader())).isNull();
+  }
+
+  private static URLClassLoader classLoaderOf(File classesDirectory) throws Exception {
+    return new URLClassLoader(new URL[] { classesDirectory.toURI().toURL() }, UserDefinedAssert.class.getClassLoader());
+  }
+
+  private static Path classesDirectoryOf(Class<?> type) {
+    try {
+      return Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public static class UserDefinedAssert extends AbstractObjectAssert<UserDefinedAssert, Object> {
+    public UserDefinedAssert(Object actual) {
+      super(actual, UserDefinedAssert.class);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SoftProxies_Test {
+
+  private final AbstractSoftAssertions softly = new SoftAssertions();
+  private final SoftProxies proxies = new SoftProxies(softly);
+
+  @Test
+  void should_create_distinct_proxies_for_the_same_assert_and_actual_classes() {
+    // WHEN
+    IntegerAssert first = proxies.createSoftAssertionProxy(IntegerAssert.class, Integer.class, 1);
+    IntegerAssert second = proxies.createSoftAssertionProxy(IntegerAssert.class, Integer.class, 2);
+    first.isEqualTo(2);
+    second.isEqualTo(2);
+    // THEN
+    then(first).isNotSameAs(second);
+    then(first.actual).isEqualTo(1);
+    then(second.actual).isEqualTo(2);
+    List<Throwable> errors = softly.errorsCollected();
+    then(errors).hasSize(1);
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  @Test
+  void should_fail_if_proxy_has_no_constructor_for_actual_class() {
+    // GIVEN
+    Class assertClass = IntegerAssert.class;
+    // WHEN
+    Throwable thrown = catchThrowable(() -> proxies.createSoftAssertionProxy(assertClass, String.class, "1"));
+    // THEN
+    then(thrown).isInstanceOf(RuntimeException.class)
+                .hasCauseInstanceOf(NoSuchMethodException.class);
+  }
+
+}
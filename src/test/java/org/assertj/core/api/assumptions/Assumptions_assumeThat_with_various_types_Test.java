@@ -32,6 +32,7 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Date;
 import java.util.Iterator;
@@ -196,6 +197,17 @@ class Assumptions_assumeThat_with_various_types_Test {
             assumeThat(actual).isInstanceOf(ByteArrayInputStream.class);
           }
         },
+        new AssumptionRunner<ByteBuffer>(ByteBuffer.wrap("test".getBytes())) {
+          @Override
+          public void runFailingAssumption() {
+            assumeThat(actual).hasRemaining(1);
+          }
+
+          @Override
+          public void runPassingAssumption() {
+            assumeThat(actual).hasRemaining(4);
+          }
+        },
         new AssumptionRunner<Integer[]>(array(2, 4, 2)) {
           @Override
           public void runFailingAssumption() {
@@ -27,6 +27,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
@@ -1313,6 +1314,21 @@ class BDDAssumptionsTest {
     }
   }
 
+  @Nested
+  class BDDAssumptions_given_ByteBuffer_Test {
+    private final ByteBuffer actual = ByteBuffer.wrap("A".getBytes());
+
+    @Test
+    void should_run_test_when_assumption_passes() {
+      thenCode(() -> given(actual).hasBinaryContent("A".getBytes())).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_ignore_test_when_assumption_fails() {
+      expectAssumptionNotMetException(() -> given(actual).hasBinaryContent("B".getBytes()));
+    }
+  }
+
   @Nested
   class BDDAssumptions_given_InputStream_Test {
     private final InputStream actual = new ByteArrayInputStream("A".getBytes());
@@ -0,0 +1,40 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api.bytebuffer;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.security.MessageDigest;
+
+import org.assertj.core.api.ByteBufferAssert;
+import org.assertj.core.api.ByteBufferAssertBaseTest;
+
+/**
+ * Tests for <code>{@link ByteBufferAssert#hasDigest(MessageDigest, byte[])}</code>.
+ */
+class ByteBufferAssert_hasDigest_DigestBytes_Test extends ByteBufferAssertBaseTest {
+
+  private final MessageDigest digest = mock(MessageDigest.class);
+  private final byte[] expected = new byte[16];
+
+  @Override
+  protected ByteBufferAssert invoke_api_method() {
+    return assertions.hasDigest(digest, expected);
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(byteBuffers).assertHasDigest(getInfo(assertions), getActual(assertions), digest, expected);
+  }
+}
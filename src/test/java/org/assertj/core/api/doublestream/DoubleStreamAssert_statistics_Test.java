@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api.doublestream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatDoubleStream;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveStatistic.shouldHaveStatistic;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.DoubleStream;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+class DoubleStreamAssert_statistics_Test {
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    DoubleStream actual = null;
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatDoubleStream(actual).hasMin(1.0));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_consume_stream_only_once_for_chained_assertions() {
+    // GIVEN
+    AtomicInteger consumed = new AtomicInteger();
+    DoubleStream actual = DoubleStream.of(0.5, 1.5, 2.5, 3.5).peek(d -> consumed.incrementAndGet());
+    // WHEN
+    assertThatDoubleStream(actual).hasSize(4)
+                                  .containsExactly(0.5, 1.5, 2.5, 3.5)
+                                  .hasSumCloseTo(8.0, within(0.001))
+                                  .hasMin(0.5)
+                                  .hasMax(3.5)
+                                  .hasAverageCloseTo(2.0, within(0.001))
+                                  .hasCountInRange(0.0, 2.0, 2)
+                                  .hasAllValuesInRange(0.5, 3.5);
+    // THEN
+    assertThat(consumed).hasValue(4);
+  }
+
+  @Test
+  void should_fail_if_sum_is_not_close_enough() {
+    // GIVEN
+    Offset<Double> offset = within(0.01);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatDoubleStream(DoubleStream.of(0.5,
+                                                                                                     1.5)).hasSumCloseTo(3.0,
+                                                                                                                         offset));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveStatistic(new double[] { 0.5, 1.5 }, "sum", 3.0, offset, 2.0).create());
+  }
+
+  @Test
+  void should_fail_if_values_are_out_of_range() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatDoubleStream(DoubleStream.of(0.5, Double.NaN,
+                                                                                                     1.5)).hasAllValuesInRange(0.0,
+                                                                                                                               1.0));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveStatistic(new double[] { 0.5, Double.NaN, 1.5 },
+                                                        "number of elements out of [0.0, 1.0]", 0L, 2L).create());
+  }
+}
@@ -40,7 +40,7 @@ class InputStreamAssert_hasContent_Test extends InputStreamAssertBaseTest {
 
   @Override
   protected void verify_internal_effects() {
-    verify(inputStreams).assertHasContent(getInfo(assertions), getActual(assertions), expected);
+    verify(inputStreams).assertHasContent(getInfo(assertions), getActual(assertions), expected, getCharset(assertions));
   }
 
 }
@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api.inputstream;
+
+import static java.nio.charset.Charset.defaultCharset;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.nio.charset.Charset;
+
+import org.assertj.core.api.InputStreamAssert;
+import org.assertj.core.api.InputStreamAssertBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link InputStreamAssert#usingCharset(Charset)}</code> and
+ * <code>{@link InputStreamAssert#usingCharset(String)}</code>.
+ */
+class InputStreamAssert_usingCharset_Test extends InputStreamAssertBaseTest {
+
+  @Override
+  protected InputStreamAssert invoke_api_method() {
+    return assertions.usingCharset(otherCharset);
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    then(getCharset(assertions)).isEqualTo(otherCharset);
+  }
+
+  @Test
+  void should_use_default_charset_if_none_was_specified() {
+    then(getCharset(create_assertions())).isEqualTo(defaultCharset());
+  }
+
+  @Test
+  void should_use_charset_with_the_given_name() {
+    // WHEN
+    assertions.usingCharset(otherCharset.name());
+    // THEN
+    then(getCharset(assertions)).isEqualTo(otherCharset);
+  }
+
+  @Test
+  void should_fail_if_charset_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> assertions.usingCharset((Charset) null))
+                                    .withMessage("The charset should not be null");
+  }
+
+  @Test
+  void should_fail_if_charset_name_is_not_supported() {
+    assertThatIllegalArgumentException().isThrownBy(() -> assertions.usingCharset("Klingon"))
+                                        .withMessage("Charset:<'Klingon'> is not supported on this system");
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api.intstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIntStream;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveStatistic.shouldHaveStatistic;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+class IntStreamAssert_statistics_Test {
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    IntStream actual = null;
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatIntStream(actual).hasSum(1));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_consume_stream_only_once_for_chained_assertions() {
+    // GIVEN
+    AtomicInteger consumed = new AtomicInteger();
+    IntStream actual = IntStream.rangeClosed(1, 100).peek(i -> consumed.incrementAndGet());
+    // WHEN
+    assertThatIntStream(actual).hasSize(100)
+                               .contains(1, 100)
+                               .doesNotContain(0, 101)
+                               .hasSum(5050)
+                               .hasMin(1)
+                               .hasMax(100)
+                               .hasAverageCloseTo(50.5, within(0.001))
+                               .hasCountInRange(1, 10, 10)
+                               .hasAllValuesInRange(1, 100);
+    // THEN
+    assertThat(consumed).hasValue(100);
+  }
+
+  @Test
+  void should_pass_on_empty_stream() {
+    assertThatIntStream(IntStream.empty()).isEmpty()
+                                          .hasSum(0)
+                                          .hasCountInRange(0, 10, 0)
+                                          .hasAllValuesInRange(0, 10);
+  }
+
+  @Test
+  void should_pass_with_exact_content() {
+    assertThatIntStream(IntStream.of(1, 2, 3)).isNotEmpty()
+                                              .containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void should_fail_if_sum_differs() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatIntStream(IntStream.of(1, 2, 3)).hasSum(5));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveStatistic(new int[] { 1, 2, 3 }, "sum", 5L, 6L).create());
+  }
+
+  @Test
+  void should_fail_if_min_differs() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatIntStream(IntStream.of(1, 2, 3)).hasMin(2));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveStatistic(new int[] { 1, 2, 3 }, "min", 2, 1).create());
+  }
+
+  @Test
+  void should_fail_if_max_differs() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatIntStream(IntStream.of(1, 2, 3)).hasMax(2));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveStatistic(new int[] { 1, 2, 3 }, "max", 2, 3).create());
+  }
+
+  @Test
+  void should_fail_if_min_is_checked_on_empty_stream() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatIntStream(IntStream.empty()).hasMin(0));
+    // THEN
+    then(assertionError).hasMessageContaining("Expecting actual not to be empty");
+  }
+
+  @Test
+  void should_fail_if_average_is_not_close_enough() {
+    // GIVEN
+    Offset<Double> offset = within(0.1);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatIntStream(IntStream.of(1, 2, 3, 4)).hasAverageCloseTo(3.0,
+                                                                                                                            offset));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveStatistic(new int[] { 1, 2, 3, 4 }, "average", 3.0, offset, 2.5).create());
+  }
+
+  @Test
+  void should_fail_if_offset_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> assertThatIntStream(IntStream.of(1)).hasAverageCloseTo(1.0, null))
+                                    .withMessage("The offset should not be null");
+  }
+
+  @Test
+  void should_fail_if_count_in_range_differs() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatIntStream(IntStream.of(1, 5, 10)).hasCountInRange(1, 5,
+                                                                                                                           3));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveStatistic(new int[] { 1, 5, 10 }, "number of elements in [1, 5]", 3L,
+                                                        2L).create());
+  }
+
+  @Test
+  void should_fail_if_some_values_are_out_of_range() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatIntStream(IntStream.of(0, 5, 10,
+                                                                                                 11)).hasAllValuesInRange(1, 10));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveStatistic(new int[] { 0, 5, 10, 11 }, "number of elements out of [1, 10]", 0L,
+                                                        2L).create());
+  }
+
+  @Test
+  void should_fail_if_range_is_inverted() {
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThatIntStream(IntStream.of(1)).hasCountInRange(5, 1, 0))
+                                        .withMessage("The range start 5 should not be greater than the range end 1");
+  }
+
+  @Test
+  void should_fail_with_content_assertion_error() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatIntStream(IntStream.of(1, 2)).contains(3));
+    // THEN
+    then(assertionError).hasMessageContaining("Expecting int[]:")
+                        .hasMessageContaining("but could not find the following int(s):");
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api.longstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatLongStream;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveStatistic.shouldHaveStatistic;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+class LongStreamAssert_statistics_Test {
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    LongStream actual = null;
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLongStream(actual).hasMax(1L));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_consume_stream_only_once_for_chained_assertions() {
+    // GIVEN
+    AtomicInteger consumed = new AtomicInteger();
+    LongStream actual = LongStream.rangeClosed(1, 100).peek(i -> consumed.incrementAndGet());
+    // WHEN
+    assertThatLongStream(actual).hasSize(100)
+                                .contains(1L, 100L)
+                                .hasSum(5050L)
+                                .hasMin(1L)
+                                .hasMax(100L)
+                                .hasAverageCloseTo(50.5, within(0.001))
+                                .hasCountInRange(91L, 100L, 10)
+                                .hasAllValuesInRange(0L, 100L);
+    // THEN
+    assertThat(consumed).hasValue(100);
+  }
+
+  @Test
+  void should_fail_if_sum_differs() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLongStream(LongStream.of(1, 2, 3)).hasSum(5L));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveStatistic(new long[] { 1, 2, 3 }, "sum", 5L, 6L).create());
+  }
+
+  @Test
+  void should_fail_if_count_in_range_differs() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLongStream(LongStream.of(1, 5, 10)).hasCountInRange(6L,
+                                                                                                                             10L,
+                                                                                                                             2));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveStatistic(new long[] { 1, 5, 10 }, "number of elements in [6, 10]", 2L,
+                                                        1L).create());
+  }
+}
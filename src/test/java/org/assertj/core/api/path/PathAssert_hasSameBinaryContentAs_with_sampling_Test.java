@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api.path;
+
+import static java.nio.charset.Charset.defaultCharset;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.data.ContentSampling.sampling;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.TempFileUtil.createTempPathWithContent;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.assertj.core.api.PathAssert;
+import org.assertj.core.api.PathAssertBaseTest;
+import org.assertj.core.data.ContentSampling;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link PathAssert#hasSameBinaryContentAs(Path, ContentSampling)}</code>.
+ */
+class PathAssert_hasSameBinaryContentAs_with_sampling_Test extends PathAssertBaseTest {
+
+  private static final Path expected = Paths.get("xyz");
+  private static final ContentSampling SAMPLING = sampling(0.5);
+
+  @Override
+  protected PathAssert invoke_api_method() {
+    return assertions.hasSameBinaryContentAs(expected, SAMPLING);
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(paths).assertHasSameBinaryContentAs(getInfo(assertions), getActual(assertions), expected, SAMPLING);
+  }
+
+  @Test
+  void should_pass_on_equal_contents() throws Exception {
+    // GIVEN
+    Path actual = createTempPathWithContent("assertJ", defaultCharset());
+    Path expected = createTempPathWithContent("assertJ", defaultCharset());
+    // WHEN/THEN
+    then(actual).hasSameBinaryContentAs(expected, sampling(0.1).withBlockSize(2));
+  }
+
+  @Test
+  void should_fail_on_contents_of_different_sizes() throws Exception {
+    // GIVEN
+    Path actual = createTempPathWithContent("assertJ", defaultCharset());
+    Path expected = createTempPathWithContent("assertJ++", defaultCharset());
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).hasSameBinaryContentAs(expected,
+                                                                                                         sampling(0.1)));
+    // THEN
+    then(assertionError).hasMessageContaining("does not have expected binary content at offset")
+                        .hasMessageContaining("when comparing contents sampled with");
+  }
+}
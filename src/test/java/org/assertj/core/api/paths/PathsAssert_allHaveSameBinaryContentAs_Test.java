@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.api.paths;
+
+import static org.assertj.core.api.Assertions.assertThatPaths;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.PathsAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for <code>{@link PathsAssert#allHaveSameBinaryContentAs(Path)}</code>.
+ */
+class PathsAssert_allHaveSameBinaryContentAs_Test {
+
+  @TempDir
+  Path tempDir;
+
+  private Path output;
+  private Path goldens;
+
+  @BeforeEach
+  void createDirectories() throws IOException {
+    output = Files.createDirectory(tempDir.resolve("output"));
+    goldens = Files.createDirectory(tempDir.resolve("goldens"));
+  }
+
+  @Test
+  void should_pass_if_all_paths_have_the_same_content_as_their_golden() throws IOException {
+    // GIVEN
+    List<Path> outputs = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      outputs.add(Files.write(output.resolve("file" + i), new byte[] { (byte) i }));
+      Files.write(goldens.resolve("file" + i), new byte[] { (byte) i });
+    }
+    // WHEN/THEN
+    assertThatPaths(outputs).allHaveSameBinaryContentAs(goldens);
+  }
+
+  @Test
+  void should_fail_with_all_the_differences() throws IOException {
+    // GIVEN
+    Path same = write(output, "same.bin", 1);
+    write(goldens, "same.bin", 1);
+    Path changed = write(output, "changed.bin", 1, 2);
+    write(goldens, "changed.bin", 1, 3);
+    Path unexpected = write(output, "unexpected.bin", 1);
+    List<Path> outputs = new ArrayList<>();
+    outputs.add(same);
+    outputs.add(changed);
+    outputs.add(unexpected);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatPaths(outputs).allHaveSameBinaryContentAs(goldens));
+    // THEN
+    then(assertionError).hasMessageContainingAll("Expecting all the 3 actual paths",
+                                                 "- paths without file with the same name in the expected directory (1):",
+                                                 unexpected.toString(),
+                                                 "- paths whose content differ (1):",
+                                                 changed + " differs at offset 1, expecting 0x3 but was 0x2")
+                        .hasMessageNotContaining(same.toString());
+  }
+
+  private static Path write(Path directory, String fileName, int... bytes) throws IOException {
+    byte[] content = new byte[bytes.length];
+    for (int i = 0; i < bytes.length; i++) content[i] = (byte) bytes[i];
+    return Files.write(directory.resolve(fileName), content);
+  }
+}
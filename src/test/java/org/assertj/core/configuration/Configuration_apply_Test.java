@@ -20,6 +20,8 @@ import java.util.Date;
 
 import org.assertj.core.api.AssumptionExceptionFactory;
 import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.DigestCache;
+import org.assertj.core.internal.ParallelIterableEvaluator;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.introspection.FieldSupport;
 import org.assertj.core.util.introspection.Introspection;
@@ -56,6 +58,9 @@ class Configuration_apply_Test {
     then(date).isEqualTo("2001_02_03")
               .isEqualTo("2001|02|03");
     then(AssumptionExceptionFactory.getPreferredAssumptionException()).isEqualTo(configuration.preferredAssumptionException());
+    then(ParallelIterableEvaluator.getParallelEvaluationThreshold()).isEqualTo(configuration.parallelEvaluationThreshold());
+    then(DigestCache.isEnabled()).isEqualTo(configuration.digestCacheEnabled());
+    then(DigestCache.getStoreDirectory()).isEqualTo(configuration.digestCacheDirectory());
   }
 
   @Test
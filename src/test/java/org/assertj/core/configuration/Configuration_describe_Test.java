@@ -15,6 +15,7 @@ package org.assertj.core.configuration;
 import static java.lang.String.format;
 import static org.assertj.core.api.BDDAssertions.then;
 
+import java.nio.file.Paths;
 import java.util.function.Consumer;
 
 import org.assertj.core.description.Description;
@@ -54,7 +55,16 @@ class Configuration_describe_Test {
                                        "- printAssertionsDescription ...................... = false%n" +
                                        "- descriptionConsumer ............................. = sysout%n" +
                                        "- removeAssertJRelatedElementsFromStackTraceEnabled = false%n" +
-                                       "- preferredAssumptionException .................... = TEST_NG(org.testng.SkipException)%n"));
+                                       "- preferredAssumptionException .................... = TEST_NG(org.testng.SkipException)%n" +
+                                       "- parallelEvaluationThreshold ..................... = 10000%n" +
+                                       "- maxRenderedSoftAssertionErrors .................. = 1001%n" +
+                                       "- assertionListener ............................... = RecordingAssertionListener%n" +
+                                       "- digestCacheEnabled .............................. = true%n" +
+                                       "- digestCacheDirectory ............................ = %s%n" +
+                                       "- directoryListingMaxDepth ........................ = 5%n" +
+                                       "- directoryListingMaxReportedEntries .............. = 101%n" +
+                                       "- diffContextLines ................................ = 51%n",
+                                       Paths.get("target", "digests")));
   }
 
   @AfterEach
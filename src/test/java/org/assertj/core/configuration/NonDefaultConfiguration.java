@@ -15,11 +15,15 @@ package org.assertj.core.configuration;
 import static org.assertj.core.presentation.BinaryRepresentation.BINARY_REPRESENTATION;
 import static org.assertj.core.util.Lists.list;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.List;
 
+import org.assertj.core.api.AssertionListener;
 import org.assertj.core.presentation.Representation;
+import org.assertj.core.test.RecordingAssertionListener;
 
 class NonDefaultConfiguration extends Configuration {
 
@@ -71,6 +75,46 @@ class NonDefaultConfiguration extends Configuration {
     return super.maxStackTraceElementsDisplayed () + 1;
   }
 
+  @Override
+  public int parallelEvaluationThreshold() {
+    return super.parallelEvaluationThreshold() + 10_000;
+  }
+
+  @Override
+  public int maxRenderedSoftAssertionErrors() {
+    return super.maxRenderedSoftAssertionErrors() + 1;
+  }
+
+  @Override
+  public AssertionListener assertionListener() {
+    return new RecordingAssertionListener();
+  }
+
+  @Override
+  public boolean digestCacheEnabled() {
+    return !super.digestCacheEnabled();
+  }
+
+  @Override
+  public Path digestCacheDirectory() {
+    return Paths.get("target", "digests");
+  }
+
+  @Override
+  public int directoryListingMaxDepth() {
+    return 5;
+  }
+
+  @Override
+  public int directoryListingMaxReportedEntries() {
+    return super.directoryListingMaxReportedEntries() + 1;
+  }
+
+  @Override
+  public int diffContextLines() {
+    return super.diffContextLines() + 1;
+  }
+
   @Override
   public List<DateFormat> additionalDateFormats() {
     return list(DATE_FORMAT1, DATE_FORMAT2);
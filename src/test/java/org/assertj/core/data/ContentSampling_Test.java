@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.data;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.data.ContentSampling.DEFAULT_BLOCK_SIZE;
+import static org.assertj.core.data.ContentSampling.DEFAULT_SEED;
+import static org.assertj.core.data.ContentSampling.sampling;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests for {@link ContentSampling}.
+ */
+class ContentSampling_Test {
+
+  @Test
+  void should_honor_equals_contract() {
+    // WHEN/THEN
+    EqualsVerifier.forClass(ContentSampling.class)
+                  .verify();
+  }
+
+  @Test
+  void sampling_should_use_default_block_size_and_seed() {
+    // WHEN
+    ContentSampling sampling = sampling(0.25);
+    // THEN
+    then(sampling.fraction).isEqualTo(0.25);
+    then(sampling.blockSize).isEqualTo(DEFAULT_BLOCK_SIZE);
+    then(sampling.seed).isEqualTo(DEFAULT_SEED);
+  }
+
+  @Test
+  void should_create_copies_with_given_block_size_and_seed() {
+    // GIVEN
+    ContentSampling sampling = sampling(0.25);
+    // WHEN
+    ContentSampling copy = sampling.withBlockSize(512).withSeed(42);
+    // THEN
+    then(copy.fraction).isEqualTo(0.25);
+    then(copy.blockSize).isEqualTo(512);
+    then(copy.seed).isEqualTo(42);
+    then(sampling).isEqualTo(sampling(0.25));
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = { 0.0, -0.5, 1.01, Double.NaN })
+  void sampling_should_fail_if_fraction_is_not_in_range(double fraction) {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> sampling(fraction));
+    // THEN
+    then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The sampled fraction <%s> should be greater than zero and less than or equal to one", fraction);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = { 0, -1 })
+  void withBlockSize_should_fail_if_block_size_is_not_positive(int blockSize) {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> sampling(1).withBlockSize(blockSize));
+    // THEN
+    then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The sampled block size <%s> should be greater than zero", blockSize);
+  }
+
+  @Test
+  void should_implement_toString() {
+    // GIVEN
+    ContentSampling sampling = sampling(0.5).withBlockSize(512).withSeed(42);
+    // WHEN/THEN
+    then(sampling).hasToString("ContentSampling[fraction=0.5, blockSize=512, seed=42]");
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldAllHaveSameBinaryContent.shouldAllHaveSameBinaryContent;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Lists.emptyList;
+import static org.assertj.core.util.Lists.list;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.internal.TestDescription;
+import org.junit.jupiter.api.Test;
+
+class ShouldAllHaveSameBinaryContent_create_Test {
+
+  private static final TestDescription DESCRIPTION = new TestDescription("Test");
+
+  private final Path goldens = Paths.get("goldens");
+
+  @Test
+  void should_create_error_message_with_all_kinds_of_differences() {
+    // GIVEN
+    List<Path> unreadable = list(Paths.get("unreadable.bin"));
+    List<Path> sharingFileName = list(Paths.get("x", "c.bin"), Paths.get("y", "c.bin"));
+    List<Path> withoutExpected = list(Paths.get("new.bin"));
+    Map<Path, BinaryDiffResult> differing = singletonMap(Paths.get("a.bin"), new BinaryDiffResult(3, 1, 2));
+    // WHEN
+    String message = shouldAllHaveSameBinaryContent(10, goldens, unreadable, sharingFileName,
+                                                    withoutExpected, differing).create(DESCRIPTION, STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting all the 10 actual paths to have the same binary content as the file with the same name in:%n" +
+                                   "  goldens%n" +
+                                   "but:%n" +
+                                   "- paths that are not readable files (1):%n" +
+                                   "  [unreadable.bin]%n" +
+                                   "- paths sharing their file name with another actual path (2):%n" +
+                                   "  [%s, %s]%n" +
+                                   "- paths without file with the same name in the expected directory (1):%n" +
+                                   "  [new.bin]%n" +
+                                   "- paths whose content differ (1):%n" +
+                                   "  [a.bin differs at offset 3, expecting 0x1 but was 0x2]",
+                                   sharingFileName.get(0), sharingFileName.get(1)));
+  }
+
+  @Test
+  void should_bound_the_number_of_displayed_paths() {
+    // GIVEN
+    Map<Path, BinaryDiffResult> differing = new LinkedHashMap<>();
+    IntStream.range(0, 1000).forEach(i -> differing.put(Paths.get("file" + i), new BinaryDiffResult(i, 1, 2)));
+    // WHEN
+    String message = shouldAllHaveSameBinaryContent(1000, goldens, emptyList(), emptyList(),
+                                                    emptyList(), differing).create(DESCRIPTION, STANDARD_REPRESENTATION);
+    // THEN
+    then(message).contains("- paths whose content differ (1000):")
+                 .contains("file9 differs at offset 9,", "file990 differs", "file999 differs at offset 999,")
+                 .doesNotContain("file10 ", "file989 ")
+                 .doesNotContain("paths that are not readable files");
+  }
+}
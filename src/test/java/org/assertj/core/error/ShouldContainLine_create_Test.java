@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldContainLine.shouldContainLine;
+import static org.assertj.core.presentation.HexadecimalRepresentation.HEXA_REPRESENTATION;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.assertj.core.internal.TestDescription;
+import org.junit.jupiter.api.Test;
+
+class ShouldContainLine_create_Test {
+
+  private static final InputStream ACTUAL = new ByteArrayInputStream(new byte[0]);
+
+  @Test
+  void should_create_error_message() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldContainLine(ACTUAL, UTF_8, "line", 12);
+    // WHEN
+    String message = factory.create(new TestDescription("TEST"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[TEST] %n" +
+                                   "Expecting content of:%n" +
+                                   "  " + ACTUAL + "%n" +
+                                   "read with UTF-8 charset to contain line:%n" +
+                                   "  \"line\"%n" +
+                                   "but none of its 12 lines was equal to it"));
+  }
+
+  @Test
+  void should_not_format_the_line_count_with_the_representation() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldContainLine(ACTUAL, UTF_8, "line", 12);
+    // WHEN
+    String message = factory.create(new TestDescription("TEST"), HEXA_REPRESENTATION);
+    // THEN
+    then(message).endsWith("but none of its 12 lines was equal to it");
+  }
+}
@@ -22,6 +22,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.assertj.core.description.TextDescription;
+import org.assertj.core.internal.DirectoryListingResult;
 import org.junit.jupiter.api.Test;
 
 class ShouldContainRecursively_create_Test {
@@ -64,4 +65,40 @@ class ShouldContainRecursively_create_Test {
                                       bar.toString());
   }
 
+  @Test
+  void should_create_error_message_reporting_the_number_of_entries_when_the_listing_is_truncated() {
+    // GIVEN
+    Path root = Paths.get("root");
+    DirectoryListingResult<Path> content = new DirectoryListingResult<>(list(root.resolve("a"), root.resolve("b")), 10, true);
+    ErrorMessageFactory factory = directoryShouldContainRecursively(root, content, "regex:.*txt");
+    // WHEN
+    String message = factory.create(new TextDescription("Test"));
+    // THEN
+    then(message).containsSubsequence("The directory content was (2 of 10 entries displayed):",
+                                      root.resolve("a").toString(),
+                                      root.resolve("b").toString());
+  }
+
+  @Test
+  void should_create_error_message_reporting_that_the_listing_was_stopped() {
+    // GIVEN
+    File root = new File("root");
+    DirectoryListingResult<File> content = new DirectoryListingResult<>(list(new File(root, "a")), 1000, false);
+    ErrorMessageFactory factory = directoryShouldContainRecursively(root, content, "regex:.*txt");
+    // WHEN
+    String message = factory.create(new TextDescription("Test"));
+    // THEN
+    then(message).contains("The directory content was (1 of more than 1000 entries displayed, the listing was stopped):");
+  }
+
+  @Test
+  void should_create_the_usual_error_message_when_the_listing_is_not_truncated() {
+    // GIVEN
+    Path root = Paths.get("root");
+    DirectoryListingResult<Path> content = new DirectoryListingResult<>(list(root.resolve("a")), 1, true);
+    // WHEN
+    ErrorMessageFactory factory = directoryShouldContainRecursively(root, content, "regex:.*txt");
+    // THEN
+    then(factory).isEqualTo(directoryShouldContainRecursively(root, list(root.resolve("a")), "regex:.*txt"));
+  }
 }
@@ -30,6 +30,7 @@ import java.util.Map;
 import org.assertj.core.data.MapEntry;
 import org.assertj.core.description.TextDescription;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
+import org.assertj.core.internal.DirectoryListingResult;
 import org.assertj.core.test.Jedi;
 import org.assertj.core.util.CaseInsensitiveStringComparator;
 import org.junit.jupiter.api.Test;
@@ -341,4 +342,22 @@ class ShouldContain_create_Test {
                                    "  [foo.txt, bar.txt]"));
   }
 
+  @Test
+  void should_create_error_message_for_path_directory_reporting_the_number_of_entries_when_the_listing_is_truncated() {
+    // GIVEN
+    Path directory = mock(Path.class);
+    given(directory.toString()).willReturn("root");
+    DirectoryListingResult<String> content = new DirectoryListingResult<>(list("foo.txt", "bar.txt"), 5, true);
+    ErrorMessageFactory factory = directoryShouldContain(directory, content, "glob:**.java");
+    // WHEN
+    String message = factory.create(new TextDescription("Test"));
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting directory:%n" +
+                                   "  root%n" +
+                                   "to contain at least one file matching glob:**.java but there was none.%n" +
+                                   "The directory content was (2 of 5 entries displayed):%n" +
+                                   "  [foo.txt, bar.txt]"));
+  }
+
 }
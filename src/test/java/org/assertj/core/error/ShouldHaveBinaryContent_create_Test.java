@@ -13,10 +13,14 @@
 package org.assertj.core.error;
 
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.data.ContentSampling.sampling;
 import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import org.assertj.core.internal.BinaryDiffResult;
 import org.assertj.core.internal.TestDescription;
@@ -42,4 +46,42 @@ class ShouldHaveBinaryContent_create_Test {
                                  actual);
   }
 
+  @Test
+  void should_create_error_message_with_ByteBuffer() {
+    // GIVEN
+    ByteBuffer actual = ByteBuffer.wrap(new byte[] { 1, 3 });
+    BinaryDiffResult diff = new BinaryDiffResult(1, 11, 3);
+    // WHEN
+    String errorMessage = shouldHaveBinaryContent(actual, diff).create(new TestDescription("TEST"));
+    // THEN
+    then(errorMessage).isEqualTo("[TEST] %n"
+                                 + "ByteBuffer:%n"
+                                 + "  %s%n"
+                                 + "does not have expected binary content at offset 1 from its position, expecting:%n"
+                                 + "  \"0xB\"%n"
+                                 + "but was:%n"
+                                 + "  \"0x3\"",
+                                 actual);
+  }
+
+  @Test
+  void should_create_error_message_with_sampling() {
+    // GIVEN
+    Path actual = Paths.get("huge.bin");
+    BinaryDiffResult diff = new BinaryDiffResult(5_000_000_000L, 11, 3);
+    // WHEN
+    String errorMessage = shouldHaveBinaryContent(actual, diff, sampling(0.01)).create(new TestDescription("TEST"));
+    // THEN
+    then(errorMessage).isEqualTo("[TEST] %n"
+                                 + "Path:%n"
+                                 + "  %s%n"
+                                 + "does not have expected binary content at offset 5000000000, expecting:%n"
+                                 + "  \"0xB\"%n"
+                                 + "but was:%n"
+                                 + "  \"0x3\"%n"
+                                 + "when comparing contents sampled with:%n"
+                                 + "  ContentSampling[fraction=0.01, blockSize=4096, seed=0]",
+                                 actual);
+  }
+
 }
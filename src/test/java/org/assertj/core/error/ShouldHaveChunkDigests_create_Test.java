@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveChunkDigests.shouldHaveChunkDigests;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Lists.emptyList;
+import static org.assertj.core.util.Lists.list;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.assertj.core.internal.TestDescription;
+import org.junit.jupiter.api.Test;
+
+class ShouldHaveChunkDigests_create_Test {
+
+  private static final TestDescription DESCRIPTION = new TestDescription("Test");
+
+  private final Path actual = Paths.get("data.bin");
+
+  @Test
+  void should_create_error_message_with_differing_chunks_and_chunk_count() {
+    // WHEN
+    String message = shouldHaveChunkDigests(actual, "SHA-256", 1024, 4, 3, list(0, 2)).create(DESCRIPTION,
+                                                                                              STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting path:%n" +
+                                   "  data.bin%n" +
+                                   "to match the SHA-256 digests of its 1024 bytes chunks but:%n" +
+                                   "- it has 3 chunks instead of 4%n" +
+                                   "- the digests of 2 chunks differ, at indexes:%n" +
+                                   "  [0, 2]"));
+  }
+
+  @Test
+  void should_create_error_message_with_differing_chunk_count_only() {
+    // WHEN
+    String message = shouldHaveChunkDigests(actual, "MD5", 10, 1, 2, emptyList()).create(DESCRIPTION, STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting path:%n" +
+                                   "  data.bin%n" +
+                                   "to match the MD5 digests of its 10 bytes chunks but:%n" +
+                                   "- it has 2 chunks instead of 1"));
+  }
+
+  @Test
+  void should_create_error_message_for_a_file() {
+    // GIVEN
+    File file = new File("data.bin");
+    // WHEN
+    String message = shouldHaveChunkDigests(file, "MD5", 10, 1, 2, emptyList()).create(DESCRIPTION, STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting file:%n" +
+                                   "  " + file.getAbsolutePath() + "%n" +
+                                   "to match the MD5 digests of its 10 bytes chunks but:%n" +
+                                   "- it has 2 chunks instead of 1"));
+  }
+
+  @Test
+  void should_bound_the_number_of_displayed_chunk_indexes() {
+    // GIVEN
+    List<Integer> differingChunks = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+    // WHEN
+    String message = shouldHaveChunkDigests(actual, "SHA-256", 1024, 1000, 1000, differingChunks).create(DESCRIPTION,
+                                                                                                         STANDARD_REPRESENTATION);
+    // THEN
+    then(message).contains("- the digests of 1000 chunks differ, at indexes:")
+                 .contains("[0,", "9,", "...", "990,", "999]")
+                 .doesNotContain("10,", "989,");
+  }
+}
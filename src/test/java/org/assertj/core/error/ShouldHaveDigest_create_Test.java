@@ -20,6 +20,7 @@ import static org.mockito.Mockito.mock;
 
 import java.io.File;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 
@@ -81,4 +82,17 @@ class ShouldHaveDigest_create_Test {
                                    "  \"" + diff.getActual() + "\""));
   }
 
+  @Test
+  void should_create_error_message_with_ByteBuffer() {
+    // GIVEN
+    ByteBuffer actual = ByteBuffer.wrap(new byte[] { 1, 3 });
+    // WHEN
+    String message = shouldHaveDigest(actual, diff).create(TEST_DESCRIPTION, STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[TEST] %n" +
+                                   "Expecting ByteBuffer " + actual + " MD5 digest to be:%n" +
+                                   "  \"" + diff.getExpected() + "\"%n" +
+                                   "but was:%n" +
+                                   "  \"" + diff.getActual() + "\""));
+  }
 }
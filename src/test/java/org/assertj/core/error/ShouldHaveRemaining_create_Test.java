@@ -0,0 +1,38 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveRemaining.shouldHaveRemaining;
+
+import java.nio.ByteBuffer;
+
+import org.assertj.core.internal.TestDescription;
+import org.junit.jupiter.api.Test;
+
+class ShouldHaveRemaining_create_Test {
+
+  @Test
+  void should_create_error_message() {
+    // GIVEN
+    ByteBuffer actual = ByteBuffer.allocate(1_500);
+    // WHEN
+    String errorMessage = shouldHaveRemaining(actual, 2_000).create(new TestDescription("TEST"));
+    // THEN
+    then(errorMessage).isEqualTo("[TEST] %n"
+                                 + "Expecting ByteBuffer:%n"
+                                 + "  %s%n"
+                                 + "to have 2000 remaining bytes but had 1500",
+                                 actual);
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveSameTreeContent.shouldHaveSameTreeContent;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Lists.emptyList;
+import static org.assertj.core.util.Lists.list;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.assertj.core.internal.TestDescription;
+import org.assertj.core.internal.TreeDiffResult;
+import org.junit.jupiter.api.Test;
+
+class ShouldHaveSameTreeContent_create_Test {
+
+  private static final TestDescription DESCRIPTION = new TestDescription("Test");
+
+  private final Path actual = Paths.get("actual");
+  private final Path expected = Paths.get("expected");
+
+  @Test
+  void should_create_error_message_with_all_kinds_of_differences() {
+    // GIVEN
+    TreeDiffResult diff = new TreeDiffResult(list("added.txt"), list("lib/removed.bin", "lib/removed2.bin"), list("changed"));
+    // WHEN
+    String message = shouldHaveSameTreeContent(actual, expected, diff).create(DESCRIPTION, STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting directory:%n" +
+                                   "  actual%n" +
+                                   "to have the same tree content as:%n" +
+                                   "  expected%n" +
+                                   "but:%n" +
+                                   "- entries only in actual (1):%n" +
+                                   "  [\"added.txt\"]%n" +
+                                   "- entries only in expected (2):%n" +
+                                   "  [\"lib/removed.bin\", \"lib/removed2.bin\"]%n" +
+                                   "- entries whose type, size or content differ (1):%n" +
+                                   "  [\"changed\"]"));
+  }
+
+  @Test
+  void should_only_display_the_kinds_of_differences_found() {
+    // GIVEN
+    TreeDiffResult diff = new TreeDiffResult(emptyList(), emptyList(), list("changed"));
+    // WHEN
+    String message = shouldHaveSameTreeContent(actual, expected, diff).create(DESCRIPTION, STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting directory:%n" +
+                                   "  actual%n" +
+                                   "to have the same tree content as:%n" +
+                                   "  expected%n" +
+                                   "but:%n" +
+                                   "- entries whose type, size or content differ (1):%n" +
+                                   "  [\"changed\"]"));
+  }
+
+  @Test
+  void should_bound_the_number_of_displayed_entries() {
+    // GIVEN
+    List<String> added = IntStream.range(0, 1000).mapToObj(i -> "file" + i).collect(Collectors.toList());
+    TreeDiffResult diff = new TreeDiffResult(added, emptyList(), emptyList());
+    // WHEN
+    String message = shouldHaveSameTreeContent(actual, expected, diff).create(DESCRIPTION, STANDARD_REPRESENTATION);
+    // THEN
+    then(message).contains("- entries only in actual (1000):")
+                 .contains("\"file0\"", "\"file9\"", "...", "\"file990\"", "\"file999\"")
+                 .doesNotContain("\"file10\"", "\"file989\"");
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+class BinaryDiffResult_Test {
+
+  @SuppressWarnings("deprecation")
+  @Test
+  void should_keep_the_int_offset_of_small_contents() {
+    // WHEN
+    BinaryDiffResult result = new BinaryDiffResult(3, 1, 2);
+    // THEN
+    then(result.offset()).isEqualTo(3L);
+    then(result.offset).isEqualTo(3);
+  }
+
+  @SuppressWarnings("deprecation")
+  @Test
+  void should_saturate_the_int_offset_of_contents_larger_than_2GB() {
+    // GIVEN
+    long offset = Integer.MAX_VALUE + 10L;
+    // WHEN
+    BinaryDiffResult result = new BinaryDiffResult(offset, 1, 2);
+    // THEN
+    then(result.offset()).isEqualTo(offset);
+    then(result.offset).isEqualTo(Integer.MAX_VALUE);
+    then(result.hasDiff()).isTrue();
+  }
+
+  @SuppressWarnings("deprecation")
+  @Test
+  void should_report_no_diff() {
+    // WHEN
+    BinaryDiffResult result = BinaryDiffResult.noDiff();
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+    then(result.offset()).isEqualTo(-1L);
+    then(result.offset).isEqualTo(-1);
+  }
+}
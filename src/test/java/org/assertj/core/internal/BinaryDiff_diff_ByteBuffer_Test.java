@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.BinaryDiff.BLOCK_SIZE;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(ByteBuffer, ByteBuffer)}</code> and
+ * <code>{@link BinaryDiff#diff(ByteBuffer, byte[])}</code>.
+ */
+class BinaryDiff_diff_ByteBuffer_Test {
+
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
+  @Test
+  void should_return_no_diff_if_remaining_bytes_are_equal() {
+    // GIVEN
+    ByteBuffer actual = ByteBuffer.allocateDirect(3 * BLOCK_SIZE + 17);
+    ByteBuffer expected = ByteBuffer.allocate(3 * BLOCK_SIZE + 17);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_compare_remaining_bytes_only_and_leave_buffers_untouched() {
+    // GIVEN
+    ByteBuffer actual = ByteBuffer.wrap(new byte[] { 9, 1, 2, 9 });
+    actual.position(1);
+    actual.limit(3);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, new byte[] { 1, 2 });
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+    then(actual.position()).isEqualTo(1);
+    then(actual.limit()).isEqualTo(3);
+  }
+
+  @Test
+  void should_return_diff_at_offset_from_position_in_a_later_block() {
+    // GIVEN
+    int offset = 2 * BLOCK_SIZE + 5;
+    ByteBuffer actual = ByteBuffer.allocateDirect(3 * BLOCK_SIZE + 1);
+    actual.put(1 + offset, (byte) 0x21);
+    actual.position(1);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, new byte[3 * BLOCK_SIZE]);
+    // THEN
+    then(result.offset()).isEqualTo(offset);
+    then(result.actual).isEqualTo("0x21");
+    then(result.expected).isEqualTo("0x0");
+  }
+
+  @Test
+  void should_return_diff_at_end_of_shorter_content() {
+    // GIVEN
+    ByteBuffer actual = ByteBuffer.wrap(new byte[] { 1, 2 });
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+    // THEN
+    then(result.offset()).isEqualTo(2);
+    then(result.actual).isEqualTo("EOF");
+    then(result.expected).isEqualTo("0x3");
+  }
+}
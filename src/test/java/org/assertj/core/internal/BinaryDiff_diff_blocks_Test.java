@@ -0,0 +1,161 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.BinaryDiff.BLOCK_SIZE;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for <code>{@link BinaryDiff}</code> on contents spanning several blocks.
+ */
+class BinaryDiff_diff_blocks_Test {
+
+  private static final int CONTENT_SIZE = 3 * BLOCK_SIZE + 17;
+
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_return_no_diff_if_paths_have_equal_content() throws IOException {
+    // GIVEN
+    Path actual = write("actual", content(CONTENT_SIZE));
+    Path expected = write("expected", content(CONTENT_SIZE));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_no_diff_if_paths_are_the_same_file() throws IOException {
+    // GIVEN
+    Path actual = write("actual", content(CONTENT_SIZE));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, actual);
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_exact_offset_of_a_difference_in_a_later_block() throws IOException {
+    // GIVEN
+    byte[] actualContent = content(CONTENT_SIZE);
+    int offset = 2 * BLOCK_SIZE + 5;
+    actualContent[offset] = (byte) 0xCA;
+    Path actual = write("actual", actualContent);
+    Path expected = write("expected", content(CONTENT_SIZE));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.offset()).isEqualTo(offset);
+    then(result.actual).isEqualTo("0xCA");
+    then(result.expected).isEqualTo(describe(content(CONTENT_SIZE)[offset]));
+  }
+
+  @Test
+  void should_return_diff_at_end_of_shorter_actual_path() throws IOException {
+    // GIVEN
+    Path actual = write("actual", content(2 * BLOCK_SIZE));
+    Path expected = write("expected", content(CONTENT_SIZE));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.offset()).isEqualTo(2 * BLOCK_SIZE);
+    then(result.actual).isEqualTo("EOF");
+    then(result.expected).isEqualTo(describe(content(CONTENT_SIZE)[2 * BLOCK_SIZE]));
+  }
+
+  @Test
+  void should_return_diff_at_end_of_shorter_expected_path() throws IOException {
+    // GIVEN
+    Path actual = write("actual", content(CONTENT_SIZE));
+    Path expected = write("expected", content(CONTENT_SIZE - 1));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.offset()).isEqualTo(CONTENT_SIZE - 1);
+    then(result.actual).isEqualTo(describe(content(CONTENT_SIZE)[CONTENT_SIZE - 1]));
+    then(result.expected).isEqualTo("EOF");
+  }
+
+  @Test
+  void should_return_exact_offset_of_a_difference_between_path_and_bytes() throws IOException {
+    // GIVEN
+    Path actual = write("actual", content(CONTENT_SIZE));
+    byte[] expected = content(CONTENT_SIZE);
+    expected[BLOCK_SIZE] = (byte) 0xFE;
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.offset()).isEqualTo(BLOCK_SIZE);
+    then(result.expected).isEqualTo("0xFE");
+  }
+
+  @Test
+  void should_compare_streams_returning_partial_reads() throws IOException {
+    // GIVEN
+    byte[] expectedContent = content(CONTENT_SIZE);
+    expectedContent[CONTENT_SIZE - 1] = (byte) 0xBE;
+    ByteArrayInputStream actual = new ByteArrayInputStream(content(CONTENT_SIZE)) {
+      @Override
+      public synchronized int read(byte[] b, int off, int len) {
+        // simulates a stream returning less bytes than requested
+        return super.read(b, off, Math.min(len, 1000));
+      }
+    };
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, new ByteArrayInputStream(expectedContent));
+    // THEN
+    then(result.offset()).isEqualTo(CONTENT_SIZE - 1);
+    then(result.expected).isEqualTo("0xBE");
+  }
+
+  @Test
+  void should_find_first_mismatch_of_blocks() {
+    // GIVEN
+    byte[] actual = content(100);
+    byte[] expected = Arrays.copyOf(actual, 100);
+    expected[42] = (byte) ~expected[42];
+    // WHEN/THEN
+    then(BinaryDiff.mismatch(actual, expected, 100)).isEqualTo(42);
+    then(BinaryDiff.mismatch(actual, expected, 42)).isEqualTo(-1);
+    then(BinaryDiff.mismatch(actual, actual.clone(), 100)).isEqualTo(-1);
+  }
+
+  private Path write(String fileName, byte[] content) throws IOException {
+    return Files.write(tempDir.resolve(fileName), content);
+  }
+
+  private static byte[] content(int size) {
+    byte[] content = new byte[size];
+    for (int i = 0; i < size; i++) {
+      content[i] = (byte) (i * 31 + i / 251);
+    }
+    return content;
+  }
+
+  private static String describe(byte b) {
+    return "0x" + Integer.toHexString(b & 0xFF).toUpperCase();
+  }
+}
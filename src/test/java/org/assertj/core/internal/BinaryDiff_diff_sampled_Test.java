@@ -0,0 +1,158 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.data.ContentSampling.sampling;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import org.assertj.core.data.ContentSampling;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(Path, Path, ContentSampling)}</code>.
+ */
+class BinaryDiff_diff_sampled_Test {
+
+  private static final int BLOCK_SIZE = 16;
+  private static final int BLOCK_COUNT = 100;
+
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_draw_one_block_in_each_stratum_in_increasing_order() {
+    // WHEN
+    List<Long> blocks = sampledBlocks(BLOCK_COUNT, sampling(0.1));
+    // THEN
+    then(blocks).hasSize(10);
+    for (int stratum = 0; stratum < 10; stratum++) {
+      then(blocks.get(stratum)).isBetween(stratum * 10L, stratum * 10L + 9);
+    }
+  }
+
+  @Test
+  void should_draw_the_same_blocks_with_the_same_seed() {
+    then(sampledBlocks(BLOCK_COUNT, sampling(0.1).withSeed(42))).isEqualTo(sampledBlocks(BLOCK_COUNT, sampling(0.1).withSeed(42)))
+                                                                 .isNotEqualTo(sampledBlocks(BLOCK_COUNT,
+                                                                                             sampling(0.1).withSeed(43)));
+  }
+
+  @Test
+  void should_draw_every_block_when_sampling_the_whole_content() {
+    then(sampledBlocks(5, sampling(1))).containsExactly(0L, 1L, 2L, 3L, 4L);
+  }
+
+  @Test
+  void should_draw_at_least_one_block_of_a_non_empty_content() {
+    then(sampledBlocks(3, sampling(0.0001))).hasSize(1);
+    then(sampledBlocks(0, sampling(0.0001))).isEmpty();
+  }
+
+  @Test
+  void should_return_no_diff_if_sampled_blocks_are_equal() throws IOException {
+    // GIVEN
+    Path actual = write("actual", content());
+    Path expected = write("expected", content());
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected, sampling(0.1).withBlockSize(BLOCK_SIZE));
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_in_a_sampled_block() throws IOException {
+    // GIVEN
+    ContentSampling sampling = sampling(0.1).withBlockSize(BLOCK_SIZE).withSeed(7);
+    long sampledBlock = sampledBlocks(BLOCK_COUNT, sampling).get(3);
+    byte[] actualContent = content();
+    int offset = (int) sampledBlock * BLOCK_SIZE + 5;
+    actualContent[offset] = (byte) 0xFE;
+    Path actual = write("actual", actualContent);
+    Path expected = write("expected", content());
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected, sampling);
+    // THEN
+    then(result.offset()).isEqualTo(offset);
+    then(result.actual).isEqualTo("0xFE");
+    then(result.expected).isEqualTo("0x" + Integer.toHexString(offset % 256).toUpperCase());
+  }
+
+  @Test
+  void should_not_detect_diff_in_a_block_that_is_not_sampled() throws IOException {
+    // GIVEN
+    ContentSampling sampling = sampling(0.1).withBlockSize(BLOCK_SIZE);
+    List<Long> sampledBlocks = sampledBlocks(BLOCK_COUNT, sampling);
+    long notSampledBlock = sampledBlocks.get(0) == 0 ? 1 : 0;
+    byte[] actualContent = content();
+    actualContent[(int) notSampledBlock * BLOCK_SIZE] = (byte) 0xFE;
+    Path actual = write("actual", actualContent);
+    Path expected = write("expected", content());
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected, sampling);
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_at_end_of_shorter_content_if_sizes_differ() throws IOException {
+    // GIVEN
+    Path actual = write("actual", new byte[] { 1, 2 });
+    Path expected = write("expected", new byte[] { 1, 2, 3 });
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected, sampling(0.1));
+    // THEN
+    then(result.offset()).isEqualTo(2);
+    then(result.actual).isEqualTo("EOF");
+    then(result.expected).isEqualTo("0x3");
+  }
+
+  @Test
+  void should_compare_last_partial_block() throws IOException {
+    // GIVEN
+    Path actual = write("actual", new byte[] { 1, 2, 3, 4, 5 });
+    Path expected = write("expected", new byte[] { 1, 2, 3, 4, 6 });
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected, sampling(1).withBlockSize(3));
+    // THEN
+    then(result.offset()).isEqualTo(4);
+  }
+
+  private static List<Long> sampledBlocks(long blockCount, ContentSampling sampling) {
+    List<Long> blocks = new ArrayList<>();
+    PrimitiveIterator.OfLong iterator = BinaryDiff.sampledBlocks(blockCount, sampling);
+    iterator.forEachRemaining((long block) -> blocks.add(block));
+    return blocks;
+  }
+
+  private static byte[] content() {
+    byte[] content = new byte[BLOCK_COUNT * BLOCK_SIZE];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    return content;
+  }
+
+  private Path write(String fileName, byte[] content) throws IOException {
+    return Files.write(tempDir.resolve(fileName), content);
+  }
+}
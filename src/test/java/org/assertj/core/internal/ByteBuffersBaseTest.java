@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.test.TestData.someInfo;
+import static org.mockito.Mockito.spy;
+
+import java.nio.ByteBuffer;
+
+import org.assertj.core.api.AssertionInfo;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * Base class for {@link ByteBuffers} unit tests
+ * <p>
+ * Is in <code>org.assertj.core.internal</code> package to be able to set {@link ByteBuffers} attributes appropriately.
+ */
+public class ByteBuffersBaseTest {
+
+  protected static final AssertionInfo INFO = someInfo();
+
+  protected Failures failures;
+  protected ByteBuffers byteBuffers;
+
+  @BeforeEach
+  public void setUp() {
+    failures = spy(new Failures());
+    byteBuffers = new ByteBuffers();
+    byteBuffers.failures = failures;
+  }
+
+  // a direct buffer whose remaining bytes are the given ones, preceded by a byte before its position
+  protected static ByteBuffer directBuffer(byte... remainingBytes) {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(remainingBytes.length + 1);
+    buffer.put((byte) -1).put(remainingBytes);
+    buffer.flip();
+    buffer.get();
+    return buffer;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests for <code>{@link ByteBuffers#indexOf(ByteBuffer, byte[])}</code>.
+ */
+class ByteBuffers_indexOf_Test {
+
+  @ParameterizedTest(name = "{0} in {1} -> {2}")
+  @MethodSource
+  void should_return_offset_of_first_occurrence_from_position(byte[] sequence, byte[] content, int expected) {
+    // GIVEN
+    ByteBuffer buffer = ByteBuffer.allocate(content.length + 2);
+    buffer.put((byte) 7).put(content).put((byte) 7);
+    buffer.position(1);
+    buffer.limit(content.length + 1);
+    // WHEN
+    int index = ByteBuffers.indexOf(buffer, sequence);
+    // THEN
+    then(index).isEqualTo(expected);
+  }
+
+  static Stream<Arguments> should_return_offset_of_first_occurrence_from_position() {
+    return Stream.of(Arguments.of(bytes(), bytes(1, 2), 0),
+                     Arguments.of(bytes(1), bytes(), -1),
+                     Arguments.of(bytes(1, 2), bytes(1, 2), 0),
+                     Arguments.of(bytes(2, 3), bytes(1, 2, 3), 1),
+                     Arguments.of(bytes(1, 2, 1), bytes(1, 2, 2, 1, 2, 1, 2), 3),
+                     Arguments.of(bytes(-1, -2), bytes(1, -1, -2), 1),
+                     // bytes around the remaining ones must not be matched
+                     Arguments.of(bytes(7, 1), bytes(1, 2), -1),
+                     Arguments.of(bytes(2, 7), bytes(1, 2), -1),
+                     Arguments.of(bytes(1, 2, 3), bytes(1, 2), -1));
+  }
+
+  @Test
+  void should_find_the_same_offset_as_a_naive_search() {
+    Random random = new Random(42);
+    for (int i = 0; i < 1_000; i++) {
+      // GIVEN
+      byte[] content = new byte[random.nextInt(64)];
+      byte[] sequence = new byte[1 + random.nextInt(4)];
+      // a small alphabet produces many partial matches
+      for (int j = 0; j < content.length; j++) content[j] = (byte) random.nextInt(3);
+      for (int j = 0; j < sequence.length; j++) sequence[j] = (byte) random.nextInt(3);
+      // WHEN
+      int index = ByteBuffers.indexOf(ByteBuffer.wrap(content), sequence);
+      // THEN
+      then(index).isEqualTo(naiveIndexOf(content, sequence));
+    }
+  }
+
+  private static int naiveIndexOf(byte[] content, byte[] sequence) {
+    outer: for (int i = 0; i <= content.length - sequence.length; i++) {
+      for (int j = 0; j < sequence.length; j++) {
+        if (content[i + j] != sequence[j]) continue outer;
+      }
+      return i;
+    }
+    return -1;
+  }
+
+  private static byte[] bytes(int... values) {
+    byte[] bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++) bytes[i] = (byte) values[i];
+    return bytes;
+  }
+}
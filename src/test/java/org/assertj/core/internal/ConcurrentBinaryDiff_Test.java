@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for <code>{@link ConcurrentBinaryDiff#diff(List, List)}</code>.
+ */
+class ConcurrentBinaryDiff_Test {
+
+  private final ConcurrentBinaryDiff concurrentBinaryDiff = new ConcurrentBinaryDiff();
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_return_the_result_of_each_pair_in_order() throws IOException {
+    // GIVEN
+    List<Path> actual = new ArrayList<>();
+    List<Path> expected = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      actual.add(write("actual" + i, new byte[] { (byte) i, 1 }));
+      // every tenth pair differs on its second byte
+      expected.add(write("expected" + i, new byte[] { (byte) i, (byte) (i % 10 == 0 ? 2 : 1) }));
+    }
+    // WHEN
+    List<BinaryDiffResult> results = concurrentBinaryDiff.diff(actual, expected);
+    // THEN
+    then(results).hasSize(50);
+    for (int i = 0; i < 50; i++) {
+      then(results.get(i).hasDiff()).as("pair %s", i).isEqualTo(i % 10 == 0);
+    }
+    then(results.get(10).offset()).isEqualTo(1);
+  }
+
+  @Test
+  void should_compare_a_single_pair() throws IOException {
+    // GIVEN
+    Path actual = write("actual", new byte[] { 1 });
+    Path expected = write("expected", new byte[] { 1 });
+    // WHEN
+    List<BinaryDiffResult> results = concurrentBinaryDiff.diff(list(actual), list(expected));
+    // THEN
+    then(results).hasSize(1);
+    then(results.get(0).hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_rethrow_IOException_of_any_pair() throws IOException {
+    // GIVEN
+    Path actual = write("actual", new byte[] { 1 });
+    Path missing = tempDir.resolve("missing");
+    // WHEN
+    Throwable thrown = catchThrowable(() -> concurrentBinaryDiff.diff(list(actual, actual, actual),
+                                                                      list(actual, missing, actual)));
+    // THEN
+    then(thrown).isInstanceOf(NoSuchFileException.class);
+  }
+
+  @Test
+  void should_fail_if_there_are_not_as_many_actual_as_expected_paths() throws IOException {
+    // GIVEN
+    Path actual = write("actual", new byte[] { 1 });
+    // WHEN
+    Throwable thrown = catchThrowable(() -> concurrentBinaryDiff.diff(list(actual), list(actual, actual)));
+    // THEN
+    then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("1 actual paths can't be compared to 2 expected paths");
+  }
+
+  private Path write(String fileName, byte[] content) throws IOException {
+    return Files.write(tempDir.resolve(fileName), content);
+  }
+}
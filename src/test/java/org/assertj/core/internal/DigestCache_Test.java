@@ -0,0 +1,152 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.file.Files.setLastModifiedTime;
+import static java.nio.file.Files.write;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DigestCache_Test {
+
+  private static final FileTime ONE_HOUR_AGO = FileTime.from(Instant.now().minusSeconds(3600));
+
+  @TempDir
+  Path tempDir;
+
+  private final AtomicInteger digestCount = new AtomicInteger();
+  private Path file;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    DigestCache.setEnabled(true);
+    file = write(tempDir.resolve("golden.bin"), new byte[] { 1, 2, 3 });
+    setLastModifiedTime(file, ONE_HOUR_AGO);
+  }
+
+  @AfterEach
+  void tearDown() {
+    DigestCache.setEnabled(false);
+    DigestCache.setStoreDirectory(null);
+  }
+
+  @Test
+  void should_not_digest_an_unchanged_file_again() throws IOException {
+    // GIVEN
+    DigestCache digestCache = new DigestCache();
+    // WHEN
+    byte[] first = digestCache.digestOf(file, "SHA-256", this::digest);
+    byte[] second = digestCache.digestOf(file, "SHA-256", this::digest);
+    // THEN
+    then(second).isEqualTo(first);
+    then(digestCount).hasValue(1);
+  }
+
+  @Test
+  void should_digest_the_file_again_when_its_size_changes() throws IOException {
+    // GIVEN
+    DigestCache digestCache = new DigestCache();
+    digestCache.digestOf(file, "SHA-256", this::digest);
+    write(file, new byte[] { 1, 2, 3, 4 });
+    setLastModifiedTime(file, ONE_HOUR_AGO);
+    // WHEN
+    digestCache.digestOf(file, "SHA-256", this::digest);
+    // THEN
+    then(digestCount).hasValue(2);
+  }
+
+  @Test
+  void should_digest_the_file_again_when_its_modification_time_changes() throws IOException {
+    // GIVEN
+    DigestCache digestCache = new DigestCache();
+    digestCache.digestOf(file, "SHA-256", this::digest);
+    setLastModifiedTime(file, FileTime.from(ONE_HOUR_AGO.toInstant().plusSeconds(1)));
+    // WHEN
+    digestCache.digestOf(file, "SHA-256", this::digest);
+    // THEN
+    then(digestCount).hasValue(2);
+  }
+
+  @Test
+  void should_cache_digests_per_algorithm() throws IOException {
+    // GIVEN
+    DigestCache digestCache = new DigestCache();
+    digestCache.digestOf(file, "SHA-256", this::digest);
+    // WHEN
+    digestCache.digestOf(file, "MD5", this::digest);
+    // THEN
+    then(digestCount).hasValue(2);
+  }
+
+  @Test
+  void should_not_cache_the_digest_of_a_recently_modified_file() throws IOException {
+    // GIVEN
+    DigestCache digestCache = new DigestCache();
+    setLastModifiedTime(file, FileTime.from(Instant.now()));
+    // WHEN
+    digestCache.digestOf(file, "SHA-256", this::digest);
+    digestCache.digestOf(file, "SHA-256", this::digest);
+    // THEN
+    then(digestCount).hasValue(2);
+  }
+
+  @Test
+  void should_always_digest_the_file_when_disabled() throws IOException {
+    // GIVEN
+    DigestCache digestCache = new DigestCache();
+    DigestCache.setEnabled(false);
+    // WHEN
+    digestCache.digestOf(file, "SHA-256", this::digest);
+    digestCache.digestOf(file, "SHA-256", this::digest);
+    // THEN
+    then(digestCount).hasValue(2);
+  }
+
+  @Test
+  void should_reuse_the_digests_of_the_store_directory() throws IOException {
+    // GIVEN
+    DigestCache.setStoreDirectory(tempDir.resolve("store"));
+    byte[] stored = new DigestCache().digestOf(file, "SHA-256", this::digest);
+    // WHEN
+    byte[] reused = new DigestCache().digestOf(file, "SHA-256", this::digest);
+    // THEN
+    then(reused).isEqualTo(stored);
+    then(digestCount).hasValue(1);
+  }
+
+  @Test
+  void should_not_reuse_the_stored_digest_of_a_changed_file() throws IOException {
+    // GIVEN
+    DigestCache.setStoreDirectory(tempDir.resolve("store"));
+    new DigestCache().digestOf(file, "SHA-256", this::digest);
+    write(file, new byte[] { 3, 2, 1 });
+    // WHEN
+    new DigestCache().digestOf(file, "SHA-256", this::digest);
+    // THEN
+    then(digestCount).hasValue(2);
+  }
+
+  private byte[] digest() {
+    return new byte[] { (byte) digestCount.incrementAndGet() };
+  }
+}
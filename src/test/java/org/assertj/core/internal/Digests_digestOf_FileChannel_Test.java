@@ -0,0 +1,189 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.Digests.PIPELINE_THRESHOLD;
+import static org.assertj.core.internal.Digests.chunkDigestsOf;
+import static org.assertj.core.internal.Digests.digestOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for <code>{@link Digests#digestOf(FileChannel, MessageDigest)}</code> and
+ * <code>{@link Digests#chunkDigestsOf(FileChannel, String, int)}</code>.
+ */
+class Digests_digestOf_FileChannel_Test extends DigestsBaseTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_compute_the_digest_of_a_small_file() throws IOException, NoSuchAlgorithmException {
+    // GIVEN
+    byte[] content = randomBytes(12345);
+    // WHEN
+    byte[] digest = digestOfFileWith(content);
+    // THEN
+    then(digest).isEqualTo(MessageDigest.getInstance("SHA-256").digest(content));
+  }
+
+  @Test
+  void should_compute_the_digest_of_an_empty_file() throws IOException, NoSuchAlgorithmException {
+    // WHEN
+    byte[] digest = digestOfFileWith(new byte[0]);
+    // THEN
+    then(digest).isEqualTo(MessageDigest.getInstance("SHA-256").digest());
+  }
+
+  @Test
+  void should_compute_the_digest_of_a_large_file_reading_and_hashing_in_parallel() throws IOException,
+                                                                                      NoSuchAlgorithmException {
+    // GIVEN
+    byte[] content = randomBytes((int) PIPELINE_THRESHOLD * 2 + 123);
+    // WHEN
+    byte[] digest = digestOfFileWith(content);
+    // THEN
+    then(digest).isEqualTo(MessageDigest.getInstance("SHA-256").digest(content));
+  }
+
+  @Test
+  void should_ignore_data_already_given_to_the_digest() throws IOException, NoSuchAlgorithmException {
+    // GIVEN
+    MessageDigest messageDigest = MessageDigest.getInstance("MD5");
+    messageDigest.update(new byte[] { 1, 2, 3 });
+    // WHEN
+    byte[] digest;
+    try (FileChannel channel = FileChannel.open(java.nio.file.Paths.get("src/test/resources/red.png"), READ)) {
+      digest = digestOf(channel, messageDigest);
+    }
+    // THEN
+    then(digest).isEqualTo(EXPECTED_MD5_DIGEST);
+  }
+
+  @Test
+  void should_rethrow_the_error_stopping_the_reading_of_a_large_file() throws IOException {
+    // GIVEN
+    IOException cause = new IOException("boom");
+    FileChannel channel = mock(FileChannel.class);
+    given(channel.size()).willReturn(PIPELINE_THRESHOLD + 1);
+    given(channel.read(any(ByteBuffer.class), anyLong())).willThrow(cause);
+    // WHEN
+    Throwable error = catchThrowable(() -> digestOf(channel, MessageDigest.getInstance("SHA-256")));
+    // THEN
+    then(error).isSameAs(cause);
+  }
+
+  @Test
+  void should_stop_the_reading_of_a_large_file_without_interrupting_it() throws Exception {
+    // GIVEN
+    CountDownLatch reading = new CountDownLatch(1);
+    CountDownLatch readingAllowed = new CountDownLatch(1);
+    CountDownLatch readDone = new CountDownLatch(1);
+    AtomicBoolean readerInterrupted = new AtomicBoolean();
+    FileChannel channel = mock(FileChannel.class);
+    given(channel.size()).willReturn(PIPELINE_THRESHOLD + 1);
+    given(channel.read(any(ByteBuffer.class), anyLong())).willAnswer(invocation -> {
+      reading.countDown();
+      try {
+        readingAllowed.await();
+      } catch (InterruptedException e) {
+        readerInterrupted.set(true);
+      }
+      readDone.countDown();
+      return -1;
+    });
+    Thread caller = Thread.currentThread();
+    new Thread(() -> {
+      try {
+        reading.await();
+        caller.interrupt();
+      } catch (InterruptedException e) {
+        // the test fails on the interrupted assertion below
+      }
+    }).start();
+    // WHEN
+    Throwable error = catchThrowable(() -> digestOf(channel, MessageDigest.getInstance("SHA-256")));
+    // THEN
+    then(Thread.interrupted()).isTrue();
+    then(error).isInstanceOf(InterruptedIOException.class);
+    readingAllowed.countDown();
+    readDone.await();
+    then(readerInterrupted).isFalse();
+  }
+
+  @Test
+  void should_compute_the_digests_of_each_chunk() throws IOException, NoSuchAlgorithmException {
+    // GIVEN
+    byte[] content = randomBytes(10 * 1000 + 7);
+    Path file = Files.write(tempDir.resolve("chunks.bin"), content);
+    // WHEN
+    List<byte[]> digests;
+    try (FileChannel channel = FileChannel.open(file, READ)) {
+      digests = chunkDigestsOf(channel, "SHA-256", 1000);
+    }
+    // THEN
+    then(digests).hasSize(11);
+    for (int i = 0; i < 11; i++) {
+      byte[] chunk = Arrays.copyOfRange(content, i * 1000, Math.min((i + 1) * 1000, content.length));
+      then(digests.get(i)).as("chunk %s", i).isEqualTo(MessageDigest.getInstance("SHA-256").digest(chunk));
+    }
+  }
+
+  @Test
+  void should_have_no_chunk_digests_for_an_empty_file() throws IOException {
+    // GIVEN
+    Path file = Files.write(tempDir.resolve("empty.bin"), new byte[0]);
+    // WHEN
+    List<byte[]> digests;
+    try (FileChannel channel = FileChannel.open(file, READ)) {
+      digests = chunkDigestsOf(channel, "SHA-256", 1000);
+    }
+    // THEN
+    then(digests).isEmpty();
+  }
+
+  private byte[] digestOfFileWith(byte[] content) throws IOException, NoSuchAlgorithmException {
+    Path file = Files.write(tempDir.resolve("file.bin"), content);
+    try (FileChannel channel = FileChannel.open(file, READ)) {
+      return digestOf(channel, MessageDigest.getInstance("SHA-256"));
+    }
+  }
+
+  private static byte[] randomBytes(int length) {
+    byte[] bytes = new byte[length];
+    new Random(42).nextBytes(bytes);
+    return bytes;
+  }
+}
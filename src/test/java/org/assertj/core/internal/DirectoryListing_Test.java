@@ -0,0 +1,154 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createFile;
+import static java.util.Comparator.naturalOrder;
+import static java.util.function.Function.identity;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+
+import org.assertj.core.configuration.Configuration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DirectoryListing_Test {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_report_all_entries_of_a_small_directory() {
+    // GIVEN
+    DirectoryListing directoryListing = new DirectoryListing(Integer.MAX_VALUE, 3, 10);
+    // WHEN
+    DirectoryListingResult<String> listing = directoryListing.firstEntries(Arrays.asList("a", "b").iterator(), identity());
+    // THEN
+    then(listing.getEntries()).containsExactly("a", "b");
+    then(listing.getVisitedEntryCount()).isEqualTo(2);
+    then(listing.isComplete()).isTrue();
+    then(listing.isTruncated()).isFalse();
+  }
+
+  @Test
+  void should_only_report_the_first_entries_but_count_all_of_them() {
+    // GIVEN
+    DirectoryListing directoryListing = new DirectoryListing(Integer.MAX_VALUE, 2, 10);
+    // WHEN
+    DirectoryListingResult<String> listing = directoryListing.firstEntries(Arrays.asList("a", "b", "c", "d").iterator(),
+                                                                           identity());
+    // THEN
+    then(listing.getEntries()).containsExactly("a", "b");
+    then(listing.getVisitedEntryCount()).isEqualTo(4);
+    then(listing.isComplete()).isTrue();
+    then(listing.isTruncated()).isTrue();
+  }
+
+  @Test
+  void should_stop_listing_after_the_maximum_number_of_visited_entries() {
+    // GIVEN
+    DirectoryListing directoryListing = new DirectoryListing(Integer.MAX_VALUE, 2, 5);
+    Iterator<Integer> infiniteEntries = IntStream.iterate(0, i -> i + 1).iterator();
+    // WHEN
+    DirectoryListingResult<Integer> listing = directoryListing.firstEntries(infiniteEntries, identity());
+    // THEN
+    then(listing.getEntries()).containsExactly(0, 1);
+    then(listing.getVisitedEntryCount()).isEqualTo(5);
+    then(listing.isComplete()).isFalse();
+  }
+
+  @Test
+  void should_report_the_smallest_entries_of_the_recursive_content() throws IOException {
+    // GIVEN
+    createFile(tempDir.resolve("c.txt"));
+    createDirectories(tempDir.resolve("a/b"));
+    createFile(tempDir.resolve("a/b/d.txt"));
+    DirectoryListing directoryListing = new DirectoryListing(Integer.MAX_VALUE, 3, 10);
+    // WHEN
+    DirectoryListingResult<Path> listing = directoryListing.sortedRecursiveContent(tempDir, identity(), naturalOrder());
+    // THEN
+    then(listing.getEntries()).containsExactly(tempDir.resolve("a"), tempDir.resolve("a/b"), tempDir.resolve("a/b/d.txt"));
+    then(listing.getVisitedEntryCount()).isEqualTo(4);
+    then(listing.isComplete()).isTrue();
+  }
+
+  @Test
+  void should_not_list_the_recursive_content_deeper_than_the_maximum_depth() throws IOException {
+    // GIVEN
+    createDirectories(tempDir.resolve("a/b/c"));
+    DirectoryListing directoryListing = new DirectoryListing(2, 10, 10);
+    // WHEN
+    DirectoryListingResult<Path> listing = directoryListing.sortedRecursiveContent(tempDir, identity(), naturalOrder());
+    // THEN
+    then(listing.getEntries()).containsExactly(tempDir.resolve("a"), tempDir.resolve("a/b"));
+  }
+
+  @Test
+  void should_stop_the_recursive_listing_after_the_maximum_number_of_visited_entries() throws IOException {
+    // GIVEN
+    for (int i = 0; i < 10; i++) {
+      createFile(tempDir.resolve("file" + i));
+    }
+    DirectoryListing directoryListing = new DirectoryListing(Integer.MAX_VALUE, 2, 4);
+    // WHEN
+    DirectoryListingResult<Path> listing = directoryListing.sortedRecursiveContent(tempDir, identity(), naturalOrder());
+    // THEN
+    then(listing.getEntries()).hasSize(2);
+    then(listing.getVisitedEntryCount()).isEqualTo(4);
+    then(listing.isComplete()).isFalse();
+  }
+
+  @Test
+  void should_use_the_limits_of_the_registered_configuration() throws IOException {
+    // GIVEN
+    createDirectories(tempDir.resolve("a/b"));
+    createFile(tempDir.resolve("c.txt"));
+    Configuration configuration = CONFIGURATION_PROVIDER.configuration();
+    int maxDepth = configuration.directoryListingMaxDepth();
+    int maxReportedEntries = configuration.directoryListingMaxReportedEntries();
+    configuration.setDirectoryListingMaxDepth(1);
+    configuration.setDirectoryListingMaxReportedEntries(1);
+    DirectoryListingResult<Path> listing;
+    try {
+      // WHEN
+      listing = DirectoryListing.fromConfiguration().sortedRecursiveContent(tempDir, identity(), naturalOrder());
+    } finally {
+      configuration.setDirectoryListingMaxDepth(maxDepth);
+      configuration.setDirectoryListingMaxReportedEntries(maxReportedEntries);
+    }
+    // THEN
+    then(listing.getEntries()).containsExactly(tempDir.resolve("a"));
+    then(listing.getVisitedEntryCount()).isEqualTo(2);
+    then(listing.isComplete()).isTrue();
+  }
+
+  @Test
+  void should_fail_if_configured_maximum_depth_is_less_than_one() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new Configuration().setDirectoryListingMaxDepth(0))
+                                        .withMessage("directoryListingMaxDepth must be >= 1, but was 0");
+  }
+
+  @Test
+  void should_fail_if_maximum_number_of_visited_entries_is_less_than_the_reported_ones() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new DirectoryListing(1, 10, 5))
+                                        .withMessage("maxVisitedEntries must be >= maxReportedEntries (10), but was 5");
+  }
+}
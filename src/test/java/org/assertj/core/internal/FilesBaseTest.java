@@ -26,6 +26,7 @@ import java.io.FileFilter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileSystem;
 import java.nio.file.Path;
 import java.util.LinkedHashMap;
@@ -80,6 +81,14 @@ public class FilesBaseTest {
     }
   }
 
+  protected static FileChannel redPngChannel() throws IOException {
+    return FileChannel.open(java.nio.file.Paths.get("src/test/resources/red.png"));
+  }
+
+  protected static void failIfChannelIsOpen(FileChannel channel) {
+    assertThat(channel.isOpen()).as("Channel should be closed").isFalse();
+  }
+
   protected File mockFile(String... names) {
     String name = names[names.length - 1];
     File file = mock(File.class);
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.configuration.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelIterableEvaluator_Test {
+
+  private final ParallelIterableEvaluator evaluator = ParallelIterableEvaluator.instance();
+
+  @AfterEach
+  void afterEach() {
+    ParallelIterableEvaluator.setParallelEvaluationThreshold(Configuration.PARALLEL_EVALUATION_THRESHOLD);
+  }
+
+  @Test
+  void should_not_evaluate_in_parallel_by_default() {
+    then(evaluator.shouldEvaluateInParallel(bigList())).isFalse();
+  }
+
+  @Test
+  void should_only_evaluate_collections_above_threshold_in_parallel() {
+    // WHEN
+    ParallelIterableEvaluator.setParallelEvaluationThreshold(100);
+    // THEN
+    then(evaluator.shouldEvaluateInParallel(bigList())).isTrue();
+    then(evaluator.shouldEvaluateInParallel(list(1, 2, 3))).isFalse();
+    Iterable<Integer> notACollection = () -> bigList().iterator();
+    then(evaluator.shouldEvaluateInParallel(notACollection)).isFalse();
+  }
+
+  @Test
+  void should_report_non_matching_elements_in_encounter_order_when_evaluated_in_parallel() {
+    // GIVEN
+    ParallelIterableEvaluator.setParallelEvaluationThreshold(100);
+    List<Integer> actual = bigList();
+    // WHEN
+    List<Integer> nonMatching = evaluator.nonMatching(actual, i -> i % 1000 != 0);
+    // THEN
+    then(nonMatching).containsExactly(0, 1000, 2000, 3000, 4000, 5000, 6000, 7000, 8000, 9000);
+  }
+
+  @Test
+  void should_find_first_matching_element_in_encounter_order_when_evaluated_in_parallel() {
+    // GIVEN
+    ParallelIterableEvaluator.setParallelEvaluationThreshold(100);
+    LinkedHashSet<Integer> actual = new LinkedHashSet<>(bigList());
+    // WHEN
+    Optional<Integer> firstMatching = evaluator.firstMatching(actual, i -> i > 5000);
+    // THEN
+    then(firstMatching).contains(5001);
+    then(evaluator.anyMatch(actual, i -> i > 10_000)).isFalse();
+  }
+
+  @Test
+  void should_give_the_same_results_whatever_the_evaluation_mode_is() {
+    // GIVEN
+    List<Integer> actual = bigList();
+    List<Integer> serialResult = evaluator.nonMatching(actual, i -> i % 7 != 0);
+    // WHEN
+    ParallelIterableEvaluator.setParallelEvaluationThreshold(1);
+    List<Integer> parallelResult = evaluator.nonMatching(actual, i -> i % 7 != 0);
+    // THEN
+    then(parallelResult).isEqualTo(serialResult);
+  }
+
+  @Test
+  void should_fail_if_threshold_is_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> ParallelIterableEvaluator.setParallelEvaluationThreshold(-1))
+                                        .withMessage("parallelEvaluationThreshold must be >= 0, but was -1");
+  }
+
+  private static List<Integer> bigList() {
+    return range(0, 10_000).boxed().collect(toList());
+  }
+}
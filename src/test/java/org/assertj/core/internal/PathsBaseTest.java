@@ -61,6 +61,7 @@ public abstract class PathsBaseTest {
 
   protected Diff diff;
   protected BinaryDiff binaryDiff;
+  protected ConcurrentBinaryDiff concurrentBinaryDiff;
 
   @BeforeEach
   public void setUp() {
@@ -73,6 +74,8 @@ public abstract class PathsBaseTest {
     paths.diff = diff;
     binaryDiff = mock(BinaryDiff.class);
     paths.binaryDiff = binaryDiff;
+    concurrentBinaryDiff = mock(ConcurrentBinaryDiff.class);
+    paths.concurrentBinaryDiff = concurrentBinaryDiff;
   }
 
   /**
@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+class TextScanner_Test {
+
+  // small buffers to have characters and line terminators spanning several buffers
+  private static final int BUFFER_SIZE = 4;
+
+  @Test
+  void should_read_the_requested_number_of_characters() throws IOException {
+    // GIVEN
+    TextScanner scanner = scanner("Gerçek Başka bir yerde mi", UTF_8);
+    // WHEN
+    String prefix = scanner.read(11);
+    // THEN
+    then(prefix).isEqualTo("Gerçek Başk");
+    then(scanner.read(100)).isEqualTo("a bir yerde mi");
+    then(scanner.read(1)).isEmpty();
+  }
+
+  @Test
+  void should_only_read_the_bytes_needed_to_decode_the_requested_characters() throws IOException {
+    // GIVEN
+    InputStream stream = new ByteArrayInputStream("abcdefghijklmnopqrstuvwxyz".getBytes(UTF_8));
+    TextScanner scanner = new TextScanner(stream, UTF_8, BUFFER_SIZE);
+    // WHEN
+    scanner.read(2);
+    // THEN
+    then(stream.available()).isEqualTo(26 - BUFFER_SIZE);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "UTF-8", "UTF-16", "ISO-8859-1" })
+  void should_read_lines_separated_by_any_line_terminator(String charsetName) throws IOException {
+    // GIVEN
+    TextScanner scanner = scanner("première\r\ndeuxième\rtroisième\n\nfin", Charset.forName(charsetName));
+    // WHEN
+    List<String> lines = lines(scanner);
+    // THEN
+    then(lines).containsExactly("première", "deuxième", "troisième", "", "fin");
+  }
+
+  @Test
+  void should_not_read_an_empty_line_after_a_trailing_line_terminator() throws IOException {
+    then(lines(scanner("a\r\n", UTF_16))).containsExactly("a");
+    then(lines(scanner("", UTF_16))).isEmpty();
+  }
+
+  @Test
+  void should_replace_malformed_input() throws IOException {
+    // GIVEN
+    InputStream stream = new ByteArrayInputStream(new byte[] { 'a', (byte) 0xC3 });
+    // WHEN
+    String line = new TextScanner(stream, UTF_8, BUFFER_SIZE).nextLine();
+    // THEN
+    then(line).isEqualTo(new String(new byte[] { 'a', (byte) 0xC3 }, UTF_8));
+  }
+
+  @Test
+  void should_count_lines() throws IOException {
+    then(scanner("", UTF_8).countLines(10)).isZero();
+    then(scanner("a", UTF_8).countLines(10)).isEqualTo(1);
+    then(scanner("a\r\n", UTF_8).countLines(10)).isEqualTo(1);
+    then(scanner("a\r\n\r\nb", UTF_8).countLines(10)).isEqualTo(3);
+    then(scanner("a\rb\nc\r", ISO_8859_1).countLines(10)).isEqualTo(3);
+  }
+
+  @Test
+  void should_stop_counting_lines_at_the_given_maximum() throws IOException {
+    // GIVEN
+    InputStream stream = new ByteArrayInputStream("a\nb\nc\nd\ne\nf\ng\nh\n".getBytes(UTF_8));
+    // WHEN
+    long lines = new TextScanner(stream, UTF_8, BUFFER_SIZE).countLines(2);
+    // THEN
+    then(lines).isEqualTo(2);
+    then(stream.available()).isEqualTo(16 - BUFFER_SIZE);
+  }
+
+  private static TextScanner scanner(String text, Charset charset) {
+    return new TextScanner(new ByteArrayInputStream(text.getBytes(charset)), charset, BUFFER_SIZE);
+  }
+
+  private static List<String> lines(TextScanner scanner) throws IOException {
+    List<String> lines = new ArrayList<>();
+    String line;
+    while ((line = scanner.nextLine()) != null) {
+      lines.add(line);
+    }
+    return lines;
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.bytebuffers;
+
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldContainSequence.shouldContainSequence;
+import static org.assertj.core.internal.ErrorMessages.nullSequence;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+
+import java.nio.ByteBuffer;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ByteBuffers;
+import org.assertj.core.internal.ByteBuffersBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link ByteBuffers#assertContainsSequence(AssertionInfo, ByteBuffer, byte[])}</code>.
+ */
+class ByteBuffers_assertContainsSequence_Test extends ByteBuffersBaseTest {
+
+  @Test
+  void should_throw_error_if_sequence_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> byteBuffers.assertContainsSequence(INFO, directBuffer(), null))
+                                    .withMessage(nullSequence());
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> byteBuffers.assertContainsSequence(INFO, null,
+                                                                                                  new byte[] { 1 }));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_pass_if_remaining_bytes_contain_sequence_and_leave_the_buffer_untouched() {
+    // GIVEN
+    ByteBuffer actual = directBuffer((byte) 1, (byte) 2, (byte) 3, (byte) 4);
+    // WHEN
+    byteBuffers.assertContainsSequence(INFO, actual, new byte[] { 3, 4 });
+    // THEN
+    then(actual.position()).isEqualTo(1);
+    then(actual.limit()).isEqualTo(5);
+  }
+
+  @Test
+  void should_pass_if_sequence_and_remaining_bytes_are_empty() {
+    byteBuffers.assertContainsSequence(INFO, directBuffer(), new byte[0]);
+  }
+
+  @Test
+  void should_fail_if_sequence_is_empty_and_buffer_has_remaining_bytes() {
+    // GIVEN
+    ByteBuffer actual = directBuffer((byte) 1);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> byteBuffers.assertContainsSequence(INFO, actual, new byte[0]));
+    // THEN
+    then(assertionError).hasMessage("actual is not empty while group of values to look for is.");
+  }
+
+  @Test
+  void should_fail_if_sequence_is_only_found_before_the_buffer_position() {
+    // GIVEN
+    ByteBuffer actual = directBuffer((byte) 1, (byte) 2);
+    byte[] sequence = { -1, 1 };
+    // WHEN
+    catchThrowable(() -> byteBuffers.assertContainsSequence(INFO, actual, sequence));
+    // THEN
+    verify(failures).failure(INFO, shouldContainSequence(actual, sequence));
+  }
+
+  @Test
+  void should_fail_if_remaining_bytes_contain_sequence_bytes_but_not_contiguously() {
+    // GIVEN
+    ByteBuffer actual = ByteBuffer.wrap(new byte[] { 1, 2, 1, 3 });
+    byte[] sequence = { 1, 3, 2 };
+    // WHEN
+    catchThrowable(() -> byteBuffers.assertContainsSequence(INFO, actual, sequence));
+    // THEN
+    verify(failures).failure(INFO, shouldContainSequence(actual, sequence));
+  }
+}
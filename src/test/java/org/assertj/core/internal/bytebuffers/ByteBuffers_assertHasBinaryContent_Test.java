@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.bytebuffers;
+
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+
+import java.nio.ByteBuffer;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.internal.ByteBuffers;
+import org.assertj.core.internal.ByteBuffersBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link ByteBuffers#assertHasBinaryContent(AssertionInfo, ByteBuffer, byte[])}</code>.
+ */
+class ByteBuffers_assertHasBinaryContent_Test extends ByteBuffersBaseTest {
+
+  @Test
+  void should_throw_error_if_expected_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> byteBuffers.assertHasBinaryContent(INFO, directBuffer(), null))
+                                    .withMessage("The binary content to compare to should not be null");
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> byteBuffers.assertHasBinaryContent(INFO, null, new byte[0]));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_pass_if_remaining_bytes_are_equal_to_expected_and_leave_the_buffer_untouched() {
+    // GIVEN
+    ByteBuffer actual = directBuffer((byte) 1, (byte) 2, (byte) 3);
+    // WHEN
+    byteBuffers.assertHasBinaryContent(INFO, actual, new byte[] { 1, 2, 3 });
+    // THEN
+    then(actual.position()).isEqualTo(1);
+    then(actual.limit()).isEqualTo(4);
+  }
+
+  @Test
+  void should_fail_if_remaining_bytes_differ_from_expected() {
+    // GIVEN
+    ByteBuffer actual = directBuffer((byte) 1, (byte) 2, (byte) 3);
+    // WHEN
+    catchThrowable(() -> byteBuffers.assertHasBinaryContent(INFO, actual, new byte[] { 1, 5, 3 }));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveBinaryContent(actual, new BinaryDiffResult(1, 5, 2)));
+  }
+
+  @Test
+  void should_fail_if_there_are_less_remaining_bytes_than_expected() {
+    // GIVEN
+    ByteBuffer actual = directBuffer((byte) 1);
+    // WHEN
+    catchThrowable(() -> byteBuffers.assertHasBinaryContent(INFO, actual, new byte[] { 1, 2 }));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveBinaryContent(actual, new BinaryDiffResult(1, 2, -1)));
+  }
+}
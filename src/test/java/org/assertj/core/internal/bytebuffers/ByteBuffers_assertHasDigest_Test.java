@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.bytebuffers;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ByteBuffers;
+import org.assertj.core.internal.ByteBuffersBaseTest;
+import org.assertj.core.internal.DigestDiff;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link ByteBuffers#assertHasDigest(AssertionInfo, ByteBuffer, MessageDigest, byte[])}</code> and its
+ * overloads.
+ */
+class ByteBuffers_assertHasDigest_Test extends ByteBuffersBaseTest {
+
+  private static final String MD5 = "MD5";
+  private static final String ASSERTJ_DIGEST = "A4335895E368734F5935369B7FFB9A15";
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> byteBuffers.assertHasDigest(INFO, null, MD5, ASSERTJ_DIGEST));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_throw_error_if_digest_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> byteBuffers.assertHasDigest(INFO, assertj(), (MessageDigest) null,
+                                                                                  new byte[0]))
+                                    .withMessage("The message digest algorithm should not be null");
+  }
+
+  @Test
+  void should_throw_error_if_expected_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> byteBuffers.assertHasDigest(INFO, assertj(), MD5, (String) null))
+                                    .withMessage("The string representation of digest to compare to should not be null");
+  }
+
+  @Test
+  void should_throw_error_if_algorithm_is_unknown() {
+    assertThatIllegalStateException().isThrownBy(() -> byteBuffers.assertHasDigest(INFO, assertj(), "UNKNOWN", new byte[0]))
+                                     .withMessage("Unable to find digest implementation for: <UNKNOWN>");
+  }
+
+  @Test
+  void should_pass_if_digest_of_remaining_bytes_is_expected_and_leave_the_buffer_untouched() {
+    // GIVEN
+    ByteBuffer actual = ByteBuffer.allocateDirect(10);
+    actual.put((byte) 0).put("assertj".getBytes(StandardCharsets.US_ASCII)).put((byte) 0);
+    actual.position(1);
+    actual.limit(8);
+    // WHEN
+    byteBuffers.assertHasDigest(INFO, actual, MD5, ASSERTJ_DIGEST);
+    // THEN
+    then(actual.position()).isEqualTo(1);
+    then(actual.limit()).isEqualTo(8);
+  }
+
+  @Test
+  void should_fail_if_digest_of_remaining_bytes_is_not_expected() throws NoSuchAlgorithmException {
+    // GIVEN
+    ByteBuffer actual = assertj();
+    MessageDigest digest = MessageDigest.getInstance(MD5);
+    String expected = "00000000000000000000000000000000";
+    // WHEN
+    catchThrowable(() -> byteBuffers.assertHasDigest(INFO, actual, digest, expected));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveDigest(actual, new DigestDiff(ASSERTJ_DIGEST, expected, digest)));
+  }
+
+  private static ByteBuffer assertj() {
+    return ByteBuffer.wrap("assertj".getBytes(StandardCharsets.US_ASCII));
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.bytebuffers;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveRemaining.shouldHaveRemaining;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+
+import java.nio.ByteBuffer;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ByteBuffers;
+import org.assertj.core.internal.ByteBuffersBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link ByteBuffers#assertHasRemaining(AssertionInfo, ByteBuffer, int)}</code>.
+ */
+class ByteBuffers_assertHasRemaining_Test extends ByteBuffersBaseTest {
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> byteBuffers.assertHasRemaining(INFO, null, 0));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_pass_if_buffer_has_expected_remaining_bytes() {
+    byteBuffers.assertHasRemaining(INFO, directBuffer((byte) 1, (byte) 2), 2);
+  }
+
+  @Test
+  void should_fail_if_buffer_does_not_have_expected_remaining_bytes() {
+    // GIVEN
+    ByteBuffer actual = directBuffer((byte) 1, (byte) 2);
+    // WHEN
+    catchThrowable(() -> byteBuffers.assertHasRemaining(INFO, actual, 3));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveRemaining(actual, 3));
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.bytebuffers;
+
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+
+import java.nio.ByteBuffer;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.internal.ByteBuffers;
+import org.assertj.core.internal.ByteBuffersBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link ByteBuffers#assertHasSameContentAs(AssertionInfo, ByteBuffer, ByteBuffer)}</code>.
+ */
+class ByteBuffers_assertHasSameContentAs_Test extends ByteBuffersBaseTest {
+
+  @Test
+  void should_throw_error_if_expected_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> byteBuffers.assertHasSameContentAs(INFO, directBuffer(), null))
+                                    .withMessage("The ByteBuffer to compare to should not be null");
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> byteBuffers.assertHasSameContentAs(INFO, null,
+                                                                                                  directBuffer()));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_pass_if_remaining_bytes_are_equal_whatever_the_buffers_kind_and_position() {
+    // GIVEN
+    ByteBuffer actual = directBuffer((byte) 1, (byte) 2);
+    ByteBuffer expected = ByteBuffer.wrap(new byte[] { 1, 2 });
+    // THEN
+    byteBuffers.assertHasSameContentAs(INFO, actual, expected);
+  }
+
+  @Test
+  void should_pass_with_big_equal_contents_spanning_several_blocks() {
+    // GIVEN
+    byte[] content = new byte[200_000];
+    ByteBuffer actual = ByteBuffer.allocateDirect(content.length).put(content);
+    actual.flip();
+    // THEN
+    byteBuffers.assertHasSameContentAs(INFO, actual, ByteBuffer.wrap(content));
+  }
+
+  @Test
+  void should_fail_if_remaining_bytes_differ() {
+    // GIVEN
+    byte[] content = new byte[200_000];
+    ByteBuffer actual = ByteBuffer.wrap(content.clone());
+    actual.put(150_000, (byte) 0x7F);
+    // WHEN
+    catchThrowable(() -> byteBuffers.assertHasSameContentAs(INFO, actual, ByteBuffer.wrap(content)));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveBinaryContent(actual, new BinaryDiffResult(150_000, 0, 0x7F)));
+  }
+
+  @Test
+  void should_fail_if_there_are_more_remaining_bytes_than_expected() {
+    // GIVEN
+    ByteBuffer actual = directBuffer((byte) 1, (byte) 2);
+    // WHEN
+    catchThrowable(() -> byteBuffers.assertHasSameContentAs(INFO, actual, ByteBuffer.wrap(new byte[] { 1 })));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveBinaryContent(actual, new BinaryDiffResult(1, -1, 2)));
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.bytebuffers;
+
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
+import static org.assertj.core.internal.ErrorMessages.nullSequence;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+
+import java.nio.ByteBuffer;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ByteBuffers;
+import org.assertj.core.internal.ByteBuffersBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link ByteBuffers#assertStartsWith(AssertionInfo, ByteBuffer, byte[])}</code>.
+ */
+class ByteBuffers_assertStartsWith_Test extends ByteBuffersBaseTest {
+
+  @Test
+  void should_throw_error_if_sequence_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> byteBuffers.assertStartsWith(INFO, directBuffer(), null))
+                                    .withMessage(nullSequence());
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> byteBuffers.assertStartsWith(INFO, null, new byte[] { 1 }));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_pass_if_remaining_bytes_start_with_sequence_and_leave_the_buffer_untouched() {
+    // GIVEN
+    ByteBuffer actual = directBuffer((byte) 1, (byte) 2, (byte) 3);
+    // WHEN
+    byteBuffers.assertStartsWith(INFO, actual, new byte[] { 1, 2 });
+    // THEN
+    then(actual.position()).isEqualTo(1);
+    then(actual.limit()).isEqualTo(4);
+  }
+
+  @Test
+  void should_pass_if_sequence_and_remaining_bytes_are_empty() {
+    byteBuffers.assertStartsWith(INFO, directBuffer(), new byte[0]);
+  }
+
+  @Test
+  void should_fail_if_sequence_is_empty_and_buffer_has_remaining_bytes() {
+    // GIVEN
+    ByteBuffer actual = directBuffer((byte) 1);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> byteBuffers.assertStartsWith(INFO, actual, new byte[0]));
+    // THEN
+    then(assertionError).hasMessage("actual is not empty while group of values to look for is.");
+  }
+
+  @Test
+  void should_fail_if_remaining_bytes_do_not_start_with_sequence() {
+    // GIVEN
+    ByteBuffer actual = directBuffer((byte) 1, (byte) 2, (byte) 3);
+    byte[] sequence = { 2, 3 };
+    // WHEN
+    catchThrowable(() -> byteBuffers.assertStartsWith(INFO, actual, sequence));
+    // THEN
+    verify(failures).failure(INFO, shouldStartWith(actual, sequence));
+  }
+
+  @Test
+  void should_fail_if_sequence_is_longer_than_remaining_bytes() {
+    // GIVEN
+    ByteBuffer actual = directBuffer((byte) 1, (byte) 2);
+    byte[] sequence = { 1, 2, 3 };
+    // WHEN
+    catchThrowable(() -> byteBuffers.assertStartsWith(INFO, actual, sequence));
+    // THEN
+    verify(failures).failure(INFO, shouldStartWith(actual, sequence));
+  }
+}
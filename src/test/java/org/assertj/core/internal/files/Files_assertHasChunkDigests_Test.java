@@ -0,0 +1,132 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.files;
+
+import static java.nio.file.Files.write;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.error.ShouldBeFile.shouldBeFile;
+import static org.assertj.core.error.ShouldExist.shouldExist;
+import static org.assertj.core.error.ShouldHaveChunkDigests.shouldHaveChunkDigests;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.emptyList;
+import static org.assertj.core.util.Lists.list;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Digests;
+import org.assertj.core.internal.Files;
+import org.assertj.core.internal.FilesSimpleBaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Files#assertHasChunkDigests(AssertionInfo, File, String, int, List)}</code>.
+ */
+class Files_assertHasChunkDigests_Test extends FilesSimpleBaseTest {
+
+  private static final int CHUNK_SIZE = 4;
+
+  private File actual;
+  private List<String> manifest;
+
+  @BeforeEach
+  void createFile() throws IOException, NoSuchAlgorithmException {
+    byte[] content = "0123456789".getBytes();
+    actual = write(tempDir.resolve("actual.txt"), content).toFile();
+    manifest = new ArrayList<>();
+    for (int start = 0; start < content.length; start += CHUNK_SIZE) {
+      byte[] chunk = Arrays.copyOfRange(content, start, Math.min(start + CHUNK_SIZE, content.length));
+      manifest.add(Digests.toHex(MessageDigest.getInstance("SHA-256").digest(chunk)));
+    }
+  }
+
+  @Test
+  void should_pass_if_chunk_digests_match_the_manifest() {
+    files.assertHasChunkDigests(INFO, actual, "SHA-256", CHUNK_SIZE, manifest);
+  }
+
+  @Test
+  void should_fail_if_algorithm_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> files.assertHasChunkDigests(INFO, actual, null, CHUNK_SIZE, manifest))
+                                    .withMessage("The message digest algorithm should not be null");
+  }
+
+  @Test
+  void should_fail_if_chunk_size_is_not_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> files.assertHasChunkDigests(INFO, actual, "SHA-256", 0, manifest))
+                                        .withMessage("The chunk size must be > 0, but was 0");
+  }
+
+  @Test
+  void should_fail_if_expected_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> files.assertHasChunkDigests(INFO, actual, "SHA-256", CHUNK_SIZE, null))
+                                    .withMessage("The chunk digests to compare to should not be null");
+  }
+
+  @Test
+  void should_fail_if_algorithm_is_unknown() {
+    assertThatIllegalStateException().isThrownBy(() -> files.assertHasChunkDigests(INFO, actual, "Unknown", CHUNK_SIZE,
+                                                                                    manifest))
+                                     .withMessage("Unable to find digest implementation for: <Unknown>");
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_exist() {
+    // GIVEN
+    File notExisting = tempDir.resolve("not-existing").toFile();
+    // WHEN
+    expectAssertionError(() -> files.assertHasChunkDigests(INFO, notExisting, "SHA-256", CHUNK_SIZE, manifest));
+    // THEN
+    verify(failures).failure(INFO, shouldExist(notExisting));
+  }
+
+  @Test
+  void should_fail_if_actual_is_not_a_file() {
+    // GIVEN
+    File directory = createDirectory(tempDir, "directory").toFile();
+    // WHEN
+    expectAssertionError(() -> files.assertHasChunkDigests(INFO, directory, "SHA-256", CHUNK_SIZE, manifest));
+    // THEN
+    verify(failures).failure(INFO, shouldBeFile(directory));
+  }
+
+  @Test
+  void should_fail_reporting_the_chunks_whose_digest_differs() throws IOException {
+    // GIVEN
+    write(actual.toPath(), "0123x567890y".getBytes());
+    // WHEN
+    expectAssertionError(() -> files.assertHasChunkDigests(INFO, actual, "SHA-256", CHUNK_SIZE, manifest));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveChunkDigests(actual, "SHA-256", CHUNK_SIZE, 3, 3, list(1, 2)));
+  }
+
+  @Test
+  void should_fail_if_actual_has_a_different_number_of_chunks() throws IOException {
+    // GIVEN
+    write(actual.toPath(), "01234567".getBytes());
+    // WHEN
+    expectAssertionError(() -> files.assertHasChunkDigests(INFO, actual, "SHA-256", CHUNK_SIZE, manifest));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveChunkDigests(actual, "SHA-256", CHUNK_SIZE, 3, 2, emptyList()));
+  }
+}
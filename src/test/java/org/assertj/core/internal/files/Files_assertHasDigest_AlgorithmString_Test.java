@@ -28,8 +28,8 @@ import static org.mockito.Mockito.verify;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -109,7 +109,7 @@ class Files_assertHasDigest_AlgorithmString_Test extends FilesBaseTest {
     given(actual.exists()).willReturn(true);
     given(actual.isFile()).willReturn(true);
     given(actual.canRead()).willReturn(true);
-    given(nioFilesWrapper.newInputStream(any())).willThrow(cause);
+    given(nioFilesWrapper.newFileChannel(any())).willThrow(cause);
     // WHEN
     Throwable error = catchThrowable(() -> files.assertHasDigest(INFO, actual, algorithm, expected));
     // THEN
@@ -131,30 +131,30 @@ class Files_assertHasDigest_AlgorithmString_Test extends FilesBaseTest {
   @Test
   void should_fail_if_actual_does_not_have_expected_digest() throws IOException, NoSuchAlgorithmException {
     // GIVEN
-    InputStream stream = getClass().getResourceAsStream("/red.png");
+    FileChannel channel = redPngChannel();
     given(actual.exists()).willReturn(true);
     given(actual.isFile()).willReturn(true);
     given(actual.canRead()).willReturn(true);
-    given(nioFilesWrapper.newInputStream(any())).willReturn(stream);
+    given(nioFilesWrapper.newFileChannel(any())).willReturn(channel);
     // WHEN
     catchThrowable(() -> files.assertHasDigest(INFO, actual, algorithm, expected));
     // THEN
     verify(failures).failure(INFO, shouldHaveDigest(actual, new DigestDiff(real, "", MessageDigest.getInstance(algorithm))));
-    failIfStreamIsOpen(stream);
+    failIfChannelIsOpen(channel);
   }
 
   @Test
   void should_pass_if_actual_has_expected_digest() throws IOException {
     // GIVEN
-    InputStream stream = getClass().getResourceAsStream("/red.png");
+    FileChannel channel = redPngChannel();
     given(actual.exists()).willReturn(true);
     given(actual.isFile()).willReturn(true);
     given(actual.canRead()).willReturn(true);
-    given(nioFilesWrapper.newInputStream(any())).willReturn(stream);
+    given(nioFilesWrapper.newFileChannel(any())).willReturn(channel);
     // WHEN
     files.assertHasDigest(INFO, actual, algorithm, Digests.fromHex(real));
     // THEN
-    failIfStreamIsOpen(stream);
+    failIfChannelIsOpen(channel);
   }
 
 }
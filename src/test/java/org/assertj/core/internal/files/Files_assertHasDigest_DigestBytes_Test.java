@@ -28,8 +28,8 @@ import static org.mockito.Mockito.verify;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.security.MessageDigest;
 
 import org.assertj.core.api.AssertionInfo;
@@ -105,7 +105,7 @@ class Files_assertHasDigest_DigestBytes_Test extends FilesBaseTest {
     given(actual.exists()).willReturn(true);
     given(actual.isFile()).willReturn(true);
     given(actual.canRead()).willReturn(true);
-    given(nioFilesWrapper.newInputStream(any())).willThrow(cause);
+    given(nioFilesWrapper.newFileChannel(any())).willThrow(cause);
     // WHEN
     Throwable error = catchThrowable(() -> files.assertHasDigest(INFO, actual, digest, expected));
     // THEN
@@ -127,32 +127,32 @@ class Files_assertHasDigest_DigestBytes_Test extends FilesBaseTest {
   @Test
   void should_fail_if_actual_does_not_have_expected_digest() throws IOException {
     // GIVEN
-    InputStream stream = getClass().getResourceAsStream("/red.png");
+    FileChannel channel = redPngChannel();
     given(actual.exists()).willReturn(true);
     given(actual.isFile()).willReturn(true);
     given(actual.canRead()).willReturn(true);
-    given(nioFilesWrapper.newInputStream(any())).willReturn(stream);
+    given(nioFilesWrapper.newFileChannel(any())).willReturn(channel);
     given(digest.digest()).willReturn(new byte[] { 0, 1 });
     // WHEN
     catchThrowable(() -> files.assertHasDigest(INFO, actual, digest, expected));
     // THEN
     verify(failures).failure(INFO, shouldHaveDigest(actual, new DigestDiff("0001", "", digest)));
-    failIfStreamIsOpen(stream);
+    failIfChannelIsOpen(channel);
   }
 
   @Test
   void should_pass_if_actual_has_expected_digest() throws IOException {
     // GIVEN
-    InputStream stream = getClass().getResourceAsStream("/red.png");
+    FileChannel channel = redPngChannel();
     given(actual.exists()).willReturn(true);
     given(actual.isFile()).willReturn(true);
     given(actual.canRead()).willReturn(true);
-    given(nioFilesWrapper.newInputStream(any())).willReturn(stream);
+    given(nioFilesWrapper.newFileChannel(any())).willReturn(channel);
     given(digest.digest()).willReturn(expected);
     // WHEN
     files.assertHasDigest(INFO, actual, digest, expected);
     // THEN
-    failIfStreamIsOpen(stream);
+    failIfChannelIsOpen(channel);
   }
 
 }
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.files;
+
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.data.ContentSampling.sampling;
+import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
+import static org.assertj.core.internal.BinaryDiffResult.noDiff;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.assertj.core.data.ContentSampling;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.internal.FilesBaseTest;
+import org.junit.jupiter.api.Test;
+
+class Files_assertHasSameBinaryContentAs_with_sampling_Test extends FilesBaseTest {
+
+  // Does not matter if the values differ, the actual comparison is mocked in this test
+  private static final File actual = new File("src/test/resources/actual_file.txt");
+  private static final File expected = new File("src/test/resources/expected_file.txt");
+  private static final ContentSampling SAMPLING = sampling(0.5);
+
+  @Test
+  void should_pass_if_file_has_expected_binary_content_on_sampled_blocks() throws IOException {
+    // GIVEN
+    given(binaryDiff.diff(actual.toPath(), expected.toPath(), SAMPLING)).willReturn(noDiff());
+    // WHEN/THEN
+    files.assertSameBinaryContentAs(someInfo(), actual, expected, SAMPLING);
+  }
+
+  @Test
+  void should_throw_error_if_sampling_is_null() {
+    // WHEN
+    NullPointerException npe = catchThrowableOfType(() -> files.assertSameBinaryContentAs(someInfo(), actual, expected, null),
+                                                    NullPointerException.class);
+    // THEN
+    then(npe).hasMessage("The content sampling should not be null");
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // WHEN
+    AssertionError error = expectAssertionError(() -> files.assertSameBinaryContentAs(someInfo(), null, expected, SAMPLING));
+    // THEN
+    then(error).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_throw_error_wrapping_caught_IOException() throws IOException {
+    // GIVEN
+    IOException cause = new IOException();
+    given(binaryDiff.diff(actual.toPath(), expected.toPath(), SAMPLING)).willThrow(cause);
+    // WHEN
+    UncheckedIOException uioe = catchThrowableOfType(() -> files.assertSameBinaryContentAs(someInfo(), actual, expected,
+                                                                                           SAMPLING),
+                                                     UncheckedIOException.class);
+    // THEN
+    then(uioe).hasCause(cause);
+  }
+
+  @Test
+  void should_fail_if_file_does_not_have_expected_binary_content_on_sampled_blocks() throws IOException {
+    // GIVEN
+    BinaryDiffResult diff = new BinaryDiffResult(15, (byte) 0xCA, (byte) 0xFE);
+    given(binaryDiff.diff(actual.toPath(), expected.toPath(), SAMPLING)).willReturn(diff);
+    // WHEN
+    expectAssertionError(() -> files.assertSameBinaryContentAs(someInfo(), actual, expected, SAMPLING));
+    // THEN
+    verify(failures).failure(someInfo(), shouldHaveBinaryContent(actual, diff, SAMPLING));
+  }
+}
@@ -28,6 +28,7 @@ import static org.mockito.Mockito.verify;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -68,6 +69,19 @@ class Files_assertIsDirectoryContaining_Predicate_Test extends FilesBaseTest {
     files.assertIsDirectoryContaining(INFO, actual, JAVA_SOURCE);
   }
 
+  @Test
+  void should_stop_testing_actual_files_at_the_first_one_matching_the_given_predicate() {
+    // GIVEN
+    File file1 = mockRegularFile("Test.java");
+    File file2 = mockRegularFile("Utils.java");
+    File actual = mockDirectory(list(file1, file2), "root");
+    List<File> testedFiles = new ArrayList<>();
+    // WHEN
+    files.assertIsDirectoryContaining(INFO, actual, file -> testedFiles.add(file) && JAVA_SOURCE.test(file));
+    // THEN
+    assertThat(testedFiles).containsExactly(file1);
+  }
+
   @Test
   void should_pass_if_actual_contains_at_least_one_file_matching_the_given_predicate() {
     // GIVEN
@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.inputstreams;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Arrays.copyOf;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+import static org.assertj.core.internal.inputstreams.Diff_diff_InputStream_Test.stream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.internal.Diff;
+import org.assertj.core.util.diff.Delta;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests for <code>{@link Diff}</code> only diffing the contents from the context lines preceding their first difference.
+ */
+class Diff_diff_contextLines_Test {
+
+  @Test
+  void should_fail_if_context_lines_is_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new Diff(-1))
+                                        .withMessage("contextLines must be >= 0, but was -1");
+  }
+
+  @Test
+  void should_return_empty_diff_list_if_inputstreams_have_equal_content() throws IOException {
+    // GIVEN
+    String[] lines = lines(10_000);
+    // WHEN
+    List<Delta<String>> diffs = new Diff(0).diff(stream(lines), stream(lines));
+    // THEN
+    then(diffs).isEmpty();
+  }
+
+  @Test
+  void should_report_line_numbers_in_the_whole_contents() throws IOException {
+    // GIVEN
+    String[] actual = lines(1000);
+    actual[500] = "changed";
+    // WHEN
+    List<Delta<String>> diffs = new Diff(3).diff(stream(actual), stream(lines(1000)));
+    // THEN
+    then(diffs).singleElement()
+               .hasToString(format("Changed content at line 501:%n"
+                                   + "expecting:%n"
+                                   + "  [\"line500\"]%n"
+                                   + "but was:%n"
+                                   + "  [\"changed\"]%n"));
+  }
+
+  @Test
+  void should_use_the_context_lines_of_the_registered_configuration() throws IOException {
+    // GIVEN
+    String[] actual = lines(100);
+    actual[50] = "changed";
+    Configuration configuration = CONFIGURATION_PROVIDER.configuration();
+    int contextLines = configuration.diffContextLines();
+    configuration.setDiffContextLines(0);
+    List<Delta<String>> diffs;
+    try {
+      // WHEN
+      diffs = new Diff().diff(stream(actual), stream(lines(100)));
+    } finally {
+      configuration.setDiffContextLines(contextLines);
+    }
+    // THEN
+    then(diffs).hasToString(new Diff(0).diff(stream(actual), stream(lines(100))).toString());
+  }
+
+  @Test
+  void should_fail_if_configured_context_lines_is_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new Configuration().setDiffContextLines(-1))
+                                        .withMessage("diffContextLines must be >= 0, but was -1");
+  }
+
+  @ParameterizedTest(name = "contextLines = {0}")
+  @MethodSource
+  void should_report_the_same_deltas_as_a_diff_of_the_whole_contents(int contextLines, String[] actual,
+                                                                      String[] expected) throws IOException {
+    // GIVEN
+    Diff wholeContentsDiff = new Diff(Integer.MAX_VALUE);
+    // WHEN
+    List<Delta<String>> diffs = new Diff(contextLines).diff(stream(actual), stream(expected));
+    // THEN
+    then(diffs).hasToString(wholeContentsDiff.diff(stream(actual), stream(expected)).toString());
+  }
+
+  static Stream<Arguments> should_report_the_same_deltas_as_a_diff_of_the_whole_contents() {
+    String[] expected = lines(100);
+    String[] changed = lines(100);
+    changed[40] = "changed";
+    changed[90] = "changed";
+    List<String> inserted = new ArrayList<>(asList(lines(100)));
+    inserted.add(60, "inserted");
+    List<String> deleted = new ArrayList<>(asList(lines(100)));
+    deleted.remove(30);
+    String[] truncated = copyOf(expected, 70);
+    return Stream.of(0, 1, 5, 50)
+                 .flatMap(contextLines -> Stream.of(Arguments.of(contextLines, changed, expected),
+                                                    Arguments.of(contextLines, inserted.toArray(new String[0]), expected),
+                                                    Arguments.of(contextLines, deleted.toArray(new String[0]), expected),
+                                                    Arguments.of(contextLines, truncated, expected),
+                                                    Arguments.of(contextLines, expected, truncated)));
+  }
+
+  private static String[] lines(int count) {
+    String[] lines = new String[count];
+    for (int i = 0; i < count; i++) {
+      lines[i] = "line" + i;
+    }
+    return lines;
+  }
+}
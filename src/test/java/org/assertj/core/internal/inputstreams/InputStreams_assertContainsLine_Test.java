@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.inputstreams;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldContainLine.shouldContainLine;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.InputStreams;
+import org.assertj.core.internal.InputStreamsBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link InputStreams#assertContainsLine(AssertionInfo, InputStream, Charset, String)}</code>.
+ */
+class InputStreams_assertContainsLine_Test extends InputStreamsBaseTest {
+
+  @Test
+  void should_throw_error_if_charset_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> inputStreams.assertContainsLine(INFO, actual, null, "a"))
+                                    .withMessage("The charset should not be null");
+  }
+
+  @Test
+  void should_throw_error_if_line_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> inputStreams.assertContainsLine(INFO, actual, UTF_8, null))
+                                    .withMessage("The line to look for should not be null");
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> inputStreams.assertContainsLine(INFO, null, UTF_8, "a"))
+                                                   .withMessage(actualIsNull());
+  }
+
+  @Test
+  void should_pass_if_content_contains_line_and_stop_reading_once_found() throws IOException {
+    // GIVEN
+    byte[] content = new byte[1_000_000];
+    System.arraycopy("first\nsecond\n".getBytes(UTF_8), 0, content, 0, 13);
+    InputStream stream = new ByteArrayInputStream(content);
+    // WHEN
+    inputStreams.assertContainsLine(INFO, stream, UTF_8, "second");
+    // THEN
+    then(stream.available()).isPositive();
+  }
+
+  @Test
+  void should_pass_if_content_read_with_the_given_charset_contains_line() {
+    // GIVEN
+    InputStream stream = new ByteArrayInputStream("première\r\ndeuxième\r\n".getBytes(UTF_16));
+    // THEN
+    inputStreams.assertContainsLine(INFO, stream, UTF_16, "deuxième");
+  }
+
+  @Test
+  void should_fail_if_no_line_is_equal_to_the_given_one() {
+    // GIVEN
+    InputStream stream = new ByteArrayInputStream("first\nsecond line\nthird".getBytes(UTF_8));
+    // WHEN
+    catchThrowable(() -> inputStreams.assertContainsLine(INFO, stream, UTF_8, "second"));
+    // THEN
+    verify(failures).failure(INFO, shouldContainLine(stream, UTF_8, "second", 3));
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.inputstreams;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveContentStartingWith.shouldHaveContentStartingWith;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.InputStreams;
+import org.assertj.core.internal.InputStreamsBaseTest;
+import org.assertj.core.internal.InputStreamsException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link InputStreams#assertHasContentStartingWith(AssertionInfo, InputStream, Charset, String)}</code>.
+ */
+class InputStreams_assertHasContentStartingWith_Test extends InputStreamsBaseTest {
+
+  private static final Charset TURKISH_CHARSET = Charset.forName("windows-1254");
+
+  @Test
+  void should_throw_error_if_charset_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> inputStreams.assertHasContentStartingWith(INFO, actual, null, "a"))
+                                    .withMessage("The charset should not be null");
+  }
+
+  @Test
+  void should_throw_error_if_prefix_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> inputStreams.assertHasContentStartingWith(INFO, actual, UTF_8, null))
+                                    .withMessage("The prefix to look for should not be null");
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> inputStreams.assertHasContentStartingWith(INFO, null,
+                                                                                                               UTF_8, "a"))
+                                                   .withMessage(actualIsNull());
+  }
+
+  @Test
+  void should_pass_if_content_starts_with_prefix_and_leave_the_rest_of_the_stream_unread() throws IOException {
+    // GIVEN
+    byte[] content = new byte[1_000_000];
+    content[0] = 'a';
+    InputStream stream = new ByteArrayInputStream(content);
+    // WHEN
+    inputStreams.assertHasContentStartingWith(INFO, stream, UTF_8, "a\u0000");
+    // THEN
+    then(stream.available()).isPositive();
+  }
+
+  @Test
+  void should_pass_if_content_read_with_the_given_charset_starts_with_prefix() {
+    // GIVEN
+    InputStream stream = new ByteArrayInputStream("Gerçek Başka bir yerde mi".getBytes(TURKISH_CHARSET));
+    // THEN
+    inputStreams.assertHasContentStartingWith(INFO, stream, TURKISH_CHARSET, "Gerçek Başka");
+  }
+
+  @Test
+  void should_fail_if_content_does_not_start_with_prefix() {
+    // GIVEN
+    InputStream stream = new ByteArrayInputStream("Gerçek Başka bir yerde mi".getBytes(TURKISH_CHARSET));
+    // WHEN
+    catchThrowable(() -> inputStreams.assertHasContentStartingWith(INFO, stream, UTF_8, "Gerçek"));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveContentStartingWith(stream, UTF_8, "Gerçek", "Ger\uFFFDek"));
+  }
+
+  @Test
+  void should_fail_if_content_is_shorter_than_prefix() {
+    // GIVEN
+    InputStream stream = new ByteArrayInputStream("ab".getBytes(UTF_8));
+    // WHEN
+    catchThrowable(() -> inputStreams.assertHasContentStartingWith(INFO, stream, UTF_8, "abc"));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveContentStartingWith(stream, UTF_8, "abc", "ab"));
+  }
+
+  @Test
+  void should_throw_error_wrapping_caught_IOException() throws IOException {
+    // GIVEN
+    IOException cause = new IOException();
+    InputStream stream = mock(InputStream.class);
+    given(stream.read(any(byte[].class), anyInt(), anyInt())).willThrow(cause);
+    // WHEN
+    Throwable error = catchThrowable(() -> inputStreams.assertHasContentStartingWith(INFO, stream, UTF_8, "a"));
+    // THEN
+    then(error).isInstanceOf(InputStreamsException.class)
+               .hasCause(cause);
+  }
+}
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal.inputstreams;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -27,6 +28,7 @@ import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
@@ -37,7 +39,7 @@ import org.assertj.core.util.diff.Delta;
 import org.junit.jupiter.api.Test;
 
 /**
- * Tests for <code>{@link InputStreams#assertHasContent(AssertionInfo, InputStream, String)}</code>.
+ * Tests for <code>{@link InputStreams#assertHasContent(AssertionInfo, InputStream, String, Charset)}</code>.
  *
  * @author Stephan Windmüller
  */
@@ -45,31 +47,31 @@ class InputStreams_assertHasContent_Test extends InputStreamsBaseTest {
 
   @Test
   void should_throw_error_if_expected_is_null() {
-    assertThatNullPointerException().isThrownBy(() -> inputStreams.assertHasContent(someInfo(), actual, null))
+    assertThatNullPointerException().isThrownBy(() -> inputStreams.assertHasContent(someInfo(), actual, null, UTF_8))
                                     .withMessage("The String to compare to should not be null");
   }
 
   @Test
   void should_fail_if_actual_is_null() {
-    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> inputStreams.assertHasContent(someInfo(), null, ""))
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> inputStreams.assertHasContent(someInfo(), null, "", UTF_8))
                                                    .withMessage(actualIsNull());
   }
 
   @Test
   void should_pass_if_inputstream_and_string_have_equal_content() throws IOException {
     // GIVEN
-    given(diff.diff(actual, expected)).willReturn(emptyList());
+    given(diff.diff(actual, expectedString, UTF_8)).willReturn(emptyList());
     // THEN
-    inputStreams.assertHasContent(someInfo(), actual, expectedString);
+    inputStreams.assertHasContent(someInfo(), actual, expectedString, UTF_8);
   }
 
   @Test
   void should_throw_error_wrapping_caught_IOException() throws IOException {
     // GIVEN
     IOException cause = new IOException();
-    given(diff.diff(actual, expectedString)).willThrow(cause);
+    given(diff.diff(actual, expectedString, UTF_8)).willThrow(cause);
     // WHEN
-    Throwable error = catchThrowable(() -> inputStreams.assertHasContent(someInfo(), actual, expectedString));
+    Throwable error = catchThrowable(() -> inputStreams.assertHasContent(someInfo(), actual, expectedString, UTF_8));
     // THEN
     assertThat(error).isInstanceOf(InputStreamsException.class)
                      .hasCause(cause);
@@ -79,10 +81,10 @@ class InputStreams_assertHasContent_Test extends InputStreamsBaseTest {
   void should_fail_if_inputstream_and_string_do_not_have_equal_content() throws IOException {
     // GIVEN
     List<Delta<String>> diffs = list((Delta<String>) mock(Delta.class));
-    given(diff.diff(actual, expectedString)).willReturn(diffs);
+    given(diff.diff(actual, expectedString, UTF_8)).willReturn(diffs);
     AssertionInfo info = someInfo();
     // WHEN
-    catchThrowable(() -> inputStreams.assertHasContent(someInfo(), actual, expectedString));
+    catchThrowable(() -> inputStreams.assertHasContent(someInfo(), actual, expectedString, UTF_8));
     // THEN
     verify(failures).failure(info, shouldHaveSameContent(actual, expectedString, diffs));
   }
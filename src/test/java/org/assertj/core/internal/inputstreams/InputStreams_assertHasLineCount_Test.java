@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.inputstreams;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveLineCount.shouldHaveLinesCount;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.InputStreams;
+import org.assertj.core.internal.InputStreamsBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link InputStreams#assertHasLineCount(AssertionInfo, InputStream, Charset, long)}</code>.
+ */
+class InputStreams_assertHasLineCount_Test extends InputStreamsBaseTest {
+
+  @Test
+  void should_throw_error_if_charset_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> inputStreams.assertHasLineCount(INFO, actual, null, 0))
+                                    .withMessage("The charset should not be null");
+  }
+
+  @Test
+  void should_throw_error_if_expected_line_count_is_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> inputStreams.assertHasLineCount(INFO, actual, UTF_8, -1))
+                                        .withMessage("The expected line count should be >= 0, but was -1");
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> inputStreams.assertHasLineCount(INFO, null, UTF_8, 0))
+                                                   .withMessage(actualIsNull());
+  }
+
+  @Test
+  void should_pass_if_content_has_the_expected_number_of_lines() {
+    // GIVEN
+    InputStream stream = new ByteArrayInputStream("first\r\nsecond\rthird\n".getBytes(UTF_8));
+    // THEN
+    inputStreams.assertHasLineCount(INFO, stream, UTF_8, 3);
+  }
+
+  @Test
+  void should_fail_if_content_has_less_lines_than_expected() {
+    // GIVEN
+    InputStream stream = new ByteArrayInputStream("first\nsecond".getBytes(UTF_8));
+    // WHEN
+    catchThrowable(() -> inputStreams.assertHasLineCount(INFO, stream, UTF_8, 3));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveLinesCount(stream, UTF_8, 2, 3));
+  }
+
+  @Test
+  void should_fail_with_the_actual_line_count_if_expected_line_count_is_max_long() {
+    // GIVEN
+    InputStream stream = new ByteArrayInputStream("first\nsecond".getBytes(UTF_8));
+    // WHEN
+    catchThrowable(() -> inputStreams.assertHasLineCount(INFO, stream, UTF_8, Long.MAX_VALUE));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveLinesCount(stream, UTF_8, 2, Long.MAX_VALUE));
+  }
+
+  @Test
+  void should_fail_as_soon_as_content_has_more_lines_than_expected() throws IOException {
+    // GIVEN
+    byte[] content = new byte[1_000_000];
+    Arrays.fill(content, (byte) '\n');
+    InputStream stream = new ByteArrayInputStream(content);
+    // WHEN
+    catchThrowable(() -> inputStreams.assertHasLineCount(INFO, stream, UTF_8, 0));
+    // THEN
+    verify(failures).failure(INFO, shouldHaveLinesCount(stream, UTF_8, 1, 0));
+    then(stream.available()).isPositive();
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.inputstreams;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.InputStreams;
+import org.assertj.core.internal.InputStreamsBaseTest;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.InsertDelta;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link InputStreams#assertMatchesLinesOf(AssertionInfo, InputStream, Charset, InputStream)}</code>.
+ */
+class InputStreams_assertMatchesLinesOf_Test extends InputStreamsBaseTest {
+
+  @Test
+  void should_throw_error_if_charset_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> inputStreams.assertMatchesLinesOf(INFO, actual, null, expected))
+                                    .withMessage("The charset should not be null");
+  }
+
+  @Test
+  void should_throw_error_if_expected_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> inputStreams.assertMatchesLinesOf(INFO, actual, UTF_8, null))
+                                    .withMessage("The InputStream to compare to should not be null");
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> inputStreams.assertMatchesLinesOf(INFO, null, UTF_8,
+                                                                                                       expected))
+                                                   .withMessage(actualIsNull());
+  }
+
+  @Test
+  void should_pass_if_lines_are_equal_whatever_the_line_terminators() {
+    // GIVEN
+    InputStream actualStream = stream("first\r\nsecond\n");
+    InputStream expectedStream = stream("first\nsecond");
+    // WHEN
+    inputStreams.assertMatchesLinesOf(INFO, actualStream, UTF_8, expectedStream);
+    // THEN
+    verifyNoInteractions(diff);
+  }
+
+  @Test
+  void should_fail_at_the_first_different_line_without_reading_the_rest_of_the_streams() throws IOException {
+    // GIVEN
+    InputStream actualStream = stream("first\nsecond\nthird\n" + new String(new char[100_000]));
+    InputStream expectedStream = stream("first\nsecond\nthree\n" + new String(new char[100_000]));
+    // WHEN
+    catchThrowable(() -> inputStreams.assertMatchesLinesOf(INFO, actualStream, UTF_8, expectedStream));
+    // THEN
+    Delta<String> difference = new ChangeDelta<>(new Chunk<>(2, singletonList("three")), new Chunk<>(2, singletonList("third")));
+    verify(failures).failure(INFO, shouldHaveSameContent(actualStream, expectedStream, singletonList(difference)));
+    then(actualStream.available()).isPositive();
+    then(expectedStream.available()).isPositive();
+  }
+
+  @Test
+  void should_fail_if_actual_has_less_lines() {
+    // GIVEN
+    InputStream actualStream = stream("first");
+    InputStream expectedStream = stream("first\nsecond");
+    // WHEN
+    catchThrowable(() -> inputStreams.assertMatchesLinesOf(INFO, actualStream, UTF_8, expectedStream));
+    // THEN
+    List<Delta<String>> diffs = singletonList(new DeleteDelta<>(new Chunk<>(1, singletonList("second")),
+                                                                new Chunk<>(1, emptyList())));
+    verify(failures).failure(INFO, shouldHaveSameContent(actualStream, expectedStream, diffs));
+  }
+
+  @Test
+  void should_fail_if_actual_has_more_lines() {
+    // GIVEN
+    InputStream actualStream = stream("first\nsecond");
+    InputStream expectedStream = stream("first");
+    // WHEN
+    catchThrowable(() -> inputStreams.assertMatchesLinesOf(INFO, actualStream, UTF_8, expectedStream));
+    // THEN
+    List<Delta<String>> diffs = singletonList(new InsertDelta<>(new Chunk<>(1, emptyList()),
+                                                                new Chunk<>(1, singletonList("second"))));
+    verify(failures).failure(INFO, shouldHaveSameContent(actualStream, expectedStream, diffs));
+  }
+
+  private static InputStream stream(String content) {
+    return new ByteArrayInputStream(content.getBytes(UTF_8));
+  }
+}
@@ -23,7 +23,9 @@ import static org.mockito.Mockito.verify;
 import java.util.List;
 import java.util.function.Predicate;
 
+import org.assertj.core.configuration.Configuration;
 import org.assertj.core.internal.IterablesBaseTest;
+import org.assertj.core.internal.ParallelIterableEvaluator;
 import org.assertj.core.presentation.PredicateDescription;
 import org.junit.jupiter.api.Test;
 
@@ -75,4 +77,20 @@ class Iterables_assertAllMatch_Test extends IterablesBaseTest {
                              elementsShouldMatch(actual, newArrayList("1234", "12345"), PredicateDescription.GIVEN));
   }
 
+  @Test
+  void should_report_all_items_that_do_not_match_in_order_when_evaluated_in_parallel() {
+    List<String> actual = newArrayList("123", "1234", "12", "12345");
+    ParallelIterableEvaluator.setParallelEvaluationThreshold(1);
+    try {
+      Throwable error = catchThrowable(() -> iterables.assertAllMatch(someInfo(), actual, s -> s.length() <= 3,
+                                                                      PredicateDescription.GIVEN));
+
+      assertThat(error).isInstanceOf(AssertionError.class);
+      verify(failures).failure(info,
+                               elementsShouldMatch(actual, newArrayList("1234", "12345"), PredicateDescription.GIVEN));
+    } finally {
+      ParallelIterableEvaluator.setParallelEvaluationThreshold(Configuration.PARALLEL_EVALUATION_THRESHOLD);
+    }
+  }
+
 }
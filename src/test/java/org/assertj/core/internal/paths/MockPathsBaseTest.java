@@ -26,6 +26,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -66,6 +67,14 @@ public class MockPathsBaseTest extends PathsBaseTest {
     }
   }
 
+  static FileChannel redPngChannel() throws IOException {
+    return FileChannel.open(java.nio.file.Paths.get("src/test/resources/red.png"));
+  }
+
+  static void failIfChannelIsOpen(FileChannel channel) {
+    assertThat(channel.isOpen()).as("Channel should be closed").isFalse();
+  }
+
   static DirectoryStream<Path> directoryStream(List<Path> directoryItems) {
     DirectoryStream<Path> stream = mock(DirectoryStream.class);
     given(stream.iterator()).will(inv -> directoryItems.iterator());
@@ -0,0 +1,162 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldAllHaveSameBinaryContent.shouldAllHaveSameBinaryContent;
+import static org.assertj.core.internal.BinaryDiffResult.noDiff;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.emptyList;
+import static org.assertj.core.util.Lists.list;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.internal.PathsBaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class Paths_assertAllHaveSameBinaryContentAs_Test extends PathsBaseTest {
+
+  private final Path goldens = Paths.get("goldens");
+  private final Path a = Paths.get("output", "a.bin");
+  private final Path b = Paths.get("output", "b.bin");
+  private final Path c = Paths.get("output", "c.bin");
+
+  @BeforeEach
+  void setUpComparison() {
+    given(nioFilesWrapper.isDirectory(goldens)).willReturn(true);
+    for (Path path : list(a, b, c, golden(a), golden(b), golden(c))) {
+      given(nioFilesWrapper.isRegularFile(path)).willReturn(true);
+      given(nioFilesWrapper.isReadable(path)).willReturn(true);
+    }
+  }
+
+  @Test
+  void should_pass_if_all_paths_have_same_binary_content_as_their_golden() throws IOException {
+    // GIVEN
+    given(concurrentBinaryDiff.diff(list(a, b), list(golden(a), golden(b)))).willReturn(list(noDiff(), noDiff()));
+    // WHEN/THEN
+    paths.assertAllHaveSameBinaryContentAs(info, list(a, b), goldens);
+  }
+
+  @Test
+  void should_throw_error_if_expected_directory_is_null() {
+    // WHEN
+    NullPointerException npe = catchThrowableOfType(() -> paths.assertAllHaveSameBinaryContentAs(info, list(a), null),
+                                                    NullPointerException.class);
+    // THEN
+    then(npe).hasMessage("The given directory to compare actual contents to should not be null");
+  }
+
+  @Test
+  void should_throw_error_if_expected_directory_is_not_a_directory() {
+    // GIVEN
+    given(nioFilesWrapper.isDirectory(goldens)).willReturn(false);
+    // WHEN
+    IllegalArgumentException iae = catchThrowableOfType(() -> paths.assertAllHaveSameBinaryContentAs(info, list(a), goldens),
+                                                        IllegalArgumentException.class);
+    // THEN
+    then(iae).hasMessage("The given Path <%s> to compare actual contents to should be an existing directory", goldens);
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // WHEN
+    AssertionError error = expectAssertionError(() -> paths.assertAllHaveSameBinaryContentAs(info, null, goldens));
+    // THEN
+    then(error).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_throw_error_wrapping_caught_IOException() throws IOException {
+    // GIVEN
+    IOException cause = new IOException();
+    given(concurrentBinaryDiff.diff(any(), any())).willThrow(cause);
+    // WHEN
+    UncheckedIOException uioe = catchThrowableOfType(() -> paths.assertAllHaveSameBinaryContentAs(info, list(a), goldens),
+                                                     UncheckedIOException.class);
+    // THEN
+    then(uioe).hasCause(cause);
+  }
+
+  @Test
+  void should_report_all_the_differences_together() throws IOException {
+    // GIVEN
+    Path notReadable = Paths.get("output", "not-readable.bin");
+    Path withoutGolden = Paths.get("output", "without-golden.bin");
+    given(nioFilesWrapper.isRegularFile(withoutGolden)).willReturn(true);
+    given(nioFilesWrapper.isReadable(withoutGolden)).willReturn(true);
+    List<BinaryDiffResult> results = list(new BinaryDiffResult(3, 1, 2), noDiff(), new BinaryDiffResult(0, 7, -1));
+    given(concurrentBinaryDiff.diff(list(a, b, c), list(golden(a), golden(b), golden(c)))).willReturn(results);
+    List<Path> actual = list(a, notReadable, b, withoutGolden, c);
+    Map<Path, BinaryDiffResult> differing = new LinkedHashMap<>();
+    differing.put(a, results.get(0));
+    differing.put(c, results.get(2));
+    // WHEN
+    expectAssertionError(() -> paths.assertAllHaveSameBinaryContentAs(info, actual, goldens));
+    // THEN
+    verify(failures).failure(info, shouldAllHaveSameBinaryContent(5, goldens, list(notReadable), emptyList(),
+                                                                  list(withoutGolden), differing));
+  }
+
+  @Test
+  void should_report_paths_without_file_name_as_not_readable_files() throws IOException {
+    // GIVEN
+    Path root = Paths.get("output").toAbsolutePath().getRoot();
+    given(concurrentBinaryDiff.diff(list(a), list(golden(a)))).willReturn(list(noDiff()));
+    // WHEN
+    expectAssertionError(() -> paths.assertAllHaveSameBinaryContentAs(info, list(a, root), goldens));
+    // THEN
+    verify(failures).failure(info, shouldAllHaveSameBinaryContent(2, goldens, list(root), emptyList(), emptyList(),
+                                                                  emptyMap()));
+  }
+
+  @Test
+  void should_report_paths_sharing_their_file_name_without_comparing_them() throws IOException {
+    // GIVEN
+    Path otherA = Paths.get("other-output", "a.bin");
+    given(nioFilesWrapper.isRegularFile(otherA)).willReturn(true);
+    given(nioFilesWrapper.isReadable(otherA)).willReturn(true);
+    given(concurrentBinaryDiff.diff(list(b), list(golden(b)))).willReturn(list(noDiff()));
+    // WHEN
+    expectAssertionError(() -> paths.assertAllHaveSameBinaryContentAs(info, list(a, b, otherA), goldens));
+    // THEN
+    verify(failures).failure(info, shouldAllHaveSameBinaryContent(3, goldens, emptyList(), list(a, otherA), emptyList(),
+                                                                  emptyMap()));
+  }
+
+  @Test
+  void should_pass_if_there_are_no_actual_paths() throws IOException {
+    // GIVEN
+    given(concurrentBinaryDiff.diff(emptyList(), emptyList())).willReturn(emptyList());
+    // WHEN/THEN
+    paths.assertAllHaveSameBinaryContentAs(info, emptyList(), goldens);
+  }
+
+  private Path golden(Path path) {
+    return goldens.resolve(path.getFileName().toString());
+  }
+}
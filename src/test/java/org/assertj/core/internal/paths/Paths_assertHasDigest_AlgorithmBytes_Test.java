@@ -25,8 +25,8 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -105,7 +105,7 @@ class Paths_assertHasDigest_AlgorithmBytes_Test extends MockPathsBaseTest {
     given(nioFilesWrapper.exists(actual)).willReturn(true);
     given(nioFilesWrapper.isRegularFile(actual)).willReturn(true);
     given(nioFilesWrapper.isReadable(actual)).willReturn(true);
-    given(nioFilesWrapper.newInputStream(actual)).willThrow(cause);
+    given(nioFilesWrapper.newFileChannel(actual)).willThrow(cause);
     // WHEN
     Throwable error = catchThrowable(() -> paths.assertHasDigest(INFO, actual, algorithm, expected));
     // THEN
@@ -127,29 +127,29 @@ class Paths_assertHasDigest_AlgorithmBytes_Test extends MockPathsBaseTest {
   @Test
   void should_fail_if_actual_does_not_have_expected_digest() throws IOException, NoSuchAlgorithmException {
     // GIVEN
-    InputStream stream = getClass().getResourceAsStream("/red.png");
+    FileChannel channel = redPngChannel();
     given(nioFilesWrapper.exists(actual)).willReturn(true);
     given(nioFilesWrapper.isRegularFile(actual)).willReturn(true);
     given(nioFilesWrapper.isReadable(actual)).willReturn(true);
-    given(nioFilesWrapper.newInputStream(actual)).willReturn(stream);
+    given(nioFilesWrapper.newFileChannel(actual)).willReturn(channel);
     // WHEN
     catchThrowable(() -> paths.assertHasDigest(INFO, actual, algorithm, expected));
     // THEN
     verify(failures).failure(INFO, shouldHaveDigest(actual, new DigestDiff(real, "", MessageDigest.getInstance(algorithm))));
-    failIfStreamIsOpen(stream);
+    failIfChannelIsOpen(channel);
   }
 
   @Test
   void should_pass_if_actual_has_expected_digest() throws IOException {
     // GIVEN
-    InputStream stream = getClass().getResourceAsStream("/red.png");
+    FileChannel channel = redPngChannel();
     given(nioFilesWrapper.exists(actual)).willReturn(true);
     given(nioFilesWrapper.isRegularFile(actual)).willReturn(true);
     given(nioFilesWrapper.isReadable(actual)).willReturn(true);
-    given(nioFilesWrapper.newInputStream(actual)).willReturn(stream);
+    given(nioFilesWrapper.newFileChannel(actual)).willReturn(channel);
     // WHEN
     paths.assertHasDigest(INFO, actual, algorithm, Digests.fromHex(real));
     // THEN
-    failIfStreamIsOpen(stream);
+    failIfChannelIsOpen(channel);
   }
 }
@@ -24,8 +24,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 
@@ -95,7 +95,7 @@ class Paths_assertHasDigest_DigestString_Test extends MockPathsBaseTest {
     given(nioFilesWrapper.exists(actual)).willReturn(true);
     given(nioFilesWrapper.isRegularFile(actual)).willReturn(true);
     given(nioFilesWrapper.isReadable(actual)).willReturn(true);
-    given(nioFilesWrapper.newInputStream(actual)).willThrow(cause);
+    given(nioFilesWrapper.newFileChannel(actual)).willThrow(cause);
     // WHEN
     Throwable error = catchThrowable(() -> paths.assertHasDigest(INFO, actual, digest, expected));
     // THEN
@@ -117,31 +117,31 @@ class Paths_assertHasDigest_DigestString_Test extends MockPathsBaseTest {
   @Test
   void should_fail_if_actual_does_not_have_expected_digest() throws IOException {
     // GIVEN
-    InputStream stream = getClass().getResourceAsStream("/red.png");
+    FileChannel channel = redPngChannel();
     given(nioFilesWrapper.exists(actual)).willReturn(true);
     given(nioFilesWrapper.isRegularFile(actual)).willReturn(true);
     given(nioFilesWrapper.isReadable(actual)).willReturn(true);
-    given(nioFilesWrapper.newInputStream(actual)).willReturn(stream);
+    given(nioFilesWrapper.newFileChannel(actual)).willReturn(channel);
     given(digest.digest()).willReturn(new byte[] { 0, 1 });
     // WHEN
     catchThrowable(() -> paths.assertHasDigest(INFO, actual, digest, expected));
     // THEN
     verify(failures).failure(INFO, shouldHaveDigest(actual, new DigestDiff("0001", "", digest)));
-    failIfStreamIsOpen(stream);
+    failIfChannelIsOpen(channel);
   }
 
   @Test
   void should_pass_if_actual_has_expected_digest() throws IOException {
     // GIVEN
-    InputStream stream = getClass().getResourceAsStream("/red.png");
+    FileChannel channel = redPngChannel();
     given(nioFilesWrapper.exists(actual)).willReturn(true);
     given(nioFilesWrapper.isRegularFile(actual)).willReturn(true);
     given(nioFilesWrapper.isReadable(actual)).willReturn(true);
-    given(nioFilesWrapper.newInputStream(actual)).willReturn(stream);
+    given(nioFilesWrapper.newFileChannel(actual)).willReturn(channel);
     given(digest.digest()).willReturn(expected.getBytes());
     // WHEN
     paths.assertHasDigest(INFO, actual, digest, expected);
     // THEN
-    failIfStreamIsOpen(stream);
+    failIfChannelIsOpen(channel);
   }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static java.nio.file.Files.setLastModifiedTime;
+import static java.nio.file.Files.write;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.DigestCache;
+import org.assertj.core.internal.DigestDiff;
+import org.assertj.core.internal.Digests;
+import org.assertj.core.internal.Paths;
+import org.assertj.core.internal.PathsSimpleBaseTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Paths#assertHasDigest(AssertionInfo, Path, String, String)}</code> with the digest cache enabled.
+ */
+class Paths_assertHasDigest_cache_Test extends PathsSimpleBaseTest {
+
+  private static final FileTime ONE_HOUR_AGO = FileTime.from(Instant.now().minusSeconds(3600));
+
+  @BeforeEach
+  void enableDigestCache() {
+    DigestCache.setEnabled(true);
+  }
+
+  @AfterEach
+  void disableDigestCache() {
+    DigestCache.setEnabled(false);
+  }
+
+  @Test
+  void should_fail_once_the_cached_file_changes() throws IOException, NoSuchAlgorithmException {
+    // GIVEN
+    Path actual = write(tempDir.resolve("golden.bin"), new byte[] { 1, 2, 3 });
+    setLastModifiedTime(actual, ONE_HOUR_AGO);
+    String expected = Digests.toHex(MessageDigest.getInstance("SHA-256").digest(new byte[] { 1, 2, 3 }));
+    paths.assertHasDigest(INFO, actual, "SHA-256", expected);
+    write(actual, new byte[] { 3, 2, 1 });
+    // WHEN
+    expectAssertionError(() -> paths.assertHasDigest(INFO, actual, "SHA-256", expected));
+    // THEN
+    String actualDigest = Digests.toHex(MessageDigest.getInstance("SHA-256").digest(new byte[] { 3, 2, 1 }));
+    verify(failures).failure(INFO, shouldHaveDigest(actual, new DigestDiff(actualDigest, expected,
+                                                                            MessageDigest.getInstance("SHA-256"))));
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static java.nio.charset.Charset.defaultCharset;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.data.ContentSampling.sampling;
+import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
+import static org.assertj.core.internal.BinaryDiffResult.noDiff;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.TempFileUtil.createTempPathWithContent;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+import org.assertj.core.data.ContentSampling;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.internal.PathsBaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class Paths_assertHasSameBinaryContentAs_with_sampling_Test extends PathsBaseTest {
+
+  private static final ContentSampling SAMPLING = sampling(0.5);
+
+  private Path actual;
+  private Path expected;
+
+  @BeforeEach
+  void setUpOnce() throws IOException {
+    // Does not matter if the values differ, the actual comparison is mocked in this test
+    actual = createTempPathWithContent("foo", defaultCharset());
+    expected = createTempPathWithContent("bar", defaultCharset());
+    given(nioFilesWrapper.exists(actual)).willReturn(true);
+    given(nioFilesWrapper.isReadable(actual)).willReturn(true);
+    given(nioFilesWrapper.exists(expected)).willReturn(true);
+    given(nioFilesWrapper.isReadable(expected)).willReturn(true);
+  }
+
+  @Test
+  void should_pass_if_path_has_same_binary_content_as_expected_on_sampled_blocks() throws IOException {
+    // GIVEN
+    given(binaryDiff.diff(actual, expected, SAMPLING)).willReturn(noDiff());
+    // WHEN/THEN
+    paths.assertHasSameBinaryContentAs(someInfo(), actual, expected, SAMPLING);
+  }
+
+  @Test
+  void should_throw_error_if_sampling_is_null() {
+    // WHEN
+    NullPointerException npe = catchThrowableOfType(() -> paths.assertHasSameBinaryContentAs(someInfo(), actual, expected, null),
+                                                    NullPointerException.class);
+    // THEN
+    then(npe).hasMessage("The content sampling should not be null");
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // WHEN
+    AssertionError error = expectAssertionError(() -> paths.assertHasSameBinaryContentAs(someInfo(), null, expected, SAMPLING));
+    // THEN
+    then(error).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_fail_if_expected_path_does_not_exist() {
+    // GIVEN
+    given(nioFilesWrapper.exists(expected)).willReturn(false);
+    // WHEN
+    IllegalArgumentException iae = catchThrowableOfType(() -> paths.assertHasSameBinaryContentAs(someInfo(), actual, expected,
+                                                                                                 SAMPLING),
+                                                        IllegalArgumentException.class);
+    // THEN
+    then(iae).hasMessage("The given Path <%s> to compare actual content to should exist", expected);
+  }
+
+  @Test
+  void should_throw_error_wrapping_caught_IOException() throws IOException {
+    // GIVEN
+    IOException cause = new IOException();
+    given(binaryDiff.diff(actual, expected, SAMPLING)).willThrow(cause);
+    // WHEN
+    UncheckedIOException uioe = catchThrowableOfType(() -> paths.assertHasSameBinaryContentAs(someInfo(), actual, expected,
+                                                                                              SAMPLING),
+                                                     UncheckedIOException.class);
+    // THEN
+    then(uioe).hasCause(cause);
+  }
+
+  @Test
+  void should_fail_if_path_does_not_have_expected_binary_content_on_sampled_blocks() throws IOException {
+    // GIVEN
+    BinaryDiffResult diff = new BinaryDiffResult(15, (byte) 0xCA, (byte) 0xFE);
+    given(binaryDiff.diff(actual, expected, SAMPLING)).willReturn(diff);
+    // WHEN
+    expectAssertionError(() -> paths.assertHasSameBinaryContentAs(someInfo(), actual, expected, SAMPLING));
+    // THEN
+    verify(failures).failure(someInfo(), shouldHaveBinaryContent(actual, diff, SAMPLING));
+  }
+}
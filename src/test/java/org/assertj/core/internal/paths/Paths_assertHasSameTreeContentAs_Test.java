@@ -0,0 +1,161 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createSymbolicLink;
+import static java.nio.file.Files.delete;
+import static java.nio.file.Files.write;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.error.ShouldBeDirectory.shouldBeDirectory;
+import static org.assertj.core.error.ShouldHaveSameTreeContent.shouldHaveSameTreeContent;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.emptyList;
+import static org.assertj.core.util.Lists.list;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Paths;
+import org.assertj.core.internal.PathsSimpleBaseTest;
+import org.assertj.core.internal.TreeDiffResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Paths#assertHasSameTreeContentAs(AssertionInfo, Path, Path)}</code>.
+ */
+class Paths_assertHasSameTreeContentAs_Test extends PathsSimpleBaseTest {
+
+  private Path actual;
+  private Path expected;
+
+  @BeforeEach
+  void createTrees() throws IOException {
+    // @format:off
+    // both trees have the layout:
+    //  |—— a.txt
+    //  |—— empty
+    //  |—— lib
+    //       |—— b.bin
+    //       |—— nested
+    //            |—— c.bin
+    // @format:on
+    actual = createTree("actual");
+    expected = createTree("expected");
+  }
+
+  @Test
+  void should_pass_if_trees_have_the_same_content() {
+    paths.assertHasSameTreeContentAs(INFO, actual, expected);
+  }
+
+  @Test
+  void should_fail_if_expected_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> paths.assertHasSameTreeContentAs(INFO, actual, null))
+                                    .withMessage("The given Path to compare actual tree to should not be null");
+  }
+
+  @Test
+  void should_fail_if_expected_is_not_a_directory() {
+    // GIVEN
+    Path file = expected.resolve("a.txt");
+    // WHEN/THEN
+    assertThatIllegalArgumentException().isThrownBy(() -> paths.assertHasSameTreeContentAs(INFO, actual, file))
+                                        .withMessage("The given Path <%s> to compare actual tree to should be an existing directory",
+                                                     file);
+  }
+
+  @Test
+  void should_fail_if_actual_is_not_a_directory() {
+    // GIVEN
+    Path file = actual.resolve("a.txt");
+    // WHEN
+    expectAssertionError(() -> paths.assertHasSameTreeContentAs(INFO, file, expected));
+    // THEN
+    verify(failures).failure(INFO, shouldBeDirectory(file));
+  }
+
+  @Test
+  void should_fail_if_trees_have_different_entries() throws IOException {
+    // GIVEN
+    write(actual.resolve("lib/added.bin"), new byte[] { 1 });
+    createDirectories(actual.resolve("new/dir"));
+    delete(actual.resolve("lib/nested/c.bin"));
+    // WHEN
+    expectAssertionError(() -> paths.assertHasSameTreeContentAs(INFO, actual, expected));
+    // THEN
+    TreeDiffResult diff = new TreeDiffResult(list("lib/added.bin", "new", "new/dir"), list("lib/nested/c.bin"), emptyList());
+    verify(failures).failure(INFO, shouldHaveSameTreeContent(actual, expected, diff));
+  }
+
+  @Test
+  void should_fail_if_files_have_different_sizes_contents_or_types() throws IOException {
+    // GIVEN
+    write(actual.resolve("a.txt"), "a longer content".getBytes());
+    write(actual.resolve("lib/nested/c.bin"), new byte[] { 3, 2, 1 });
+    delete(actual.resolve("empty"));
+    write(actual.resolve("empty"), new byte[0]);
+    // WHEN
+    expectAssertionError(() -> paths.assertHasSameTreeContentAs(INFO, actual, expected));
+    // THEN
+    TreeDiffResult diff = new TreeDiffResult(emptyList(), emptyList(), list("a.txt", "empty", "lib/nested/c.bin"));
+    verify(failures).failure(INFO, shouldHaveSameTreeContent(actual, expected, diff));
+  }
+
+  @Test
+  void should_pass_if_symbolic_links_have_the_same_targets() throws IOException {
+    // GIVEN
+    createSymbolicLink(actual.resolve("link"), actual.getFileSystem().getPath("a.txt"));
+    createSymbolicLink(expected.resolve("link"), expected.getFileSystem().getPath("a.txt"));
+    // WHEN/THEN
+    paths.assertHasSameTreeContentAs(INFO, actual, expected);
+  }
+
+  @Test
+  void should_fail_if_symbolic_links_have_different_targets() throws IOException {
+    // GIVEN
+    createSymbolicLink(actual.resolve("link"), actual.getFileSystem().getPath("lib", "b.bin"));
+    createSymbolicLink(expected.resolve("link"), expected.getFileSystem().getPath("a.txt"));
+    // WHEN
+    expectAssertionError(() -> paths.assertHasSameTreeContentAs(INFO, actual, expected));
+    // THEN
+    TreeDiffResult diff = new TreeDiffResult(emptyList(), emptyList(), list("link"));
+    verify(failures).failure(INFO, shouldHaveSameTreeContent(actual, expected, diff));
+  }
+
+  @Test
+  void should_fail_if_a_symbolic_link_replaces_a_file() throws IOException {
+    // GIVEN
+    delete(actual.resolve("a.txt"));
+    createSymbolicLink(actual.resolve("a.txt"), expected.resolve("a.txt"));
+    // WHEN
+    expectAssertionError(() -> paths.assertHasSameTreeContentAs(INFO, actual, expected));
+    // THEN
+    TreeDiffResult diff = new TreeDiffResult(emptyList(), emptyList(), list("a.txt"));
+    verify(failures).failure(INFO, shouldHaveSameTreeContent(actual, expected, diff));
+  }
+
+  private Path createTree(String name) throws IOException {
+    Path root = createDirectoryWithDefaultParent(name);
+    write(root.resolve("a.txt"), "a".getBytes());
+    createDirectories(root.resolve("empty"));
+    createDirectories(root.resolve("lib/nested"));
+    write(root.resolve("lib/b.bin"), new byte[] { 4, 2 });
+    write(root.resolve("lib/nested/c.bin"), new byte[] { 1, 2, 3 });
+    return root;
+  }
+}
@@ -31,6 +31,7 @@ import static org.mockito.Mockito.verify;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -73,6 +74,19 @@ class Paths_assertIsDirectoryContaining_Predicate_Test extends MockPathsBaseTest
     paths.assertIsDirectoryContaining(INFO, actual, JAVA_SOURCE);
   }
 
+  @Test
+  void should_stop_listing_actual_at_the_first_file_matching_the_given_predicate() {
+    // GIVEN
+    Path file1 = mockEmptyRegularFile("Test.java");
+    Path file2 = mockEmptyRegularFile("Utils.java");
+    Path actual = mockDirectory("root", list(file1, file2));
+    List<Path> testedPaths = new ArrayList<>();
+    // WHEN
+    paths.assertIsDirectoryContaining(INFO, actual, path -> testedPaths.add(path) && JAVA_SOURCE.test(path));
+    // THEN
+    assertThat(testedPaths).containsExactly(file1);
+  }
+
   @Test
   void should_pass_if_actual_contains_at_least_one_file_matching_the_given_predicate() {
     // GIVEN
@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedSample_Test extends AbstractBaseRepresentationTest {
+
+  @Test
+  void should_return_null_as_is() {
+    then(BoundedSample.sample(null, 10)).isNull();
+  }
+
+  @Test
+  void should_return_collection_as_is_if_it_has_at_most_max_elements() {
+    // GIVEN
+    List<Integer> elements = list(1, 2, 3);
+    // WHEN
+    Iterable<Integer> sample = BoundedSample.sample(elements, 3);
+    // THEN
+    then(sample).isSameAs(elements);
+  }
+
+  @Test
+  void should_return_iterable_as_is_if_it_has_at_most_max_elements() {
+    // GIVEN
+    Iterable<Integer> elements = () -> IntStream.range(0, 3).iterator();
+    // WHEN
+    Iterable<Integer> sample = BoundedSample.sample(elements, 3);
+    // THEN
+    then(sample).isSameAs(elements);
+  }
+
+  @Test
+  void should_keep_first_and_last_elements_of_random_access_list() {
+    // GIVEN
+    List<Integer> elements = range(1_000);
+    // WHEN
+    BoundedSample<Integer> sample = (BoundedSample<Integer>) BoundedSample.sample(elements, 5);
+    // THEN
+    then(sample.getFirst()).containsExactly(0, 1, 2);
+    then(sample.getLast()).containsExactly(998, 999);
+    then(sample.getTotalCount()).isEqualTo(1_000);
+    then(sample.getOmittedCount()).isEqualTo(995);
+    then(sample).containsExactly(0, 1, 2, 998, 999);
+  }
+
+  @Test
+  void should_keep_first_and_last_elements_of_iterable_in_a_single_pass() {
+    // GIVEN
+    LinkedList<Integer> elements = new LinkedList<>(range(1_000));
+    // WHEN
+    BoundedSample<Integer> sample = (BoundedSample<Integer>) BoundedSample.sample(elements, 6);
+    // THEN
+    then(sample.getFirst()).containsExactly(0, 1, 2);
+    then(sample.getLast()).containsExactly(997, 998, 999);
+    then(sample.getTotalCount()).isEqualTo(1_000);
+  }
+
+  @Test
+  void should_keep_only_first_elements_if_max_elements_is_one() {
+    // GIVEN
+    Iterable<Integer> elements = () -> IntStream.range(0, 10).iterator();
+    // WHEN
+    BoundedSample<Integer> sample = (BoundedSample<Integer>) BoundedSample.sample(elements, 1);
+    // THEN
+    then(sample.getFirst()).containsExactly(0);
+    then(sample.getLast()).isEmpty();
+    then(sample.getTotalCount()).isEqualTo(10);
+  }
+
+  @Test
+  void should_fail_if_max_elements_is_less_than_one() {
+    assertThatIllegalArgumentException().isThrownBy(() -> BoundedSample.sample(list(1), 0))
+                                        .withMessage("maxElements must be >= 1, but was 0");
+  }
+
+  @Test
+  void should_sample_for_printing_according_to_max_elements_for_printing() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(4);
+    // WHEN
+    Iterable<Integer> sample = BoundedSample.sampleForPrinting(range(100));
+    // THEN
+    then(sample).containsExactly(0, 1, 98, 99);
+  }
+
+  @Test
+  void should_be_represented_like_the_sampled_elements() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(6);
+    List<Integer> elements = range(1_000);
+    // WHEN
+    Iterable<Integer> sample = BoundedSample.sampleForPrinting(elements);
+    // THEN
+    then(STANDARD_REPRESENTATION.toStringOf(sample)).isEqualTo(STANDARD_REPRESENTATION.toStringOf(elements))
+                                                    .isEqualTo("[0, 1, 2, ... 997, 998, 999]");
+  }
+
+  @Test
+  void should_be_represented_with_current_max_elements_for_printing() {
+    // GIVEN
+    Iterable<Integer> sample = BoundedSample.sample(range(1_000), 10);
+    StandardRepresentation.setMaxElementsForPrinting(3);
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(sample);
+    // THEN
+    then(representation).isEqualTo("[0, 1, ... 999]");
+  }
+
+  @Test
+  void should_represent_huge_primitive_array_with_first_and_last_elements() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(4);
+    int[] array = IntStream.range(0, 1_000_000).toArray();
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(array);
+    // THEN
+    then(representation).isEqualTo("[0, 1, ... 999998, 999999]");
+  }
+
+  private static List<Integer> range(int size) {
+    return IntStream.range(0, size).boxed().collect(Collectors.toList());
+  }
+}
@@ -171,6 +171,25 @@ class StandardRepresentation_iterable_format_Test extends AbstractBaseRepresenta
     then(formatted).isEqualTo(format("[\"First\", 3, 4, ... 5, \"another\", 6]"));
   }
 
+  @Test
+  void should_format_huge_iterable_and_its_bounded_sample_with_overridden_single_line_format() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(4);
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Iterable<?> iterable, String start, String end) {
+        return super.singleLineFormat(iterable, "<", ">");
+      }
+    };
+    List<Integer> list = list(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    // WHEN
+    String formattedList = representation.toStringOf(list);
+    String formattedSample = representation.toStringOf(BoundedSample.sample(list, 4));
+    // THEN
+    then(formattedList).isEqualTo("<0, 1, ... 8, 9>");
+    then(formattedSample).isEqualTo(formattedList);
+  }
+
   @Test
   void should_format_iterable_with_an_element_per_line_according_the_given_representation() {
     // GIVEN
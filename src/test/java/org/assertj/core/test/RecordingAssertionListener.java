@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.test;
+
+import static java.util.Collections.synchronizedList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.AssertionListener;
+
+/**
+ * {@link AssertionListener} recording the assertions it is notified of as {@code "<assert class>.<method> <outcome>"}.
+ */
+public class RecordingAssertionListener implements AssertionListener {
+
+  private final List<String> recordedAssertions = synchronizedList(new ArrayList<>());
+
+  public List<String> recordedAssertions() {
+    return recordedAssertions;
+  }
+
+  @Override
+  public void assertionSucceeded(Class<?> assertClass, String assertionMethod, long durationInNanos) {
+    record(assertClass, assertionMethod, durationInNanos, "succeeded");
+  }
+
+  @Override
+  public void assertionFailed(Class<?> assertClass, String assertionMethod, long durationInNanos,
+                              AssertionError assertionError) {
+    record(assertClass, assertionMethod, durationInNanos, "failed");
+  }
+
+  private void record(Class<?> assertClass, String assertionMethod, long durationInNanos, String outcome) {
+    if (durationInNanos < 0) throw new IllegalStateException("negative duration: " + durationInNanos);
+    recordedAssertions.add(assertClass.getSimpleName() + "." + assertionMethod + " " + outcome);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName();
+  }
+}
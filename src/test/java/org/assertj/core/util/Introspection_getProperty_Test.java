@@ -19,6 +19,7 @@ import static org.assertj.core.util.introspection.Introspection.getPropertyGette
 import java.lang.reflect.Method;
 
 import org.assertj.core.util.introspection.IntrospectionError;
+import org.assertj.core.util.introspection.PropertySupport;
 import org.junit.jupiter.api.Test;
 
 class Introspection_getProperty_Test {
@@ -78,6 +79,46 @@ class Introspection_getProperty_Test {
                 .hasMessage("No getter for property 'surname' in org.assertj.core.util.Introspection_getProperty_Test$VoidGetter");
   }
 
+  @Test
+  void should_not_invoke_getter() {
+    // GIVEN
+    CountingGetter countingGetter = new CountingGetter();
+    // WHEN
+    getPropertyGetter("value", countingGetter);
+    getPropertyGetter("value", countingGetter);
+    // THEN
+    then(countingGetter.invocations).isZero();
+  }
+
+  @Test
+  void should_invoke_getter_once_per_extraction() {
+    // GIVEN
+    CountingGetter countingGetter = new CountingGetter();
+    // WHEN
+    Object value = PropertySupport.propertyValueOf("value", countingGetter, Object.class);
+    // THEN
+    then(value).isEqualTo(1);
+    then(countingGetter.invocations).isEqualTo(1);
+  }
+
+  @Test
+  void should_raise_the_same_error_for_each_lookup_of_a_missing_getter() {
+    // WHEN
+    Throwable firstError = catchThrowable(() -> getPropertyGetter("salary", judy));
+    Throwable secondError = catchThrowable(() -> getPropertyGetter("salary", judy));
+    // THEN
+    then(secondError).isInstanceOf(IntrospectionError.class)
+                     .hasMessage(firstError.getMessage());
+  }
+
+  static class CountingGetter {
+    int invocations;
+
+    public int getValue() {
+      return ++invocations;
+    }
+  }
+
   static class Example extends Super {
   }
 
@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.reflect.Field;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class ClassMetadata_Test {
+
+  @Test
+  void should_return_the_same_metadata_for_the_same_class() {
+    then(ClassMetadata.of(Child.class)).isSameAs(ClassMetadata.of(Child.class))
+                                       .isNotSameAs(ClassMetadata.of(Parent.class));
+  }
+
+  @Test
+  void should_fail_if_class_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> ClassMetadata.of(null))
+                                    .withMessage("expecting Class parameter not to be null");
+  }
+
+  @Test
+  void should_return_declared_and_inherited_fields_excluding_static_ones() {
+    // WHEN
+    Set<Field> fields = ClassMetadata.of(Child.class).getDeclaredFieldsIncludingInherited();
+    // THEN
+    then(fields).extracting(Field::getName).containsExactly("childField", "parentField");
+    then(ClassMetadata.of(Child.class).getDeclaredFieldsIncludingInherited()).isSameAs(fields);
+  }
+
+  @Test
+  void should_return_unmodifiable_fields_names() {
+    // GIVEN
+    Set<String> fieldsNames = ClassMetadata.of(Child.class).getFieldsNames();
+    // WHEN
+    Throwable thrown = catchThrowable(() -> fieldsNames.add("other"));
+    // THEN
+    then(fieldsNames).containsExactlyInAnyOrder("childField", "parentField");
+    then(thrown).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void should_detect_overridden_equals_and_hashCode() {
+    then(ClassMetadata.of(Parent.class).hasOverriddenEquals()).isTrue();
+    then(ClassMetadata.of(Child.class).hasOverriddenEquals()).isTrue();
+    then(ClassMetadata.of(Parent.class).hasOverriddenHashCode()).isFalse();
+    then(ClassMetadata.of(Object.class).hasOverriddenEquals()).isFalse();
+  }
+
+  @Test
+  void should_find_no_arg_methods_including_absent_ones() {
+    // GIVEN
+    ClassMetadata metadata = ClassMetadata.of(Child.class);
+    // WHEN/THEN
+    then(metadata.findNoArgMethod("getParentField")).isPresent();
+    then(metadata.findNoArgMethod("unknown")).isEmpty();
+    then(metadata.noArgMethods).containsKeys("getParentField", "unknown");
+  }
+
+  @Test
+  void should_preload_metadata() {
+    // WHEN
+    ClassMetadata.preload(Parent.class, Child.class);
+    // THEN
+    then(ClassMetadata.of(Child.class).getFieldsNames()).hasSize(2);
+  }
+
+  static class Parent {
+    static final String CONSTANT = "constant";
+    String parentField;
+
+    public String getParentField() {
+      return parentField;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return super.equals(obj);
+    }
+  }
+
+  static class Child extends Parent {
+    String childField;
+  }
+
+}
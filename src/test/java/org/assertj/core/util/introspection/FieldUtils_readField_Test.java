@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+class FieldUtils_readField_Test {
+
+  @Test
+  void should_read_private_and_inherited_fields_repeatedly_when_access_is_forced() throws IllegalAccessException {
+    // GIVEN
+    Child child = new Child();
+    // WHEN/THEN
+    for (int i = 0; i < 10; i++) {
+      child.count = i;
+      then(FieldUtils.readField(child, "count", true)).isEqualTo(i);
+      then(FieldUtils.readField(child, "secret", true)).isEqualTo("secret");
+      then(FieldUtils.readField(child, "name", true)).isEqualTo("parent");
+    }
+  }
+
+  @Test
+  void should_read_public_fields_when_access_is_not_forced() throws IllegalAccessException {
+    // WHEN
+    Object value = FieldUtils.readField(new Child(), "name", false);
+    // THEN
+    then(value).isEqualTo("parent");
+  }
+
+  @Test
+  void should_fail_every_time_a_non_public_field_is_read_when_access_is_not_forced() {
+    // WHEN
+    Throwable firstError = catchThrowable(() -> FieldUtils.readField(new Child(), "secret", false));
+    Throwable secondError = catchThrowable(() -> FieldUtils.readField(new Child(), "secret", false));
+    // THEN
+    then(firstError).isInstanceOf(IllegalAccessException.class);
+    then(secondError).isInstanceOf(IllegalAccessException.class)
+                     .hasMessage(firstError.getMessage());
+  }
+
+  @Test
+  void should_fail_every_time_an_unknown_field_is_read() {
+    // WHEN
+    Throwable firstError = catchThrowable(() -> FieldUtils.readField(new Child(), "unknown", true));
+    Throwable secondError = catchThrowable(() -> FieldUtils.readField(new Child(), "unknown", true));
+    // THEN
+    then(firstError).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageStartingWith("Cannot locate field unknown on");
+    then(secondError).hasMessage(firstError.getMessage());
+  }
+
+  @Test
+  void should_not_read_static_fields() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> FieldUtils.readField(new Child(), "CONSTANT", true));
+    // THEN
+    then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Reading static field is not supported and field CONSTANT is static on");
+  }
+
+  static class Parent {
+    public String name = "parent";
+  }
+
+  static class Child extends Parent {
+    static final String CONSTANT = "constant";
+    int count;
+    private final String secret = "secret";
+  }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.introspection.FieldSupport.EXTRACTION_OF_PUBLIC_FIELD_ONLY;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.assertj.core.test.Employee;
+import org.assertj.core.test.Name;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PropertyOrFieldSupport_compile_Test {
+
+  private final PropertyOrFieldSupport underTest = PropertyOrFieldSupport.EXTRACTION;
+
+  @AfterEach
+  void tearDown() {
+    Introspection.setExtractBareNamePropertyMethods(true);
+  }
+
+  @Test
+  void should_extract_property_field_and_nested_values_of_many_objects() {
+    // GIVEN
+    Function<Object, Object> age = underTest.compile("age");
+    Function<Object, Object> id = underTest.compile("id");
+    Function<Object, Object> city = underTest.compile("city");
+    Function<Object, Object> firstName = underTest.compile("name.first");
+    // WHEN/THEN
+    for (int i = 0; i < 100; i++) {
+      Employee employee = new Employee(i, new Name("Luke" + i), i);
+      then(age.apply(employee)).isEqualTo(i);
+      then(id.apply(employee)).isEqualTo((long) i);
+      then(city.apply(employee)).isEqualTo("New York");
+      then(firstName.apply(employee)).isEqualTo("Luke" + i);
+    }
+  }
+
+  @Test
+  void should_resolve_property_or_field_again_when_class_changes() {
+    // GIVEN
+    Function<Object, Object> name = underTest.compile("name");
+    Employee employee = new Employee(1L, new Name("Name"), 0);
+    Employee employeeWithOverriddenName = new Employee(1L, new Name("Name"), 0) {
+      @Override
+      public Name getName() {
+        return new Name("Overridden Name");
+      }
+    };
+    // WHEN/THEN
+    then(name.apply(employee)).isEqualTo(new Name("Name"));
+    then(name.apply(employeeWithOverriddenName)).isEqualTo(new Name("Overridden Name"));
+    then(name.apply(employee)).isEqualTo(new Name("Name"));
+  }
+
+  @Test
+  void should_fallback_to_field_if_exception_has_been_thrown_on_property_access() {
+    // GIVEN
+    Function<Object, Object> name = underTest.compile("name");
+    Employee employee = new Employee(1L, new Name("Name"), 0) {
+      @Override
+      public Name getName() {
+        throw new IllegalStateException();
+      }
+    };
+    // WHEN
+    Object value = name.apply(employee);
+    // THEN
+    then(value).isEqualTo(new Name("Name"));
+  }
+
+  @Test
+  void should_propagate_errors_thrown_on_property_access() {
+    // GIVEN
+    Function<Object, Object> name = underTest.compile("name");
+    StackOverflowError error = new StackOverflowError();
+    Employee employee = new Employee(1L, new Name("Name"), 0) {
+      @Override
+      public Name getName() {
+        throw error;
+      }
+    };
+    // WHEN
+    Throwable thrown = catchThrowable(() -> name.apply(employee));
+    // THEN
+    then(thrown).isSameAs(error);
+  }
+
+  @Test
+  void should_keep_reading_values_of_alternating_classes() {
+    // GIVEN
+    Function<Object, Object> name = underTest.compile("name");
+    Employee employee = new Employee(1L, new Name("Name"), 0);
+    Map<String, Name> map = new HashMap<>();
+    map.put("name", new Name("Key"));
+    // WHEN/THEN
+    for (int i = 0; i < 10; i++) {
+      then(name.apply(employee)).isEqualTo(new Name("Name"));
+      then(name.apply(map)).isEqualTo(new Name("Key"));
+    }
+  }
+
+  @Test
+  void should_return_null_if_one_of_nested_property_or_field_value_is_null() {
+    // WHEN
+    Object value = underTest.compile("surname.first").apply(new Employee(1L, new Name("Yoda"), 800));
+    // THEN
+    then(value).isNull();
+  }
+
+  @Test
+  void should_extract_values_from_maps_by_key() {
+    // GIVEN
+    Map<String, String> map = new HashMap<>();
+    map.put("key", "value");
+    // WHEN
+    Object value = underTest.compile("key").apply(map);
+    // THEN
+    then(value).isEqualTo("value");
+  }
+
+  @Test
+  void should_throw_the_same_error_as_getValueOf_when_no_property_nor_field_match_given_name() {
+    // GIVEN
+    Employee yoda = new Employee(1L, new Name("Yoda"), 800);
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.compile("unknown").apply(yoda));
+    // THEN
+    then(thrown).isInstanceOf(IntrospectionError.class)
+                .hasMessage(catchThrowable(() -> underTest.getValueOf("unknown", yoda)).getMessage());
+  }
+
+  @Test
+  void should_not_read_private_fields_if_extraction_is_limited_to_public_fields() {
+    // GIVEN
+    PropertyOrFieldSupport publicFieldsOnly = new PropertyOrFieldSupport(new PropertySupport(), EXTRACTION_OF_PUBLIC_FIELD_ONLY);
+    // WHEN
+    Throwable thrown = catchThrowable(() -> publicFieldsOnly.compile("city").apply(new Employee(1L, new Name("Yoda"), 800)));
+    // THEN
+    then(thrown).isInstanceOf(IntrospectionError.class);
+  }
+
+  @Test
+  void should_take_bare_name_property_methods_setting_changes_into_account() {
+    // GIVEN
+    Introspection.setExtractBareNamePropertyMethods(false);
+    Function<Object, Object> extractor = underTest.compile("value");
+    BareNameProperty bean = new BareNameProperty();
+    then(extractor.apply(bean)).isEqualTo("field");
+    // WHEN
+    Introspection.setExtractBareNamePropertyMethods(true);
+    // THEN
+    then(extractor.apply(bean)).isEqualTo("property");
+  }
+
+  @Test
+  void should_throw_exception_when_given_name_is_null() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.compile(null).apply(new Object()));
+    // THEN
+    then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The name of the property/field to read should not be null");
+  }
+
+  @Test
+  void should_throw_exception_if_no_object_is_given() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.compile("name").apply(null));
+    // THEN
+    then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The object to extract property/field from should not be null");
+  }
+
+  static class BareNameProperty {
+    @SuppressWarnings("unused")
+    private final String value = "field";
+
+    public String value() {
+      return "property";
+    }
+  }
+
+}
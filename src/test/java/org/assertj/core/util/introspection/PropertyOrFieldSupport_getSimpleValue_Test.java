@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2021 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.assertj.core.test.Employee;
+import org.assertj.core.test.Name;
+import org.junit.jupiter.api.Test;
+
+class PropertyOrFieldSupport_getSimpleValue_Test {
+
+  private final Employee yoda = new Employee(1L, new Name("Yoda"), 800);
+
+  @Test
+  void should_read_property_and_field_values_repeatedly() {
+    // GIVEN
+    PropertyOrFieldSupport underTest = new PropertyOrFieldSupport(new PropertySupport(), FieldSupport.EXTRACTION);
+    // WHEN/THEN
+    for (int i = 0; i < 10; i++) {
+      then(underTest.getSimpleValue("age", yoda)).isEqualTo(800);
+      then(underTest.getSimpleValue("id", yoda)).isEqualTo(1L);
+      then(underTest.getSimpleValue("city", yoda)).isEqualTo("New York");
+    }
+  }
+
+  @Test
+  void should_fallback_to_field_when_getter_fails_for_some_instances_only() {
+    // GIVEN
+    PropertyOrFieldSupport underTest = new PropertyOrFieldSupport(new PropertySupport(), FieldSupport.EXTRACTION);
+    FailingGetterEmployee employee = new FailingGetterEmployee();
+    // WHEN/THEN
+    then(underTest.getSimpleValue("name", employee)).isEqualTo(new Name("getter"));
+    employee.fail = true;
+    then(underTest.getSimpleValue("name", employee)).isEqualTo(new Name("field"));
+  }
+
+  @Test
+  void should_take_allow_using_private_fields_changes_into_account() {
+    // GIVEN
+    FieldSupport fieldSupport = FieldSupport.EXTRACTION_OF_PUBLIC_FIELD_ONLY;
+    PropertyOrFieldSupport underTest = new PropertyOrFieldSupport(new PropertySupport(), fieldSupport);
+    try {
+      then(catchThrowable(() -> underTest.getSimpleValue("city", yoda))).isInstanceOf(IntrospectionError.class);
+      // WHEN
+      fieldSupport.setAllowUsingPrivateFields(true);
+      // THEN
+      then(underTest.getSimpleValue("city", yoda)).isEqualTo("New York");
+    } finally {
+      fieldSupport.setAllowUsingPrivateFields(false);
+    }
+  }
+
+  @Test
+  void should_report_the_same_error_every_time_no_property_nor_field_match_given_name() {
+    // GIVEN
+    PropertyOrFieldSupport underTest = new PropertyOrFieldSupport(new PropertySupport(), FieldSupport.EXTRACTION);
+    // WHEN
+    Throwable firstError = catchThrowable(() -> underTest.getSimpleValue("unknown", yoda));
+    Throwable secondError = catchThrowable(() -> underTest.getSimpleValue("unknown", yoda));
+    // THEN
+    then(firstError).isInstanceOf(IntrospectionError.class)
+                    .hasMessageContaining("Can't find any field or property with name 'unknown'");
+    then(secondError).hasMessage(firstError.getMessage());
+  }
+
+  @Test
+  void should_report_failing_getter_when_there_is_no_field_with_given_name() {
+    // GIVEN
+    PropertyOrFieldSupport underTest = new PropertyOrFieldSupport(new PropertySupport(), FieldSupport.EXTRACTION);
+    FailingGetterOnly failingGetterOnly = new FailingGetterOnly();
+    // WHEN
+    Throwable firstError = catchThrowable(() -> underTest.getSimpleValue("value", failingGetterOnly));
+    Throwable secondError = catchThrowable(() -> underTest.getSimpleValue("value", failingGetterOnly));
+    // THEN
+    then(firstError).isInstanceOf(IntrospectionError.class)
+                    .hasMessageContaining("Can't find any field or property with name 'value'")
+                    .hasMessageContaining("Unable to find property 'value' in " + FailingGetterOnly.class.getName());
+    then(secondError).hasMessage(firstError.getMessage());
+  }
+
+  @Test
+  void should_return_null_if_input_is_null() {
+    // GIVEN
+    PropertyOrFieldSupport underTest = new PropertyOrFieldSupport(new PropertySupport(), FieldSupport.EXTRACTION);
+    // WHEN
+    Object value = underTest.getSimpleValue("name", null);
+    // THEN
+    then(value).isNull();
+  }
+
+  static class FailingGetterEmployee {
+    @SuppressWarnings("unused")
+    private final Name name = new Name("field");
+    boolean fail;
+
+    public Name getName() {
+      if (fail) throw new IllegalStateException("boom");
+      return new Name("getter");
+    }
+  }
+
+  public static class FailingGetterOnly {
+    public String getValue() {
+      throw new IllegalStateException("boom");
+    }
+  }
+
+}